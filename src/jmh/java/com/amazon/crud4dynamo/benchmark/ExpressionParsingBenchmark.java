@@ -0,0 +1,129 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.benchmark;
+
+import com.amazon.crud4dynamo.ddbparser.ConditionExpressionLexer;
+import com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser;
+import com.amazon.crud4dynamo.ddbparser.ParserFactory;
+import com.amazon.crud4dynamo.ddbparser.UpdateExpressionLexer;
+import com.amazon.crud4dynamo.ddbparser.UpdateExpressionParser;
+import java.util.concurrent.TimeUnit;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.TokenStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares parsing a corpus of condition and update expressions with the previous reflective
+ * factory in LL mode, the shared {@link ParserFactory} in LL mode, and {@link ParserFactory#parse}
+ * which tries SLL first.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExpressionParsingBenchmark {
+  private static final String[] CONDITIONS = {
+    "HashKey = :hashKey",
+    "attribute_not_exists(HashKey) AND attribute_not_exists(RangeKey)",
+    "#status = :status AND (Price < :maxPrice OR begins_with(Title, :prefix))",
+    "Info.Rating[0] >= :rating AND Category IN (:c1, :c2, :c3) AND NOT contains(Tags, :tag)",
+    "#version = :expectedVersion AND Quantity BETWEEN :min AND :max",
+    "attribute_type(Payload, :type) OR attribute_exists(#deleted)"
+  };
+  private static final String[] UPDATES = {
+    "SET #name = :name, Price = Price - :discount",
+    "SET Views = if_not_exists(Views, :zero) + :one, Log = list_append(Log, :entries)",
+    "REMOVE Info.Tags[2], #obsolete",
+    "ADD Counter :inc, Tags :tags",
+    "DELETE Tags :tags"
+  };
+
+  @Benchmark
+  public void legacyReflectiveLl(final Blackhole blackhole) {
+    for (final String condition : CONDITIONS) {
+      blackhole.consume(
+          newLegacyParser(
+                  ConditionExpressionLexer.class, ConditionExpressionParser.class, condition)
+              .start());
+    }
+    for (final String update : UPDATES) {
+      blackhole.consume(
+          newLegacyParser(UpdateExpressionLexer.class, UpdateExpressionParser.class, update)
+              .start());
+    }
+  }
+
+  @Benchmark
+  public void sharedFactoryLl(final Blackhole blackhole) {
+    for (final String condition : CONDITIONS) {
+      blackhole.consume(
+          ParserFactory.of(ConditionExpressionLexer.class, ConditionExpressionParser.class)
+              .create(condition)
+              .start());
+    }
+    for (final String update : UPDATES) {
+      blackhole.consume(
+          ParserFactory.of(UpdateExpressionLexer.class, UpdateExpressionParser.class)
+              .create(update)
+              .start());
+    }
+  }
+
+  @Benchmark
+  public void sharedFactorySllWithFallback(final Blackhole blackhole) {
+    for (final String condition : CONDITIONS) {
+      blackhole.consume(
+          ParserFactory.of(ConditionExpressionLexer.class, ConditionExpressionParser.class)
+              .parse(condition, ConditionExpressionParser::start));
+    }
+    for (final String update : UPDATES) {
+      blackhole.consume(
+          ParserFactory.of(UpdateExpressionLexer.class, UpdateExpressionParser.class)
+              .parse(update, UpdateExpressionParser::start));
+    }
+  }
+
+  /** Copy of the previous ParserFactory#create, error listeners omitted. */
+  private static <P extends Parser> P newLegacyParser(
+      final Class<? extends Lexer> lexerType, final Class<P> parserType, final String input) {
+    try {
+      final Lexer lexer =
+          lexerType.getConstructor(CharStream.class).newInstance(CharStreams.fromString(input));
+      lexer.removeErrorListeners();
+      final P parser =
+          parserType.getConstructor(TokenStream.class).newInstance(new CommonTokenStream(lexer));
+      parser.removeErrorListeners();
+      return parser;
+    } catch (final ReflectiveOperationException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
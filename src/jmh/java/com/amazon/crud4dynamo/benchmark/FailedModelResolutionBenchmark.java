@@ -0,0 +1,120 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.benchmark;
+
+import com.amazon.crud4dynamo.internal.utility.FailedModelResolver;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBClientBuilder;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBRangeKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares resolving the failed models of a deleteAll, where one in ten deletes fails, by the
+ * previous scan of every failed key for every model with {@link FailedModelResolver}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FailedModelResolutionBenchmark {
+  @Param({"1000", "4000", "16000"})
+  private int size;
+
+  private DynamoDBMapperTableModel<Model> tableModel;
+  private List<Model> models;
+  private List<Map<String, AttributeValue>> failedKeys;
+
+  @Setup
+  public void setUp() {
+    tableModel =
+        new DynamoDBMapper(AmazonDynamoDBClientBuilder.standard().withRegion("us-east-1").build())
+            .getTableModel(Model.class);
+    models = new ArrayList<>(size);
+    failedKeys = new ArrayList<>(size / 10);
+    for (int i = 0; i < size; i++) {
+      final Model model = new Model("Hash" + i, i);
+      models.add(model);
+      if (i % 10 == 0) {
+        failedKeys.add(tableModel.convertKey(model));
+      }
+    }
+  }
+
+  @Benchmark
+  public List<Model> nestedScan() {
+    return models.stream()
+        .filter(
+            model -> failedKeys.stream().anyMatch(key -> key.equals(tableModel.convertKey(model))))
+        .collect(Collectors.toList());
+  }
+
+  @Benchmark
+  public List<Model> keyIndex() {
+    return new FailedModelResolver<>(tableModel, models).resolve(failedKeys);
+  }
+
+  @DynamoDBTable(tableName = "Orders")
+  public static class Model {
+    private String hashKey;
+    private Integer rangeKey;
+
+    public Model() {}
+
+    Model(final String hashKey, final Integer rangeKey) {
+      this.hashKey = hashKey;
+      this.rangeKey = rangeKey;
+    }
+
+    @DynamoDBHashKey(attributeName = "HashKey")
+    public String getHashKey() {
+      return hashKey;
+    }
+
+    public void setHashKey(final String hashKey) {
+      this.hashKey = hashKey;
+    }
+
+    @DynamoDBRangeKey(attributeName = "RangeKey")
+    public Integer getRangeKey() {
+      return rangeKey;
+    }
+
+    public void setRangeKey(final Integer rangeKey) {
+      this.rangeKey = rangeKey;
+    }
+  }
+}
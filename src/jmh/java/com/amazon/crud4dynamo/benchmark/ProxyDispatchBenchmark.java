@@ -0,0 +1,211 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.benchmark;
+
+import com.amazon.crud4dynamo.exception.CrudForDynamoException;
+import com.amazon.crud4dynamo.extension.Signature;
+import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.amazon.crud4dynamo.internal.Proxy;
+import com.amazon.crud4dynamo.internal.method.DefaultMethod;
+import com.amazon.crud4dynamo.utility.ExceptionHelper;
+import com.amazon.crud4dynamo.utility.MethodHandlesHelper;
+import com.google.common.reflect.AbstractInvocationHandler;
+import com.google.common.reflect.Reflection;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the per call dispatch cost of {@link Proxy#create()} against the previous dispatch,
+ * which looked up the method in a map and bound it to the proxy on every call, and invoked default
+ * methods through {@link LegacyDefaultMethod}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProxyDispatchBenchmark {
+
+  private Dao legacyProxy;
+  private Dao precompiledProxy;
+  private Dao direct;
+  private String key;
+
+  @Setup
+  public void setup() {
+    legacyProxy = createLegacyProxy(Dao.class, ProxyDispatchBenchmark::newLegacyMethod);
+    precompiledProxy = new Proxy<>(Dao.class, ProxyDispatchBenchmark::newMethod).create();
+    direct = k -> k;
+    key = "hashKey";
+  }
+
+  @Benchmark
+  public Object legacyAbstractMethod() {
+    return legacyProxy.findBy(key);
+  }
+
+  @Benchmark
+  public Object precompiledAbstractMethod() {
+    return precompiledProxy.findBy(key);
+  }
+
+  @Benchmark
+  public Object legacyDefaultMethod() {
+    return legacyProxy.findByOrDefault(key);
+  }
+
+  @Benchmark
+  public Object precompiledDefaultMethod() {
+    return precompiledProxy.findByOrDefault(key);
+  }
+
+  @Benchmark
+  public Object directCall() {
+    return direct.findByOrDefault(key);
+  }
+
+  private static AbstractMethod newMethod(final Method method) {
+    final Signature signature = Signature.resolve(method, Dao.class);
+    if (method.isDefault()) {
+      return new DefaultMethod(method, signature);
+    }
+    return new EchoMethod(signature);
+  }
+
+  private static AbstractMethod newLegacyMethod(final Method method) {
+    final Signature signature = Signature.resolve(method, Dao.class);
+    if (method.isDefault()) {
+      return new LegacyDefaultMethod(method, signature);
+    }
+    return new EchoMethod(signature);
+  }
+
+  /** The dispatch used by {@link Proxy#create()} before methods were bound at creation time. */
+  private static <T> T createLegacyProxy(
+      final Class<T> interfaceType, final Function<Method, AbstractMethod> methodFunction) {
+    final Map<Method, AbstractMethod> dispatchMapping =
+        Arrays.stream(interfaceType.getMethods())
+            .collect(Collectors.toMap(Function.identity(), methodFunction));
+    return Reflection.newProxy(
+        interfaceType,
+        new AbstractInvocationHandler() {
+          @Override
+          protected Object handleInvocation(
+              final Object o, final Method method, final Object[] objects) throws Throwable {
+            try {
+              return dispatchMapping.get(method).bind(o).invoke(objects);
+            } catch (final InvocationTargetException e) {
+              throw e.getTargetException();
+            }
+          }
+        });
+  }
+
+  public interface Dao {
+    String findBy(String hashKey);
+
+    default String findByOrDefault(final String hashKey) {
+      return findBy(hashKey);
+    }
+  }
+
+  /** The default method implementation before it resolved its method handle at bind time. */
+  private static class LegacyDefaultMethod implements AbstractMethod {
+    private final Method method;
+    private final Signature signature;
+    private final ConcurrentHashMap<Class<MethodHandle>, MethodHandle> methodHandleMap =
+        new ConcurrentHashMap<>();
+
+    private LegacyDefaultMethod(final Method method, final Signature signature) {
+      this.method = method;
+      this.signature = signature;
+    }
+
+    private static MethodHandle toMethodHandle(final Method m) {
+      final Lookup lookup = MethodHandlesHelper.getLookup(m.getDeclaringClass());
+      try {
+        return lookup.unreflectSpecial(m, m.getDeclaringClass());
+      } catch (final IllegalAccessException e) {
+        throw ExceptionHelper.throwAsUnchecked(e);
+      }
+    }
+
+    @Override
+    public Signature getSignature() {
+      return signature;
+    }
+
+    @Override
+    public Object invoke(final Object... args) throws Throwable {
+      return Optional.ofNullable(methodHandleMap.get(MethodHandle.class))
+          .orElseThrow(
+              () ->
+                  new CrudForDynamoException(
+                      "method handle of " + signature + " is not initialized."))
+          .invokeWithArguments(args);
+    }
+
+    @Override
+    public AbstractMethod bind(final Object target) {
+      methodHandleMap.computeIfAbsent(
+          MethodHandle.class, key -> toMethodHandle(method).bindTo(target));
+      return this;
+    }
+  }
+
+  private static class EchoMethod implements AbstractMethod {
+    private final Signature signature;
+
+    private EchoMethod(final Signature signature) {
+      this.signature = signature;
+    }
+
+    @Override
+    public Signature getSignature() {
+      return signature;
+    }
+
+    @Override
+    public Object invoke(final Object... args) {
+      return args[0];
+    }
+
+    @Override
+    public AbstractMethod bind(final Object target) {
+      return this;
+    }
+  }
+}
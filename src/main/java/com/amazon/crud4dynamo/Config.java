@@ -14,15 +14,26 @@
  */
 package com.amazon.crud4dynamo;
 
+import com.amazon.crud4dynamo.extension.CacheBudget;
+import com.amazon.crud4dynamo.extension.CapacityBudget;
+import com.amazon.crud4dynamo.extension.ItemCacheSpec;
+import com.amazon.crud4dynamo.extension.diagnostics.OperationDiagnostics;
 import com.amazon.crud4dynamo.extension.factory.ChainedMethodFactoryConfig;
+import com.amazon.crud4dynamo.extension.metrics.MethodMetrics;
 import com.amazon.crud4dynamo.internal.utility.DynamoDbMapperConfigHelper;
 import com.amazon.crud4dynamo.utility.MapHelper;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.Builder;
 import lombok.Singular;
 import lombok.Value;
@@ -34,6 +45,41 @@ import lombok.experimental.Accessors;
 public class Config {
 
   private DynamoDBMapperConfig mapperConfig;
+  /**
+   * Executor of the chunked requests of batch operations, e.g, saveAll. Batch operations run on the
+   * caller thread if it is null.
+   */
+  private Executor executor;
+  /** Maximum number of chunked requests of a batch operation running at the same time. */
+  private Integer maxInFlightRequests;
+  /**
+   * Number of pages fetched in the background ahead of the page being iterated by findAll and by
+   * query and scan methods returning an iterator. Pages are fetched when iteration reaches them if
+   * it is null.
+   */
+  private Integer prefetchPages;
+  /** Maximum number of segments of a parallel scan with {@code totalSegments = AUTO}. */
+  private Integer maxScanSegments;
+  /** Capacity budgets of tables and indexes, shared by all cruds of a CrudForDynamo. */
+  @Singular private List<CapacityBudget> capacityBudgets;
+  /** Caches of the items read by findBy and findAllBy, by table. */
+  @Singular("itemCache")
+  private List<ItemCacheSpec> itemCaches;
+  /**
+   * Bytes shared by the results of all cached methods. Methods are bounded on their own if null.
+   */
+  private CacheBudget cacheBudget;
+  /** Receives the latency and consumed capacity of every method. Nothing is recorded by default. */
+  private MethodMetrics metrics;
+  /** Finds slow operations and hot partition keys. Methods are not instrumented if it is null. */
+  private OperationDiagnostics diagnostics;
+  /**
+   * Whether to parse sample expressions of every grammar when a CrudForDynamo is created, so that
+   * the first proxy whose expressions are not precompiled does not initialize the parsers. The
+   * parsers are initialized on first use if it is null.
+   */
+  private Boolean warmUpParsers;
+
   @Singular private List<ChainedMethodFactoryConfig> crudFactoryConstructorConfigs;
   @Singular private List<ChainedMethodFactoryConfig> transactionFactoryConstructorConfigs;
 
@@ -44,6 +90,18 @@ public class Config {
     return Config.builder()
         .mapperConfig(
             DynamoDbMapperConfigHelper.override(base.mapperConfig, overrides.mapperConfig))
+        .executor(Optional.ofNullable(overrides.executor).orElse(base.executor))
+        .maxInFlightRequests(
+            Optional.ofNullable(overrides.maxInFlightRequests).orElse(base.maxInFlightRequests))
+        .prefetchPages(Optional.ofNullable(overrides.prefetchPages).orElse(base.prefetchPages))
+        .maxScanSegments(
+            Optional.ofNullable(overrides.maxScanSegments).orElse(base.maxScanSegments))
+        .metrics(Optional.ofNullable(overrides.metrics).orElse(base.metrics))
+        .diagnostics(Optional.ofNullable(overrides.diagnostics).orElse(base.diagnostics))
+        .warmUpParsers(Optional.ofNullable(overrides.warmUpParsers).orElse(base.warmUpParsers))
+        .capacityBudgets(mergeBudgets(base.capacityBudgets, overrides.capacityBudgets))
+        .itemCaches(mergeItemCaches(base.itemCaches, overrides.itemCaches))
+        .cacheBudget(Optional.ofNullable(overrides.cacheBudget).orElse(base.cacheBudget))
         .crudFactoryConstructorConfigs(
             mergeAndSort(
                 base.crudFactoryConstructorConfigs, overrides.crudFactoryConstructorConfigs))
@@ -54,11 +112,29 @@ public class Config {
         .build();
   }
 
+  private static List<CapacityBudget> mergeBudgets(
+      final List<CapacityBudget> base, final List<CapacityBudget> overrides) {
+    final Map<List<String>, CapacityBudget> merged = new LinkedHashMap<>();
+    Stream.concat(base.stream(), overrides.stream())
+        .forEach(
+            budget ->
+                merged.put(Arrays.asList(budget.getTableName(), budget.getIndexName()), budget));
+    return new ArrayList<>(merged.values());
+  }
+
+  private static List<ItemCacheSpec> mergeItemCaches(
+      final List<ItemCacheSpec> base, final List<ItemCacheSpec> overrides) {
+    final Map<String, ItemCacheSpec> merged = new LinkedHashMap<>();
+    Stream.concat(base.stream(), overrides.stream())
+        .forEach(spec -> merged.put(spec.getTableName(), spec));
+    return new ArrayList<>(merged.values());
+  }
+
   private static List<ChainedMethodFactoryConfig> mergeAndSort(
       final List<ChainedMethodFactoryConfig> base,
       final List<ChainedMethodFactoryConfig> overrides) {
     return MapHelper.overrideMerge(toMap(base), toMap(overrides)).values().stream()
-        .sorted()
+        .sorted(Comparator.comparingInt(ChainedMethodFactoryConfig::getOrder))
         .collect(Collectors.toList());
   }
 
@@ -21,10 +21,18 @@ import com.amazon.crud4dynamo.extension.Context;
 import com.amazon.crud4dynamo.extension.Signature;
 import com.amazon.crud4dynamo.extension.factory.AbstractMethodFactory;
 import com.amazon.crud4dynamo.extension.factory.ChainedMethodFactoryConfig;
+import com.amazon.crud4dynamo.extension.metrics.MethodMetrics;
 import com.amazon.crud4dynamo.internal.Proxy;
 import com.amazon.crud4dynamo.internal.config.DefaultCrudFactoryConfig;
 import com.amazon.crud4dynamo.internal.config.DefaultTransactionFactoryConfig;
+import com.amazon.crud4dynamo.internal.parsing.ExpressionGrammar;
+import com.amazon.crud4dynamo.internal.parsing.PrecompiledExpressions;
+import com.amazon.crud4dynamo.internal.utility.CacheInvalidatingDynamoDb;
+import com.amazon.crud4dynamo.internal.utility.CapacityLimitedDynamoDb;
+import com.amazon.crud4dynamo.internal.utility.CapacityLimiter;
+import com.amazon.crud4dynamo.internal.utility.ItemCache;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBAsync;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
 import com.google.common.base.Suppliers;
@@ -41,6 +49,7 @@ public class CrudForDynamo {
   private static final Config DEFAULT_CONFIG =
       Config.builder()
           .mapperConfig(DynamoDBMapperConfig.DEFAULT)
+          .metrics(MethodMetrics.NO_OP)
           .crudFactoryConstructorConfigs(DefaultCrudFactoryConfig.getConfigs())
           .transactionFactoryConstructorConfigs(DefaultTransactionFactoryConfig.getConfigs())
           .build();
@@ -48,6 +57,7 @@ public class CrudForDynamo {
   private final Supplier<AbstractMethodFactory> transactionMethodFactorySupplier;
   private final Supplier<DynamoDBMapper> dynamoDbMapperSupplier;
   private final AmazonDynamoDB dynamoDb;
+  private final AmazonDynamoDBAsync dynamoDbAsync;
 
   private final Config mergedConfig;
 
@@ -56,14 +66,41 @@ public class CrudForDynamo {
   }
 
   public CrudForDynamo(final AmazonDynamoDB dynamoDb, final Config config) {
-    this.dynamoDb = dynamoDb;
+    this(dynamoDb, null, config);
+  }
+
+  /**
+   * Methods returning {@code CompletableFuture} send their requests through the asynchronous client
+   * where possible, instead of blocking a thread of the executor.
+   */
+  public CrudForDynamo(final AmazonDynamoDBAsync dynamoDbAsync) {
+    this(dynamoDbAsync, null);
+  }
+
+  public CrudForDynamo(final AmazonDynamoDBAsync dynamoDbAsync, final Config config) {
+    this(dynamoDbAsync, dynamoDbAsync, config);
+  }
+
+  private CrudForDynamo(
+      final AmazonDynamoDB dynamoDb, final AmazonDynamoDBAsync dynamoDbAsync, final Config config) {
     this.mergedConfig = Config.merge(DEFAULT_CONFIG, config);
+    final ItemCache itemCache = ItemCache.of(mergedConfig.itemCaches());
+    final CapacityLimiter capacityLimiter = CapacityLimiter.of(mergedConfig.capacityBudgets());
+    this.dynamoDb =
+        CacheInvalidatingDynamoDb.wrap(
+            CapacityLimitedDynamoDb.wrap(dynamoDb, capacityLimiter), itemCache);
+    this.dynamoDbAsync =
+        CacheInvalidatingDynamoDb.wrap(
+            CapacityLimitedDynamoDb.wrap(dynamoDbAsync, capacityLimiter), itemCache);
     this.crudMethodFactorySupplier =
         Suppliers.memoize(() -> newChainedFactories(mergedConfig.crudFactoryConstructorConfigs()));
     this.transactionMethodFactorySupplier =
         Suppliers.memoize(
             () -> newChainedFactories(mergedConfig.transactionFactoryConstructorConfigs()));
-    this.dynamoDbMapperSupplier = Suppliers.memoize(() -> new DynamoDBMapper(dynamoDb));
+    this.dynamoDbMapperSupplier = Suppliers.memoize(() -> new DynamoDBMapper(this.dynamoDb));
+    if (Boolean.TRUE.equals(mergedConfig.warmUpParsers())) {
+      ExpressionGrammar.warmUp();
+    }
   }
 
   private static Class<?> getModelType(final Class<?> interfaceType) {
@@ -121,6 +158,7 @@ public class CrudForDynamo {
   private <T extends DynamoDbCrud> T create(
       final Class<T> interfaceType, final Class<?> modelClass) {
     log.info("Create proxy for interface '{}' with modelClass '{}'.", interfaceType, modelClass);
+    PrecompiledExpressions.load(interfaceType);
     final AbstractMethodFactory factory = crudMethodFactorySupplier.get();
     return new Proxy<>(
             interfaceType, method -> factory.create(newContext(interfaceType, modelClass, method)))
@@ -131,12 +169,20 @@ public class CrudForDynamo {
       final Class<?> interfaceType, final Class<?> modelClass, final Method method) {
     return Context.builder()
         .amazonDynamoDb(dynamoDb)
+        .amazonDynamoDbAsync(dynamoDbAsync)
         .mapper(dynamoDbMapperSupplier.get())
         .mapperConfig(mergedConfig.mapperConfig())
         .modelType(modelClass)
         .interfaceType(interfaceType)
         .signature(Signature.resolve(method, interfaceType))
         .method(method)
+        .executor(mergedConfig.executor())
+        .maxInFlightRequests(mergedConfig.maxInFlightRequests())
+        .prefetchPages(mergedConfig.prefetchPages())
+        .maxScanSegments(mergedConfig.maxScanSegments())
+        .metrics(mergedConfig.metrics())
+        .diagnostics(mergedConfig.diagnostics())
+        .cacheBudget(mergedConfig.cacheBudget())
         .build();
   }
 }
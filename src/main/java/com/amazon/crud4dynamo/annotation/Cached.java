@@ -25,6 +25,14 @@ import java.util.concurrent.TimeUnit;
  * Enable caching for method result
  *
  * <p>Details of configuration please check com.google.common.cache.CacheBuilder.
+ *
+ * <p>Results are refreshed in the background on the executor of the config, while callers are
+ * served the current value. Empty results, null or an empty Optional, are cached as well. A failed
+ * load is thrown to its caller as is.
+ *
+ * <p>Iterator and stream results, such as those of queries and scans, are recorded into a list
+ * while the first caller iterates them. Once that caller exhausts them, every later caller gets a
+ * new iterator or stream over the list.
  */
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.METHOD)
@@ -39,8 +47,45 @@ public @interface Cached {
 
   TimeUnit expireAfterWriteTimeUnit() default TimeUnit.MILLISECONDS;
 
+  /** Disable by default. Results older than this are reloaded on the next call. */
+  int refreshAfterWrite() default -1;
+
+  TimeUnit refreshAfterWriteTimeUnit() default TimeUnit.MILLISECONDS;
+
+  /**
+   * Keep serving the current result when its refresh fails. Otherwise the result is discarded, and
+   * the next call loads it again.
+   */
+  boolean serveStaleOnError() default true;
+
+  /** Expiration of empty results. Same as the other results by default. */
+  int expireEmptyAfterWrite() default -1;
+
+  TimeUnit expireEmptyAfterWriteTimeUnit() default TimeUnit.MILLISECONDS;
+
   int maxSize() default 10;
 
+  /**
+   * Disable by default. Maximum estimated bytes of the results, instead of the maximum number of
+   * results. The results of models are estimated from their attribute values.
+   */
+  long maxWeightBytes() default -1;
+
+  /**
+   * Maximum number of items of an iterator or stream result to cache. The items are recorded while
+   * the first caller iterates, and cached once it exhausts them. Larger results, and results whose
+   * caller stops early, are not cached.
+   */
+  int maxIteratorSize() default 10_000;
+
+  /**
+   * Disable by default. Bytes of serialized results kept off heap, behind the cache bounded by
+   * {@link #maxSize()} or {@link #maxWeightBytes()}. Only results made of models of {@code
+   * DynamoDBTable} classes are kept off heap. They expire after {@link #expireAfterWrite()} or once
+   * due for a {@link #refreshAfterWrite()}, and the oldest are evicted first.
+   */
+  long offHeapMaxBytes() default -1;
+
   int initialCapacity() default 5;
 
   int concurrencyLevel() default 4;
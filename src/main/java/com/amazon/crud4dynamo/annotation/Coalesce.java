@@ -0,0 +1,51 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces the calls of an {@link Update} method returning {@code CompletableFuture} which update
+ * the same item within a window into one UpdateItem request. All the calls of a window complete
+ * with the result of the shared request.
+ *
+ * <p>The update expression must be made of actions whose repeated calls can be merged:
+ *
+ * <pre>
+ * ADD path :value                           values are summed, or unioned for sets
+ * SET path = :value                         the last value wins
+ * SET path = path + :value                  values are summed, likewise for '-'
+ * SET path = if_not_exists(path, :default) + :value
+ * SET path = if_not_exists(path, :value)    the first value wins
+ * </pre>
+ *
+ * <p>Calls with different values for a {@code :default}, or with different expression attribute
+ * names, are sent separately. Methods with a condition expression cannot be coalesced.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Coalesce {
+  long window() default 10;
+
+  TimeUnit windowTimeUnit() default TimeUnit.MILLISECONDS;
+
+  /** The window is closed early once this many calls are coalesced. */
+  int maxCalls() default 100;
+}
@@ -28,8 +28,17 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.METHOD)
 public @interface Parallel {
+  /** Derive the total segments from the size of the table. */
+  int AUTO = 0;
+
   /**
    * https://docs.aws.amazon.com/amazondynamodb/latest/developerguide/Scan.html#Scan.ParallelScan
+   *
+   * <p>With {@link #AUTO} there is a segment for every {@link #bytesPerSegment()} bytes of the
+   * table, limited by {@link com.amazon.crud4dynamo.Config#maxScanSegments()}.
    */
-  int totalSegments();
+  int totalSegments() default AUTO;
+
+  /** Target size of a segment if the total segments is {@link #AUTO}, 1 GB by default. */
+  long bytesPerSegment() default 1L << 30;
 }
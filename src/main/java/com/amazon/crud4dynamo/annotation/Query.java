@@ -51,4 +51,12 @@ public @interface Query {
    * https://docs.aws.amazon.com/amazondynamodb/latest/APIReference/API_Query.html#DDB-Query-request-ConsistentRead
    */
   boolean consistentRead() default false;
+
+  /**
+   * Number of pages fetched in the background ahead of the page being iterated. Not positive to
+   * fetch each page when iteration reaches it, -1 to use {@link
+   * com.amazon.crud4dynamo.Config#prefetchPages()}. It only applies to methods returning an
+   * iterator.
+   */
+  int prefetchPages() default -1;
 }
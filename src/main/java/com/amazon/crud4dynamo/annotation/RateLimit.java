@@ -0,0 +1,38 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limits the capacity consumed by the scans, queries and batch operations of a method, on top of
+ * the budgets of the tables in {@link com.amazon.crud4dynamo.Config#capacityBudgets()}.
+ *
+ * <p>Consumed capacity is read from the responses, so each request is paced by the capacity
+ * consumed by the previous ones.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface RateLimit {
+  /** Read capacity units per second, unlimited if not positive. */
+  double readCapacityUnits() default -1;
+
+  /** Write capacity units per second, unlimited if not positive. */
+  double writeCapacityUnits() default -1;
+}
@@ -18,6 +18,7 @@ package com.amazon.crud4dynamo.crudinterface;
 import com.amazon.crud4dynamo.exception.CrudForDynamoException;
 import com.amazon.crud4dynamo.extension.PageRequest;
 import com.amazon.crud4dynamo.extension.PageResult;
+import com.amazon.crud4dynamo.extension.Pair;
 import java.util.Iterator;
 import java.util.Optional;
 
@@ -33,6 +34,9 @@ public interface CompositeKeyCrud<H, R, M> extends DynamoDbCrud<M> {
 
   Optional<M> findBy(final H hashKey, final R rangeKey) throws CrudForDynamoException;
 
+  /** Returns the models of the given keys which exist, in no particular order. */
+  Iterator<M> findAllBy(final Iterable<Pair<H, R>> keys) throws CrudForDynamoException;
+
   Iterator<M> groupBy(final H hashKey) throws CrudForDynamoException;
 
   PageResult<M> groupBy(final H hashKey, final PageRequest<M> pageRequest)
@@ -15,17 +15,33 @@
 
 package com.amazon.crud4dynamo.ddbparser;
 
-import java.lang.reflect.Constructor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.BaseErrorListener;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
 import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.RecognitionException;
 import org.antlr.v4.runtime.Recognizer;
 import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 
+/**
+ * Creates lexers and parsers of a grammar.
+ *
+ * <p>The constructors are resolved once into method handles. The DFA and prediction context cache
+ * are static fields of the generated parsers, hence shared by all parsers of the same grammar.
+ */
 public class ParserFactory<L extends Lexer, P extends Parser> {
   private static final BaseErrorListener ERROR_LISTENER =
       new BaseErrorListener() {
@@ -40,41 +56,93 @@ public class ParserFactory<L extends Lexer, P extends Parser> {
           throw new RuntimeException("Parsing error: " + msg);
         }
       };
+  private static final Map<Class<?>, ParserFactory<?, ?>> FACTORIES = new ConcurrentHashMap<>();
+
   private final Class<L> lexerType;
   private final Class<P> parserType;
+  private final MethodHandle lexerConstructor;
+  private final MethodHandle parserConstructor;
 
   public ParserFactory(final Class<L> lexerType, final Class<P> parserType) {
     this.lexerType = lexerType;
     this.parserType = parserType;
+    lexerConstructor = findConstructor(lexerType, CharStream.class);
+    parserConstructor = findConstructor(parserType, TokenStream.class);
+  }
+
+  /** Returns the factory shared by all callers of the grammar. */
+  @SuppressWarnings("unchecked")
+  public static <L extends Lexer, P extends Parser> ParserFactory<L, P> of(
+      final Class<L> lexerType, final Class<P> parserType) {
+    return (ParserFactory<L, P>)
+        FACTORIES.computeIfAbsent(parserType, key -> new ParserFactory<>(lexerType, parserType));
+  }
+
+  private static MethodHandle findConstructor(final Class<?> type, final Class<?> parameterType) {
+    try {
+      return MethodHandles.publicLookup()
+          .findConstructor(type, MethodType.methodType(void.class, parameterType))
+          .asType(MethodType.methodType(Object.class, parameterType));
+    } catch (final ReflectiveOperationException e) {
+      throw new RuntimeException(e);
+    }
   }
 
   public P create(final String input) {
-    return newParser(input);
+    return newParser(newTokenStream(input));
   }
 
-  private P newParser(final String input) {
-    final Lexer lexer = newLexer(input);
-    final CommonTokenStream commonTokenStream = new CommonTokenStream(lexer);
+  /**
+   * Parses the input from the start rule.
+   *
+   * <p>It first tries the faster SLL prediction mode, which bails out at the first error. Only if
+   * that fails, the input is parsed again in LL mode, which reports the actual syntax error.
+   *
+   * @throws RuntimeException if the input is not valid.
+   */
+  public <T extends ParserRuleContext> T parse(final String input, final Function<P, T> startRule) {
+    final CommonTokenStream tokenStream = newTokenStream(input);
+    final P parser = newParser(tokenStream);
+    parser.removeErrorListeners();
+    parser.setErrorHandler(new BailErrorStrategy());
+    parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
     try {
-      final Constructor<?> constructor = parserType.getConstructor(TokenStream.class);
-      final P parser = parserType.cast(constructor.newInstance(commonTokenStream));
-      parser.removeErrorListeners();
+      return startRule.apply(parser);
+    } catch (final ParseCancellationException e) {
+      tokenStream.seek(0);
+      parser.reset();
       parser.addErrorListener(ERROR_LISTENER);
-      return parser;
-    } catch (final Exception e) {
-      throw new RuntimeException(e);
+      parser.setErrorHandler(new DefaultErrorStrategy());
+      parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+      return startRule.apply(parser);
     }
   }
 
+  private CommonTokenStream newTokenStream(final String input) {
+    return new CommonTokenStream(newLexer(input));
+  }
+
+  private P newParser(final TokenStream tokenStream) {
+    final P parser = parserType.cast(invoke(parserConstructor, tokenStream));
+    parser.removeErrorListeners();
+    parser.addErrorListener(ERROR_LISTENER);
+    return parser;
+  }
+
   private L newLexer(final String input) {
+    final L lexer = lexerType.cast(invoke(lexerConstructor, CharStreams.fromString(input)));
+    lexer.removeErrorListeners();
+    lexer.addErrorListener(ERROR_LISTENER);
+    return lexer;
+  }
+
+  private static Object invoke(final MethodHandle constructor, final Object argument) {
     try {
-      final Constructor<?> constructor = lexerType.getConstructor(CharStream.class);
-      final L lexer = lexerType.cast(constructor.newInstance(CharStreams.fromString(input)));
-      lexer.removeErrorListeners();
-      lexer.addErrorListener(ERROR_LISTENER);
-      return lexer;
-    } catch (final Exception e) {
-      throw new RuntimeException(e);
+      return constructor.invoke(argument);
+    } catch (final RuntimeException | Error e) {
+      throw e;
+    } catch (final Throwable throwable) {
+      throw new RuntimeException(throwable);
     }
   }
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.extension;
+
+import com.amazon.crud4dynamo.internal.utility.CacheLedger;
+import com.google.common.base.Preconditions;
+
+/**
+ * A budget of estimated bytes shared by the results of the {@link
+ * com.amazon.crud4dynamo.annotation.Cached} methods of the cruds it is configured for. The same
+ * budget can be given to several {@link com.amazon.crud4dynamo.CrudForDynamo} to bound the results
+ * of the whole process.
+ *
+ * <p>Once the results exceed the budget, the least recently used results are evicted from their
+ * method caches, whichever method they belong to.
+ */
+public final class CacheBudget {
+  private CacheBudget() {}
+
+  public static CacheBudget ofBytes(final long maxBytes) {
+    Preconditions.checkArgument(maxBytes > 0, "Cache budget must be positive");
+    final CacheBudget budget = new CacheBudget();
+    CacheLedger.register(budget, maxBytes);
+    return budget;
+  }
+
+  /** Estimated bytes of the results within the budget. */
+  public long getUsedBytes() {
+    return CacheLedger.of(this).map(CacheLedger::getUsedBytes).orElse(0L);
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.extension;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Capacity units per second which the scans, queries and batch operations of the cruds created by
+ * one {@link com.amazon.crud4dynamo.CrudForDynamo} may consume on a table or index, whether they
+ * are sent through its synchronous or its asynchronous client.
+ *
+ * <p>A budget without index name applies to the table and to those of its indexes which have no
+ * budget of their own. Null capacity units mean unlimited.
+ */
+@Value
+@Builder
+public class CapacityBudget {
+  @NonNull private final String tableName;
+  private final String indexName;
+  private final Double readCapacityUnits;
+  private final Double writeCapacityUnits;
+}
@@ -15,23 +15,38 @@
 
 package com.amazon.crud4dynamo.extension;
 
+import com.amazon.crud4dynamo.extension.diagnostics.OperationDiagnostics;
+import com.amazon.crud4dynamo.extension.metrics.MethodMetrics;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBAsync;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
 import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
 import lombok.Builder;
 import lombok.Value;
 import lombok.experimental.Accessors;
 
-@Builder
+@Builder(toBuilder = true)
 @Value
 @Accessors(fluent = true, chain = true)
 public class Context {
   private final Signature signature;
   private final DynamoDBMapper mapper;
   private final AmazonDynamoDB amazonDynamoDb;
+  /** Null unless the crud is created with an asynchronous client. */
+  private final AmazonDynamoDBAsync amazonDynamoDbAsync;
+
   private final Class<?> modelType;
   private final Class<?> interfaceType;
   private final DynamoDBMapperConfig mapperConfig;
   private final Method method;
+  private final Executor executor;
+  private final Integer maxInFlightRequests;
+  private final Integer prefetchPages;
+  private final Integer maxScanSegments;
+  private final MethodMetrics metrics;
+  private final OperationDiagnostics diagnostics;
+
+  private final CacheBudget cacheBudget;
 }
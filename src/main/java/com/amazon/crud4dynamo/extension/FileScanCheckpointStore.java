@@ -0,0 +1,178 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.extension;
+
+import com.amazon.crud4dynamo.exception.CrudForDynamoException;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.google.common.base.Preconditions;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.NonNull;
+
+/**
+ * Stores the checkpoints of every scan in a properties file named after the scan id in a local
+ * directory.
+ *
+ * <p>The file is rewritten and atomically replaced on every checkpoint. Only string, number and
+ * binary key attributes are supported, which covers all DynamoDB key types.
+ */
+public class FileScanCheckpointStore implements ScanCheckpointStore {
+  private static final Pattern SCAN_ID = Pattern.compile("[A-Za-z0-9._-]+");
+  private static final Pattern SEGMENT_PROPERTY =
+      Pattern.compile("segment\\.(\\d+)\\.(completed|key\\.(.+))");
+  private static final String TOTAL_SEGMENTS = "totalSegments";
+  private static final String FILE_SUFFIX = ".properties";
+
+  private final Path directory;
+  /** Properties of the scans loaded or saved so far, guarded by this. */
+  private final Map<String, Properties> scans = new HashMap<>();
+
+  public FileScanCheckpointStore(@NonNull final Path directory) {
+    this.directory = directory;
+  }
+
+  private static String segmentPrefix(final int segment) {
+    return "segment." + segment + ".";
+  }
+
+  private static String encode(final AttributeValue value) {
+    if (value.getS() != null) {
+      return "S:" + value.getS();
+    }
+    if (value.getN() != null) {
+      return "N:" + value.getN();
+    }
+    if (value.getB() != null) {
+      final ByteBuffer bytes = value.getB().duplicate();
+      final byte[] array = new byte[bytes.remaining()];
+      bytes.get(array);
+      return "B:" + Base64.getEncoder().encodeToString(array);
+    }
+    throw new CrudForDynamoException("Unsupported key attribute value " + value);
+  }
+
+  private static AttributeValue decode(final String encoded) {
+    final String value = encoded.substring(2);
+    switch (encoded.substring(0, 2)) {
+      case "S:":
+        return new AttributeValue().withS(value);
+      case "N:":
+        return new AttributeValue().withN(value);
+      case "B:":
+        return new AttributeValue().withB(ByteBuffer.wrap(Base64.getDecoder().decode(value)));
+      default:
+        throw new CrudForDynamoException("Malformed key attribute value " + encoded);
+    }
+  }
+
+  @Override
+  public synchronized Optional<ScanState> load(final String scanId) {
+    final Properties properties = properties(scanId);
+    if (properties.isEmpty()) {
+      return Optional.empty();
+    }
+    final Map<Integer, Map<String, AttributeValue>> keys = new HashMap<>();
+    final Map<Integer, SegmentCheckpoint> segments = new HashMap<>();
+    for (final String name : properties.stringPropertyNames()) {
+      final Matcher matcher = SEGMENT_PROPERTY.matcher(name);
+      if (!matcher.matches()) {
+        continue;
+      }
+      final int segment = Integer.parseInt(matcher.group(1));
+      if (matcher.group(3) == null) {
+        segments.put(segment, SegmentCheckpoint.COMPLETED);
+      } else {
+        keys.computeIfAbsent(segment, key -> new HashMap<>())
+            .put(matcher.group(3), decode(properties.getProperty(name)));
+      }
+    }
+    keys.forEach((segment, key) -> segments.putIfAbsent(segment, SegmentCheckpoint.after(key)));
+    return Optional.of(
+        new ScanState(Integer.parseInt(properties.getProperty(TOTAL_SEGMENTS)), segments));
+  }
+
+  @Override
+  public synchronized void save(
+      final String scanId,
+      final int totalSegments,
+      final int segment,
+      @NonNull final SegmentCheckpoint checkpoint) {
+    final Properties properties = properties(scanId);
+    final String prefix = segmentPrefix(segment);
+    properties.setProperty(TOTAL_SEGMENTS, Integer.toString(totalSegments));
+    properties.stringPropertyNames().stream()
+        .filter(name -> name.startsWith(prefix))
+        .forEach(properties::remove);
+    if (checkpoint.isCompleted()) {
+      properties.setProperty(prefix + "completed", "true");
+    } else {
+      checkpoint
+          .getLastEvaluatedKey()
+          .forEach((name, value) -> properties.setProperty(prefix + "key." + name, encode(value)));
+    }
+    write(scanId, properties);
+  }
+
+  private Path file(final String scanId) {
+    Preconditions.checkArgument(
+        SCAN_ID.matcher(scanId).matches(), "Scan id should match %s: %s", SCAN_ID, scanId);
+    return directory.resolve(scanId + FILE_SUFFIX);
+  }
+
+  private Properties properties(final String scanId) {
+    return scans.computeIfAbsent(scanId, this::read);
+  }
+
+  private Properties read(final String scanId) {
+    final Path file = file(scanId);
+    final Properties properties = new Properties();
+    if (Files.exists(file)) {
+      try (InputStream in = Files.newInputStream(file)) {
+        properties.load(in);
+      } catch (final IOException e) {
+        throw new CrudForDynamoException("Failed to read scan checkpoints " + file, e);
+      }
+    }
+    return properties;
+  }
+
+  private void write(final String scanId, final Properties properties) {
+    final Path file = file(scanId);
+    try {
+      Files.createDirectories(directory);
+      final Path temporary = Files.createTempFile(directory, scanId, ".tmp");
+      try (OutputStream out = Files.newOutputStream(temporary)) {
+        properties.store(out, null);
+      }
+      Files.move(
+          temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException e) {
+      throw new CrudForDynamoException("Failed to write scan checkpoints " + file, e);
+    }
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.extension;
+
+import java.time.Duration;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Caches the items of a table read by findBy and findAllBy, keyed by primary key and shared by all
+ * cruds created by one {@link com.amazon.crud4dynamo.CrudForDynamo}.
+ *
+ * <p>Items written through the cruds and transactions of the same CrudForDynamo are invalidated
+ * once the write completes. Items written elsewhere stay stale until they expire. Null maximum size
+ * means unbounded, null expiration means never.
+ */
+@Value
+@Builder
+public class ItemCacheSpec {
+  @NonNull private final String tableName;
+  private final Long maximumSize;
+  private final Duration expireAfterWrite;
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.extension;
+
+import lombok.Value;
+
+/**
+ * An immutable pair of values, e.g, the hash key and the range key of a composite key.
+ *
+ * @param <L> Left Value Generic Type Parameter
+ * @param <R> Right Value Generic Type Parameter
+ */
+@Value(staticConstructor = "of")
+public class Pair<L, R> {
+  private final L left;
+  private final R right;
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.extension;
+
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Makes a parallel scan resumable when passed as an argument of a method annotated with {@link
+ * com.amazon.crud4dynamo.annotation.Parallel}.
+ *
+ * <p>Every segment saves its last evaluated key to the store once all items of a page have been
+ * consumed, and marks itself completed at its end. Invoking the method again with the same scan id
+ * skips the completed segments and continues the others after their saved keys, with the total
+ * segments of the first run. Items of a page which was partially consumed are returned again.
+ */
+@Value(staticConstructor = "of")
+public class ScanCheckpoint {
+  @NonNull private final String scanId;
+  @NonNull private final ScanCheckpointStore store;
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.extension;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import java.util.Map;
+import java.util.Optional;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Stores the progress of checkpointed parallel scans, so that a failed scan can be resumed.
+ *
+ * <p>Implementations have to be thread safe, since the segments of a scan save their checkpoints
+ * concurrently.
+ */
+public interface ScanCheckpointStore {
+  /** Returns the saved progress of the scan, or empty if it has not been started. */
+  Optional<ScanState> load(String scanId);
+
+  /** Saves the progress of a segment of the scan, replacing its previous checkpoint. */
+  void save(String scanId, int totalSegments, int segment, SegmentCheckpoint checkpoint);
+
+  @Value
+  class ScanState {
+    private final int totalSegments;
+    /** Checkpoints by segment, segments which have not been started are absent. */
+    @NonNull private final Map<Integer, SegmentCheckpoint> segments;
+  }
+
+  @Value
+  @AllArgsConstructor(access = AccessLevel.PRIVATE)
+  class SegmentCheckpoint {
+    public static final SegmentCheckpoint COMPLETED = new SegmentCheckpoint(null, true);
+
+    /** Key of the last item consumed, null if the segment is completed. */
+    private final Map<String, AttributeValue> lastEvaluatedKey;
+
+    private final boolean completed;
+
+    public static SegmentCheckpoint after(@NonNull final Map<String, AttributeValue> key) {
+      return new SegmentCheckpoint(key, false);
+    }
+  }
+}
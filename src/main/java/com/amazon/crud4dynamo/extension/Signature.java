@@ -32,7 +32,7 @@ import lombok.Value;
 import lombok.experimental.Accessors;
 
 @Value
-@Builder
+@Builder(toBuilder = true)
 @Accessors(fluent = true, chain = true)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class Signature {
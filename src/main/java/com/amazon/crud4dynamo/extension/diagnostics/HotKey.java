@@ -0,0 +1,33 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.extension.diagnostics;
+
+import lombok.Value;
+
+/**
+ * A partition key frequently hit by the sampled operations.
+ *
+ * <p>Keys of queries of an index are counted under the table name followed by "/" and the index
+ * name. The count is of sampled operations and may be overestimated by up to {@code
+ * maxOverestimate}.
+ */
+@Value
+public class HotKey {
+  private final String tableName;
+  private final String partitionKey;
+  private final long count;
+  private final long maxOverestimate;
+}
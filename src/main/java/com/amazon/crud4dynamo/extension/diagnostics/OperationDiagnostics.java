@@ -0,0 +1,114 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.extension.diagnostics;
+
+import com.amazon.crud4dynamo.extension.Pair;
+import com.amazon.crud4dynamo.internal.utility.SpaceSaving;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Finds the slow operations and the hot partition keys of the cruds and transactions it is
+ * configured for.
+ *
+ * <p>The partition key of an operation is taken from its arguments: the hash key value of a query
+ * key condition, the key expression of an update or delete, and the hash key of findBy, deleteBy,
+ * groupBy, save and delete. A fraction of the keys, one in a hundred by default, are sampled into a
+ * Space-Saving sketch of bounded size, so that the lock of the sketch is rarely taken by the
+ * operations of the whole process. Operations slower than the threshold are reported to the
+ * listener whether sampled or not. Without diagnostics the methods are not instrumented at all.
+ */
+@Slf4j
+public class OperationDiagnostics {
+  public static final SlowOperationListener LOG_SLOW_OPERATION =
+      operation ->
+          log.warn(
+              "Slow operation {}.{} on table '{}' with partition key '{}' took {} ms.",
+              operation.getTags().getInterfaceName(),
+              operation.getSignature(),
+              operation.getTableName(),
+              operation.getPartitionKey(),
+              TimeUnit.NANOSECONDS.toMillis(operation.getLatencyNanos()));
+
+  public static final double DEFAULT_KEY_SAMPLE_RATE = 0.01;
+
+  private static final int DEFAULT_MAX_HOT_KEYS = 100;
+
+  private final long slowOperationThresholdNanos;
+  private final double keySampleRate;
+  private final SlowOperationListener slowOperationListener;
+  private final SpaceSaving<Pair<String, String>> hotKeys;
+
+  /**
+   * @param slowOperationThreshold operations taking longer are reported, none if null
+   * @param maxHotKeys number of keys tracked by the sketch, 100 if null
+   * @param keySampleRate fraction of operations whose key is sampled, {@value
+   *     #DEFAULT_KEY_SAMPLE_RATE} if null
+   * @param slowOperationListener receives the slow operations, logged if null
+   */
+  @Builder
+  private OperationDiagnostics(
+      final Duration slowOperationThreshold,
+      final Integer maxHotKeys,
+      final Double keySampleRate,
+      final SlowOperationListener slowOperationListener) {
+    this.slowOperationThresholdNanos =
+        slowOperationThreshold == null ? Long.MAX_VALUE : slowOperationThreshold.toNanos();
+    this.keySampleRate = keySampleRate == null ? DEFAULT_KEY_SAMPLE_RATE : keySampleRate;
+    this.slowOperationListener =
+        slowOperationListener == null ? LOG_SLOW_OPERATION : slowOperationListener;
+    this.hotKeys = new SpaceSaving<>(maxHotKeys == null ? DEFAULT_MAX_HOT_KEYS : maxHotKeys);
+  }
+
+  /** Returns the most frequently sampled partition keys, the most frequent first. */
+  public List<HotKey> getHotKeys(final int limit) {
+    return hotKeys.top(limit).stream()
+        .map(
+            entry ->
+                new HotKey(
+                    entry.getKey().getLeft(),
+                    entry.getKey().getRight(),
+                    entry.getCount(),
+                    entry.getError()))
+        .collect(Collectors.toList());
+  }
+
+  public boolean isSlow(final long latencyNanos) {
+    return latencyNanos > slowOperationThresholdNanos;
+  }
+
+  public boolean shouldSampleKey() {
+    return keySampleRate >= 1
+        || (keySampleRate > 0 && ThreadLocalRandom.current().nextDouble() < keySampleRate);
+  }
+
+  public void recordKey(final String tableName, final String partitionKey) {
+    hotKeys.offer(Pair.of(tableName, partitionKey));
+  }
+
+  public void reportSlowOperation(final SlowOperation slowOperation) {
+    try {
+      slowOperationListener.onSlowOperation(slowOperation);
+    } catch (final RuntimeException e) {
+      log.warn("Failed to report slow operation {}.", slowOperation, e);
+    }
+  }
+}
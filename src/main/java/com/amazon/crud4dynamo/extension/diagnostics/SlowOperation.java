@@ -0,0 +1,32 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.extension.diagnostics;
+
+import com.amazon.crud4dynamo.extension.metrics.MethodTags;
+import lombok.Value;
+
+/** An invocation which took longer than the threshold of {@link OperationDiagnostics}. */
+@Value
+public class SlowOperation {
+  private final MethodTags tags;
+  private final String signature;
+  /** Null if the method is not bound to a table, e.g, a transaction. */
+  private final String tableName;
+  /** Null if the partition key cannot be told from the arguments of the method. */
+  private final String partitionKey;
+
+  private final long latencyNanos;
+}
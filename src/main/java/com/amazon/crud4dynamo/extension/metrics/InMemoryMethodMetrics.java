@@ -0,0 +1,199 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.extension.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps counters and latency histograms of every method in memory, e.g, to be exported periodically
+ * or inspected in tests.
+ */
+public class InMemoryMethodMetrics implements MethodMetrics {
+  private final Map<MethodTags, Stats> stats = new ConcurrentHashMap<>();
+
+  @Override
+  public void recordInvocation(
+      final MethodTags tags, final long latencyNanos, final boolean failed) {
+    final Stats methodStats = getOrCreate(tags);
+    methodStats.invocations.increment();
+    if (failed) {
+      methodStats.failures.increment();
+    }
+    methodStats.latency.record(latencyNanos);
+  }
+
+  @Override
+  public void recordRequest(
+      final MethodTags tags,
+      final String operation,
+      final long latencyNanos,
+      final double consumedCapacityUnits,
+      final int itemCount) {
+    final Stats methodStats = getOrCreate(tags);
+    methodStats.requests.increment();
+    methodStats.items.add(itemCount);
+    methodStats.consumedCapacityUnits.add(consumedCapacityUnits);
+    methodStats.requestLatency.record(latencyNanos);
+  }
+
+  @Override
+  public void recordCacheHit(final MethodTags tags) {
+    getOrCreate(tags).cacheHits.increment();
+  }
+
+  @Override
+  public void recordCacheMiss(final MethodTags tags) {
+    getOrCreate(tags).cacheMisses.increment();
+  }
+
+  public Optional<Stats> getStats(final MethodTags tags) {
+    return Optional.ofNullable(stats.get(tags));
+  }
+
+  public Map<MethodTags, Stats> getAllStats() {
+    return Collections.unmodifiableMap(stats);
+  }
+
+  private Stats getOrCreate(final MethodTags tags) {
+    final Stats existing = stats.get(tags);
+    return existing != null ? existing : stats.computeIfAbsent(tags, key -> new Stats());
+  }
+
+  /** Cumulative metrics of a method. */
+  public static class Stats {
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder items = new LongAdder();
+    private final DoubleAdder consumedCapacityUnits = new DoubleAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private final Histogram latency = new Histogram();
+    private final Histogram requestLatency = new Histogram();
+
+    public long getInvocations() {
+      return invocations.sum();
+    }
+
+    public long getFailures() {
+      return failures.sum();
+    }
+
+    public long getRequests() {
+      return requests.sum();
+    }
+
+    public long getItems() {
+      return items.sum();
+    }
+
+    public double getConsumedCapacityUnits() {
+      return consumedCapacityUnits.sum();
+    }
+
+    public long getCacheHits() {
+      return cacheHits.sum();
+    }
+
+    public long getCacheMisses() {
+      return cacheMisses.sum();
+    }
+
+    /** Latency of invocations in nanoseconds. */
+    public Histogram getLatency() {
+      return latency;
+    }
+
+    /** Latency of requests in nanoseconds. */
+    public Histogram getRequestLatency() {
+      return requestLatency;
+    }
+  }
+
+  /**
+   * Histogram of non-negative values with four buckets per power of two, so that percentiles are
+   * within 25% of the recorded values.
+   */
+  public static class Histogram {
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    static int bucketOf(final long value) {
+      if (value < SUB_BUCKETS) {
+        return (int) value;
+      }
+      final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+      final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+      return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBoundOf(final int bucket) {
+      if (bucket < SUB_BUCKETS) {
+        return bucket;
+      }
+      final int shift = bucket / SUB_BUCKETS - 1;
+      final long subBucket = bucket % SUB_BUCKETS;
+      return ((SUB_BUCKETS + subBucket + 1) << shift) - 1;
+    }
+
+    public void record(final long value) {
+      final long nonNegative = Math.max(0, value);
+      counts.incrementAndGet(bucketOf(nonNegative));
+      count.increment();
+      max.accumulate(nonNegative);
+    }
+
+    public long getCount() {
+      return count.sum();
+    }
+
+    public long getMax() {
+      return max.get();
+    }
+
+    /** Returns the value below which the given fraction of the values fall, 0 if empty. */
+    public long percentile(final double fraction) {
+      if (fraction < 0 || fraction > 1) {
+        throw new IllegalArgumentException("Fraction must be between 0 and 1: " + fraction);
+      }
+      final long total = getCount();
+      if (total == 0) {
+        return 0;
+      }
+      final long rank = Math.max(1, (long) Math.ceil(fraction * total));
+      long seen = 0;
+      for (int bucket = 0; bucket < BUCKETS; bucket++) {
+        seen += counts.get(bucket);
+        if (seen >= rank) {
+          return Math.min(upperBoundOf(bucket), getMax());
+        }
+      }
+      return getMax();
+    }
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.extension.metrics;
+
+/**
+ * Receives the metrics of generated methods.
+ *
+ * <p>An invocation is a call to a method of a crud or transaction interface. A request is a call to
+ * DynamoDB made on behalf of the method, e.g, a page of a query. Requests of lazy results are made
+ * while the results are iterated, after the invocation is recorded, and retries of unprocessed
+ * batch items are separate requests. Implementations are called concurrently and should not block.
+ */
+public interface MethodMetrics {
+  /** Records nothing. Methods are not instrumented at all with it. */
+  MethodMetrics NO_OP = new MethodMetrics() {};
+
+  /**
+   * Records an invocation. Invocations returning a {@code CompletableFuture} are recorded when the
+   * future completes.
+   */
+  default void recordInvocation(
+      final MethodTags tags, final long latencyNanos, final boolean failed) {}
+
+  /**
+   * Records a request.
+   *
+   * @param operation name of the DynamoDB operation, e.g, Query or BatchWriteItem
+   * @param consumedCapacityUnits total capacity units consumed, 0 if the request failed
+   * @param itemCount number of items read, 0 for writes
+   */
+  default void recordRequest(
+      final MethodTags tags,
+      final String operation,
+      final long latencyNanos,
+      final double consumedCapacityUnits,
+      final int itemCount) {}
+
+  /** Records an invocation of a cached method which is served from the cache. */
+  default void recordCacheHit(final MethodTags tags) {}
+
+  /** Records an invocation of a cached method which invokes the method. */
+  default void recordCacheMiss(final MethodTags tags) {}
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.extension.metrics;
+
+/** Kind of a generated method, by the annotation or interface which defines it. */
+public enum OperationType {
+  QUERY,
+  SCAN,
+  PARALLEL_SCAN,
+  UPDATE,
+  PUT,
+  DELETE,
+  TRANSACTION_GET,
+  TRANSACTION_WRITE,
+  /** Methods of the crud interfaces, e.g, findAll. */
+  CRUD,
+  CUSTOM,
+  DEFAULT
+}
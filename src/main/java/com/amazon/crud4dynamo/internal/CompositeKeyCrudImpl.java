@@ -19,12 +19,14 @@ import com.amazon.crud4dynamo.crudinterface.CompositeKeyCrud;
 import com.amazon.crud4dynamo.exception.CrudForDynamoException;
 import com.amazon.crud4dynamo.extension.PageRequest;
 import com.amazon.crud4dynamo.extension.PageResult;
+import com.amazon.crud4dynamo.extension.Pair;
 import com.amazon.crud4dynamo.internal.utility.DynamoDbMapperConfigHelper;
 import com.amazon.crud4dynamo.utility.Reflection;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
 import com.amazonaws.services.dynamodbv2.datamodeling.QueryResultPage;
+import com.google.common.collect.Iterables;
 import java.util.Iterator;
 import java.util.Optional;
 
@@ -45,17 +47,36 @@ public class CompositeKeyCrudImpl<H, R, M> extends DynamoDbCrudBase<M>
     super(dynamoDbMapper, mapperConfig, modelClass);
   }
 
+  public CompositeKeyCrudImpl(
+      final DynamoDBMapper dynamoDbMapper,
+      final DynamoDBMapperConfig mapperConfig,
+      final Class<M> modelClass,
+      final CrudOptions options) {
+    super(dynamoDbMapper, mapperConfig, modelClass, options);
+  }
+
   @Override
   public void deleteBy(final H hashKey, final R rangeKey) throws CrudForDynamoException {
-    final M model = Reflection.newInstance(modelClass);
-    tableModel.hashKey().set(model, hashKey);
-    tableModel.rangeKey().set(model, rangeKey);
-    dynamoDbMapper.delete(model, mapperConfig);
+    dynamoDbMapper.delete(newModel(hashKey, rangeKey), mapperConfig);
   }
 
   @Override
   public Optional<M> findBy(final H hashKey, final R rangeKey) throws CrudForDynamoException {
-    return Optional.ofNullable(dynamoDbMapper.load(modelClass, hashKey, rangeKey, mapperConfig));
+    return load(
+        newModel(hashKey, rangeKey),
+        () -> dynamoDbMapper.load(modelClass, hashKey, rangeKey, mapperConfig));
+  }
+
+  @Override
+  public Iterator<M> findAllBy(final Iterable<Pair<H, R>> keys) throws CrudForDynamoException {
+    return batchLoad(Iterables.transform(keys, key -> newModel(key.getLeft(), key.getRight())));
+  }
+
+  private M newModel(final H hashKey, final R rangeKey) {
+    final M model = Reflection.newInstance(modelClass);
+    tableModel.hashKey().set(model, hashKey);
+    tableModel.rangeKey().set(model, rangeKey);
+    return model;
   }
 
   @Override
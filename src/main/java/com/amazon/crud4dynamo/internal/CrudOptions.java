@@ -0,0 +1,46 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal;
+
+import com.amazon.crud4dynamo.extension.Context;
+import com.amazon.crud4dynamo.internal.utility.BatchExecutor;
+import com.amazon.crud4dynamo.internal.utility.CacheInvalidatingDynamoDb;
+import com.amazon.crud4dynamo.internal.utility.ItemCache;
+import com.amazon.crud4dynamo.internal.utility.PagePrefetcher;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+/** Options of the basic CRUD operations of a {@link DynamoDbCrudBase}. */
+@Value
+@Builder
+public class CrudOptions {
+  /** Runs the chunks of the batch operations one after another, without prefetching or caching. */
+  public static final CrudOptions DEFAULT = builder().build();
+
+  @NonNull @Builder.Default private final BatchExecutor batchExecutor = BatchExecutor.SEQUENTIAL;
+  @NonNull @Builder.Default private final PagePrefetcher pagePrefetcher = PagePrefetcher.NONE;
+  @NonNull @Builder.Default private final ItemCache itemCache = ItemCache.NONE;
+
+  /** The options configured for the crud of the context. */
+  public static CrudOptions from(final Context context) {
+    return builder()
+        .batchExecutor(BatchExecutor.of(context.executor(), context.maxInFlightRequests()))
+        .pagePrefetcher(PagePrefetcher.of(context.executor(), context.prefetchPages()))
+        .itemCache(CacheInvalidatingDynamoDb.itemCacheOf(context.amazonDynamoDb()))
+        .build();
+  }
+}
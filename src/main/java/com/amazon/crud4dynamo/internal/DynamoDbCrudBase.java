@@ -19,10 +19,16 @@ import com.amazon.crud4dynamo.crudinterface.DynamoDbCrud;
 import com.amazon.crud4dynamo.extension.FailedBatch;
 import com.amazon.crud4dynamo.extension.PageRequest;
 import com.amazon.crud4dynamo.extension.PageResult;
+import com.amazon.crud4dynamo.internal.utility.BatchExecutor;
 import com.amazon.crud4dynamo.internal.utility.DynamoDbMapperConfigHelper;
+import com.amazon.crud4dynamo.internal.utility.FailedModelResolver;
+import com.amazon.crud4dynamo.internal.utility.ItemCache;
+import com.amazon.crud4dynamo.internal.utility.PageFetcher.Page;
+import com.amazon.crud4dynamo.internal.utility.PagePrefetcher;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.PaginationLoadingStrategy;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperFieldModel;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
 import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
@@ -30,12 +36,16 @@ import com.amazonaws.services.dynamodbv2.model.AttributeValue;
 import com.amazonaws.services.dynamodbv2.model.DeleteRequest;
 import com.amazonaws.services.dynamodbv2.model.PutRequest;
 import com.amazonaws.services.dynamodbv2.model.WriteRequest;
-import com.google.common.collect.Lists;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Iterators;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -45,19 +55,63 @@ import java.util.stream.Stream;
  * @param <M> Model Generic Type Parameter
  */
 public abstract class DynamoDbCrudBase<M> implements DynamoDbCrud<M> {
+  private static final int MAX_BATCH_WRITE_SIZE = 25;
+  private static final int MAX_BATCH_GET_SIZE = 100;
+  private static final List<Object> NO_MODELS = Collections.emptyList();
+
   protected final DynamoDBMapper dynamoDbMapper;
   protected final DynamoDBMapperConfig mapperConfig;
   protected final Class<M> modelClass;
   protected final DynamoDBMapperTableModel<M> tableModel;
+  protected final BatchExecutor batchExecutor;
+  protected final PagePrefetcher pagePrefetcher;
+  /** Cache of the items read by key, if the table has one. */
+  protected final Optional<ItemCache.Table> cachedItems;
 
   public DynamoDbCrudBase(
       final DynamoDBMapper dynamoDbMapper,
       final DynamoDBMapperConfig mapperConfig,
       final Class<M> modelClass) {
+    this(dynamoDbMapper, mapperConfig, modelClass, CrudOptions.DEFAULT);
+  }
+
+  public DynamoDbCrudBase(
+      final DynamoDBMapper dynamoDbMapper,
+      final DynamoDBMapperConfig mapperConfig,
+      final Class<M> modelClass,
+      final CrudOptions options) {
     this.dynamoDbMapper = dynamoDbMapper;
     this.mapperConfig = mapperConfig;
     this.modelClass = modelClass;
+    batchExecutor = options.getBatchExecutor();
+    pagePrefetcher = options.getPagePrefetcher();
+    final ItemCache itemCache = options.getItemCache();
     tableModel = dynamoDbMapper.getTableModel(modelClass);
+    cachedItems =
+        itemCache.isEmpty()
+            ? Optional.empty()
+            : itemCache.table(
+                DynamoDbMapperConfigHelper.getTableName(modelClass, mapperConfig),
+                modelClass,
+                tableModel.keys().stream()
+                    .map(DynamoDBMapperFieldModel::name)
+                    .collect(Collectors.toList()));
+  }
+
+  /**
+   * Loads the model with the key of the given model through the item cache if there is one, or with
+   * the loader otherwise. Cached items are converted to a new model on every hit.
+   */
+  protected Optional<M> load(final M keyModel, final Supplier<M> loader) {
+    if (!cachedItems.isPresent()) {
+      return Optional.ofNullable(loader.get());
+    }
+    return cachedItems
+        .get()
+        .get(
+            tableModel.convertKey(keyModel),
+            () -> Optional.ofNullable(loader.get()).map(tableModel::convert).orElse(null))
+        .map(tableModel::unconvert);
   }
 
   @Override
@@ -68,7 +122,7 @@ public abstract class DynamoDbCrudBase<M> implements DynamoDbCrud<M> {
   @Override
   public FailedBatch<M> saveAll(final Iterable<M> models) {
     return new FailedBatchConverter<M>(
-        dynamoDbMapper.batchWrite(models, Collections.emptyList(), mapperConfig)) {
+        batchWrite(models, chunk -> dynamoDbMapper.batchWrite(chunk, NO_MODELS, mapperConfig))) {
       @Override
       protected List<M> transform(final Stream<WriteRequest> writeRequestStream) {
         return writeRequestStream
@@ -87,33 +141,89 @@ public abstract class DynamoDbCrudBase<M> implements DynamoDbCrud<M> {
 
   @Override
   public FailedBatch<M> deleteAll(final Iterable<M> models) {
-    return new FailedBatchConverter<M>(
-        dynamoDbMapper.batchWrite(Collections.emptyList(), models, mapperConfig)) {
+    return deleteAll(models, new FailedModelResolver<>(tableModel, models)::resolve);
+  }
+
+  /**
+   * Deletes the models and reports the failed items as resolved from the keys of the failed delete
+   * requests.
+   */
+  protected <T> FailedBatch<T> deleteAll(
+      final Iterable<M> models,
+      final Function<List<Map<String, AttributeValue>>, List<T>> failedKeyResolver) {
+    return new FailedBatchConverter<T>(
+        batchWrite(models, chunk -> dynamoDbMapper.batchWrite(NO_MODELS, chunk, mapperConfig))) {
       @Override
-      protected List<M> transform(final Stream<WriteRequest> writeRequestStream) {
-        final List<Map<String, AttributeValue>> keyAttributeList =
+      protected List<T> transform(final Stream<WriteRequest> writeRequestStream) {
+        return failedKeyResolver.apply(
             writeRequestStream
                 .map(WriteRequest::getDeleteRequest)
                 .map(DeleteRequest::getKey)
-                .collect(Collectors.toList());
-        return filterToFindFailedModels(keyAttributeList);
-      }
-
-      private List<M> filterToFindFailedModels(
-          final List<Map<String, AttributeValue>> keyAttributeList) {
-        return Lists.newArrayList(models).stream()
-            .filter(
-                model ->
-                    keyAttributeList.stream()
-                        .anyMatch(
-                            keyAttribute -> keyAttribute.equals(tableModel.convertKey(model))))
-            .collect(Collectors.toList());
+                .collect(Collectors.toList()));
       }
     }.convert();
   }
 
+  /**
+   * Writes the models in chunks of at most {@value #MAX_BATCH_WRITE_SIZE} items, which is the limit
+   * of a single BatchWriteItem request. The mapper retries the unprocessed items of each chunk
+   * according to the batch write retry strategy of the mapper config.
+   */
+  private List<DynamoDBMapper.FailedBatch> batchWrite(
+      final Iterable<M> models,
+      final Function<List<M>, List<DynamoDBMapper.FailedBatch>> chunkWriter) {
+    return batchExecutor.execute(models, MAX_BATCH_WRITE_SIZE, chunkWriter);
+  }
+
+  /**
+   * Loads the models with the keys of the given models in chunks of at most {@value
+   * #MAX_BATCH_GET_SIZE} keys, which is the limit of a single BatchGetItem request. The models are
+   * returned as the chunks complete, after the cached models if the table has an item cache. The
+   * mapper retries the unprocessed keys of each chunk according to the batch load retry strategy of
+   * the mapper config.
+   */
+  protected Iterator<M> batchLoad(final Iterable<M> keyModels) {
+    if (!cachedItems.isPresent()) {
+      return batchExecutor.stream(keyModels, MAX_BATCH_GET_SIZE, this::batchLoadChunk);
+    }
+    return Iterators.transform(
+        cachedItems
+            .get()
+            .getAll(
+                Iterables.transform(keyModels, tableModel::convertKey),
+                missingKeys ->
+                    Iterators.transform(
+                        batchExecutor.stream(
+                            Iterables.transform(missingKeys, tableModel::unconvert),
+                            MAX_BATCH_GET_SIZE,
+                            this::batchLoadChunk),
+                        tableModel::convert)),
+        tableModel::unconvert);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<M> batchLoadChunk(final List<M> keyModels) {
+    final List<M> models = new ArrayList<>(keyModels.size());
+    for (final List<Object> tableModels :
+        dynamoDbMapper.batchLoad(keyModels, mapperConfig).values()) {
+      tableModels.forEach(model -> models.add((M) model));
+    }
+    return models;
+  }
+
   @Override
   public Iterator<M> findAll() {
+    if (pagePrefetcher.isEnabled()) {
+      return pagePrefetcher.iterator(
+          startKey -> {
+            final ScanResultPage<M> page =
+                dynamoDbMapper.scanPage(
+                    modelClass,
+                    new DynamoDBScanExpression().withExclusiveStartKey(startKey),
+                    mapperConfig);
+            return new Page<>(page.getResults(), page.getLastEvaluatedKey());
+          });
+    }
     return dynamoDbMapper
         .scan(
             modelClass,
@@ -16,16 +16,29 @@
 package com.amazon.crud4dynamo.internal;
 
 import com.amazon.crud4dynamo.extension.method.AbstractMethod;
-import com.google.common.reflect.AbstractInvocationHandler;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.reflect.Reflection;
+import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
+/**
+ * Creates a proxy instance of the given interface.
+ *
+ * <p>All the {@link AbstractMethod}s are resolved and bound to the proxy instance once at creation
+ * time, so an invocation is a single table lookup followed by {@link AbstractMethod#invoke}.
+ *
+ * <p>The JDK proxy class passes its own {@link Method} instances, one per interface method, which
+ * are not those of {@link Class#getMethods()}. The first call of a method finds it by {@link
+ * Method#equals}, after which it is indexed by identity in an open addressing table.
+ */
 public class Proxy<T> {
+  private static final Object[] NO_ARGS = {};
+
   private final Class<T> interfaceType;
   private final Function<Method, AbstractMethod> methodFunction;
 
@@ -36,21 +49,95 @@ public class Proxy<T> {
   }
 
   public T create() {
-    final Map<Method, AbstractMethod> dispatchMapping =
+    final Map<Method, AbstractMethod> unboundMethods =
         Arrays.stream(interfaceType.getMethods())
-            .collect(Collectors.toMap(Function.identity(), methodFunction));
-    return Reflection.newProxy(
-        interfaceType,
-        new AbstractInvocationHandler() {
-          @Override
-          protected Object handleInvocation(
-              final Object o, final Method method, final Object[] objects) throws Throwable {
-            try {
-              return dispatchMapping.get(method).bind(o).invoke(objects);
-            } catch (final InvocationTargetException e) {
-              throw e.getTargetException();
-            }
-          }
-        });
+            .collect(ImmutableMap.toImmutableMap(Function.identity(), methodFunction));
+    final DispatchHandler handler = new DispatchHandler(unboundMethods.size());
+    final T proxy = Reflection.newProxy(interfaceType, handler);
+    final ImmutableMap.Builder<Method, AbstractMethod> boundMethods = ImmutableMap.builder();
+    unboundMethods.forEach(
+        (method, abstractMethod) -> boundMethods.put(method, abstractMethod.bind(proxy)));
+    handler.methods = boundMethods.build();
+    return proxy;
+  }
+
+  private static class DispatchHandler implements InvocationHandler {
+    /** Interface methods, plus the equals, hashCode and toString of the proxy class. */
+    private static final int OBJECT_METHODS = 3;
+
+    private final AtomicReferenceArray<Entry> index;
+    private final int mask;
+    private volatile Map<Method, AbstractMethod> methods;
+
+    private DispatchHandler(final int methodCount) {
+      final int capacity = Integer.highestOneBit((methodCount + OBJECT_METHODS) * 2 - 1) << 1;
+      index = new AtomicReferenceArray<>(capacity);
+      mask = capacity - 1;
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args)
+        throws Throwable {
+      final AbstractMethod abstractMethod = lookup(method);
+      if (abstractMethod == null) {
+        return invokeObjectMethod(proxy, method, args);
+      }
+      try {
+        return abstractMethod.invoke(args == null ? NO_ARGS : args);
+      } catch (final InvocationTargetException e) {
+        throw e.getTargetException();
+      }
+    }
+
+    private AbstractMethod lookup(final Method method) {
+      int slot = System.identityHashCode(method) & mask;
+      Entry entry;
+      while ((entry = index.get(slot)) != null) {
+        if (entry.method == method) {
+          return entry.abstractMethod;
+        }
+        slot = (slot + 1) & mask;
+      }
+      final AbstractMethod abstractMethod = methods.get(method);
+      if (abstractMethod != null) {
+        addToIndex(slot, new Entry(method, abstractMethod));
+      }
+      return abstractMethod;
+    }
+
+    /** Racing calls of a method probe the same slots, so a method is added once. */
+    private void addToIndex(final int emptySlot, final Entry entry) {
+      int slot = emptySlot;
+      for (int probes = 0; probes <= mask; probes++) {
+        if (index.compareAndSet(slot, null, entry) || index.get(slot).method == entry.method) {
+          return;
+        }
+        slot = (slot + 1) & mask;
+      }
+    }
+
+    private static Object invokeObjectMethod(
+        final Object proxy, final Method method, final Object[] args) {
+      switch (method.getName()) {
+        case "equals":
+          return proxy == args[0];
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "toString":
+          return "Proxy of " + proxy.getClass().getInterfaces()[0].getName();
+        default:
+          throw new UnsupportedOperationException(method.toString());
+      }
+    }
+  }
+
+  private static class Entry {
+    private final Method method;
+    private final AbstractMethod abstractMethod;
+
+    private Entry(final Method method, final AbstractMethod abstractMethod) {
+      this.method = method;
+      this.abstractMethod = abstractMethod;
+    }
   }
 }
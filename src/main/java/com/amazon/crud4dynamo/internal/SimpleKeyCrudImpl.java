@@ -21,11 +21,8 @@ import com.amazon.crud4dynamo.utility.Reflection;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperFieldModel;
-import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
-import java.util.ArrayList;
-import java.util.Collection;
+import com.google.common.collect.Iterables;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -44,6 +41,14 @@ public class SimpleKeyCrudImpl<H, M> extends DynamoDbCrudBase<M> implements Simp
     super(dynamoDbMapper, mapperConfig, modelClass);
   }
 
+  public SimpleKeyCrudImpl(
+      final DynamoDBMapper dynamoDbMapper,
+      final DynamoDBMapperConfig mapperConfig,
+      final Class<M> modelClass,
+      final CrudOptions options) {
+    super(dynamoDbMapper, mapperConfig, modelClass, options);
+  }
+
   @Override
   public void deleteBy(final H hashKey) {
     final M model = Reflection.newInstance(modelClass);
@@ -53,58 +58,28 @@ public class SimpleKeyCrudImpl<H, M> extends DynamoDbCrudBase<M> implements Simp
 
   @Override
   public FailedBatch<H> deleteAllBy(final Iterable<H> hashKeys) {
-    final List<M> models = convertHashKeysToModels(hashKeys);
-    final FailedBatch<M> modelFailedBatch = deleteAll(models);
-    return FailedBatch.<H>builder()
-        .subBatches(convertToKeySubBatches(tableModel, modelFailedBatch))
-        .build();
-  }
-
-  private List<FailedBatch.SubBatch<H>> convertToKeySubBatches(
-      final DynamoDBMapperTableModel<M> tableModel, final FailedBatch<M> modelFailedBatch) {
-    return modelFailedBatch.getSubBatches().stream()
-        .map(modelSubBatch -> buildHashKeySubBatch(modelSubBatch, tableModel))
-        .collect(Collectors.toList());
-  }
-
-  private FailedBatch.SubBatch<H> buildHashKeySubBatch(
-      final FailedBatch.SubBatch<M> modelSubBatch, final DynamoDBMapperTableModel<M> tableModel) {
-    return FailedBatch.SubBatch.<H>builder()
-        .failedItems(convertToHashKeys(modelSubBatch, tableModel))
-        .exception(modelSubBatch.getException())
-        .build();
-  }
-
-  private List<H> convertToHashKeys(
-      final FailedBatch.SubBatch<M> modelSubBatch, final DynamoDBMapperTableModel<M> tableModel) {
-    return modelSubBatch.getFailedItems().stream()
-        .map(model -> tableModel.<H>hashKey().get(model))
-        .collect(Collectors.toList());
+    final DynamoDBMapperFieldModel<M, H> hashKeyField = tableModel.hashKey();
+    return deleteAll(
+        Iterables.transform(hashKeys, this::newModel),
+        failedKeys ->
+            failedKeys.stream()
+                .map(key -> hashKeyField.unconvert(key.get(hashKeyField.name())))
+                .collect(Collectors.toList()));
   }
 
   @Override
   public Optional<M> findBy(final H hashKey) {
-    return Optional.ofNullable(dynamoDbMapper.load(modelClass, hashKey, mapperConfig));
+    return load(newModel(hashKey), () -> dynamoDbMapper.load(modelClass, hashKey, mapperConfig));
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public Iterator<M> findAllBy(final Iterable<H> hashKeys) {
-    final List<M> models = convertHashKeysToModels(hashKeys);
-    return (Iterator<M>)
-        dynamoDbMapper.batchLoad(models, mapperConfig).values().stream()
-            .flatMap(Collection::stream)
-            .iterator();
+    return batchLoad(Iterables.transform(hashKeys, this::newModel));
   }
 
-  private List<M> convertHashKeysToModels(final Iterable<H> hashKeys) {
-    final DynamoDBMapperFieldModel<M, H> hashKeyField = tableModel.hashKey();
-    final List<M> models = new ArrayList<>();
-    for (final H hashKey : hashKeys) {
-      final M model = Reflection.newInstance(modelClass);
-      hashKeyField.set(model, hashKey);
-      models.add(model);
-    }
-    return models;
+  private M newModel(final H hashKey) {
+    final M model = Reflection.newInstance(modelClass);
+    tableModel.<H>hashKey().set(model, hashKey);
+    return model;
   }
 }
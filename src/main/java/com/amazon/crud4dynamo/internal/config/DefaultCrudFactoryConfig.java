@@ -17,15 +17,20 @@ package com.amazon.crud4dynamo.internal.config;
 
 import com.amazon.crud4dynamo.extension.factory.ChainedFactoryConstructor;
 import com.amazon.crud4dynamo.extension.factory.ChainedMethodFactoryConfig;
+import com.amazon.crud4dynamo.internal.factory.AsyncMethodFactory;
 import com.amazon.crud4dynamo.internal.factory.BasicCrudMethodFactory;
 import com.amazon.crud4dynamo.internal.factory.CachedMethodFactory;
+import com.amazon.crud4dynamo.internal.factory.CoalescingUpdateMethodFactory;
 import com.amazon.crud4dynamo.internal.factory.CustomMethodFactory;
 import com.amazon.crud4dynamo.internal.factory.DefaultMethodFactory;
 import com.amazon.crud4dynamo.internal.factory.DeleteMethodFactory;
+import com.amazon.crud4dynamo.internal.factory.DiagnosticsMethodFactory;
 import com.amazon.crud4dynamo.internal.factory.MapperConfigAwareMethodFactory;
+import com.amazon.crud4dynamo.internal.factory.MetricsMethodFactory;
 import com.amazon.crud4dynamo.internal.factory.ParallelScanMethodFactory;
 import com.amazon.crud4dynamo.internal.factory.PutMethodFactory;
 import com.amazon.crud4dynamo.internal.factory.QueryMethodFactory;
+import com.amazon.crud4dynamo.internal.factory.RateLimitedMethodFactory;
 import com.amazon.crud4dynamo.internal.factory.ScanMethodFactory;
 import com.amazon.crud4dynamo.internal.factory.ThrowingMethodFactory;
 import com.amazon.crud4dynamo.internal.factory.UpdateMethodFactory;
@@ -36,9 +41,14 @@ import lombok.Getter;
 public enum DefaultCrudFactoryConfig
     implements ChainedMethodFactoryConfig<DefaultCrudFactoryConfig> {
   MAPPER_CONFIG_AWARE_METHOD(10000, MapperConfigAwareMethodFactory::new),
+  METRICS_METHOD(12500, MetricsMethodFactory::new),
+  DIAGNOSTICS_METHOD(13000, DiagnosticsMethodFactory::new),
+  RATE_LIMITED_METHOD(15000, RateLimitedMethodFactory::new),
   CACHED_METHOD(20000, CachedMethodFactory::new),
   DEFAULT_METHOD(30000, DefaultMethodFactory::new),
   CUSTOM_METHOD(40000, CustomMethodFactory::new),
+  COALESCING_UPDATE_METHOD(44000, CoalescingUpdateMethodFactory::new),
+  ASYNC_METHOD(45000, AsyncMethodFactory::new),
   QUERY_METHOD(50000, QueryMethodFactory::new),
   PARALLEL_SCAN_METHOD(60000, ParallelScanMethodFactory::new),
   SCAN_METHOD(70000, ScanMethodFactory::new),
@@ -17,7 +17,10 @@ package com.amazon.crud4dynamo.internal.config;
 
 import com.amazon.crud4dynamo.extension.factory.ChainedFactoryConstructor;
 import com.amazon.crud4dynamo.extension.factory.ChainedMethodFactoryConfig;
+import com.amazon.crud4dynamo.internal.factory.AsyncMethodFactory;
 import com.amazon.crud4dynamo.internal.factory.DefaultMethodFactory;
+import com.amazon.crud4dynamo.internal.factory.DiagnosticsMethodFactory;
+import com.amazon.crud4dynamo.internal.factory.MetricsMethodFactory;
 import com.amazon.crud4dynamo.internal.factory.ThrowingMethodFactory;
 import com.amazon.crud4dynamo.internal.factory.TransactionGetMethodFactory;
 import com.amazon.crud4dynamo.internal.factory.TransactionWriteMethodFactory;
@@ -27,7 +30,10 @@ import lombok.Getter;
 
 public enum DefaultTransactionFactoryConfig
     implements ChainedMethodFactoryConfig<DefaultTransactionFactoryConfig> {
+  METRICS_METHOD(5000, MetricsMethodFactory::new),
+  DIAGNOSTICS_METHOD(6000, DiagnosticsMethodFactory::new),
   DEFAULT_METHOD(10000, DefaultMethodFactory::new),
+  ASYNC_METHOD(15000, AsyncMethodFactory::new),
   TRANSACTION_WRITE_METHOD(20000, TransactionWriteMethodFactory::new),
   TRANSACTION_GET_METHOD(30000, TransactionGetMethodFactory::new),
   THROWING_METHOD(Integer.MAX_VALUE, ThrowingMethodFactory::new);
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.factory;
+
+import com.amazon.crud4dynamo.extension.Context;
+import com.amazon.crud4dynamo.extension.Signature;
+import com.amazon.crud4dynamo.extension.factory.AbstractMethodFactory;
+import com.amazon.crud4dynamo.extension.factory.ChainedAbstractMethodFactory;
+import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.amazon.crud4dynamo.internal.method.AsyncMethod;
+import com.amazon.crud4dynamo.internal.utility.SharedExecutor;
+import com.google.common.reflect.TypeToken;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Creates methods which return {@code CompletableFuture<T>}.
+ *
+ * <p>The rest of the chain creates the method as if it returned {@code T}, which is then wrapped by
+ * an {@link AsyncMethod}. Requests are sent through the asynchronous client if the crud is created
+ * with one. Otherwise the method runs on the executor of the config, or on a shared pool of daemon
+ * threads if none is configured.
+ */
+public class AsyncMethodFactory extends ChainedAbstractMethodFactory {
+  public AsyncMethodFactory(final AbstractMethodFactory delegate) {
+    super(delegate);
+  }
+
+  private static boolean isAsync(final Signature signature) {
+    return signature.returnType().getRawType() == CompletableFuture.class;
+  }
+
+  private static Signature unwrap(final Signature signature) {
+    final TypeToken<?> resultType =
+        signature.returnType().resolveType(CompletableFuture.class.getTypeParameters()[0]);
+    return signature.toBuilder().returnType(resultType).build();
+  }
+
+  @Override
+  public AbstractMethod create(final Context context) {
+    if (!isAsync(context.signature())) {
+      return super.create(context);
+    }
+    final AbstractMethod delegate =
+        super.create(context.toBuilder().signature(unwrap(context.signature())).build());
+    return new AsyncMethod(
+        context.signature(),
+        delegate,
+        context.amazonDynamoDbAsync(),
+        SharedExecutor.orDefault(context.executor()));
+  }
+}
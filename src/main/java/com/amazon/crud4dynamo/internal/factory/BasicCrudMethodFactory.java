@@ -24,6 +24,7 @@ import com.amazon.crud4dynamo.extension.factory.AbstractMethodFactory;
 import com.amazon.crud4dynamo.extension.factory.ChainedAbstractMethodFactory;
 import com.amazon.crud4dynamo.extension.method.AbstractMethod;
 import com.amazon.crud4dynamo.internal.CompositeKeyCrudImpl;
+import com.amazon.crud4dynamo.internal.CrudOptions;
 import com.amazon.crud4dynamo.internal.SimpleKeyCrudImpl;
 import com.amazon.crud4dynamo.internal.method.ReflectiveMethod;
 import com.google.common.collect.ImmutableMap;
@@ -47,11 +48,17 @@ public class BasicCrudMethodFactory extends ChainedAbstractMethodFactory {
             SimpleKeyCrud.class,
             context ->
                 new SimpleKeyCrudImpl<>(
-                    context.mapper(), context.mapperConfig(), context.modelType()),
+                    context.mapper(),
+                    context.mapperConfig(),
+                    context.modelType(),
+                    CrudOptions.from(context)),
             CompositeKeyCrud.class,
             context ->
                 new CompositeKeyCrudImpl<>(
-                    context.mapper(), context.mapperConfig(), context.modelType()));
+                    context.mapper(),
+                    context.mapperConfig(),
+                    context.modelType(),
+                    CrudOptions.from(context)));
   }
 
   @Override
@@ -59,11 +66,15 @@ public class BasicCrudMethodFactory extends ChainedAbstractMethodFactory {
     final Map<String, Method> map = getMethodMap(context);
     final DynamoDbCrud dao = getDao(context);
     return Optional.ofNullable(map.get(context.signature().toString()))
-        .<AbstractMethod>map(
-            delegateMethod -> new ReflectiveMethod(dao, delegateMethod, context.signature()))
+        .map(delegateMethod -> newMethod(dao, delegateMethod, context.signature()))
         .orElseGet(() -> super.create(context));
   }
 
+  protected AbstractMethod newMethod(
+      final DynamoDbCrud dao, final Method method, final Signature signature) {
+    return new ReflectiveMethod(dao, method, signature);
+  }
+
   private Map<String, Method> getMethodMap(final Context context) {
     return methodMapCache.computeIfAbsent(
         context.interfaceType(),
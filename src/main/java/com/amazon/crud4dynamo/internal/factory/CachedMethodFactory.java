@@ -20,6 +20,7 @@ import com.amazon.crud4dynamo.extension.Context;
 import com.amazon.crud4dynamo.extension.factory.AbstractMethodFactory;
 import com.amazon.crud4dynamo.extension.factory.ChainedAbstractMethodFactory;
 import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.amazon.crud4dynamo.internal.method.CacheOptions;
 import com.amazon.crud4dynamo.internal.method.CachedMethod;
 
 public class CachedMethodFactory extends ChainedAbstractMethodFactory {
@@ -30,9 +31,10 @@ public class CachedMethodFactory extends ChainedAbstractMethodFactory {
   @Override
   public AbstractMethod create(final Context context) {
     final AbstractMethod abstractMethod = super.create(context);
-    return isAnnotatedWithCached(context)
-        ? new CachedMethod(context.signature(), abstractMethod)
-        : abstractMethod;
+    if (!isAnnotatedWithCached(context)) {
+      return abstractMethod;
+    }
+    return new CachedMethod(context.signature(), abstractMethod, CacheOptions.from(context));
   }
 
   private boolean isAnnotatedWithCached(final Context context) {
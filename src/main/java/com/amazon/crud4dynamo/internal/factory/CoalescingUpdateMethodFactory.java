@@ -0,0 +1,70 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.factory;
+
+import com.amazon.crud4dynamo.annotation.Coalesce;
+import com.amazon.crud4dynamo.annotation.Update;
+import com.amazon.crud4dynamo.exception.CrudForDynamoException;
+import com.amazon.crud4dynamo.extension.Context;
+import com.amazon.crud4dynamo.extension.Signature;
+import com.amazon.crud4dynamo.extension.factory.AbstractMethodFactory;
+import com.amazon.crud4dynamo.extension.factory.ChainedAbstractMethodFactory;
+import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.amazon.crud4dynamo.internal.method.CoalescingUpdateMethod;
+import com.google.common.base.Strings;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Creates {@link CoalescingUpdateMethod} for update methods annotated with {@link Coalesce}. It
+ * comes before {@link AsyncMethodFactory}, since the coalesced method completes the futures itself.
+ */
+public class CoalescingUpdateMethodFactory extends ChainedAbstractMethodFactory {
+  public CoalescingUpdateMethodFactory(final AbstractMethodFactory delegate) {
+    super(delegate);
+  }
+
+  private static void validate(final Signature signature) {
+    final Update update = signature.invokable().getAnnotation(Update.class);
+    if (update == null || signature.returnType().getRawType() != CompletableFuture.class) {
+      throw new CrudForDynamoException(
+          String.format(
+              "Method '%s' annotated with Coalesce should be annotated with Update and return"
+                  + " CompletableFuture",
+              signature));
+    }
+    if (!Strings.isNullOrEmpty(update.conditionExpression())) {
+      throw new CrudForDynamoException(
+          String.format(
+              "Method '%s' annotated with Coalesce should not have a condition expression",
+              signature));
+    }
+  }
+
+  @Override
+  public AbstractMethod create(final Context context) {
+    if (!context.signature().getAnnotation(Coalesce.class).isPresent()) {
+      return super.create(context);
+    }
+    validate(context.signature());
+    return new CoalescingUpdateMethod(
+        context.signature(),
+        context.modelType(),
+        context.mapper(),
+        context.amazonDynamoDb(),
+        context.amazonDynamoDbAsync(),
+        context.executor());
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.factory;
+
+import com.amazon.crud4dynamo.annotation.Delete;
+import com.amazon.crud4dynamo.annotation.Param;
+import com.amazon.crud4dynamo.annotation.Query;
+import com.amazon.crud4dynamo.annotation.Update;
+import com.amazon.crud4dynamo.crudinterface.DynamoDbCrud;
+import com.amazon.crud4dynamo.extension.Context;
+import com.amazon.crud4dynamo.extension.Signature;
+import com.amazon.crud4dynamo.extension.diagnostics.OperationDiagnostics;
+import com.amazon.crud4dynamo.extension.factory.AbstractMethodFactory;
+import com.amazon.crud4dynamo.extension.factory.ChainedAbstractMethodFactory;
+import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.amazon.crud4dynamo.internal.method.DiagnosedMethod;
+import com.amazon.crud4dynamo.internal.parsing.KeyConditionExpressionParser;
+import com.amazon.crud4dynamo.internal.utility.DynamoDbMapperConfigHelper;
+import com.amazon.crud4dynamo.internal.utility.KeyAttributeConstructor;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.io.BaseEncoding;
+import com.google.common.reflect.Parameter;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Wraps the methods created by the rest of the chain in a {@link DiagnosedMethod} if the context
+ * has {@link OperationDiagnostics}, and passes them through untouched otherwise.
+ */
+public class DiagnosticsMethodFactory extends ChainedAbstractMethodFactory {
+  private static final Function<Object[], String> NO_KEY = args -> null;
+  private static final Set<String> CRUD_METHODS_BY_HASH_KEY =
+      ImmutableSet.of("findBy", "deleteBy", "groupBy");
+  private static final Set<String> CRUD_METHODS_BY_MODEL = ImmutableSet.of("save", "delete");
+
+  public DiagnosticsMethodFactory(final AbstractMethodFactory delegate) {
+    super(delegate);
+  }
+
+  static Function<Object[], String> newPartitionKeySampler(
+      final Context context, final DynamoDBMapperTableModel<?> tableModel) {
+    final List<Parameter> parameters = context.signature().parameters();
+    final Optional<Query> query = context.signature().getAnnotation(Query.class);
+    if (query.isPresent()) {
+      return KeyConditionExpressionParser.getPartitionKeyValue(query.get().keyCondition())
+          .map(value -> indexOfParam(parameters, value))
+          .filter(index -> index >= 0)
+          .<Function<Object[], String>>map(index -> args -> String.valueOf(args[index]))
+          .orElse(NO_KEY);
+    }
+    final Optional<String> keyExpression = keyExpressionOf(context.signature());
+    if (keyExpression.isPresent()) {
+      final KeyAttributeConstructor.Plan keyPlan =
+          new KeyAttributeConstructor(keyExpression.get(), tableModel).bind(parameters);
+      final String hashKeyName = tableModel.hashKey().name();
+      return args -> render(keyPlan.create(args), hashKeyName);
+    }
+    if (!DynamoDbCrud.class.isAssignableFrom(context.signature().method().getDeclaringClass())) {
+      return NO_KEY;
+    }
+    final String methodName = context.signature().methodName();
+    if (CRUD_METHODS_BY_HASH_KEY.contains(methodName) && !parameters.isEmpty()) {
+      return args -> String.valueOf(args[0]);
+    }
+    if (CRUD_METHODS_BY_MODEL.contains(methodName) && parameters.size() == 1) {
+      return args -> String.valueOf(getHashKey(tableModel, args[0]));
+    }
+    return NO_KEY;
+  }
+
+  private static Optional<String> keyExpressionOf(final Signature signature) {
+    final Optional<Update> update = signature.getAnnotation(Update.class);
+    if (update.isPresent()) {
+      return Optional.of(update.get().keyExpression());
+    }
+    return signature.getAnnotation(Delete.class).map(Delete::keyExpression);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> Object getHashKey(
+      final DynamoDBMapperTableModel<T> tableModel, final Object model) {
+    return tableModel.hashKey().get((T) model);
+  }
+
+  private static int indexOfParam(final List<Parameter> parameters, final String name) {
+    for (int i = 0; i < parameters.size(); i++) {
+      final Param param = parameters.get(i).getAnnotation(Param.class);
+      if (param != null && param.value().equals(name)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static String render(final Map<String, AttributeValue> key, final String hashKeyName) {
+    final AttributeValue value =
+        Optional.ofNullable(key.get(hashKeyName)).orElse(key.values().iterator().next());
+    if (value.getS() != null) {
+      return value.getS();
+    }
+    if (value.getN() != null) {
+      return value.getN();
+    }
+    if (value.getB() != null) {
+      final ByteBuffer buffer = value.getB().duplicate();
+      final byte[] bytes = new byte[buffer.remaining()];
+      buffer.get(bytes);
+      return BaseEncoding.base64().encode(bytes);
+    }
+    return value.toString();
+  }
+
+  @Override
+  public AbstractMethod create(final Context context) {
+    final OperationDiagnostics diagnostics = context.diagnostics();
+    final AbstractMethod delegate = super.create(context);
+    if (diagnostics == null || delegate == null) {
+      return delegate;
+    }
+    if (context.modelType() == null) {
+      return new DiagnosedMethod(
+          context.signature(),
+          delegate,
+          diagnostics,
+          MetricsMethodFactory.newTags(context),
+          null,
+          NO_KEY);
+    }
+    final String tableName =
+        DynamoDbMapperConfigHelper.getTableName(context.modelType(), context.mapperConfig());
+    final String indexName =
+        context.signature().getAnnotation(Query.class).map(Query::index).orElse("");
+    return new DiagnosedMethod(
+        context.signature(),
+        delegate,
+        diagnostics,
+        MetricsMethodFactory.newTags(context),
+        indexName.isEmpty() ? tableName : tableName + "/" + indexName,
+        newPartitionKeySampler(context, context.mapper().getTableModel(context.modelType())));
+  }
+}
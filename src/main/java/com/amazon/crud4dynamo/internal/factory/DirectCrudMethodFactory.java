@@ -0,0 +1,49 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.factory;
+
+import com.amazon.crud4dynamo.crudinterface.DynamoDbCrud;
+import com.amazon.crud4dynamo.extension.Signature;
+import com.amazon.crud4dynamo.extension.factory.AbstractMethodFactory;
+import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.amazon.crud4dynamo.internal.method.DirectMethod;
+import java.lang.reflect.Method;
+
+/**
+ * Opt-in replacement of {@link BasicCrudMethodFactory} which calls the basic crud implementation
+ * through generated invokers instead of reflection.
+ *
+ * <p>Enable it by overriding the basic crud entry of the chain:
+ *
+ * <pre>{@code
+ * Config.builder()
+ *     .crudFactoryConstructorConfig(
+ *         new FactoryConfig(
+ *             DefaultCrudFactoryConfig.BASIC_CRUD_METHOD.getOrder(), DirectCrudMethodFactory::new))
+ *     .build();
+ * }</pre>
+ */
+public class DirectCrudMethodFactory extends BasicCrudMethodFactory {
+  public DirectCrudMethodFactory(final AbstractMethodFactory delegate) {
+    super(delegate);
+  }
+
+  @Override
+  protected AbstractMethod newMethod(
+      final DynamoDbCrud dao, final Method method, final Signature signature) {
+    return DirectMethod.create(dao, method, signature);
+  }
+}
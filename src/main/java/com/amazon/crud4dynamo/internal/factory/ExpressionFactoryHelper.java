@@ -19,6 +19,7 @@ import com.amazon.crud4dynamo.annotation.Param;
 import com.amazon.crud4dynamo.exception.CrudForDynamoException;
 import com.amazon.crud4dynamo.extension.Argument;
 import com.amazon.crud4dynamo.extension.PageRequest;
+import com.amazon.crud4dynamo.extension.ScanCheckpoint;
 import com.amazon.crud4dynamo.internal.parsing.AttributeValueMapper;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
@@ -88,6 +89,13 @@ public class ExpressionFactoryHelper {
         .findFirst();
   }
 
+  public static Optional<ScanCheckpoint> findScanCheckpoint(final Object... args) {
+    return Stream.of(args)
+        .filter(ScanCheckpoint.class::isInstance)
+        .map(ScanCheckpoint.class::cast)
+        .findFirst();
+  }
+
   public static Map<String, AttributeValue> getLastEvaluatedKey(
       @NonNull final PageRequest<?> pageRequest, @NonNull final DynamoDBMapperTableModel model) {
     return Optional.ofNullable(pageRequest.getExclusiveStartItem())
@@ -17,7 +17,6 @@ package com.amazon.crud4dynamo.internal.factory;
 
 import com.amazon.crud4dynamo.annotation.MapperConfig;
 import com.amazon.crud4dynamo.extension.Context;
-import com.amazon.crud4dynamo.extension.Context.ContextBuilder;
 import com.amazon.crud4dynamo.extension.factory.AbstractMethodFactory;
 import com.amazon.crud4dynamo.extension.factory.ChainedAbstractMethodFactory;
 import com.amazon.crud4dynamo.extension.method.AbstractMethod;
@@ -37,7 +36,7 @@ public class MapperConfigAwareMethodFactory extends ChainedAbstractMethodFactory
 
   private static Function<MapperConfig, Context> overrideConfigInContext(Context context) {
     return annotation ->
-        newBuilder(context).mapperConfig(overrideMapperConfig(context, annotation)).build();
+        context.toBuilder().mapperConfig(overrideMapperConfig(context, annotation)).build();
   }
 
   private static DynamoDBMapperConfig overrideMapperConfig(
@@ -50,16 +49,6 @@ public class MapperConfigAwareMethodFactory extends ChainedAbstractMethodFactory
             .build());
   }
 
-  private static ContextBuilder newBuilder(Context context) {
-    return Context.builder()
-        .method(context.method())
-        .signature(context.signature())
-        .modelType(context.modelType())
-        .interfaceType(context.interfaceType())
-        .mapper(context.mapper())
-        .amazonDynamoDb(context.amazonDynamoDb());
-  }
-
   @Override
   public AbstractMethod create(final Context context) {
     return super.create(
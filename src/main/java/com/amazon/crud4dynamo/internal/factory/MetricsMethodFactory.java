@@ -0,0 +1,128 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.factory;
+
+import com.amazon.crud4dynamo.annotation.Custom;
+import com.amazon.crud4dynamo.annotation.Delete;
+import com.amazon.crud4dynamo.annotation.Parallel;
+import com.amazon.crud4dynamo.annotation.Put;
+import com.amazon.crud4dynamo.annotation.Query;
+import com.amazon.crud4dynamo.annotation.Scan;
+import com.amazon.crud4dynamo.annotation.Update;
+import com.amazon.crud4dynamo.annotation.transaction.Get;
+import com.amazon.crud4dynamo.annotation.transaction.Gets;
+import com.amazon.crud4dynamo.crudinterface.DynamoDbCrud;
+import com.amazon.crud4dynamo.extension.Context;
+import com.amazon.crud4dynamo.extension.Signature;
+import com.amazon.crud4dynamo.extension.factory.AbstractMethodFactory;
+import com.amazon.crud4dynamo.extension.factory.ChainedAbstractMethodFactory;
+import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.amazon.crud4dynamo.extension.metrics.MethodMetrics;
+import com.amazon.crud4dynamo.extension.metrics.MethodTags;
+import com.amazon.crud4dynamo.extension.metrics.OperationType;
+import com.amazon.crud4dynamo.internal.method.MeteredMethod;
+import com.amazon.crud4dynamo.internal.utility.MeteredDynamoDb;
+import com.amazon.crud4dynamo.internal.utility.MethodMapper;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+/**
+ * Records the metrics of every method created by the rest of the chain, unless the metrics are
+ * {@link MethodMetrics#NO_OP}.
+ *
+ * <p>The method gets a client of its own, so that the requests of lazy results are attributed to
+ * the method which created them. Its mapper shares the table models of the mapper of the DAO.
+ */
+public class MetricsMethodFactory extends ChainedAbstractMethodFactory {
+  public MetricsMethodFactory(final AbstractMethodFactory delegate) {
+    super(delegate);
+  }
+
+  static OperationType operationTypeOf(final Signature signature, final Method method) {
+    if (signature.getAnnotation(Query.class).isPresent()) {
+      return OperationType.QUERY;
+    }
+    if (signature.getAnnotation(Scan.class).isPresent()) {
+      return signature.getAnnotation(Parallel.class).isPresent()
+          ? OperationType.PARALLEL_SCAN
+          : OperationType.SCAN;
+    }
+    if (signature.getAnnotation(Update.class).isPresent()) {
+      return OperationType.UPDATE;
+    }
+    if (signature.getAnnotation(Put.class).isPresent()) {
+      return OperationType.PUT;
+    }
+    if (signature.getAnnotation(Delete.class).isPresent()) {
+      return OperationType.DELETE;
+    }
+    if (signature.getAnnotation(Custom.class).isPresent()) {
+      return OperationType.CUSTOM;
+    }
+    if (method.isDefault()) {
+      return OperationType.DEFAULT;
+    }
+    if (DynamoDbCrud.class.isAssignableFrom(method.getDeclaringClass())) {
+      return OperationType.CRUD;
+    }
+    if (signature.getAnnotation(Get.class).isPresent()
+        || signature.getAnnotation(Gets.class).isPresent()) {
+      return OperationType.TRANSACTION_GET;
+    }
+    return OperationType.TRANSACTION_WRITE;
+  }
+
+  @Override
+  public AbstractMethod create(final Context context) {
+    final MethodMetrics metrics = context.metrics();
+    if (metrics == null || metrics == MethodMetrics.NO_OP) {
+      return super.create(context);
+    }
+    final MethodTags tags = newTags(context);
+    final AbstractMethod delegate =
+        super.create(
+            Optional.ofNullable(context.amazonDynamoDb())
+                .map(dynamoDb -> withMeteredClient(context, metrics, tags))
+                .orElse(context));
+    return delegate == null
+        ? null
+        : new MeteredMethod(context.signature(), delegate, metrics, tags);
+  }
+
+  public static MethodTags newTags(final Context context) {
+    return new MethodTags(
+        interfaceNameOf(context),
+        context.signature().methodName(),
+        operationTypeOf(context.signature(), context.signature().method()));
+  }
+
+  private static String interfaceNameOf(final Context context) {
+    return context.interfaceType() != null
+        ? context.interfaceType().getSimpleName()
+        : context.signature().method().getDeclaringClass().getSimpleName();
+  }
+
+  private Context withMeteredClient(
+      final Context context, final MethodMetrics metrics, final MethodTags tags) {
+    final AmazonDynamoDB dynamoDb = MeteredDynamoDb.wrap(context.amazonDynamoDb(), metrics, tags);
+    return context
+        .toBuilder()
+        .amazonDynamoDb(dynamoDb)
+        .mapper(MethodMapper.of(dynamoDb, context.mapper()))
+        .build();
+  }
+}
@@ -17,14 +17,21 @@ package com.amazon.crud4dynamo.internal.factory;
 
 import com.amazon.crud4dynamo.annotation.Parallel;
 import com.amazon.crud4dynamo.annotation.Scan;
+import com.amazon.crud4dynamo.exception.CrudForDynamoException;
 import com.amazon.crud4dynamo.extension.Context;
+import com.amazon.crud4dynamo.extension.ScanCheckpoint;
 import com.amazon.crud4dynamo.extension.Signature;
 import com.amazon.crud4dynamo.extension.factory.AbstractMethodFactory;
 import com.amazon.crud4dynamo.extension.factory.ChainedAbstractMethodFactory;
 import com.amazon.crud4dynamo.extension.method.AbstractMethod;
 import com.amazon.crud4dynamo.internal.method.scan.ParallelScanMethod;
+import com.amazon.crud4dynamo.internal.method.scan.TotalSegmentsResolver;
+import com.amazon.crud4dynamo.internal.utility.DynamoDbMapperConfigHelper;
+import java.util.stream.Stream;
 
 public class ParallelScanMethodFactory extends ChainedAbstractMethodFactory {
+  private final TotalSegmentsResolver totalSegmentsResolver = new TotalSegmentsResolver();
+
   public ParallelScanMethodFactory(final AbstractMethodFactory delegate) {
     super(delegate);
   }
@@ -34,8 +41,43 @@ public class ParallelScanMethodFactory extends ChainedAbstractMethodFactory {
     if (!isParallelScan(context)) {
       return super.create(context);
     }
+    if (hasScanCheckpoint(context.signature())
+        && context.signature().returnType().getRawType() != Stream.class) {
+      throw new CrudForDynamoException(
+          String.format(
+              "Method '%s' annotated with Parallel should return a Stream to take a ScanCheckpoint",
+              context.signature()));
+    }
+    final Parallel parallel = context.signature().getAnnotation(Parallel.class).get();
+    if (parallel.totalSegments() != Parallel.AUTO) {
+      return new ParallelScanMethod(
+          context.signature(), context.modelType(), context.mapper(), context.mapperConfig());
+    }
+    if (parallel.bytesPerSegment() <= 0) {
+      throw new CrudForDynamoException(
+          String.format(
+              "Method '%s' annotated with Parallel should have a positive bytesPerSegment",
+              context.signature()));
+    }
+    final String tableName =
+        DynamoDbMapperConfigHelper.getTableName(context.modelType(), context.mapperConfig());
     return new ParallelScanMethod(
-        context.signature(), context.modelType(), context.mapper(), context.mapperConfig());
+        context.signature(),
+        context.modelType(),
+        context.mapper(),
+        context.mapperConfig(),
+        () ->
+            totalSegmentsResolver.resolve(
+                context.amazonDynamoDb(),
+                tableName,
+                parallel.bytesPerSegment(),
+                context.maxScanSegments()));
+  }
+
+  /** Checkpointed scans split by segment, which only a stream can scan concurrently. */
+  private static boolean hasScanCheckpoint(final Signature signature) {
+    return signature.parameters().stream()
+        .anyMatch(parameter -> parameter.getType().getRawType() == ScanCheckpoint.class);
   }
 
   private boolean isParallelScan(final Context context) {
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.factory;
+
+import com.amazon.crud4dynamo.annotation.RateLimit;
+import com.amazon.crud4dynamo.extension.Context;
+import com.amazon.crud4dynamo.extension.factory.AbstractMethodFactory;
+import com.amazon.crud4dynamo.extension.factory.ChainedAbstractMethodFactory;
+import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.amazon.crud4dynamo.internal.utility.CapacityLimitedDynamoDb;
+import com.amazon.crud4dynamo.internal.utility.CapacityLimiter;
+import com.amazon.crud4dynamo.internal.utility.MethodMapper;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import java.util.Optional;
+
+/**
+ * Creates methods annotated with {@link RateLimit} on a client of their own, which paces the
+ * requests of the method by its budget in addition to the budgets of the tables. The mapper of the
+ * method shares the table models of the mapper of the DAO.
+ */
+public class RateLimitedMethodFactory extends ChainedAbstractMethodFactory {
+  public RateLimitedMethodFactory(final AbstractMethodFactory delegate) {
+    super(delegate);
+  }
+
+  @Override
+  public AbstractMethod create(final Context context) {
+    final Optional<RateLimit> rateLimit = context.signature().getAnnotation(RateLimit.class);
+    if (!rateLimit.isPresent() || context.amazonDynamoDb() == null) {
+      return super.create(context);
+    }
+    final AmazonDynamoDB dynamoDb =
+        CapacityLimitedDynamoDb.wrap(
+            context.amazonDynamoDb(),
+            CapacityLimiter.of(
+                rateLimit.get().readCapacityUnits(), rateLimit.get().writeCapacityUnits()));
+    return super.create(
+        context
+            .toBuilder()
+            .amazonDynamoDb(dynamoDb)
+            .mapper(MethodMapper.of(dynamoDb, context.mapper()))
+            .build());
+  }
+}
@@ -24,6 +24,10 @@ import com.amazon.crud4dynamo.extension.factory.ChainedAbstractMethodFactory;
 import com.amazon.crud4dynamo.extension.method.AbstractMethod;
 import com.amazon.crud4dynamo.internal.method.scan.NonPagingMethod;
 import com.amazon.crud4dynamo.internal.method.scan.PagingMethod;
+import com.amazon.crud4dynamo.internal.method.scan.PublisherMethod;
+import com.amazon.crud4dynamo.internal.utility.PagePrefetcher;
+import com.amazon.crud4dynamo.internal.utility.SharedExecutor;
+import org.reactivestreams.Publisher;
 
 public class ScanMethodFactory extends ChainedAbstractMethodFactory {
   public ScanMethodFactory(final AbstractMethodFactory delegate) {
@@ -35,15 +39,39 @@ public class ScanMethodFactory extends ChainedAbstractMethodFactory {
     if (!isAnnotatedWithScan(context.signature())) {
       return super.create(context);
     }
+    if (isPublisher(context)) {
+      return new PublisherMethod(
+          context.signature(),
+          context.modelType(),
+          context.mapper(),
+          context.mapperConfig(),
+          SharedExecutor.orDefault(context.executor()));
+    }
     return requirePaging(context)
         ? new PagingMethod(
             context.signature(), context.modelType(), context.mapper(), context.mapperConfig())
         : new NonPagingMethod(
-            context.signature(), context.modelType(), context.mapper(), context.mapperConfig());
+            context.signature(),
+            context.modelType(),
+            context.mapper(),
+            context.mapperConfig(),
+            newPagePrefetcher(context));
+  }
+
+  private PagePrefetcher newPagePrefetcher(final Context context) {
+    final int prefetchPages =
+        context.signature().invokable().getAnnotation(Scan.class).prefetchPages();
+    return PagePrefetcher.of(
+        context.executor(),
+        prefetchPages < 0 ? context.prefetchPages() : Integer.valueOf(prefetchPages));
+  }
+
+  private boolean isPublisher(final Context context) {
+    return context.signature().returnType().getRawType() == Publisher.class;
   }
 
   private boolean requirePaging(final Context context) {
-    return context.signature().invokable().getReturnType().isSubtypeOf(PageResult.class);
+    return context.signature().returnType().isSubtypeOf(PageResult.class);
   }
 
   private boolean isAnnotatedWithScan(final Signature signature) {
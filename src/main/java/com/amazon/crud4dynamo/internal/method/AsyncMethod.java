@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.method;
+
+import com.amazon.crud4dynamo.extension.Signature;
+import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBAsync;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import lombok.NonNull;
+
+/**
+ * Returns the result of a method as a {@link CompletableFuture}.
+ *
+ * <p>If the delegate is {@link AsyncInvocable} and an asynchronous client is available, the request
+ * is sent through the client. Otherwise the delegate is invoked on the executor. Failures,
+ * including the ones of building the request, complete the future exceptionally.
+ */
+public class AsyncMethod implements AbstractMethod {
+  private final Signature signature;
+  private final AbstractMethod delegate;
+  private final AmazonDynamoDBAsync dynamoDbAsync;
+  private final Executor executor;
+
+  public AsyncMethod(
+      @NonNull final Signature signature,
+      @NonNull final AbstractMethod delegate,
+      final AmazonDynamoDBAsync dynamoDbAsync,
+      @NonNull final Executor executor) {
+    this.signature = signature;
+    this.delegate = delegate;
+    this.dynamoDbAsync = dynamoDbAsync;
+    this.executor = executor;
+  }
+
+  @Override
+  public Signature getSignature() {
+    return signature;
+  }
+
+  @Override
+  public Object invoke(final Object... args) {
+    if (dynamoDbAsync != null && delegate instanceof AsyncInvocable) {
+      try {
+        return ((AsyncInvocable) delegate).invokeAsync(dynamoDbAsync, args);
+      } catch (final RuntimeException e) {
+        return failed(e);
+      }
+    }
+    final CompletableFuture<Object> future = new CompletableFuture<>();
+    try {
+      executor.execute(
+          () -> {
+            try {
+              future.complete(delegate.invoke(args));
+            } catch (final Throwable e) {
+              future.completeExceptionally(e);
+            }
+          });
+    } catch (final RuntimeException e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
+  private static CompletableFuture<Object> failed(final Throwable throwable) {
+    final CompletableFuture<Object> future = new CompletableFuture<>();
+    future.completeExceptionally(throwable);
+    return future;
+  }
+
+  @Override
+  public AbstractMethod bind(final Object target) {
+    return new AsyncMethod(signature, delegate.bind(target), dynamoDbAsync, executor);
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.method;
+
+import com.amazon.crud4dynamo.extension.CacheBudget;
+import com.amazon.crud4dynamo.extension.Context;
+import com.amazon.crud4dynamo.extension.metrics.MethodMetrics;
+import com.amazon.crud4dynamo.extension.metrics.MethodTags;
+import com.amazon.crud4dynamo.internal.factory.MetricsMethodFactory;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Options of a {@link CachedMethod}, besides the {@link com.amazon.crud4dynamo.annotation.Cached}
+ * annotation.
+ */
+@Value
+@Builder
+public class CacheOptions {
+  /** Refreshes on the shared pool, without weighing models, a budget or metrics. */
+  public static final CacheOptions DEFAULT = builder().build();
+
+  /** Runs the refreshes of results, the shared pool if null. */
+  private final Executor executor;
+  /** Converts the models of the results to weigh them and to keep them off heap, if not null. */
+  private final DynamoDBMapper mapper;
+  /** The budget shared with other cached methods, if not null. */
+  private final CacheBudget cacheBudget;
+  /** Receives the cache hits and misses of the method. */
+  @NonNull @Builder.Default private final MethodMetrics metrics = MethodMetrics.NO_OP;
+  /** The tags of the method in the metrics, if they are recorded. */
+  private final MethodTags tags;
+
+  /** The options configured for the method of the context. */
+  public static CacheOptions from(final Context context) {
+    final MethodMetrics metrics =
+        Optional.ofNullable(context.metrics()).orElse(MethodMetrics.NO_OP);
+    return builder()
+        .executor(context.executor())
+        .mapper(context.mapper())
+        .cacheBudget(context.cacheBudget())
+        .metrics(metrics)
+        .tags(metrics == MethodMetrics.NO_OP ? null : MetricsMethodFactory.newTags(context))
+        .build();
+  }
+}
@@ -18,21 +18,61 @@ package com.amazon.crud4dynamo.internal.method;
 import com.amazon.crud4dynamo.annotation.Cached;
 import com.amazon.crud4dynamo.extension.Signature;
 import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.amazon.crud4dynamo.extension.metrics.MethodMetrics;
+import com.amazon.crud4dynamo.extension.metrics.MethodTags;
+import com.amazon.crud4dynamo.internal.utility.SharedExecutor;
+import com.google.common.base.Ticker;
 import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.concurrent.ExecutionException;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NonNull;
 
+/**
+ * Caches the results of a method annotated with {@link Cached} by its arguments. The results are
+ * read by a {@link ResultReader}, loaded and refreshed by a {@link ResultLoader}, weighed and
+ * accounted by a {@link ResultBudget} and kept off heap by an {@link OffHeapTier}.
+ */
 public class CachedMethod implements AbstractMethod {
   private final Signature signature;
   private final AbstractMethod delegate;
-  private final LoadingCache<ArgumentsWrapper, Object> cache;
+  private final Cached cacheConfig;
+  private final ResultBudget budget;
+  private final ResultReader reader;
+  private final OffHeapTier<ArgumentsWrapper> offHeapTier;
+  private final LoadingCache<ArgumentsWrapper, CachedResult> cache;
+  private final MethodMetrics metrics;
+  private final MethodTags tags;
 
   public CachedMethod(@NonNull final Signature signature, @NonNull final AbstractMethod delegate) {
+    this(signature, delegate, CacheOptions.DEFAULT);
+  }
+
+  public CachedMethod(
+      @NonNull final Signature signature,
+      @NonNull final AbstractMethod delegate,
+      @NonNull final CacheOptions options) {
     this.signature = signature;
     this.delegate = delegate;
-    cache = newCache();
+    metrics = options.getMetrics();
+    tags = options.getTags();
+    cacheConfig = signature.invokable().getAnnotation(Cached.class);
+    budget = new ResultBudget(cacheConfig, options.getMapper(), options.getCacheBudget());
+    reader = new ResultReader(cacheConfig.maxIteratorSize(), budget);
+    offHeapTier = new OffHeapTier<>(cacheConfig, options.getMapper(), reader);
+    cache =
+        newCache(
+            new ResultLoader(
+                delegate,
+                SharedExecutor.orDefault(options.getExecutor()),
+                cacheConfig.serveStaleOnError(),
+                reader,
+                offHeapTier,
+                this::discard));
   }
 
   private static CacheBuilder<Object, Object> setExpireAfterWrite(
@@ -51,26 +91,30 @@ public class CachedMethod implements AbstractMethod {
             cacheConfig.expireAfterAccess(), cacheConfig.expireAfterAccessTimeUnit());
   }
 
-  private LoadingCache<ArgumentsWrapper, Object> newCache() {
-    final Cached cacheConfig = signature.invokable().getAnnotation(Cached.class);
+  private static CacheBuilder<Object, Object> setRefreshAfterWrite(
+      final CacheBuilder<Object, Object> builder, final Cached cacheConfig) {
+    return cacheConfig.refreshAfterWrite() < 0
+        ? builder
+        : builder.refreshAfterWrite(
+            cacheConfig.refreshAfterWrite(), cacheConfig.refreshAfterWriteTimeUnit());
+  }
+
+  private LoadingCache<ArgumentsWrapper, CachedResult> newCache(final ResultLoader loader) {
     CacheBuilder<Object, Object> builder =
         CacheBuilder.newBuilder()
             .initialCapacity(cacheConfig.initialCapacity())
-            .maximumSize(cacheConfig.maxSize())
             .concurrencyLevel(cacheConfig.concurrencyLevel());
     builder = setExpireAfterAccess(builder, cacheConfig);
     builder = setExpireAfterWrite(builder, cacheConfig);
-    return builder.build(
-        new CacheLoader<ArgumentsWrapper, Object>() {
-          @Override
-          public Object load(final ArgumentsWrapper wrapper) {
-            try {
-              return delegate.invoke(wrapper.args);
-            } catch (final Throwable throwable) {
-              throw new RuntimeException("Failed to load cache value", throwable);
-            }
-          }
-        });
+    builder = setRefreshAfterWrite(builder, cacheConfig);
+    builder = budget.setMaximum(builder, cacheConfig.maxSize());
+    return budget.setRemovalListener(builder, () -> cache).build(loader);
+  }
+
+  /** Removes the result from both tiers. */
+  private void discard(final ArgumentsWrapper wrapper, final CachedResult result) {
+    cache.asMap().remove(wrapper, result);
+    offHeapTier.invalidate(wrapper);
   }
 
   @Override
@@ -80,7 +124,69 @@ public class CachedMethod implements AbstractMethod {
 
   @Override
   public Object invoke(final Object... args) throws Throwable {
-    return cache.get(new ArgumentsWrapper(args));
+    final ArgumentsWrapper wrapper = new ArgumentsWrapper(args);
+    try {
+      CachedResult result = cache.getIfPresent(wrapper);
+      boolean hit = result != null;
+      if (result == null) {
+        result = cache.get(wrapper);
+      }
+      if (isExpiredEmpty(result)) {
+        discard(wrapper, result);
+        result = cache.get(wrapper);
+        hit = false;
+      }
+      if (!result.isCached()) {
+        recordCacheAccess(false);
+        return takeUncached(wrapper, result, args);
+      }
+      recordCacheAccess(hit);
+      budget.account(cache, wrapper, result);
+      return result.replay();
+    } catch (final ExecutionException | UncheckedExecutionException | ExecutionError e) {
+      final Throwable cause = e.getCause();
+      throw cause instanceof ResultLoader.LoadFailure ? cause.getCause() : cause;
+    }
+  }
+
+  private void recordCacheAccess(final boolean hit) {
+    if (metrics == MethodMetrics.NO_OP) {
+      return;
+    }
+    if (hit) {
+      metrics.recordCacheHit(tags);
+    } else {
+      metrics.recordCacheMiss(tags);
+    }
+  }
+
+  /**
+   * Hands an iterator or stream result to one caller, whose iteration records it into the cache.
+   * The others invoke the delegate.
+   */
+  private Object takeUncached(
+      final ArgumentsWrapper wrapper, final CachedResult result, final Object[] args)
+      throws Throwable {
+    return cache.asMap().remove(wrapper, result)
+        ? reader.record(result, recorded -> store(wrapper, recorded))
+        : delegate.invoke(args);
+  }
+
+  /** Caches a recorded result, unless another result of the arguments was loaded meanwhile. */
+  private void store(final ArgumentsWrapper wrapper, final CachedResult result) {
+    if (cache.asMap().putIfAbsent(wrapper, result) == null) {
+      budget.account(cache, wrapper, result);
+      offHeapTier.put(wrapper, result);
+    }
+  }
+
+  private boolean isExpiredEmpty(final CachedResult result) {
+    return cacheConfig.expireEmptyAfterWrite() >= 0
+        && result.isEmpty()
+        && Ticker.systemTicker().read() - result.getLoadedAtNanos()
+            >= cacheConfig
+                .expireEmptyAfterWriteTimeUnit()
+                .toNanos(cacheConfig.expireEmptyAfterWrite());
   }
 
   @Override
@@ -90,7 +196,8 @@ public class CachedMethod implements AbstractMethod {
   }
 
   @EqualsAndHashCode
-  private static class ArgumentsWrapper {
+  static class ArgumentsWrapper {
+    @Getter(AccessLevel.PACKAGE)
     private final Object[] args;
 
     private ArgumentsWrapper(final Object... args) {
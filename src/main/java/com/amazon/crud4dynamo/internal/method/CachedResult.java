@@ -0,0 +1,72 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.method;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** A result of the delegate of a {@link CachedMethod}, whose value may be null. */
+@Getter(AccessLevel.PACKAGE)
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+class CachedResult {
+  private final Object value;
+  private final long loadedAtNanos;
+  /** Estimated bytes, zero if it is not weighed. */
+  private final long weight;
+  /** Creates what a caller gets from the value. */
+  private final Replay replay;
+  /** Whether the value can be handed to every caller, or is an iterator or stream for one. */
+  private final boolean cached;
+  /** Whether the result is recorded in the budget. */
+  private final AtomicBoolean recorded = new AtomicBoolean();
+
+  /** What a caller gets from the value. */
+  Object replay() {
+    return replay.apply(value);
+  }
+
+  boolean isEmpty() {
+    return value == null || Optional.empty().equals(value);
+  }
+
+  /** How a caller gets a result from the cached value. */
+  enum Replay {
+    AS_IS {
+      @Override
+      Object apply(final Object value) {
+        return value;
+      }
+    },
+    ITERATOR {
+      @Override
+      Object apply(final Object value) {
+        return ((List<?>) value).iterator();
+      }
+    },
+    STREAM {
+      @Override
+      Object apply(final Object value) {
+        return ((List<?>) value).stream();
+      }
+    };
+
+    abstract Object apply(Object value);
+  }
+}
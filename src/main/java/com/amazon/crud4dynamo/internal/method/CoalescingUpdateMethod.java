@@ -0,0 +1,256 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.method;
+
+import com.amazon.crud4dynamo.annotation.Coalesce;
+import com.amazon.crud4dynamo.annotation.Update;
+import com.amazon.crud4dynamo.extension.Signature;
+import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.amazon.crud4dynamo.internal.parsing.CoalescibleUpdateExpression;
+import com.amazon.crud4dynamo.internal.parsing.CoalescibleUpdateExpression.MergeRule;
+import com.amazon.crud4dynamo.internal.utility.AsyncCalls;
+import com.amazon.crud4dynamo.internal.utility.SharedExecutor;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBAsync;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemRequest;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemResult;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Merges the calls of an update method which hit the same item within the window of its {@link
+ * Coalesce} annotation, and sends them as one UpdateItem request.
+ *
+ * <p>Calls are merged per key and expression attribute names. The first call of an item opens a
+ * window, and the window is sent when it times out, reaches the maximum number of calls, or a call
+ * cannot be merged into it, in which case that call opens the next window.
+ */
+public class CoalescingUpdateMethod implements AbstractMethod {
+  private final Signature signature;
+  private final DynamoDBMapperTableModel<?> tableModel;
+  private final AmazonDynamoDB dynamoDb;
+  private final AmazonDynamoDBAsync dynamoDbAsync;
+  private final Executor executor;
+  private final UpdateRequestFactory updateRequestFactory;
+  private final Map<String, MergeRule> mergeRules;
+  private final Coalesce coalesce;
+  private final Map<ItemKey, Window> windows = new ConcurrentHashMap<>();
+
+  public CoalescingUpdateMethod(
+      @NonNull final Signature signature,
+      @NonNull final Class<?> tableType,
+      @NonNull final DynamoDBMapper mapper,
+      @NonNull final AmazonDynamoDB dynamoDb,
+      final AmazonDynamoDBAsync dynamoDbAsync,
+      final Executor executor) {
+    this.signature = signature;
+    this.dynamoDb = dynamoDb;
+    this.dynamoDbAsync = dynamoDbAsync;
+    this.executor = SharedExecutor.orDefault(executor);
+    tableModel = mapper.getTableModel(tableType);
+    updateRequestFactory = new UpdateRequestFactory(signature, tableType, mapper);
+    mergeRules =
+        CoalescibleUpdateExpression.getMergeRules(
+            signature.invokable().getAnnotation(Update.class).updateExpression());
+    coalesce = signature.invokable().getAnnotation(Coalesce.class);
+  }
+
+  @Override
+  public Signature getSignature() {
+    return signature;
+  }
+
+  @Override
+  public Object invoke(final Object... args) {
+    final CompletableFuture<Object> future = new CompletableFuture<>();
+    final UpdateItemRequest request;
+    try {
+      request = updateRequestFactory.create(args);
+    } catch (final RuntimeException e) {
+      future.completeExceptionally(e);
+      return future;
+    }
+    final ItemKey itemKey = new ItemKey(request.getKey(), request.getExpressionAttributeNames());
+    final List<Window> closed = new ArrayList<>(2);
+    final List<Window> opened = new ArrayList<>(1);
+    windows.compute(
+        itemKey,
+        (key, open) -> {
+          if (open != null && open.merge(request.getExpressionAttributeValues(), future)) {
+            if (open.futures.size() < coalesce.maxCalls()) {
+              return open;
+            }
+            closed.add(open);
+            return null;
+          }
+          if (open != null) {
+            closed.add(open);
+          }
+          final Window window = new Window(request, future);
+          if (coalesce.maxCalls() <= 1) {
+            closed.add(window);
+            return null;
+          }
+          opened.add(window);
+          return window;
+        });
+    closed.forEach(this::send);
+    opened.forEach(
+        window ->
+            SharedExecutor.scheduler()
+                .schedule(
+                    () -> close(itemKey, window), coalesce.window(), coalesce.windowTimeUnit()));
+    return future;
+  }
+
+  private void close(final ItemKey itemKey, final Window window) {
+    if (windows.remove(itemKey, window)) {
+      send(window);
+    }
+  }
+
+  private void send(final Window window) {
+    final UpdateItemRequest request =
+        window.request.clone().withExpressionAttributeValues(window.values);
+    final CompletableFuture<UpdateItemResult> result =
+        dynamoDbAsync != null
+            ? AsyncCalls.call(request, dynamoDbAsync::updateItemAsync)
+            : CompletableFuture.supplyAsync(() -> dynamoDb.updateItem(request), executor);
+    result.whenComplete(
+        (updateItemResult, failure) -> {
+          if (failure != null) {
+            window.futures.forEach(future -> future.completeExceptionally(failure));
+            return;
+          }
+          final Object converted;
+          try {
+            converted = convertResult(updateItemResult);
+          } catch (final RuntimeException e) {
+            window.futures.forEach(future -> future.completeExceptionally(e));
+            return;
+          }
+          window.futures.forEach(future -> future.complete(converted));
+        });
+  }
+
+  private Object convertResult(final UpdateItemResult updateItemResult) {
+    final Map<String, AttributeValue> attributes = updateItemResult.getAttributes();
+    return attributes == null ? null : tableModel.unconvert(attributes);
+  }
+
+  /** Returns the merged value, or null if the values cannot be merged. */
+  private static AttributeValue mergeValue(
+      final MergeRule rule, final AttributeValue existing, final AttributeValue next) {
+    switch (rule) {
+      case FIRST:
+        return existing;
+      case LAST:
+        return next;
+      case SAME:
+        return existing.equals(next) ? existing : null;
+      default:
+        return sum(existing, next);
+    }
+  }
+
+  private static AttributeValue sum(final AttributeValue existing, final AttributeValue next) {
+    if (existing.getN() != null && next.getN() != null) {
+      return new AttributeValue()
+          .withN(new BigDecimal(existing.getN()).add(new BigDecimal(next.getN())).toPlainString());
+    }
+    if (existing.getSS() != null && next.getSS() != null) {
+      return new AttributeValue().withSS(union(existing.getSS(), next.getSS()));
+    }
+    if (existing.getNS() != null && next.getNS() != null) {
+      return new AttributeValue().withNS(union(existing.getNS(), next.getNS()));
+    }
+    if (existing.getBS() != null && next.getBS() != null) {
+      return new AttributeValue().withBS(union(existing.getBS(), next.getBS()));
+    }
+    return null;
+  }
+
+  private static <T> List<T> union(final List<T> first, final List<T> second) {
+    final Set<T> union = new LinkedHashSet<>(first);
+    union.addAll(second);
+    return new ArrayList<>(union);
+  }
+
+  @Override
+  public AbstractMethod bind(final Object target) {
+    return this;
+  }
+
+  @Value
+  private static class ItemKey {
+    private final Map<String, AttributeValue> key;
+    private final Map<String, String> expressionAttributeNames;
+  }
+
+  /** Calls merged so far. Only modified while it is open, under the lock of its map entry. */
+  private class Window {
+    private final UpdateItemRequest request;
+    private final Map<String, AttributeValue> values;
+    private final List<CompletableFuture<Object>> futures = new ArrayList<>();
+
+    private Window(final UpdateItemRequest request, final CompletableFuture<Object> future) {
+      this.request = request;
+      this.values = new HashMap<>();
+      if (request.getExpressionAttributeValues() != null) {
+        values.putAll(request.getExpressionAttributeValues());
+      }
+      futures.add(future);
+    }
+
+    private boolean merge(
+        final Map<String, AttributeValue> nextValues, final CompletableFuture<Object> future) {
+      final Map<String, AttributeValue> next =
+          nextValues == null ? Collections.emptyMap() : nextValues;
+      if (!values.keySet().equals(next.keySet())) {
+        return false;
+      }
+      final Map<String, AttributeValue> merged = new HashMap<>(values.size());
+      for (final Map.Entry<String, AttributeValue> entry : values.entrySet()) {
+        final AttributeValue value =
+            mergeValue(
+                mergeRules.getOrDefault(entry.getKey(), MergeRule.SAME),
+                entry.getValue(),
+                next.get(entry.getKey()));
+        if (value == null) {
+          return false;
+        }
+        merged.put(entry.getKey(), value);
+      }
+      values.putAll(merged);
+      futures.add(future);
+      return true;
+    }
+  }
+}
@@ -22,16 +22,14 @@ import com.amazon.crud4dynamo.utility.ExceptionHelper;
 import com.amazon.crud4dynamo.utility.MethodHandlesHelper;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
-import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 
 public class DefaultMethod implements AbstractMethod {
 
   private final Method method;
   private final Signature signature;
-  private final ConcurrentHashMap<Class<MethodHandle>, MethodHandle> methodHandleMap =
-      new ConcurrentHashMap<>();
+  private volatile MethodHandle boundHandle;
 
   public DefaultMethod(final Method method, final Signature signature) {
     this.method = method;
@@ -47,6 +45,15 @@ public class DefaultMethod implements AbstractMethod {
     }
   }
 
+  /** Binds the handle to the target and adapts it to the (Object[])Object shape of invoke. */
+  private static MethodHandle toSpreadHandle(final Method m, final Object target) {
+    return toMethodHandle(m)
+        .bindTo(target)
+        .asFixedArity()
+        .asSpreader(Object[].class, m.getParameterCount())
+        .asType(MethodType.methodType(Object.class, Object[].class));
+  }
+
   @Override
   public Signature getSignature() {
     return signature;
@@ -54,18 +61,22 @@ public class DefaultMethod implements AbstractMethod {
 
   @Override
   public Object invoke(final Object... args) throws Throwable {
-    return Optional.ofNullable(methodHandleMap.get(MethodHandle.class))
-        .orElseThrow(
-            () ->
-                new CrudForDynamoException(
-                    "method handle of " + signature + " is not initialized."))
-        .invokeWithArguments(args);
+    final MethodHandle handle = boundHandle;
+    if (handle == null) {
+      throw new CrudForDynamoException("method handle of " + signature + " is not initialized.");
+    }
+    return handle.invokeExact(args);
   }
 
   @Override
   public AbstractMethod bind(final Object target) {
-    methodHandleMap.computeIfAbsent(
-        MethodHandle.class, key -> toMethodHandle(method).bindTo(target));
+    if (boundHandle == null) {
+      synchronized (this) {
+        if (boundHandle == null) {
+          boundHandle = toSpreadHandle(method, target);
+        }
+      }
+    }
     return this;
   }
 }
@@ -17,16 +17,19 @@ package com.amazon.crud4dynamo.internal.method;
 
 import com.amazon.crud4dynamo.extension.Signature;
 import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.amazon.crud4dynamo.internal.utility.AsyncCalls;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBAsync;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
 import com.amazonaws.services.dynamodbv2.model.DeleteItemRequest;
 import com.amazonaws.services.dynamodbv2.model.DeleteItemResult;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import lombok.NonNull;
 
-public class DeleteMethod implements AbstractMethod {
+public class DeleteMethod implements AbstractMethod, AsyncInvocable {
   private final Signature signature;
   private final Class<?> modelType;
   private final DynamoDBMapper mapper;
@@ -59,6 +62,18 @@ public class DeleteMethod implements AbstractMethod {
   public Object invoke(Object... args) throws Throwable {
     final DeleteItemRequest deleteItemRequest = deleteRequestFactory.create(args);
     final DeleteItemResult deleteItemResult = amazonDynamoDb.deleteItem(deleteItemRequest);
+    return convertResult(deleteItemResult);
+  }
+
+  @Override
+  public CompletableFuture<Object> invokeAsync(
+      final AmazonDynamoDBAsync dynamoDbAsync, final Object... args) {
+    final CompletableFuture<DeleteItemResult> result =
+        AsyncCalls.call(deleteRequestFactory.create(args), dynamoDbAsync::deleteItemAsync);
+    return result.thenApply(this::convertResult);
+  }
+
+  private Object convertResult(final DeleteItemResult deleteItemResult) {
     return Optional.ofNullable(deleteItemResult.getAttributes())
         .map(tableModel::unconvert)
         .orElse(null);
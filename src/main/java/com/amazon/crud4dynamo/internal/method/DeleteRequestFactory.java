@@ -17,9 +17,9 @@ package com.amazon.crud4dynamo.internal.method;
 
 import com.amazon.crud4dynamo.annotation.Delete;
 import com.amazon.crud4dynamo.exception.CrudForDynamoException;
-import com.amazon.crud4dynamo.extension.Argument;
 import com.amazon.crud4dynamo.extension.Signature;
 import com.amazon.crud4dynamo.internal.factory.ExpressionFactoryHelper;
+import com.amazon.crud4dynamo.internal.parsing.ArgumentBindingPlan;
 import com.amazon.crud4dynamo.internal.parsing.ConditionExpressionParser;
 import com.amazon.crud4dynamo.internal.parsing.ExpressionAttributesFactory;
 import com.amazon.crud4dynamo.internal.utility.KeyAttributeConstructor;
@@ -29,8 +29,6 @@ import com.amazonaws.services.dynamodbv2.model.DeleteItemRequest;
 import com.amazonaws.services.dynamodbv2.model.ReturnValue;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.reflect.TypeToken;
-import java.util.Arrays;
-import java.util.List;
 
 class DeleteRequestFactory {
   private final Signature signature;
@@ -38,8 +36,8 @@ class DeleteRequestFactory {
   private final DynamoDBMapper mapper;
   private final Delete deleteAnnotation;
   private final DynamoDBMapperTableModel<?> tableModel;
-  private final KeyAttributeConstructor keyAttributeConstructor;
-  private final ExpressionAttributesFactory expressionAttributesFactory;
+  private final KeyAttributeConstructor.Plan keyPlan;
+  private final ArgumentBindingPlan bindingPlan;
 
   DeleteRequestFactory(
       final Signature signature, final Class<?> tableClass, final DynamoDBMapper mapper) {
@@ -48,12 +46,14 @@ class DeleteRequestFactory {
     this.mapper = mapper;
     deleteAnnotation = signature.invokable().getAnnotation(Delete.class);
     tableModel = mapper.getTableModel(tableClass);
-    expressionAttributesFactory =
+    bindingPlan =
         new ExpressionAttributesFactory(
-            new ConditionExpressionParser(deleteAnnotation.conditionExpression(), tableModel));
+                new ConditionExpressionParser(deleteAnnotation.conditionExpression(), tableModel))
+            .bind(signature.parameters());
 
-    keyAttributeConstructor =
-        new KeyAttributeConstructor(deleteAnnotation.keyExpression(), tableModel);
+    keyPlan =
+        new KeyAttributeConstructor(deleteAnnotation.keyExpression(), tableModel)
+            .bind(signature.parameters());
   }
 
   private static Signature checkSignatureOrThrow(
@@ -64,21 +64,18 @@ class DeleteRequestFactory {
     }
     final ReturnValue returnValue = delete.returnValue();
     if (!ReturnValue.NONE.equals(returnValue)
-        && !signature.invokable().getReturnType().equals(TypeToken.of(modelType))) {
+        && !signature.returnType().equals(TypeToken.of(modelType))) {
       throw new ReturnTypeInvalidException(signature, returnValue, modelType);
     }
     return signature;
   }
 
   public DeleteItemRequest create(final Object... args) {
-    final List<Argument> argList = Argument.newList(signature.parameters(), Arrays.asList(args));
     return new DeleteItemRequest()
         .withTableName(ExpressionFactoryHelper.getTableName(tableClass))
-        .withKey(keyAttributeConstructor.create(argList))
-        .withExpressionAttributeNames(
-            expressionAttributesFactory.newExpressionAttributeNames(argList))
-        .withExpressionAttributeValues(
-            expressionAttributesFactory.newExpressionAttributeValues(argList))
+        .withKey(keyPlan.create(args))
+        .withExpressionAttributeNames(bindingPlan.newExpressionAttributeNames(args))
+        .withExpressionAttributeValues(bindingPlan.newExpressionAttributeValues(args))
         .withConditionExpression(
             ExpressionFactoryHelper.toNullIfBlank(deleteAnnotation.conditionExpression()))
         .withReturnValues(deleteAnnotation.returnValue());
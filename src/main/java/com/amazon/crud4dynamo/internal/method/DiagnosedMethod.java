@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.method;
+
+import com.amazon.crud4dynamo.extension.Signature;
+import com.amazon.crud4dynamo.extension.diagnostics.OperationDiagnostics;
+import com.amazon.crud4dynamo.extension.diagnostics.SlowOperation;
+import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.amazon.crud4dynamo.extension.metrics.MethodTags;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import lombok.NonNull;
+
+/**
+ * Samples the partition keys of the invocations of the delegate and reports the slow ones to the
+ * diagnostics.
+ *
+ * <p>The key is only computed for sampled or slow invocations. Invocations returning a {@link
+ * CompletableFuture} are measured until the future completes.
+ */
+public class DiagnosedMethod implements AbstractMethod {
+  private final Signature signature;
+  private final AbstractMethod delegate;
+  private final OperationDiagnostics diagnostics;
+  private final MethodTags tags;
+  private final String tableName;
+  private final Function<Object[], String> partitionKeySampler;
+
+  /**
+   * @param tableName null if the method is not bound to a table
+   * @param partitionKeySampler returns the partition key of the arguments, null if unknown
+   */
+  public DiagnosedMethod(
+      @NonNull final Signature signature,
+      @NonNull final AbstractMethod delegate,
+      @NonNull final OperationDiagnostics diagnostics,
+      @NonNull final MethodTags tags,
+      final String tableName,
+      @NonNull final Function<Object[], String> partitionKeySampler) {
+    this.signature = signature;
+    this.delegate = delegate;
+    this.diagnostics = diagnostics;
+    this.tags = tags;
+    this.tableName = tableName;
+    this.partitionKeySampler = partitionKeySampler;
+  }
+
+  @Override
+  public Signature getSignature() {
+    return signature;
+  }
+
+  @Override
+  public Object invoke(final Object... args) throws Throwable {
+    final long start = System.nanoTime();
+    final Object result;
+    try {
+      result = delegate.invoke(args);
+    } catch (final Throwable e) {
+      completed(args, System.nanoTime() - start);
+      throw e;
+    }
+    if (result instanceof CompletableFuture) {
+      ((CompletableFuture<?>) result)
+          .whenComplete((value, failure) -> completed(args, System.nanoTime() - start));
+    } else {
+      completed(args, System.nanoTime() - start);
+    }
+    return result;
+  }
+
+  private void completed(final Object[] args, final long latencyNanos) {
+    final boolean slow = diagnostics.isSlow(latencyNanos);
+    final boolean sampled = tableName != null && diagnostics.shouldSampleKey();
+    if (!slow && !sampled) {
+      return;
+    }
+    final String partitionKey = samplePartitionKey(args);
+    if (sampled && partitionKey != null) {
+      diagnostics.recordKey(tableName, partitionKey);
+    }
+    if (slow) {
+      diagnostics.reportSlowOperation(
+          new SlowOperation(tags, signature.string(), tableName, partitionKey, latencyNanos));
+    }
+  }
+
+  private String samplePartitionKey(final Object[] args) {
+    try {
+      return partitionKeySampler.apply(args);
+    } catch (final RuntimeException e) {
+      // The invocation has failed on the same arguments already, or will be reported as is.
+      return null;
+    }
+  }
+
+  @Override
+  public AbstractMethod bind(final Object target) {
+    delegate.bind(target);
+    return this;
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.method;
+
+import com.amazon.crud4dynamo.exception.CrudForDynamoException;
+import com.amazon.crud4dynamo.extension.Signature;
+import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * Invokes a method of a receiver through a class spun by {@link LambdaMetafactory} at creation
+ * time. The generated class calls the receiver method directly, so unlike {@link ReflectiveMethod}
+ * there is no {@link Method#invoke} and exceptions are not wrapped in an {@link
+ * java.lang.reflect.InvocationTargetException}.
+ *
+ * <p>Only methods with at most two parameters are supported, which covers all the methods of the
+ * basic crud interfaces.
+ */
+public class DirectMethod implements AbstractMethod {
+  private static final Lookup LOOKUP = MethodHandles.lookup();
+  private static final List<Class<?>> CALLS = Arrays.asList(Call0.class, Call1.class, Call2.class);
+  private static final List<Class<?>> RUNS = Arrays.asList(Run0.class, Run1.class, Run2.class);
+
+  private final Invoker invoker;
+  @Getter private final Signature signature;
+
+  private DirectMethod(final Invoker invoker, final Signature signature) {
+    this.invoker = invoker;
+    this.signature = signature;
+  }
+
+  public static DirectMethod create(
+      final Object receiver, final Method method, final Signature signature) {
+    final int arity = method.getParameterCount();
+    if (arity >= CALLS.size()) {
+      throw new CrudForDynamoException(
+          "Method " + method + " has more than " + (CALLS.size() - 1) + " parameters.");
+    }
+    final boolean isVoid = method.getReturnType() == void.class;
+    final Class<?> invokerType = isVoid ? RUNS.get(arity) : CALLS.get(arity);
+    final Object generated = generate(receiver, method, invokerType, isVoid);
+    return new DirectMethod(adapt(generated), signature);
+  }
+
+  private static Invoker adapt(final Object generated) {
+    if (generated instanceof Call0) {
+      return args -> ((Call0) generated).call();
+    } else if (generated instanceof Call1) {
+      return args -> ((Call1) generated).call(args[0]);
+    } else if (generated instanceof Call2) {
+      return args -> ((Call2) generated).call(args[0], args[1]);
+    } else if (generated instanceof Run0) {
+      return args -> {
+        ((Run0) generated).run();
+        return null;
+      };
+    } else if (generated instanceof Run1) {
+      return args -> {
+        ((Run1) generated).run(args[0]);
+        return null;
+      };
+    } else {
+      return args -> {
+        ((Run2) generated).run(args[0], args[1]);
+        return null;
+      };
+    }
+  }
+
+  private static Object generate(
+      final Object receiver,
+      final Method method,
+      final Class<?> invokerType,
+      final boolean isVoid) {
+    try {
+      final MethodHandle implementation = LOOKUP.unreflect(method);
+      final MethodType erasedType =
+          MethodType.genericMethodType(method.getParameterCount())
+              .changeReturnType(isVoid ? void.class : Object.class);
+      final MethodType instantiatedType =
+          implementation
+              .type()
+              .dropParameterTypes(0, 1)
+              .wrap()
+              .changeReturnType(isVoid ? void.class : implementation.type().wrap().returnType());
+      return LambdaMetafactory.metafactory(
+              LOOKUP,
+              isVoid ? "run" : "call",
+              MethodType.methodType(invokerType, method.getDeclaringClass()),
+              erasedType,
+              implementation,
+              instantiatedType)
+          .getTarget()
+          .invoke(receiver);
+    } catch (final Throwable e) {
+      throw new CrudForDynamoException("Failed to generate invoker for method " + method, e);
+    }
+  }
+
+  @Override
+  public Object invoke(final Object... args) {
+    return invoker.invoke(args);
+  }
+
+  @Override
+  public AbstractMethod bind(final Object target) {
+    return this;
+  }
+
+  private interface Invoker {
+    Object invoke(Object[] args);
+  }
+
+  interface Call0 {
+    Object call();
+  }
+
+  interface Call1 {
+    Object call(Object a);
+  }
+
+  interface Call2 {
+    Object call(Object a, Object b);
+  }
+
+  interface Run0 {
+    void run();
+  }
+
+  interface Run1 {
+    void run(Object a);
+  }
+
+  interface Run2 {
+    void run(Object a, Object b);
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.method;
+
+import com.amazon.crud4dynamo.extension.Signature;
+import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.amazon.crud4dynamo.extension.metrics.MethodMetrics;
+import com.amazon.crud4dynamo.extension.metrics.MethodTags;
+import java.util.concurrent.CompletableFuture;
+import lombok.NonNull;
+
+/**
+ * Records the latency and the outcome of every invocation of the delegate.
+ *
+ * <p>Invocations returning a {@link CompletableFuture} are recorded when the future completes.
+ */
+public class MeteredMethod implements AbstractMethod {
+  private final Signature signature;
+  private final AbstractMethod delegate;
+  private final MethodMetrics metrics;
+  private final MethodTags tags;
+
+  public MeteredMethod(
+      @NonNull final Signature signature,
+      @NonNull final AbstractMethod delegate,
+      @NonNull final MethodMetrics metrics,
+      @NonNull final MethodTags tags) {
+    this.signature = signature;
+    this.delegate = delegate;
+    this.metrics = metrics;
+    this.tags = tags;
+  }
+
+  @Override
+  public Signature getSignature() {
+    return signature;
+  }
+
+  @Override
+  public Object invoke(final Object... args) throws Throwable {
+    final long start = System.nanoTime();
+    final Object result;
+    try {
+      result = delegate.invoke(args);
+    } catch (final Throwable e) {
+      metrics.recordInvocation(tags, System.nanoTime() - start, true);
+      throw e;
+    }
+    if (result instanceof CompletableFuture) {
+      ((CompletableFuture<?>) result)
+          .whenComplete(
+              (value, failure) ->
+                  metrics.recordInvocation(tags, System.nanoTime() - start, failure != null));
+    } else {
+      metrics.recordInvocation(tags, System.nanoTime() - start, false);
+    }
+    return result;
+  }
+
+  @Override
+  public AbstractMethod bind(final Object target) {
+    delegate.bind(target);
+    return this;
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.method;
+
+import com.amazon.crud4dynamo.annotation.Cached;
+import com.amazon.crud4dynamo.internal.method.CachedResult.Replay;
+import com.amazon.crud4dynamo.internal.utility.OffHeapStore;
+import com.amazon.crud4dynamo.internal.utility.ResultCodec;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.google.common.base.Ticker;
+import com.google.common.io.ByteArrayDataOutput;
+import com.google.common.io.ByteStreams;
+import java.io.DataInput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The second tier of a {@link CachedMethod}, which keeps encoded results off heap when the method
+ * has an off-heap maximum and a mapper converts its models. A result evicted from the heap is
+ * decoded from there instead of being loaded again, until it expires or is due for a refresh.
+ *
+ * <p>A stored result starts with the ordinal of its replay and the time it was loaded at.
+ */
+class OffHeapTier<K> {
+  private final Cached cacheConfig;
+  private final ResultReader reader;
+  private final OffHeapStore<K> store;
+  private final ResultCodec codec;
+
+  OffHeapTier(final Cached cacheConfig, final DynamoDBMapper mapper, final ResultReader reader) {
+    this.cacheConfig = cacheConfig;
+    this.reader = reader;
+    final boolean enabled = mapper != null && cacheConfig.offHeapMaxBytes() > 0;
+    store = enabled ? new OffHeapStore<>(cacheConfig.offHeapMaxBytes()) : null;
+    codec = enabled ? new ResultCodec(mapper) : null;
+  }
+
+  /** Stores the result if it is cached and its value can be encoded. */
+  void put(final K key, final CachedResult result) {
+    if (store == null || !result.isCached() || !codec.canEncode(result.getValue())) {
+      return;
+    }
+    final ByteArrayDataOutput out = ByteStreams.newDataOutput();
+    out.writeByte(result.getReplay().ordinal());
+    out.writeLong(result.getLoadedAtNanos());
+    try {
+      codec.encode(out, result.getValue());
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    store.put(key, out.toByteArray());
+  }
+
+  /** Returns the stored result of the key, unless it has expired or is due for a refresh. */
+  Optional<CachedResult> get(final K key) throws IOException {
+    final Optional<byte[]> stored = store == null ? Optional.empty() : store.get(key);
+    if (!stored.isPresent()) {
+      return Optional.empty();
+    }
+    final DataInput in = ByteStreams.newDataInput(stored.get());
+    final Replay replay = Replay.values()[in.readByte()];
+    final long loadedAtNanos = in.readLong();
+    if (isExpired(loadedAtNanos)) {
+      store.invalidate(key);
+      return Optional.empty();
+    }
+    return Optional.of(reader.newResult(codec.decode(in), replay, loadedAtNanos));
+  }
+
+  void invalidate(final K key) {
+    if (store != null) {
+      store.invalidate(key);
+    }
+  }
+
+  /**
+   * A result reloaded from here counts as freshly written on the heap, so one due for a refresh is
+   * expired as well, lest a result evicted again and again is never refreshed.
+   */
+  private boolean isExpired(final long loadedAtNanos) {
+    final long ageNanos = Ticker.systemTicker().read() - loadedAtNanos;
+    return isOlder(ageNanos, cacheConfig.expireAfterWrite(), cacheConfig.expireAfterWriteTimeUnit())
+        || isOlder(
+            ageNanos, cacheConfig.refreshAfterWrite(), cacheConfig.refreshAfterWriteTimeUnit());
+  }
+
+  private static boolean isOlder(final long ageNanos, final int duration, final TimeUnit unit) {
+    return duration >= 0 && ageNanos >= unit.toNanos(duration);
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.method;
+
+import com.amazon.crud4dynamo.extension.Signature;
+import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.amazon.crud4dynamo.internal.utility.PageFetcher;
+import com.amazon.crud4dynamo.internal.utility.PagePublisher;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import java.util.concurrent.Executor;
+import lombok.NonNull;
+
+/**
+ * Returns a {@link org.reactivestreams.Publisher} which fetches page by page on demand. Every
+ * subscription fetches its pages with a new fetcher, so subscriptions never share the expression
+ * they page through.
+ */
+public abstract class PagePublisherMethod implements AbstractMethod {
+  protected final Signature signature;
+  protected final Class<?> modelType;
+  protected final DynamoDBMapper mapper;
+  protected final DynamoDBMapperConfig mapperConfig;
+  private final Executor executor;
+
+  protected PagePublisherMethod(
+      @NonNull final Signature signature,
+      @NonNull final Class<?> modelType,
+      @NonNull final DynamoDBMapper mapper,
+      final DynamoDBMapperConfig mapperConfig,
+      @NonNull final Executor executor) {
+    this.signature = signature;
+    this.modelType = modelType;
+    this.mapper = mapper;
+    this.mapperConfig = mapperConfig;
+    this.executor = executor;
+  }
+
+  @Override
+  public Signature getSignature() {
+    return signature;
+  }
+
+  @Override
+  public AbstractMethod bind(final Object target) {
+    return this;
+  }
+
+  @Override
+  public Object invoke(final Object... args) throws Throwable {
+    return new PagePublisher<>(() -> newFetcher(args), executor);
+  }
+
+  /** Creates the fetcher of one subscription, with its own expression built from the arguments. */
+  protected abstract PageFetcher<Object> newFetcher(Object... args);
+}
@@ -17,16 +17,19 @@ package com.amazon.crud4dynamo.internal.method;
 
 import com.amazon.crud4dynamo.extension.Signature;
 import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.amazon.crud4dynamo.internal.utility.AsyncCalls;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBAsync;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
 import com.amazonaws.services.dynamodbv2.model.PutItemRequest;
 import com.amazonaws.services.dynamodbv2.model.PutItemResult;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import lombok.NonNull;
 
-public class PutMethod implements AbstractMethod {
+public class PutMethod implements AbstractMethod, AsyncInvocable {
   private final Signature signature;
   private final Class<?> modelType;
   private final DynamoDBMapper mapper;
@@ -59,6 +62,18 @@ public class PutMethod implements AbstractMethod {
   public Object invoke(final Object... args) throws Throwable {
     final PutItemRequest putItemRequest = putRequestFactory.create(args);
     final PutItemResult putItemResult = amazonDynamoDb.putItem(putItemRequest);
+    return convertResult(putItemResult);
+  }
+
+  @Override
+  public CompletableFuture<Object> invokeAsync(
+      final AmazonDynamoDBAsync dynamoDbAsync, final Object... args) {
+    final CompletableFuture<PutItemResult> result =
+        AsyncCalls.call(putRequestFactory.create(args), dynamoDbAsync::putItemAsync);
+    return result.thenApply(this::convertResult);
+  }
+
+  private Object convertResult(final PutItemResult putItemResult) {
     return Optional.ofNullable(putItemResult.getAttributes())
         .map(tableModel::unconvert)
         .orElse(null);
@@ -18,9 +18,9 @@ package com.amazon.crud4dynamo.internal.method;
 import com.amazon.crud4dynamo.annotation.Param;
 import com.amazon.crud4dynamo.annotation.Put;
 import com.amazon.crud4dynamo.exception.CrudForDynamoException;
-import com.amazon.crud4dynamo.extension.Argument;
 import com.amazon.crud4dynamo.extension.Signature;
 import com.amazon.crud4dynamo.internal.factory.ExpressionFactoryHelper;
+import com.amazon.crud4dynamo.internal.parsing.ArgumentBindingPlan;
 import com.amazon.crud4dynamo.internal.parsing.ConditionExpressionParser;
 import com.amazon.crud4dynamo.internal.parsing.ExpressionAttributesFactory;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
@@ -29,13 +29,12 @@ import com.amazonaws.services.dynamodbv2.model.AttributeValue;
 import com.amazonaws.services.dynamodbv2.model.PutItemRequest;
 import com.amazonaws.services.dynamodbv2.model.ReturnValue;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.reflect.Parameter;
 import com.google.common.reflect.TypeToken;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Predicate;
 import lombok.NonNull;
 
 class PutRequestFactory {
@@ -46,7 +45,8 @@ class PutRequestFactory {
   private final DynamoDBMapperTableModel tableModel;
   private final String tableName;
   private final String conditionExpression;
-  private final ExpressionAttributesFactory expressionAttributesFactory;
+  private final ArgumentBindingPlan bindingPlan;
+  private final int putItemIndex;
 
   PutRequestFactory(
       @NonNull final Signature signature,
@@ -60,9 +60,11 @@ class PutRequestFactory {
     tableName = ExpressionFactoryHelper.getTableName(modelClass);
     conditionExpression =
         ExpressionFactoryHelper.toNullIfBlank(putAnnotation.conditionExpression());
-    expressionAttributesFactory =
+    bindingPlan =
         new ExpressionAttributesFactory(
-            new ConditionExpressionParser(putAnnotation.conditionExpression(), tableModel));
+                new ConditionExpressionParser(putAnnotation.conditionExpression(), tableModel))
+            .bind(signature.parameters());
+    putItemIndex = getPutItemIndex(signature, putAnnotation);
   }
 
   private static Signature checkSignatureOrThrow(
@@ -76,7 +78,7 @@ class PutRequestFactory {
     }
     final ReturnValue returnValue = putAnnotation.get().returnValue();
     if (returnValue != ReturnValue.NONE
-        && !signature.invokable().getReturnType().equals(TypeToken.of(modelClass))) {
+        && !signature.returnType().equals(TypeToken.of(modelClass))) {
       throw new ReturnTypeInvalidException(signature, returnValue, modelClass);
     }
     return signature;
@@ -91,37 +93,29 @@ class PutRequestFactory {
   }
 
   public PutItemRequest create(final Object... args) {
-    final List<Argument> argList = Argument.newList(signature.parameters(), Arrays.asList(args));
     return new PutItemRequest()
         .withTableName(tableName)
-        .withItem(getItem(argList))
+        .withItem(getItem(args[putItemIndex]))
         .withConditionExpression(conditionExpression)
-        .withExpressionAttributeNames(
-            expressionAttributesFactory.newExpressionAttributeNames(argList))
-        .withExpressionAttributeValues(
-            expressionAttributesFactory.newExpressionAttributeValues(argList))
+        .withExpressionAttributeNames(bindingPlan.newExpressionAttributeNames(args))
+        .withExpressionAttributeValues(bindingPlan.newExpressionAttributeValues(args))
         .withReturnValues(putAnnotation.returnValue());
   }
 
-  @SuppressWarnings("unchecked")
-  private Map<String, AttributeValue> getItem(final List<Argument> argList) {
-    return tableModel.convert(getPutItem(argList));
-  }
-
-  private Object getPutItem(final List<Argument> args) {
-    return args.stream()
-        .filter(filterArgumentByPutItem())
-        .findFirst()
-        .map(Argument::getValue)
-        .get();
+  private static int getPutItemIndex(final Signature signature, final Put putAnnotation) {
+    final List<Parameter> parameters = signature.parameters();
+    for (int i = 0; i < parameters.size(); i++) {
+      final Param param = parameters.get(i).getAnnotation(Param.class);
+      if (param != null && param.value().equals(putAnnotation.item())) {
+        return i;
+      }
+    }
+    throw new NoPutItemAnnotationException(signature, putAnnotation);
   }
 
-  private Predicate<Argument> filterArgumentByPutItem() {
-    return arg ->
-        Optional.ofNullable(arg.getParameter().getAnnotation(Param.class))
-            .map(Param::value)
-            .filter(putAnnotation.item()::equals)
-            .isPresent();
+  @SuppressWarnings("unchecked")
+  private Map<String, AttributeValue> getItem(final Object item) {
+    return tableModel.convert(item);
   }
 
   @VisibleForTesting
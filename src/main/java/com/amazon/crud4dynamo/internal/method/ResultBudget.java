@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.method;
+
+import com.amazon.crud4dynamo.annotation.Cached;
+import com.amazon.crud4dynamo.extension.CacheBudget;
+import com.amazon.crud4dynamo.internal.utility.CacheLedger;
+import com.amazon.crud4dynamo.internal.utility.ResultWeigher;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.primitives.Ints;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Weighs the results of a {@link CachedMethod}, which bounds its cache by the weight of the results
+ * if the method has a maximum weight, and accounts them in the budget shared with other cached
+ * methods if there is one.
+ */
+class ResultBudget {
+  private final long maxWeightBytes;
+  private final ResultWeigher weigher;
+  private final Optional<CacheLedger> ledger;
+
+  ResultBudget(final Cached cacheConfig, final DynamoDBMapper mapper, final CacheBudget budget) {
+    maxWeightBytes = cacheConfig.maxWeightBytes();
+    weigher = new ResultWeigher(mapper);
+    ledger = CacheLedger.of(budget);
+  }
+
+  /** Estimated bytes of the value, zero if results are not weighed. */
+  long weigh(final Object value) {
+    return ledger.isPresent() || maxWeightBytes >= 0 ? weigher.weigh(value) : 0;
+  }
+
+  /** Bounds the cache by the maximum weight of the method, or else by its maximum size. */
+  CacheBuilder<Object, Object> setMaximum(
+      final CacheBuilder<Object, Object> builder, final long maxSize) {
+    if (maxWeightBytes < 0) {
+      return builder.maximumSize(maxSize);
+    }
+    return builder
+        .maximumWeight(maxWeightBytes)
+        .weigher(
+            (Object key, Object result) -> Ints.saturatedCast(((CachedResult) result).getWeight()));
+  }
+
+  /** Stops accounting the results removed from the cache, which is built by the builder. */
+  CacheBuilder<Object, Object> setRemovalListener(
+      final CacheBuilder<Object, Object> builder, final Supplier<Cache<?, ?>> cache) {
+    if (!ledger.isPresent()) {
+      return builder;
+    }
+    return builder.removalListener(
+        (RemovalNotification<Object, Object> notification) -> {
+          if (notification.getCause() != RemovalCause.REPLACED) {
+            ledger.get().remove(cache.get(), notification.getKey());
+          }
+        });
+  }
+
+  /** Records a new result of the cache in the budget, and marks a known one as used. */
+  void account(final Cache<?, ?> cache, final Object key, final CachedResult result) {
+    if (!ledger.isPresent()) {
+      return;
+    }
+    if (result.getRecorded().compareAndSet(false, true)) {
+      ledger.get().record(cache, key, result.getWeight());
+    } else {
+      ledger.get().touch(cache, key);
+    }
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.method;
+
+import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.google.common.cache.CacheLoader;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+
+/**
+ * Loads the results of a {@link CachedMethod}, from its off-heap tier if they are stored there and
+ * from its delegate otherwise.
+ *
+ * <p>Refreshes invoke the delegate on the executor, and the current result is served until they
+ * complete. A failed refresh discards the current result unless stale results are served on error.
+ */
+class ResultLoader extends CacheLoader<CachedMethod.ArgumentsWrapper, CachedResult> {
+  private final AbstractMethod delegate;
+  private final Executor executor;
+  private final boolean serveStaleOnError;
+  private final ResultReader reader;
+  private final OffHeapTier<CachedMethod.ArgumentsWrapper> offHeapTier;
+  private final BiConsumer<CachedMethod.ArgumentsWrapper, CachedResult> discard;
+
+  /** @param discard removes a result from both tiers */
+  ResultLoader(
+      final AbstractMethod delegate,
+      final Executor executor,
+      final boolean serveStaleOnError,
+      final ResultReader reader,
+      final OffHeapTier<CachedMethod.ArgumentsWrapper> offHeapTier,
+      final BiConsumer<CachedMethod.ArgumentsWrapper, CachedResult> discard) {
+    this.delegate = delegate;
+    this.executor = executor;
+    this.serveStaleOnError = serveStaleOnError;
+    this.reader = reader;
+    this.offHeapTier = offHeapTier;
+    this.discard = discard;
+  }
+
+  @Override
+  public CachedResult load(final CachedMethod.ArgumentsWrapper wrapper) throws Exception {
+    final Optional<CachedResult> stored = offHeapTier.get(wrapper);
+    return stored.isPresent() ? stored.get() : loadDelegate(wrapper);
+  }
+
+  @Override
+  public ListenableFuture<CachedResult> reload(
+      final CachedMethod.ArgumentsWrapper wrapper, final CachedResult oldResult) {
+    final ListenableFutureTask<CachedResult> task =
+        ListenableFutureTask.create(() -> loadDelegate(wrapper));
+    if (!serveStaleOnError) {
+      Futures.addCallback(
+          task,
+          new FutureCallback<CachedResult>() {
+            @Override
+            public void onSuccess(final CachedResult result) {}
+
+            @Override
+            public void onFailure(final Throwable throwable) {
+              discard.accept(wrapper, oldResult);
+            }
+          },
+          MoreExecutors.directExecutor());
+    }
+    executor.execute(task);
+    return task;
+  }
+
+  private CachedResult loadDelegate(final CachedMethod.ArgumentsWrapper wrapper) throws Exception {
+    final CachedResult result = reader.read(invokeDelegate(wrapper.getArgs()));
+    offHeapTier.put(wrapper, result);
+    return result;
+  }
+
+  private Object invokeDelegate(final Object[] args) throws Exception {
+    try {
+      return delegate.invoke(args);
+    } catch (final Exception | Error e) {
+      throw e;
+    } catch (final Throwable throwable) {
+      throw new LoadFailure(throwable);
+    }
+  }
+
+  /** Carries a throwable of the delegate which is neither an exception nor an error. */
+  static class LoadFailure extends Exception {
+    private LoadFailure(final Throwable cause) {
+      super(cause);
+    }
+  }
+}
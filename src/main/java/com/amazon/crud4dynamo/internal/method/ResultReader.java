@@ -0,0 +1,130 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.method;
+
+import com.amazon.crud4dynamo.internal.method.CachedResult.Replay;
+import com.google.common.base.Ticker;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Streams;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Turns what the delegate of a {@link CachedMethod} returns into a result. Iterators and streams
+ * are handed to a single caller, which records their items while it iterates. Once the caller
+ * exhausts them, the items become a list which every caller replays, unless they exceed the maximum
+ * iterator size.
+ */
+class ResultReader {
+  private final int maxIteratorSize;
+  private final ResultBudget budget;
+
+  ResultReader(final int maxIteratorSize, final ResultBudget budget) {
+    this.maxIteratorSize = maxIteratorSize;
+    this.budget = budget;
+  }
+
+  CachedResult read(final Object value) {
+    final long loadedAtNanos = Ticker.systemTicker().read();
+    if (value instanceof Iterator) {
+      return new CachedResult(value, loadedAtNanos, 0, Replay.ITERATOR, false);
+    }
+    if (value instanceof Stream) {
+      return new CachedResult(value, loadedAtNanos, 0, Replay.STREAM, false);
+    }
+    return newResult(value, Replay.AS_IS, loadedAtNanos);
+  }
+
+  CachedResult newResult(final Object value, final Replay replay, final long loadedAtNanos) {
+    return new CachedResult(value, loadedAtNanos, budget.weigh(value), replay, true);
+  }
+
+  /**
+   * Returns the iterator or stream of a result which is not cached to its single caller. The result
+   * of its items is handed to the consumer once the caller exhausts them, if they do not exceed the
+   * maximum iterator size, and the value of the result is closed. Otherwise it is closed when the
+   * caller closes what it gets.
+   */
+  Object record(final CachedResult result, final Consumer<CachedResult> onRead) {
+    final Consumer<List<Object>> onItems =
+        items -> onRead.accept(newResult(items, result.getReplay(), result.getLoadedAtNanos()));
+    if (result.getReplay() == Replay.STREAM) {
+      final Stream<?> stream = (Stream<?>) result.getValue();
+      return Streams.stream(new RecordingIterator<>(stream.iterator(), stream::close, onItems))
+          .onClose(stream::close);
+    }
+    final Iterator<?> iterator = (Iterator<?>) result.getValue();
+    return new RecordingIterator<>(
+        iterator, iterator instanceof Closeable ? (Closeable) iterator : () -> {}, onItems);
+  }
+
+  /** Records the items of the source until there are more than the maximum iterator size. */
+  private class RecordingIterator<T> extends AbstractIterator<T> implements Closeable {
+    private final Iterator<T> source;
+    private final Closeable closeable;
+    private final Consumer<List<Object>> onItems;
+    private ArrayList<Object> items = new ArrayList<>();
+
+    private RecordingIterator(
+        final Iterator<T> source, final Closeable closeable, final Consumer<List<Object>> onItems) {
+      this.source = source;
+      this.closeable = closeable;
+      this.onItems = onItems;
+    }
+
+    @Override
+    protected T computeNext() {
+      if (source.hasNext()) {
+        final T item = source.next();
+        if (items != null && items.size() < maxIteratorSize) {
+          items.add(item);
+        } else {
+          items = null;
+        }
+        return item;
+      }
+      if (items != null) {
+        items.trimToSize();
+        onItems.accept(Collections.unmodifiableList(items));
+        closeSource();
+      }
+      return endOfData();
+    }
+
+    /** Stops recording and closes the source. */
+    @Override
+    public void close() throws IOException {
+      items = null;
+      closeable.close();
+    }
+
+    /** Closes a source whose items are all recorded, which the caller no longer needs. */
+    private void closeSource() {
+      try {
+        close();
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
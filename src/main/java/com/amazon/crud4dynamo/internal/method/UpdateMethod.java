@@ -17,7 +17,9 @@ package com.amazon.crud4dynamo.internal.method;
 
 import com.amazon.crud4dynamo.extension.Signature;
 import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.amazon.crud4dynamo.internal.utility.AsyncCalls;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBAsync;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
@@ -25,9 +27,10 @@ import com.amazonaws.services.dynamodbv2.model.AttributeValue;
 import com.amazonaws.services.dynamodbv2.model.UpdateItemRequest;
 import com.amazonaws.services.dynamodbv2.model.UpdateItemResult;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import lombok.NonNull;
 
-public class UpdateMethod implements AbstractMethod {
+public class UpdateMethod implements AbstractMethod, AsyncInvocable {
 
   private final Signature signature;
   private final Class<?> tableType;
@@ -61,8 +64,20 @@ public class UpdateMethod implements AbstractMethod {
   public Object invoke(final Object... args) throws Throwable {
     final UpdateItemRequest updateItemRequest = updateRequestFactory.create(args);
     final UpdateItemResult updateItemResult = dynamoDb.updateItem(updateItemRequest);
+    return convertResult(updateItemResult);
+  }
+
+  @Override
+  public CompletableFuture<Object> invokeAsync(
+      final AmazonDynamoDBAsync dynamoDbAsync, final Object... args) {
+    final CompletableFuture<UpdateItemResult> result =
+        AsyncCalls.call(updateRequestFactory.create(args), dynamoDbAsync::updateItemAsync);
+    return result.thenApply(this::convertResult);
+  }
+
+  private Object convertResult(final UpdateItemResult updateItemResult) {
     final Map<String, AttributeValue> attributes = updateItemResult.getAttributes();
-    return attributes == null ? null : tableModel.unconvert(updateItemResult.getAttributes());
+    return attributes == null ? null : tableModel.unconvert(attributes);
   }
 
   @Override
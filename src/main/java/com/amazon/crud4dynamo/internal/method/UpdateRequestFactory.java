@@ -16,9 +16,9 @@
 package com.amazon.crud4dynamo.internal.method;
 
 import com.amazon.crud4dynamo.annotation.Update;
-import com.amazon.crud4dynamo.extension.Argument;
 import com.amazon.crud4dynamo.extension.Signature;
 import com.amazon.crud4dynamo.internal.factory.ExpressionFactoryHelper;
+import com.amazon.crud4dynamo.internal.parsing.ArgumentBindingPlan;
 import com.amazon.crud4dynamo.internal.parsing.ConditionExpressionParser;
 import com.amazon.crud4dynamo.internal.parsing.ExpressionAttributesFactory;
 import com.amazon.crud4dynamo.internal.parsing.UpdateExpressionParser;
@@ -27,16 +27,14 @@ import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
 import com.amazonaws.services.dynamodbv2.model.UpdateItemRequest;
 import com.google.common.base.Preconditions;
-import java.util.Arrays;
-import java.util.List;
 
 public class UpdateRequestFactory {
   private final Signature signature;
   private final Class<?> modelClass;
   private final DynamoDBMapper dynamoDbMapper;
   private final Update update;
-  private final KeyAttributeConstructor keyAttributeConstructor;
-  private final ExpressionAttributesFactory expressionAttributesFactory;
+  private final KeyAttributeConstructor.Plan keyPlan;
+  private final ArgumentBindingPlan bindingPlan;
 
   public UpdateRequestFactory(
       final Signature signature, final Class<?> modelClass, final DynamoDBMapper dynamoDbMapper) {
@@ -48,25 +46,25 @@ public class UpdateRequestFactory {
             signature.invokable().getAnnotation(Update.class),
             String.format("Method with signature '%s' is not annotated with Update", signature));
     final DynamoDBMapperTableModel<?> tableModel = dynamoDbMapper.getTableModel(modelClass);
-    keyAttributeConstructor = new KeyAttributeConstructor(update.keyExpression(), tableModel);
-    expressionAttributesFactory =
+    keyPlan =
+        new KeyAttributeConstructor(update.keyExpression(), tableModel)
+            .bind(signature.parameters());
+    bindingPlan =
         new ExpressionAttributesFactory(
-            new UpdateExpressionParser(update.updateExpression(), tableModel),
-            new ConditionExpressionParser(update.conditionExpression(), tableModel));
+                new UpdateExpressionParser(update.updateExpression(), tableModel),
+                new ConditionExpressionParser(update.conditionExpression(), tableModel))
+            .bind(signature.parameters());
   }
 
   public UpdateItemRequest create(final Object... args) {
-    final List<Argument> argList = Argument.newList(signature.parameters(), Arrays.asList(args));
     return new UpdateItemRequest()
-        .withKey(keyAttributeConstructor.create(argList))
+        .withKey(keyPlan.create(args))
         .withTableName(ExpressionFactoryHelper.getTableName(modelClass))
         .withUpdateExpression(update.updateExpression())
         .withConditionExpression(
             ExpressionFactoryHelper.toNullIfBlank(update.conditionExpression()))
-        .withExpressionAttributeNames(
-            expressionAttributesFactory.newExpressionAttributeNames(argList))
-        .withExpressionAttributeValues(
-            expressionAttributesFactory.newExpressionAttributeValues(argList))
+        .withExpressionAttributeNames(bindingPlan.newExpressionAttributeNames(args))
+        .withExpressionAttributeValues(bindingPlan.newExpressionAttributeValues(args))
         .withReturnValues(update.returnValue());
   }
 }
@@ -17,8 +17,12 @@ package com.amazon.crud4dynamo.internal.method.query;
 
 import com.amazon.crud4dynamo.extension.Signature;
 import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.amazon.crud4dynamo.internal.utility.PageFetcher.Page;
+import com.amazon.crud4dynamo.internal.utility.PagePrefetcher;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.QueryResultPage;
 import lombok.NonNull;
 
 public class NonPagingMethod implements AbstractMethod {
@@ -27,16 +31,27 @@ public class NonPagingMethod implements AbstractMethod {
   private final DynamoDBMapper mapper;
   private final QueryExpressionFactory expressionFactory;
   private final DynamoDBMapperConfig mapperConfig;
+  private final PagePrefetcher pagePrefetcher;
 
   public NonPagingMethod(
       @NonNull final Signature signature,
       @NonNull final Class<?> tableType,
       @NonNull final DynamoDBMapper mapper,
       final DynamoDBMapperConfig mapperConfig) {
+    this(signature, tableType, mapper, mapperConfig, PagePrefetcher.NONE);
+  }
+
+  public NonPagingMethod(
+      @NonNull final Signature signature,
+      @NonNull final Class<?> tableType,
+      @NonNull final DynamoDBMapper mapper,
+      final DynamoDBMapperConfig mapperConfig,
+      @NonNull final PagePrefetcher pagePrefetcher) {
     this.signature = signature;
     this.tableType = tableType;
     this.mapper = mapper;
     this.mapperConfig = mapperConfig;
+    this.pagePrefetcher = pagePrefetcher;
     expressionFactory = new NonPagingExpressionFactory(signature, tableType, mapper);
   }
 
@@ -51,7 +66,20 @@ public class NonPagingMethod implements AbstractMethod {
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public Object invoke(final Object... args) throws Throwable {
+    if (pagePrefetcher.isEnabled()) {
+      final DynamoDBQueryExpression expression = expressionFactory.create(args);
+      return pagePrefetcher.iterator(
+          startKey -> {
+            final QueryResultPage<Object> page =
+                mapper.queryPage(
+                    (Class<Object>) tableType,
+                    expression.withExclusiveStartKey(startKey),
+                    mapperConfig);
+            return new Page<>(page.getResults(), page.getLastEvaluatedKey());
+          });
+    }
     return mapper.query(tableType, expressionFactory.create(args), mapperConfig).iterator();
   }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.method.query;
+
+import com.amazon.crud4dynamo.extension.Signature;
+import com.amazon.crud4dynamo.internal.method.PagePublisherMethod;
+import com.amazon.crud4dynamo.internal.utility.PageFetcher;
+import com.amazon.crud4dynamo.internal.utility.PageFetcher.Page;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.QueryResultPage;
+import java.util.concurrent.Executor;
+
+/** Returns a {@link org.reactivestreams.Publisher} which queries page by page on demand. */
+public class PublisherMethod extends PagePublisherMethod {
+  private final QueryExpressionFactory expressionFactory;
+
+  public PublisherMethod(
+      final Signature signature,
+      final Class<?> modelType,
+      final DynamoDBMapper mapper,
+      final DynamoDBMapperConfig mapperConfig,
+      final Executor executor) {
+    super(signature, modelType, mapper, mapperConfig, executor);
+    expressionFactory = new NonPagingExpressionFactory(signature, modelType, mapper);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  protected PageFetcher<Object> newFetcher(final Object... args) {
+    final DynamoDBQueryExpression expression = expressionFactory.create(args);
+    return startKey -> {
+      final QueryResultPage<Object> page =
+          mapper.queryPage(
+              (Class<Object>) modelType, expression.withExclusiveStartKey(startKey), mapperConfig);
+      return new Page<>(page.getResults(), page.getLastEvaluatedKey());
+    };
+  }
+}
@@ -16,16 +16,14 @@
 package com.amazon.crud4dynamo.internal.method.scan;
 
 import com.amazon.crud4dynamo.annotation.Scan;
-import com.amazon.crud4dynamo.extension.Argument;
 import com.amazon.crud4dynamo.extension.Signature;
 import com.amazon.crud4dynamo.internal.factory.ExpressionFactoryHelper;
+import com.amazon.crud4dynamo.internal.parsing.ArgumentBindingPlan;
 import com.amazon.crud4dynamo.internal.parsing.ConditionExpressionParser;
 import com.amazon.crud4dynamo.internal.parsing.ExpressionAttributesFactory;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
 import com.google.common.base.Preconditions;
-import java.util.Arrays;
-import java.util.List;
 import lombok.NonNull;
 
 public class NonPagingExpressionFactory implements ScanExpressionFactory {
@@ -33,7 +31,7 @@ public class NonPagingExpressionFactory implements ScanExpressionFactory {
   private final Class<?> tableType;
   private final DynamoDBMapper mapper;
   private final Scan annotation;
-  private final ExpressionAttributesFactory expressionAttributesFactory;
+  private final ArgumentBindingPlan bindingPlan;
 
   NonPagingExpressionFactory(
       @NonNull final Signature signature,
@@ -46,20 +44,18 @@ public class NonPagingExpressionFactory implements ScanExpressionFactory {
         Preconditions.checkNotNull(
             signature.invokable().getAnnotation(Scan.class),
             String.format("Method with signature '%s' is not annotated with Scan.", signature));
-    expressionAttributesFactory =
+    bindingPlan =
         new ExpressionAttributesFactory(
-            new ConditionExpressionParser(annotation.filter(), mapper.getTableModel(tableType)));
+                new ConditionExpressionParser(annotation.filter(), mapper.getTableModel(tableType)))
+            .bind(signature.parameters());
   }
 
   @Override
   public DynamoDBScanExpression create(final Object... args) {
-    final List<Argument> argList = Argument.newList(signature.parameters(), Arrays.asList(args));
     return new DynamoDBScanExpression()
         .withConsistentRead(annotation.consistentRead())
-        .withExpressionAttributeNames(
-            expressionAttributesFactory.newExpressionAttributeNames(argList))
-        .withExpressionAttributeValues(
-            expressionAttributesFactory.newExpressionAttributeValues(argList))
+        .withExpressionAttributeNames(bindingPlan.newExpressionAttributeNames(args))
+        .withExpressionAttributeValues(bindingPlan.newExpressionAttributeValues(args))
         .withIndexName(ExpressionFactoryHelper.toNullIfBlank(annotation.index()))
         .withFilterExpression(ExpressionFactoryHelper.toNullIfBlank(annotation.filter()));
   }
@@ -17,8 +17,12 @@ package com.amazon.crud4dynamo.internal.method.scan;
 
 import com.amazon.crud4dynamo.extension.Signature;
 import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.amazon.crud4dynamo.internal.utility.PageFetcher.Page;
+import com.amazon.crud4dynamo.internal.utility.PagePrefetcher;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
 
 public class NonPagingMethod implements AbstractMethod {
 
@@ -26,6 +30,7 @@ public class NonPagingMethod implements AbstractMethod {
   private final Class<?> modelType;
   private final DynamoDBMapper dynamoDbMapper;
   private final DynamoDBMapperConfig mapperConfig;
+  private final PagePrefetcher pagePrefetcher;
   private final NonPagingExpressionFactory expressionFactory;
 
   public NonPagingMethod(
@@ -33,10 +38,20 @@ public class NonPagingMethod implements AbstractMethod {
       final Class<?> modelType,
       final DynamoDBMapper dynamoDbMapper,
       final DynamoDBMapperConfig mapperConfig) {
+    this(signature, modelType, dynamoDbMapper, mapperConfig, PagePrefetcher.NONE);
+  }
+
+  public NonPagingMethod(
+      final Signature signature,
+      final Class<?> modelType,
+      final DynamoDBMapper dynamoDbMapper,
+      final DynamoDBMapperConfig mapperConfig,
+      final PagePrefetcher pagePrefetcher) {
     this.signature = signature;
     this.modelType = modelType;
     this.dynamoDbMapper = dynamoDbMapper;
     this.mapperConfig = mapperConfig;
+    this.pagePrefetcher = pagePrefetcher;
     expressionFactory = new NonPagingExpressionFactory(signature, modelType, dynamoDbMapper);
   }
 
@@ -46,7 +61,20 @@ public class NonPagingMethod implements AbstractMethod {
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public Object invoke(final Object... args) throws Throwable {
+    if (pagePrefetcher.isEnabled()) {
+      final DynamoDBScanExpression expression = expressionFactory.create(args);
+      return pagePrefetcher.iterator(
+          startKey -> {
+            final ScanResultPage<Object> page =
+                dynamoDbMapper.scanPage(
+                    (Class<Object>) modelType,
+                    expression.withExclusiveStartKey(startKey),
+                    mapperConfig);
+            return new Page<>(page.getResults(), page.getLastEvaluatedKey());
+          });
+    }
     return dynamoDbMapper.scan(modelType, expressionFactory.create(args), mapperConfig).iterator();
   }
 
@@ -16,11 +16,40 @@
 package com.amazon.crud4dynamo.internal.method.scan;
 
 import com.amazon.crud4dynamo.annotation.Parallel;
+import com.amazon.crud4dynamo.extension.ScanCheckpoint;
+import com.amazon.crud4dynamo.extension.ScanCheckpointStore;
+import com.amazon.crud4dynamo.extension.ScanCheckpointStore.ScanState;
+import com.amazon.crud4dynamo.extension.ScanCheckpointStore.SegmentCheckpoint;
 import com.amazon.crud4dynamo.extension.Signature;
 import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.amazon.crud4dynamo.internal.factory.ExpressionFactoryHelper;
+import com.amazon.crud4dynamo.internal.utility.PageFetcher;
+import com.amazon.crud4dynamo.internal.utility.PageFetcher.Page;
+import com.amazon.crud4dynamo.internal.utility.SegmentSpliterator;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.google.common.base.Preconditions;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.function.IntSupplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+/**
+ * Scans the segments of the table in parallel.
+ *
+ * <p>Methods returning an iterator use the thread pool of the mapper and merge the segments into a
+ * single iterator. Methods returning a {@link Stream} return a sequential stream which splits by
+ * segment, so that the segments are scanned by the workers of a parallel stream.
+ *
+ * <p>Passing a {@link ScanCheckpoint} argument makes the scan resumable. Only methods returning a
+ * stream take one, since the segments of a checkpointed scan are not scanned by the mapper.
+ */
 public class ParallelScanMethod implements AbstractMethod {
 
   private final Signature signature;
@@ -28,16 +57,28 @@ public class ParallelScanMethod implements AbstractMethod {
   private final DynamoDBMapper mapper;
   private final DynamoDBMapperConfig mapperConfig;
   private final NonPagingExpressionFactory expressionFactory;
+  private final IntSupplier totalSegments;
 
   public ParallelScanMethod(
       final Signature signature,
       final Class<?> modelType,
       final DynamoDBMapper mapper,
       final DynamoDBMapperConfig mapperConfig) {
+    this(signature, modelType, mapper, mapperConfig, fixedTotalSegments(signature));
+  }
+
+  /** @param totalSegments supplies the total segments of every scan. */
+  public ParallelScanMethod(
+      final Signature signature,
+      final Class<?> modelType,
+      final DynamoDBMapper mapper,
+      final DynamoDBMapperConfig mapperConfig,
+      final IntSupplier totalSegments) {
     this.signature = signature;
     this.modelType = modelType;
     this.mapper = mapper;
     this.mapperConfig = mapperConfig;
+    this.totalSegments = totalSegments;
     expressionFactory = new NonPagingExpressionFactory(signature, modelType, mapper);
   }
 
@@ -48,13 +89,75 @@ public class ParallelScanMethod implements AbstractMethod {
 
   @Override
   public Object invoke(final Object... args) throws Throwable {
-    return mapper
-        .parallelScan(modelType, expressionFactory.create(args), getTotalSegments())
-        .iterator();
+    final Optional<ScanCheckpoint> checkpoint = ExpressionFactoryHelper.findScanCheckpoint(args);
+    if (checkpoint.isPresent()) {
+      return StreamSupport.stream(newCheckpointingSpliterator(checkpoint.get(), args), false);
+    }
+    final int segments = totalSegments.getAsInt();
+    if (isStream()) {
+      return StreamSupport.stream(
+          new SegmentSpliterator<>(segment -> newSegmentFetcher(segment, segments, args), segments),
+          false);
+    }
+    return mapper.parallelScan(modelType, expressionFactory.create(args), segments).iterator();
+  }
+
+  private boolean isStream() {
+    return signature.returnType().getRawType() == Stream.class;
+  }
+
+  /**
+   * Resumes every segment after its saved key, and saves the key of each page once the items of the
+   * page have been consumed, which is when the next page is fetched.
+   */
+  private Spliterator<Object> newCheckpointingSpliterator(
+      final ScanCheckpoint checkpoint, final Object... args) {
+    final String scanId = checkpoint.getScanId();
+    final ScanCheckpointStore store = checkpoint.getStore();
+    final Optional<ScanState> state = store.load(scanId);
+    final int segments = state.map(ScanState::getTotalSegments).orElseGet(totalSegments::getAsInt);
+    final Map<Integer, SegmentCheckpoint> saved =
+        state.map(ScanState::getSegments).orElse(Collections.emptyMap());
+    return new SegmentSpliterator<>(
+        segment -> {
+          final SegmentCheckpoint segmentCheckpoint = saved.get(segment);
+          if (segmentCheckpoint != null && segmentCheckpoint.isCompleted()) {
+            return startKey -> new Page<>(Collections.emptyList(), null);
+          }
+          final Map<String, AttributeValue> resumeKey =
+              segmentCheckpoint == null ? null : segmentCheckpoint.getLastEvaluatedKey();
+          final PageFetcher<Object> fetcher = newSegmentFetcher(segment, segments, args);
+          return startKey -> {
+            if (startKey != null) {
+              store.save(scanId, segments, segment, SegmentCheckpoint.after(startKey));
+            }
+            return fetcher.fetch(startKey == null ? resumeKey : startKey);
+          };
+        },
+        segments,
+        segment -> store.save(scanId, segments, segment, SegmentCheckpoint.COMPLETED));
+  }
+
+  /** Each segment gets its own expression, since expressions are updated from page to page. */
+  @SuppressWarnings("unchecked")
+  private PageFetcher<Object> newSegmentFetcher(
+      final int segment, final int totalSegments, final Object... args) {
+    final DynamoDBScanExpression expression =
+        expressionFactory.create(args).withSegment(segment).withTotalSegments(totalSegments);
+    return startKey -> {
+      final ScanResultPage<Object> page =
+          mapper.scanPage(
+              (Class<Object>) modelType, expression.withExclusiveStartKey(startKey), mapperConfig);
+      return new Page<>(page.getResults(), page.getLastEvaluatedKey());
+    };
   }
 
-  private Integer getTotalSegments() {
-    return signature.getAnnotation(Parallel.class).map(Parallel::totalSegments).get();
+  private static IntSupplier fixedTotalSegments(final Signature signature) {
+    final int totalSegments =
+        signature.getAnnotation(Parallel.class).map(Parallel::totalSegments).get();
+    Preconditions.checkArgument(
+        totalSegments > 0, "totalSegments should be positive: %s", totalSegments);
+    return () -> totalSegments;
   }
 
   @Override
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.method.scan;
+
+import com.amazon.crud4dynamo.exception.CrudForDynamoException;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.model.TableDescription;
+import com.google.common.base.Throwables;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Derives the number of segments of a parallel scan from the size of the table.
+ *
+ * <p>The table size is read with DescribeTable, which DynamoDB updates about every six hours, so
+ * the decision is cached for {@link #DEFAULT_TTL_MINUTES} minutes per table.
+ */
+public class TotalSegmentsResolver {
+  public static final long DEFAULT_TTL_MINUTES = 60;
+  /** Default limit of the number of segments, which are scanned by a thread each. */
+  public static final int DEFAULT_MAX_SEGMENTS = 4 * Runtime.getRuntime().availableProcessors();
+
+  private final Cache<Key, Integer> cache;
+
+  public TotalSegmentsResolver() {
+    this(Ticker.systemTicker(), DEFAULT_TTL_MINUTES, TimeUnit.MINUTES);
+  }
+
+  public TotalSegmentsResolver(
+      @NonNull final Ticker ticker, final long ttl, @NonNull final TimeUnit ttlUnit) {
+    cache = CacheBuilder.newBuilder().ticker(ticker).expireAfterWrite(ttl, ttlUnit).build();
+  }
+
+  /** Returns the table size divided by the segment size, between 1 and the maximum. */
+  public static int totalSegments(
+      final long tableSizeBytes, final long bytesPerSegment, final int maxSegments) {
+    final long segments =
+        tableSizeBytes / bytesPerSegment + (tableSizeBytes % bytesPerSegment == 0 ? 0 : 1);
+    return (int) Math.max(1, Math.min(segments, maxSegments));
+  }
+
+  /**
+   * @param maxSegments the limit of the number of segments, {@link #DEFAULT_MAX_SEGMENTS} if it is
+   *     null.
+   */
+  public int resolve(
+      @NonNull final AmazonDynamoDB dynamoDb,
+      @NonNull final String tableName,
+      final long bytesPerSegment,
+      final Integer maxSegments) {
+    final Key key =
+        new Key(
+            tableName,
+            bytesPerSegment,
+            Optional.ofNullable(maxSegments).orElse(DEFAULT_MAX_SEGMENTS));
+    try {
+      return cache.get(
+          key,
+          () -> {
+            final TableDescription table = dynamoDb.describeTable(tableName).getTable();
+            return totalSegments(
+                Optional.ofNullable(table.getTableSizeBytes()).orElse(0L),
+                key.getBytesPerSegment(),
+                key.getMaxSegments());
+          });
+    } catch (final ExecutionException | UncheckedExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new CrudForDynamoException(
+          "Failed to resolve the total segments of table " + tableName, e.getCause());
+    }
+  }
+
+  @Value
+  private static class Key {
+    private final String tableName;
+    private final long bytesPerSegment;
+    private final int maxSegments;
+  }
+}
@@ -20,8 +20,11 @@ import com.amazon.crud4dynamo.exception.CrudForDynamoException;
 import com.amazon.crud4dynamo.extension.Argument;
 import com.amazon.crud4dynamo.extension.Signature;
 import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.amazon.crud4dynamo.internal.method.AsyncInvocable;
+import com.amazon.crud4dynamo.internal.utility.AsyncCalls;
 import com.amazon.crud4dynamo.utility.Reflection;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBAsync;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
 import com.amazonaws.services.dynamodbv2.model.ItemResponse;
@@ -34,10 +37,11 @@ import com.google.common.reflect.TypeToken;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
-public class TransactionGetMethod implements AbstractMethod {
+public class TransactionGetMethod implements AbstractMethod, AsyncInvocable {
   private static final TypeToken<List<Object>> VALID_METHOD_RETURN_TYPE =
       new TypeToken<List<Object>>() {};
   private final AmazonDynamoDB dynamoDb;
@@ -82,14 +86,28 @@ public class TransactionGetMethod implements AbstractMethod {
 
   @Override
   public Object invoke(final Object... args) throws Throwable {
-    final List<Argument> arguments = Argument.newList(signature.parameters(), Arrays.asList(args));
-    final TransactGetItemsRequest request =
-        new TransactGetItemsRequest().withTransactItems(newGetItems(arguments));
-    final TransactGetItemsResult result = dynamoDb.transactGetItems(request);
+    final TransactGetItemsResult result = dynamoDb.transactGetItems(newRequest(args));
     sanityCheck(result);
     return convertResult(result);
   }
 
+  @Override
+  public CompletableFuture<Object> invokeAsync(
+      final AmazonDynamoDBAsync dynamoDbAsync, final Object... args) {
+    final CompletableFuture<TransactGetItemsResult> future =
+        AsyncCalls.call(newRequest(args), dynamoDbAsync::transactGetItemsAsync);
+    return future.thenApply(
+        result -> {
+          sanityCheck(result);
+          return convertResult(result);
+        });
+  }
+
+  private TransactGetItemsRequest newRequest(final Object... args) {
+    final List<Argument> arguments = Argument.newList(signature.parameters(), Arrays.asList(args));
+    return new TransactGetItemsRequest().withTransactItems(newGetItems(arguments));
+  }
+
   private List<TransactGetItem> newGetItems(final List<Argument> arguments) {
     return getFactories.stream()
         .map(f -> f.create(arguments))
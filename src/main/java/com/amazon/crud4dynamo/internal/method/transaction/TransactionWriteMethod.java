@@ -22,17 +22,22 @@ import com.amazon.crud4dynamo.annotation.transaction.Update;
 import com.amazon.crud4dynamo.extension.Argument;
 import com.amazon.crud4dynamo.extension.Signature;
 import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.amazon.crud4dynamo.internal.method.AsyncInvocable;
+import com.amazon.crud4dynamo.internal.utility.AsyncCalls;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBAsync;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
 import com.amazonaws.services.dynamodbv2.model.TransactWriteItem;
 import com.amazonaws.services.dynamodbv2.model.TransactWriteItemsRequest;
+import com.amazonaws.services.dynamodbv2.model.TransactWriteItemsResult;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-public class TransactionWriteMethod implements AbstractMethod {
+public class TransactionWriteMethod implements AbstractMethod, AsyncInvocable {
   private final AmazonDynamoDB amazonDynamoDB;
   private final Signature signature;
   private final List<ConditionCheckFactory> conditionalCheckFactories;
@@ -71,21 +76,31 @@ public class TransactionWriteMethod implements AbstractMethod {
 
   @Override
   public Object invoke(final Object... args) throws Throwable {
-    final List<Argument> arguments = Argument.newList(signature.parameters(), Arrays.asList(args));
-    final TransactWriteItemsRequest request =
-        new TransactWriteItemsRequest()
-            .withTransactItems(
-                Stream.of(
-                        getConditionChecks(arguments),
-                        getDeletes(arguments),
-                        getPuts(arguments),
-                        getUpdates(arguments))
-                    .flatMap(Function.identity())
-                    .collect(Collectors.toList()));
-    amazonDynamoDB.transactWriteItems(request);
+    amazonDynamoDB.transactWriteItems(newRequest(args));
     return null;
   }
 
+  @Override
+  public CompletableFuture<Object> invokeAsync(
+      final AmazonDynamoDBAsync dynamoDbAsync, final Object... args) {
+    final CompletableFuture<TransactWriteItemsResult> result =
+        AsyncCalls.call(newRequest(args), dynamoDbAsync::transactWriteItemsAsync);
+    return result.thenApply(ignored -> null);
+  }
+
+  private TransactWriteItemsRequest newRequest(final Object... args) {
+    final List<Argument> arguments = Argument.newList(signature.parameters(), Arrays.asList(args));
+    return new TransactWriteItemsRequest()
+        .withTransactItems(
+            Stream.of(
+                    getConditionChecks(arguments),
+                    getDeletes(arguments),
+                    getPuts(arguments),
+                    getUpdates(arguments))
+                .flatMap(Function.identity())
+                .collect(Collectors.toList()));
+  }
+
   private Stream<TransactWriteItem> getUpdates(final List<Argument> arguments) {
     return updateFactories.stream()
         .map(f -> f.create(arguments))
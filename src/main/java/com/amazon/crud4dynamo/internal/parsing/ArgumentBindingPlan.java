@@ -0,0 +1,175 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.parsing;
+
+import com.amazon.crud4dynamo.annotation.Param;
+import com.amazon.crud4dynamo.exception.CrudForDynamoException;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.google.common.collect.Maps;
+import com.google.common.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Binding of method arguments to expression attribute names and values, resolved once per method.
+ *
+ * <p>The {@link Param} annotations are read and the converters of expression attribute values are
+ * looked up when the plan is created, so that building the expression attributes of a call is a
+ * loop over the arguments. Converters which depend on the attribute name given as an argument, e.g,
+ * ":value" of "#name = :value", are resolved per call.
+ *
+ * <p>A placeholder bound by more than one argument is rejected, when the plan is created if its
+ * converter is known by then and when the converter is resolved otherwise.
+ */
+public class ArgumentBindingPlan {
+  private static final String NAME_PLACEHOLDER_PREFIX = "#";
+  private static final String VALUE_PLACEHOLDER_PREFIX = ":";
+
+  /** Arguments of the expression attribute names referenced by the expressions. */
+  private final Slot[] nameSlots;
+  /** Arguments of the expression attribute names which converters of values depend on. */
+  private final NameSource[] nameSources;
+  /** Arguments of the expression attribute values. */
+  private final Slot[] valueSlots;
+  /** Converters of {@link #valueSlots}, null if the converter is resolved per call. */
+  private final AttributeValueConverter[] staticConverters;
+  /** Index in {@link #valueSlots} of the expression attribute values resolved per call. */
+  private final Map<String, Integer> lazyValueSlots;
+  /** Expression attribute values resolved per call which more than one argument binds. */
+  private final Set<String> duplicateLazyValues;
+
+  public ArgumentBindingPlan(
+      @NonNull final AttributeNameMapper nameMapper,
+      @NonNull final AttributeValueMapper valueMapper,
+      @NonNull final Set<String> expressionAttributeNames,
+      @NonNull final List<Parameter> parameters) {
+    final List<Slot> names = new ArrayList<>();
+    final List<NameSource> sources = new ArrayList<>();
+    final List<Slot> values = new ArrayList<>();
+    final List<AttributeValueConverter> converters = new ArrayList<>();
+    lazyValueSlots = new HashMap<>();
+    duplicateLazyValues = new HashSet<>();
+    final Set<String> boundPlaceholders = new HashSet<>();
+    for (int index = 0; index < parameters.size(); index++) {
+      final Param param = parameters.get(index).getAnnotation(Param.class);
+      if (param == null) {
+        continue;
+      }
+      final String placeholder = param.value();
+      if (placeholder.startsWith(NAME_PLACEHOLDER_PREFIX)) {
+        if (expressionAttributeNames.contains(placeholder)) {
+          checkNotBound(boundPlaceholders, placeholder);
+          names.add(new Slot(index, placeholder));
+        }
+        if (nameMapper.has(placeholder)) {
+          sources.add(new NameSource(index, nameMapper.get(placeholder)));
+        }
+      } else if (placeholder.startsWith(VALUE_PLACEHOLDER_PREFIX)) {
+        final AttributeValueConverter converter = valueMapper.get(placeholder);
+        if (converter != null) {
+          checkNotBound(boundPlaceholders, placeholder);
+        } else if (lazyValueSlots.putIfAbsent(placeholder, values.size()) != null) {
+          duplicateLazyValues.add(placeholder);
+        }
+        values.add(new Slot(index, placeholder));
+        converters.add(
+            converter == null ? null : converter.specialize(parameters.get(index).getType()));
+      }
+    }
+    nameSlots = names.toArray(new Slot[0]);
+    nameSources = sources.toArray(new NameSource[0]);
+    valueSlots = values.toArray(new Slot[0]);
+    staticConverters = converters.toArray(new AttributeValueConverter[0]);
+  }
+
+  private static void checkNotBound(final Set<String> boundPlaceholders, final String placeholder) {
+    if (!boundPlaceholders.add(placeholder)) {
+      throw duplicatePlaceholder(placeholder);
+    }
+  }
+
+  private static CrudForDynamoException duplicatePlaceholder(final String placeholder) {
+    return new CrudForDynamoException(
+        "Placeholder " + placeholder + " is bound by more than one @Param argument");
+  }
+
+  /** Returns null if there is no expression attribute name. */
+  public Map<String, String> newExpressionAttributeNames(@NonNull final Object[] args) {
+    if (nameSlots.length == 0) {
+      return null;
+    }
+    final Map<String, String> names = Maps.newHashMapWithExpectedSize(nameSlots.length);
+    for (final Slot slot : nameSlots) {
+      names.put(slot.placeholder, args[slot.index].toString());
+    }
+    return names;
+  }
+
+  /** Returns null if there is no expression attribute value. */
+  public Map<String, AttributeValue> newExpressionAttributeValues(@NonNull final Object[] args) {
+    if (valueSlots.length == 0) {
+      return null;
+    }
+    final AttributeValueConverter[] converters = resolveConverters(args);
+    final Map<String, AttributeValue> values = Maps.newHashMapWithExpectedSize(valueSlots.length);
+    for (int i = 0; i < valueSlots.length; i++) {
+      if (converters[i] != null) {
+        values.put(valueSlots[i].placeholder, converters[i].convert(args[valueSlots[i].index]));
+      }
+    }
+    return values.isEmpty() ? null : values;
+  }
+
+  private AttributeValueConverter[] resolveConverters(final Object[] args) {
+    if (nameSources.length == 0 || lazyValueSlots.isEmpty()) {
+      return staticConverters;
+    }
+    final AttributeValueConverter[] converters = staticConverters.clone();
+    for (final NameSource source : nameSources) {
+      final String attributeName = args[source.index].toString();
+      for (final Function<String, NameAwareConverter> function : source.converterFunctions) {
+        final NameAwareConverter converter = function.apply(attributeName);
+        final Integer slot = lazyValueSlots.get(converter.getName());
+        if (duplicateLazyValues.contains(converter.getName())) {
+          throw duplicatePlaceholder(converter.getName());
+        }
+        if (slot != null) {
+          converters[slot] = converter;
+        }
+      }
+    }
+    return converters;
+  }
+
+  @Value
+  private static class Slot {
+    private final int index;
+    private final String placeholder;
+  }
+
+  @Value
+  private static class NameSource {
+    private final int index;
+    private final List<Function<String, NameAwareConverter>> converterFunctions;
+  }
+}
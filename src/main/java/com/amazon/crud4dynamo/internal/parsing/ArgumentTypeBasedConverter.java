@@ -18,14 +18,27 @@ package com.amazon.crud4dynamo.internal.parsing;
 import com.amazon.crud4dynamo.exception.CrudForDynamoException;
 import com.amazonaws.services.dynamodbv2.model.AttributeValue;
 import com.amazonaws.util.DateUtils;
+import com.google.common.reflect.TypeToken;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
+/**
+ * Converts an argument by its runtime type.
+ *
+ * <p>{@link #specialize} selects a converter from the declared type of the parameter instead, so
+ * that the type is checked once per argument, or once per element for collections. The specialized
+ * converters fall back to this one for values of an unexpected type, e.g, null.
+ */
 public class ArgumentTypeBasedConverter implements AttributeValueConverter {
   private final String path;
 
@@ -33,89 +46,184 @@ public class ArgumentTypeBasedConverter implements AttributeValueConverter {
     this.path = path;
   }
 
-  private static boolean isStringSet(final Set<?> aset) {
-    return aset.stream().map(Object::getClass).allMatch(String.class::isAssignableFrom);
+  /** Returns the i-th type argument of the raw type as a supertype of the type, Object if raw. */
+  private static Type getTypeArgument(
+      final TypeToken<?> type, final Class<?> rawType, final int i) {
+    final TypeVariable<?> typeParameter = rawType.getTypeParameters()[i];
+    final Type typeArgument = type.resolveType(typeParameter).getType();
+    return typeArgument.equals(typeParameter) ? Object.class : typeArgument;
+  }
+
+  private static AttributeValue toBinary(final Object obj) {
+    return new AttributeValue()
+        .withB(obj instanceof byte[] ? ByteBuffer.wrap((byte[]) obj) : (ByteBuffer) obj);
   }
 
-  private static boolean isNumberSet(final Set<?> aset) {
-    return aset.stream().map(Object::getClass).allMatch(Number.class::isAssignableFrom);
+  private static AttributeValue toDate(final Date date) {
+    return new AttributeValue().withS(DateUtils.formatISO8601Date(date));
   }
 
-  private static boolean isBinarySet(final Set<?> aset) {
-    return aset.stream()
-        .map(Object::getClass)
-        .allMatch(
-            eleClass ->
-                byte[].class.isAssignableFrom(eleClass)
-                    || ByteBuffer.class.isAssignableFrom(eleClass));
+  private static boolean isBinary(final Object obj) {
+    return obj instanceof byte[] || obj instanceof ByteBuffer;
   }
 
   @Override
   public AttributeValue convert(final Object obj) {
     if (obj instanceof String) {
-      return new AttributeValue().withS(String.class.cast(obj));
+      return new AttributeValue().withS((String) obj);
     } else if (obj instanceof Number) {
       return new AttributeValue().withN(obj.toString());
     } else if (obj instanceof Boolean) {
-      return new AttributeValue().withBOOL(Boolean.class.cast(obj));
-    } else if (obj instanceof byte[]) {
-      final ByteBuffer bf = ByteBuffer.wrap((byte[]) obj);
-      return new AttributeValue().withB(bf);
-    } else if (obj instanceof ByteBuffer) {
-      return new AttributeValue().withB(ByteBuffer.class.cast(obj));
+      return new AttributeValue().withBOOL((Boolean) obj);
+    } else if (isBinary(obj)) {
+      return toBinary(obj);
     } else if (obj instanceof Date) {
-      final Date date = Date.class.cast(obj);
-      return new AttributeValue().withS(DateUtils.formatISO8601Date(date));
+      return toDate((Date) obj);
     } else if (obj instanceof Calendar) {
-      final Calendar calendar = Calendar.class.cast(obj);
-      return new AttributeValue()
-          .withS(DateUtils.formatISO8601Date(Date.from(calendar.toInstant())));
+      return toDate(Date.from(((Calendar) obj).toInstant()));
     } else if (obj instanceof Map) {
-      final AttributeValue attributeValue = new AttributeValue();
-      final Map<?, ?> amap = (Map<?, ?>) obj;
-      for (final Object key : amap.keySet()) {
-        String stringKey = null;
-        try {
-          stringKey = (String) key;
-        } catch (final ClassCastException e) {
-          throw new CrudForDynamoException("Key type of a map should be String.class", e);
-        }
-        attributeValue.addMEntry(stringKey, convert(amap.get(stringKey)));
-      }
-      return attributeValue;
+      return convertMap((Map<?, ?>) obj, this);
     } else if (obj instanceof List) {
-      return new AttributeValue()
-          .withL(((List<Object>) obj).stream().map(this::convert).collect(Collectors.toList()));
+      return convertList((List<?>) obj, this);
     } else if (obj instanceof Set) {
-      final Set<?> aset = (Set<?>) obj;
-      if (isStringSet(aset)) {
-        return new AttributeValue()
-            .withSS(
-                aset.stream()
-                    .map(this::convert)
-                    .map(AttributeValue::getS)
-                    .collect(Collectors.toList()));
-      } else if (isNumberSet(aset)) {
-        return new AttributeValue()
-            .withNS(
-                aset.stream()
-                    .map(this::convert)
-                    .map(AttributeValue::getN)
-                    .collect(Collectors.toList()));
-      } else if (isBinarySet(aset)) {
-        return new AttributeValue()
-            .withBS(
-                aset.stream()
-                    .map(this::convert)
-                    .map(AttributeValue::getB)
-                    .collect(Collectors.toList()));
-      } else {
-        throw new CrudForDynamoException(
-            "DynamoDB only supports String Set, Number Set or Binary Set.");
-      }
+      return convertSet((Set<?>) obj);
     } else {
       throw new CrudForDynamoException(
           String.format("Unsupported type %s for nested attribute %s.", obj.getClass(), path));
     }
   }
+
+  @Override
+  public AttributeValueConverter specialize(final TypeToken<?> type) {
+    final TypeToken<?> wrapped = type.wrap();
+    if (wrapped.getRawType() == String.class) {
+      return guarded(String.class, obj -> new AttributeValue().withS(obj));
+    } else if (wrapped.isSubtypeOf(Number.class)) {
+      return guarded(Number.class, obj -> new AttributeValue().withN(obj.toString()));
+    } else if (wrapped.getRawType() == Boolean.class) {
+      return guarded(Boolean.class, obj -> new AttributeValue().withBOOL(obj));
+    } else if (wrapped.getRawType() == byte[].class || wrapped.isSubtypeOf(ByteBuffer.class)) {
+      return obj -> isBinary(obj) ? toBinary(obj) : convert(obj);
+    } else if (wrapped.isSubtypeOf(Date.class)) {
+      return guarded(Date.class, ArgumentTypeBasedConverter::toDate);
+    } else if (wrapped.isSubtypeOf(Calendar.class)) {
+      return guarded(Calendar.class, obj -> toDate(Date.from(obj.toInstant())));
+    } else if (wrapped.isSubtypeOf(List.class)) {
+      final AttributeValueConverter element =
+          specialize(TypeToken.of(getTypeArgument(wrapped, List.class, 0)));
+      return guarded(List.class, obj -> convertList(obj, element));
+    } else if (wrapped.isSubtypeOf(Set.class)) {
+      return specializeSet(TypeToken.of(getTypeArgument(wrapped, Set.class, 0)).wrap());
+    } else if (wrapped.isSubtypeOf(Map.class)
+        && getTypeArgument(wrapped, Map.class, 0) == String.class) {
+      final AttributeValueConverter value =
+          specialize(TypeToken.of(getTypeArgument(wrapped, Map.class, 1)));
+      return guarded(Map.class, obj -> convertMap(obj, value));
+    }
+    return this;
+  }
+
+  private AttributeValueConverter specializeSet(final TypeToken<?> elementType) {
+    if (elementType.getRawType() == String.class) {
+      return typedSet(String.class, String.class::cast, AttributeValue::withSS);
+    } else if (elementType.isSubtypeOf(Number.class)) {
+      return typedSet(Number.class, Object::toString, AttributeValue::withNS);
+    } else if (elementType.getRawType() == byte[].class
+        || elementType.isSubtypeOf(ByteBuffer.class)) {
+      return obj -> obj instanceof Set ? convertSet((Set<?>) obj) : convert(obj);
+    }
+    return this;
+  }
+
+  private <T> AttributeValueConverter guarded(
+      final Class<T> type, final Function<T, AttributeValue> converter) {
+    return obj -> type.isInstance(obj) ? converter.apply(type.cast(obj)) : convert(obj);
+  }
+
+  private <T> AttributeValueConverter typedSet(
+      final Class<?> elementType,
+      final Function<Object, T> elementConverter,
+      final SetSetter<T> setter) {
+    return obj -> {
+      if (!(obj instanceof Set)) {
+        return convert(obj);
+      }
+      final Set<?> set = (Set<?>) obj;
+      final List<T> elements = new ArrayList<>(set.size());
+      for (final Object element : set) {
+        if (!elementType.isInstance(element)) {
+          return convertSet(set);
+        }
+        elements.add(elementConverter.apply(element));
+      }
+      return setter.set(new AttributeValue(), elements);
+    };
+  }
+
+  private AttributeValue convertMap(
+      final Map<?, ?> map, final AttributeValueConverter valueConverter) {
+    final Map<String, AttributeValue> attributes = new HashMap<>(map.size() * 4 / 3 + 1);
+    for (final Map.Entry<?, ?> entry : map.entrySet()) {
+      if (!(entry.getKey() instanceof String)) {
+        throw new CrudForDynamoException("Key type of a map should be String.class");
+      }
+      attributes.put((String) entry.getKey(), valueConverter.convert(entry.getValue()));
+    }
+    return new AttributeValue().withM(attributes);
+  }
+
+  private static AttributeValue convertList(
+      final List<?> list, final AttributeValueConverter elementConverter) {
+    final List<AttributeValue> attributes = new ArrayList<>(list.size());
+    for (final Object element : list) {
+      attributes.add(elementConverter.convert(element));
+    }
+    return new AttributeValue().withL(attributes);
+  }
+
+  /** Classifies the set by its first element and converts it in the same pass. */
+  private AttributeValue convertSet(final Set<?> set) {
+    final Object first = set.isEmpty() ? "" : set.iterator().next();
+    final List<Object> elements = new ArrayList<>(set.size());
+    if (first instanceof String) {
+      if (collect(set, String.class, Function.identity(), elements)) {
+        return new AttributeValue().withSS(cast(elements));
+      }
+    } else if (first instanceof Number) {
+      if (collect(set, Number.class, Object::toString, elements)) {
+        return new AttributeValue().withNS(cast(elements));
+      }
+    } else if (isBinary(first)) {
+      if (collect(set, Object.class, obj -> isBinary(obj) ? toBinary(obj).getB() : null, elements)
+          && !elements.contains(null)) {
+        return new AttributeValue().withBS(cast(elements));
+      }
+    }
+    throw new CrudForDynamoException(
+        "DynamoDB only supports String Set, Number Set or Binary Set.");
+  }
+
+  private static boolean collect(
+      final Collection<?> source,
+      final Class<?> elementType,
+      final Function<Object, Object> elementConverter,
+      final List<Object> target) {
+    for (final Object element : source) {
+      if (!elementType.isInstance(element)) {
+        return false;
+      }
+      target.add(elementConverter.apply(element));
+    }
+    return true;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> List<T> cast(final List<Object> list) {
+    return (List<T>) list;
+  }
+
+  @FunctionalInterface
+  private interface SetSetter<T> {
+    AttributeValue set(AttributeValue attributeValue, List<T> elements);
+  }
 }
@@ -17,8 +17,12 @@ package com.amazon.crud4dynamo.internal.parsing;
 
 import com.amazon.crud4dynamo.utility.MapHelper;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -73,6 +77,16 @@ public class AttributeNameMapper {
     return this;
   }
 
+  /** Returns a copy whose {@link #put} throws UnsupportedOperationException, safe to share. */
+  public AttributeNameMapper toImmutable() {
+    return new AttributeNameMapper(
+        ImmutableMap.copyOf(Maps.transformValues(innerMap, ImmutableList::copyOf)));
+  }
+
+  List<Function<String, NameAwareConverter>> get(final String attrName) {
+    return innerMap.getOrDefault(attrName, Collections.emptyList());
+  }
+
   public boolean has(final String attrName) {
     return innerMap.containsKey(attrName);
   }
@@ -16,7 +16,16 @@
 package com.amazon.crud4dynamo.internal.parsing;
 
 import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.google.common.reflect.TypeToken;
 
 public interface AttributeValueConverter {
   AttributeValue convert(final Object object);
+
+  /**
+   * Returns a converter for arguments of the declared type. The returned converter must accept the
+   * same arguments as this one.
+   */
+  default AttributeValueConverter specialize(final TypeToken<?> type) {
+    return this;
+  }
 }
@@ -16,6 +16,7 @@
 package com.amazon.crud4dynamo.internal.parsing;
 
 import com.amazon.crud4dynamo.utility.MapHelper;
+import com.google.common.collect.ImmutableMap;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.EqualsAndHashCode;
@@ -54,6 +55,11 @@ public class AttributeValueMapper {
     return this;
   }
 
+  /** Returns a copy whose {@link #put} throws UnsupportedOperationException, safe to share. */
+  public AttributeValueMapper toImmutable() {
+    return new AttributeValueMapper(ImmutableMap.copyOf(innerMap));
+  }
+
   public AttributeValueConverter get(final String name) {
     return innerMap.get(name);
   }
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.parsing;
+
+import com.amazon.crud4dynamo.ddbparser.UpdateExpressionParser.AddActionContext;
+import com.amazon.crud4dynamo.ddbparser.UpdateExpressionParser.OperandContext;
+import com.amazon.crud4dynamo.ddbparser.UpdateExpressionParser.PathContext;
+import com.amazon.crud4dynamo.ddbparser.UpdateExpressionParser.SetActionContext;
+import com.amazon.crud4dynamo.ddbparser.UpdateExpressionParser.UpdateExpressionContext;
+import com.amazon.crud4dynamo.ddbparser.UpdateExpressionParser.ValueContext;
+import com.amazon.crud4dynamo.exception.CrudForDynamoException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Tells how the expression attribute values of repeated calls of an update expression are merged
+ * into the values of a single call with the same effect, see {@link
+ * com.amazon.crud4dynamo.annotation.Coalesce}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CoalescibleUpdateExpression {
+  public enum MergeRule {
+    /** Numbers are summed and sets are unioned. */
+    SUM,
+    FIRST,
+    LAST,
+    /** Values must be equal to be merged. */
+    SAME
+  }
+
+  /**
+   * Returns the merge rule of every expression attribute value of the update expression.
+   *
+   * @throws NotCoalescibleException if repeated calls of the expression cannot be merged
+   */
+  public static Map<String, MergeRule> getMergeRules(final String updateExpression) {
+    final UpdateExpressionContext expression =
+        ParseTreeHelper.getRootOfUpdateExpr(updateExpression)
+            .orElseThrow(() -> new NotCoalescibleException(updateExpression, "it is empty"))
+            .updateExpression();
+    final Map<String, MergeRule> rules = new HashMap<>();
+    if (expression.addExpression() != null) {
+      for (final AddActionContext action : expression.addExpression().addAction()) {
+        put(rules, action.EXPRESSION_ATTRIBUTE_VALUE().getText(), MergeRule.SUM, updateExpression);
+      }
+    } else if (expression.setExpression() != null) {
+      for (final SetActionContext action : expression.setExpression().setAction()) {
+        addSetActionRules(rules, action, updateExpression);
+      }
+    } else {
+      throw new NotCoalescibleException(updateExpression, "only SET and ADD can be coalesced");
+    }
+    return rules;
+  }
+
+  private static void addSetActionRules(
+      final Map<String, MergeRule> rules,
+      final SetActionContext action,
+      final String updateExpression) {
+    final PathContext target = action.path();
+    final ValueContext value = action.value();
+    final List<OperandContext> operands = value.operand();
+    if (operands.size() == 1) {
+      final OperandContext operand = operands.get(0);
+      if (isValue(operand)) {
+        put(rules, valueOf(operand), MergeRule.LAST, updateExpression);
+        return;
+      }
+      if (isIfNotExists(operand, target) && isValue(operand.operand(0))) {
+        put(rules, valueOf(operand.operand(0)), MergeRule.FIRST, updateExpression);
+        return;
+      }
+      throw new NotCoalescibleException(
+          updateExpression, "action '" + action.getText() + "' is not additive");
+    }
+    final boolean plus = "+".equals(value.getChild(1).getText());
+    final OperandContext left = operands.get(0);
+    final OperandContext right = operands.get(1);
+    if (isSelf(left, target) && isValue(right)) {
+      addSelfRules(rules, left, updateExpression);
+      put(rules, valueOf(right), MergeRule.SUM, updateExpression);
+    } else if (plus && isValue(left) && isSelf(right, target)) {
+      addSelfRules(rules, right, updateExpression);
+      put(rules, valueOf(left), MergeRule.SUM, updateExpression);
+    } else {
+      throw new NotCoalescibleException(
+          updateExpression, "action '" + action.getText() + "' is not additive");
+    }
+  }
+
+  private static void addSelfRules(
+      final Map<String, MergeRule> rules,
+      final OperandContext self,
+      final String updateExpression) {
+    if (self.IF_NOT_EXISTS() != null) {
+      put(rules, valueOf(self.operand(0)), MergeRule.SAME, updateExpression);
+    }
+  }
+
+  /** The target path itself, or if_not_exists of the target path with a default value. */
+  private static boolean isSelf(final OperandContext operand, final PathContext target) {
+    return isPath(operand, target)
+        || (isIfNotExists(operand, target) && isValue(operand.operand(0)));
+  }
+
+  private static boolean isIfNotExists(final OperandContext operand, final PathContext target) {
+    return operand.IF_NOT_EXISTS() != null
+        && operand.path() != null
+        && operand.path().getText().equals(target.getText());
+  }
+
+  private static boolean isPath(final OperandContext operand, final PathContext target) {
+    return operand.IF_NOT_EXISTS() == null
+        && operand.path() != null
+        && operand.path().getText().equals(target.getText());
+  }
+
+  private static boolean isValue(final OperandContext operand) {
+    return operand.EXPRESSION_ATTRIBUTE_VALUE() != null;
+  }
+
+  private static String valueOf(final OperandContext operand) {
+    return operand.EXPRESSION_ATTRIBUTE_VALUE().getText();
+  }
+
+  private static void put(
+      final Map<String, MergeRule> rules,
+      final String value,
+      final MergeRule rule,
+      final String updateExpression) {
+    final MergeRule existing = rules.putIfAbsent(value, rule);
+    if (existing != null && existing != rule) {
+      throw new NotCoalescibleException(updateExpression, value + " is used in different actions");
+    }
+  }
+
+  public static class NotCoalescibleException extends CrudForDynamoException {
+    NotCoalescibleException(final String updateExpression, final String reason) {
+      super(
+          String.format(
+              "Update expression '%s' cannot be coalesced: %s", updateExpression, reason));
+    }
+  }
+}
@@ -16,9 +16,13 @@
 package com.amazon.crud4dynamo.internal.parsing;
 
 import com.amazon.crud4dynamo.ddbparser.ConditionExpressionBaseVisitor;
+import com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.StartContext;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
-import com.amazonaws.services.dynamodbv2.model.AttributeValue;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import lombok.Getter;
@@ -32,282 +36,255 @@ import org.antlr.v4.runtime.tree.TerminalNode;
  * name and attribute name, and between expression attribute value and attribute value.
  */
 public class ConditionExpressionParser implements ExpressionParser {
-  private final String conditionExpression;
-  private final DynamoDBMapperTableModel tableModel;
-  private final Optional<com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.StartContext>
-      contextRoot;
   @Getter private final AttributeNameMapper attributeNameMapper;
   @Getter private final AttributeValueMapper attributeValueMapper;
   @Getter private final Set<String> expressionAttributeNames;
 
   public ConditionExpressionParser(
       final String conditionExpression, final DynamoDBMapperTableModel tableModel) {
-    this.conditionExpression = conditionExpression;
-    this.tableModel = tableModel;
-    contextRoot = ParseTreeHelper.getRootOfConditionExpr(conditionExpression);
-    attributeNameMapper = newNameMapper();
-    attributeValueMapper = newValueMapper();
-    expressionAttributeNames = newExpressionAttributeNames();
+    final ExpressionParser parsed =
+        ExpressionParseCache.get(ExpressionGrammar.CONDITION, conditionExpression, tableModel);
+    attributeNameMapper = parsed.getAttributeNameMapper();
+    attributeValueMapper = parsed.getAttributeValueMapper();
+    expressionAttributeNames = parsed.getExpressionAttributeNames();
   }
 
-  private AttributeValueMapper newValueMapper() {
-    final AttributeValueMapper mapper = new AttributeValueMapper();
-    contextRoot.ifPresent(
-        root ->
-            root.accept(
-                new ConditionExpressionBaseVisitor<Void>() {
-                  @Override
-                  public Void visitLeftComparisonExpression(
-                      final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser
-                              .LeftComparisonExpressionContext
-                          ctx) {
-                    final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.PathContext
-                        path = ctx.path();
-                    if (isNestedPath(path)) {
-                      mapper.put(
-                          ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(),
-                          new ArgumentTypeBasedConverter(path.getText())::convert);
-                    } else {
-                      getAttributeName(ctx.path())
-                          .ifPresent(
-                              attrName ->
-                                  mapper.put(
-                                      ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(),
-                                      tableModel.field(attrName)::convert));
-                    }
-                    return null;
-                  }
+  /** Parses the expression into bindings which do not depend on the table model. */
+  public static ExpressionBindings extract(final String conditionExpression) {
+    return ParseTreeHelper.getRootOfConditionExpr(conditionExpression)
+        .map(
+            root ->
+                ExpressionBindings.builder()
+                    .expressionAttributeNames(newExpressionAttributeNames(root))
+                    .valueBindings(newValueBindings(root))
+                    .nameBindings(newNameBindings(root))
+                    .build())
+        .orElse(ExpressionBindings.EMPTY);
+  }
+
+  private static void addNameBinding(
+      final Map<String, List<String>> mapper, final String name, final String value) {
+    mapper.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+  }
+
+  private static Map<String, ValueBinding> newValueBindings(final StartContext root) {
+    final Map<String, ValueBinding> mapper = new LinkedHashMap<>();
+    root.accept(
+        new ConditionExpressionBaseVisitor<Void>() {
+          @Override
+          public Void visitLeftComparisonExpression(
+              final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser
+                      .LeftComparisonExpressionContext
+                  ctx) {
+            final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.PathContext path =
+                ctx.path();
+            if (isNestedPath(path)) {
+              mapper.put(
+                  ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(),
+                  ValueBinding.nestedPath(path.getText()));
+            } else {
+              getAttributeName(ctx.path())
+                  .ifPresent(
+                      attrName ->
+                          mapper.put(
+                              ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(),
+                              ValueBinding.attribute(attrName)));
+            }
+            return null;
+          }
 
-                  @Override
-                  public Void visitRightComparisonExpression(
-                      final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser
-                              .RightComparisonExpressionContext
-                          ctx) {
-                    final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.PathContext
-                        path = ctx.path();
-                    if (isNestedPath(path)) {
-                      mapper.put(
-                          ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(),
-                          obj -> new ArgumentTypeBasedConverter(path.getText()).convert(obj));
-                    } else {
-                      getAttributeName(ctx.path())
-                          .ifPresent(
-                              attrName ->
-                                  mapper.put(
-                                      ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(),
-                                      tableModel.field(attrName)::convert));
-                    }
-                    return null;
-                  }
+          @Override
+          public Void visitRightComparisonExpression(
+              final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser
+                      .RightComparisonExpressionContext
+                  ctx) {
+            final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.PathContext path =
+                ctx.path();
+            if (isNestedPath(path)) {
+              mapper.put(
+                  ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(),
+                  ValueBinding.nestedPath(path.getText()));
+            } else {
+              getAttributeName(ctx.path())
+                  .ifPresent(
+                      attrName ->
+                          mapper.put(
+                              ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(),
+                              ValueBinding.attribute(attrName)));
+            }
+            return null;
+          }
 
-                  @Override
-                  public Void visitBetweenExp(
-                      final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser
-                              .BetweenExpContext
-                          ctx) {
-                    final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.PathContext
-                        path = ctx.path();
-                    if (isNestedPath(path)) {
-                      ctx.EXPRESSION_ATTRIBUTE_VALUE()
-                          .forEach(
-                              value ->
-                                  mapper.put(
-                                      value.getText(),
-                                      new ArgumentTypeBasedConverter(path.getText())::convert));
-                    } else {
-                      getAttributeName(ctx.path())
-                          .ifPresent(
-                              attrName ->
-                                  ctx.EXPRESSION_ATTRIBUTE_VALUE()
-                                      .forEach(
-                                          value ->
-                                              mapper.put(
-                                                  value.getText(),
-                                                  tableModel.field(attrName)::convert)));
-                    }
-                    return null;
-                  }
+          @Override
+          public Void visitBetweenExp(
+              final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.BetweenExpContext
+                  ctx) {
+            final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.PathContext path =
+                ctx.path();
+            if (isNestedPath(path)) {
+              ctx.EXPRESSION_ATTRIBUTE_VALUE()
+                  .forEach(
+                      value ->
+                          mapper.put(value.getText(), ValueBinding.nestedPath(path.getText())));
+            } else {
+              getAttributeName(ctx.path())
+                  .ifPresent(
+                      attrName ->
+                          ctx.EXPRESSION_ATTRIBUTE_VALUE()
+                              .forEach(
+                                  value ->
+                                      mapper.put(
+                                          value.getText(), ValueBinding.attribute(attrName))));
+            }
+            return null;
+          }
 
-                  @Override
-                  public Void visitInExp(
-                      final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.InExpContext
-                          ctx) {
-                    final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.PathContext
-                        path = ctx.path();
-                    if (isNestedPath(path)) {
-                      ctx.EXPRESSION_ATTRIBUTE_VALUE()
-                          .forEach(
-                              value ->
-                                  mapper.put(
-                                      value.getText(),
-                                      obj ->
-                                          new ArgumentTypeBasedConverter(path.getText())
-                                              .convert(obj)));
-                    } else {
-                      getAttributeName(ctx.path())
-                          .ifPresent(
-                              attrName ->
-                                  ctx.EXPRESSION_ATTRIBUTE_VALUE()
-                                      .forEach(
-                                          value ->
-                                              mapper.put(
-                                                  value.getText(),
-                                                  tableModel.field(attrName)::convert)));
-                    }
-                    return null;
-                  }
+          @Override
+          public Void visitInExp(
+              final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.InExpContext ctx) {
+            final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.PathContext path =
+                ctx.path();
+            if (isNestedPath(path)) {
+              ctx.EXPRESSION_ATTRIBUTE_VALUE()
+                  .forEach(
+                      value ->
+                          mapper.put(value.getText(), ValueBinding.nestedPath(path.getText())));
+            } else {
+              getAttributeName(ctx.path())
+                  .ifPresent(
+                      attrName ->
+                          ctx.EXPRESSION_ATTRIBUTE_VALUE()
+                              .forEach(
+                                  value ->
+                                      mapper.put(
+                                          value.getText(), ValueBinding.attribute(attrName))));
+            }
+            return null;
+          }
 
-                  @Override
-                  public Void visitAttrTypeFunExp(
-                      final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser
-                              .AttrTypeFunExpContext
-                          ctx) {
-                    mapper.put(
-                        ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(),
-                        obj -> new AttributeValue().withS(obj.toString()));
-                    return null;
-                  }
+          @Override
+          public Void visitAttrTypeFunExp(
+              final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.AttrTypeFunExpContext
+                  ctx) {
+            mapper.put(ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(), ValueBinding.string());
+            return null;
+          }
 
-                  @Override
-                  public Void visitBeginsWithFunExp(
-                      final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser
-                              .BeginsWithFunExpContext
-                          ctx) {
-                    mapper.put(
-                        ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(),
-                        obj -> new AttributeValue().withS(obj.toString()));
-                    return null;
-                  }
+          @Override
+          public Void visitBeginsWithFunExp(
+              final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser
+                      .BeginsWithFunExpContext
+                  ctx) {
+            mapper.put(ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(), ValueBinding.string());
+            return null;
+          }
 
-                  @Override
-                  public Void visitContainsFunExp(
-                      final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser
-                              .ContainsFunExpContext
-                          ctx) {
-                    mapper.put(
-                        ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(),
-                        obj -> new AttributeValue().withS(obj.toString()));
-                    return null;
-                  }
+          @Override
+          public Void visitContainsFunExp(
+              final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.ContainsFunExpContext
+                  ctx) {
+            mapper.put(ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(), ValueBinding.string());
+            return null;
+          }
 
-                  private Optional<String> getAttributeName(
-                      final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.PathContext
-                          path) {
-                    return Optional.ofNullable(path.ATTRIBUTE_NAME()).map(ParseTree::getText);
-                  }
+          private Optional<String> getAttributeName(
+              final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.PathContext path) {
+            return Optional.ofNullable(path.ATTRIBUTE_NAME()).map(ParseTree::getText);
+          }
 
-                  private boolean isNestedPath(
-                      final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.PathContext
-                          path) {
-                    return Optional.ofNullable(path.nestedPath()).isPresent();
-                  }
-                }));
+          private boolean isNestedPath(
+              final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.PathContext path) {
+            return Optional.ofNullable(path.nestedPath()).isPresent();
+          }
+        });
     return mapper;
   }
 
-  private AttributeNameMapper newNameMapper() {
-    final AttributeNameMapper mapper = new AttributeNameMapper();
-    contextRoot.ifPresent(
-        root ->
-            root.accept(
-                new ConditionExpressionBaseVisitor<Void>() {
-                  @Override
-                  public Void visitLeftComparisonExpression(
-                      final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser
-                              .LeftComparisonExpressionContext
-                          ctx) {
-                    final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.PathContext
-                        path = ctx.path();
-                    getExpAttrName(path)
-                        .ifPresent(
-                            nameHolder ->
-                                mapper.put(
-                                    nameHolder,
-                                    NameAwareConverter.newLazyConverter(
-                                        ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(), tableModel)));
-                    return null;
-                  }
+  private static Map<String, List<String>> newNameBindings(final StartContext root) {
+    final Map<String, List<String>> mapper = new LinkedHashMap<>();
+    root.accept(
+        new ConditionExpressionBaseVisitor<Void>() {
+          @Override
+          public Void visitLeftComparisonExpression(
+              final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser
+                      .LeftComparisonExpressionContext
+                  ctx) {
+            final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.PathContext path =
+                ctx.path();
+            getExpAttrName(path)
+                .ifPresent(
+                    nameHolder ->
+                        addNameBinding(
+                            mapper, nameHolder, ctx.EXPRESSION_ATTRIBUTE_VALUE().getText()));
+            return null;
+          }
 
-                  @Override
-                  public Void visitRightComparisonExpression(
-                      final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser
-                              .RightComparisonExpressionContext
-                          ctx) {
-                    final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.PathContext
-                        path = ctx.path();
-                    getExpAttrName(path)
-                        .ifPresent(
-                            nameHolder ->
-                                mapper.put(
-                                    nameHolder,
-                                    NameAwareConverter.newLazyConverter(
-                                        ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(), tableModel)));
-                    return null;
-                  }
+          @Override
+          public Void visitRightComparisonExpression(
+              final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser
+                      .RightComparisonExpressionContext
+                  ctx) {
+            final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.PathContext path =
+                ctx.path();
+            getExpAttrName(path)
+                .ifPresent(
+                    nameHolder ->
+                        addNameBinding(
+                            mapper, nameHolder, ctx.EXPRESSION_ATTRIBUTE_VALUE().getText()));
+            return null;
+          }
 
-                  @Override
-                  public Void visitBetweenExp(
-                      final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser
-                              .BetweenExpContext
-                          ctx) {
-                    final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.PathContext
-                        path = ctx.path();
-                    getExpAttrName(path)
-                        .ifPresent(
-                            nameHolder ->
-                                ctx.EXPRESSION_ATTRIBUTE_VALUE().stream()
-                                    .map(ParseTree::getText)
-                                    .map(
-                                        name ->
-                                            NameAwareConverter.newLazyConverter(name, tableModel))
-                                    .forEach(converter -> mapper.put(nameHolder, converter)));
-                    return null;
-                  }
+          @Override
+          public Void visitBetweenExp(
+              final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.BetweenExpContext
+                  ctx) {
+            final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.PathContext path =
+                ctx.path();
+            getExpAttrName(path)
+                .ifPresent(
+                    nameHolder ->
+                        ctx.EXPRESSION_ATTRIBUTE_VALUE().stream()
+                            .map(ParseTree::getText)
+                            .forEach(value -> addNameBinding(mapper, nameHolder, value)));
+            return null;
+          }
 
-                  @Override
-                  public Void visitInExp(
-                      final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.InExpContext
-                          ctx) {
-                    final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.PathContext
-                        path = ctx.path();
-                    getExpAttrName(path)
-                        .ifPresent(
-                            nameHolder ->
-                                ctx.EXPRESSION_ATTRIBUTE_VALUE().stream()
-                                    .map(ParseTree::getText)
-                                    .map(
-                                        name ->
-                                            NameAwareConverter.newLazyConverter(name, tableModel))
-                                    .forEach(converter -> mapper.put(nameHolder, converter)));
-                    return null;
-                  }
+          @Override
+          public Void visitInExp(
+              final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.InExpContext ctx) {
+            final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.PathContext path =
+                ctx.path();
+            getExpAttrName(path)
+                .ifPresent(
+                    nameHolder ->
+                        ctx.EXPRESSION_ATTRIBUTE_VALUE().stream()
+                            .map(ParseTree::getText)
+                            .forEach(value -> addNameBinding(mapper, nameHolder, value)));
+            return null;
+          }
 
-                  private Optional<String> getExpAttrName(
-                      final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.PathContext
-                          path) {
-                    return Optional.ofNullable(path.EXPRESSION_ATTRIBUTE_NAME())
-                        .map(ParseTree::getText);
-                  }
-                }));
+          private Optional<String> getExpAttrName(
+              final com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser.PathContext path) {
+            return Optional.ofNullable(path.EXPRESSION_ATTRIBUTE_NAME()).map(ParseTree::getText);
+          }
+        });
     return mapper;
   }
 
-  private Set<String> newExpressionAttributeNames() {
-    final Set<String> names = new HashSet<>();
-    contextRoot.ifPresent(
-        ctx ->
-            ctx.accept(
-                new ConditionExpressionBaseVisitor<Void>() {
-                  @Override
-                  public Void visitTerminal(final TerminalNode node) {
-                    if (node.getSymbol().getType()
-                        == com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser
-                            .EXPRESSION_ATTRIBUTE_NAME) {
-                      names.add(node.getText());
-                    }
-                    return super.visitTerminal(node);
-                  }
-                }));
+  private static Set<String> newExpressionAttributeNames(final StartContext root) {
+    final Set<String> names = new LinkedHashSet<>();
+    root.accept(
+        new ConditionExpressionBaseVisitor<Void>() {
+          @Override
+          public Void visitTerminal(final TerminalNode node) {
+            if (node.getSymbol().getType()
+                == com.amazon.crud4dynamo.ddbparser.ConditionExpressionParser
+                    .EXPRESSION_ATTRIBUTE_NAME) {
+              names.add(node.getText());
+            }
+            return super.visitTerminal(node);
+          }
+        });
     return names;
   }
 }
@@ -19,6 +19,7 @@ import com.amazon.crud4dynamo.extension.Argument;
 import com.amazon.crud4dynamo.internal.factory.ExpressionFactoryHelper;
 import com.amazon.crud4dynamo.utility.MapHelper;
 import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.google.common.reflect.Parameter;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -26,26 +27,36 @@ import java.util.stream.Stream;
 import lombok.NonNull;
 
 public class ExpressionAttributesFactory {
-  private final ExpressionParser mergedParser;
+  private final AttributeNameMapper attributeNameMapper;
+  private final AttributeValueMapper attributeValueMapper;
+  private final Set<String> expressionAttributeNames;
 
   public ExpressionAttributesFactory(final ExpressionParser... parsers) {
-    mergedParser =
+    final ExpressionParser mergedParser =
         Stream.of(parsers).reduce(ExpressionParser.newEmptyInstance(), ExpressionParser::merge);
+    attributeNameMapper = mergedParser.getAttributeNameMapper();
+    attributeValueMapper = mergedParser.getAttributeValueMapper();
+    expressionAttributeNames = mergedParser.getExpressionAttributeNames();
+  }
+
+  /** Resolves the arguments of the method parameters once, see {@link ArgumentBindingPlan}. */
+  public ArgumentBindingPlan bind(@NonNull final List<Parameter> parameters) {
+    return new ArgumentBindingPlan(
+        attributeNameMapper, attributeValueMapper, expressionAttributeNames, parameters);
   }
 
   public Map<String, String> newExpressionAttributeNames(@NonNull final List<Argument> arguments) {
-    final Set<String> names = mergedParser.getExpressionAttributeNames();
     return MapHelper.toNullIfEmpty(
-        ExpressionFactoryHelper.getExpressionAttributeNames(arguments, names::contains));
+        ExpressionFactoryHelper.getExpressionAttributeNames(
+            arguments, expressionAttributeNames::contains));
   }
 
   public Map<String, AttributeValue> newExpressionAttributeValues(
       @NonNull final List<Argument> arguments) {
     final AttributeValueMapper mergedMapper =
-        mergedParser
-            .getAttributeNameMapper()
+        attributeNameMapper
             .toValueMapper(ExpressionFactoryHelper.getExpressionAttributeNames(arguments))
-            .merge(mergedParser.getAttributeValueMapper());
+            .merge(attributeValueMapper);
     return MapHelper.toNullIfEmpty(
         ExpressionFactoryHelper.getExpressionAttributeValues(arguments, mergedMapper));
   }
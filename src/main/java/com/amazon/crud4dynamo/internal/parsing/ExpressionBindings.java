@@ -0,0 +1,103 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.parsing;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import com.google.common.collect.ImmutableMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+/**
+ * The result of parsing an expression, independent of any table model.
+ *
+ * <p>It can be computed either at runtime by the ANTLR parsers or ahead of time by {@link
+ * com.amazon.crud4dynamo.processor.ExpressionProcessor}, and is turned into {@link
+ * AttributeNameMapper} and {@link AttributeValueMapper} once the table model is known.
+ */
+@Value
+public class ExpressionBindings {
+  public static final ExpressionBindings EMPTY = ExpressionBindings.builder().build();
+
+  /** Expression attribute names referenced by the expression, e.g, "#name". */
+  private final Set<String> expressionAttributeNames;
+
+  /** Expression attribute value to its conversion, e.g, ":value" -> attribute "Name". */
+  private final Map<String, ValueBinding> valueBindings;
+
+  /**
+   * Expression attribute name to the expression attribute values compared against it, e.g, "#name"
+   * -> [":value"]. Those values are converted by the attribute given as the name argument.
+   */
+  private final Map<String, List<String>> nameBindings;
+
+  @Builder
+  private ExpressionBindings(
+      @Singular final Set<String> expressionAttributeNames,
+      final Map<String, ValueBinding> valueBindings,
+      final Map<String, List<String>> nameBindings) {
+    this.expressionAttributeNames = expressionAttributeNames;
+    this.valueBindings = ImmutableMap.copyOf(valueBindings);
+    this.nameBindings = ImmutableMap.copyOf(nameBindings);
+  }
+
+  public AttributeNameMapper newAttributeNameMapper(final DynamoDBMapperTableModel tableModel) {
+    final AttributeNameMapper mapper = new AttributeNameMapper();
+    nameBindings.forEach(
+        (name, values) ->
+            values.forEach(
+                value -> mapper.put(name, NameAwareConverter.newLazyConverter(value, tableModel))));
+    return mapper;
+  }
+
+  public AttributeValueMapper newAttributeValueMapper(final DynamoDBMapperTableModel tableModel) {
+    final AttributeValueMapper mapper = new AttributeValueMapper();
+    valueBindings.forEach((value, binding) -> mapper.put(value, binding.newConverter(tableModel)));
+    return mapper;
+  }
+
+  /** The maps are built by hand, the builders generated for them cast every value redundantly. */
+  public static class ExpressionBindingsBuilder {
+    private final Map<String, ValueBinding> valueBindings = new LinkedHashMap<>();
+    private final Map<String, List<String>> nameBindings = new LinkedHashMap<>();
+
+    public ExpressionBindingsBuilder valueBinding(final String key, final ValueBinding value) {
+      valueBindings.put(key, value);
+      return this;
+    }
+
+    public ExpressionBindingsBuilder valueBindings(
+        final Map<? extends String, ? extends ValueBinding> values) {
+      valueBindings.putAll(values);
+      return this;
+    }
+
+    public ExpressionBindingsBuilder nameBinding(final String key, final List<String> value) {
+      nameBindings.put(key, value);
+      return this;
+    }
+
+    public ExpressionBindingsBuilder nameBindings(
+        final Map<? extends String, ? extends List<String>> values) {
+      nameBindings.putAll(values);
+      return this;
+    }
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.parsing;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/** Expression grammars whose parsing result is described by {@link ExpressionBindings}. */
+public enum ExpressionGrammar {
+  CONDITION(
+      ConditionExpressionParser::extract,
+      "#a = :a AND (b.c[1] < :b OR attribute_exists(d)) AND NOT begins_with(e, :e)",
+      "f IN (:f1, :f2) AND g BETWEEN :g1 AND :g2 AND contains(h, :h)",
+      "attribute_type(j, :j) OR attribute_not_exists(#k)"),
+  KEY_CONDITION(
+      KeyConditionExpressionParser::extract,
+      "a = :a AND #b > :b",
+      "#a = :a AND b BETWEEN :b1 AND :b2",
+      "a = :a AND begins_with(b, :b)"),
+  UPDATE(
+      UpdateExpressionParser::extract,
+      "SET #a = :a, b.c[1] = if_not_exists(b.c[1], :b) + :c, d = list_append(d, :d)",
+      "REMOVE a, #b.c[0]",
+      "ADD a :a, #b :b",
+      "DELETE a :a"),
+  PROJECTION(ProjectionExpressionParser::extract, "a, #b, c");
+
+  private static final String KEY_EXPRESSION_SAMPLE = "a = :a, #b = :b";
+  private static final AtomicBoolean WARMED_UP = new AtomicBoolean();
+
+  private final Function<String, ExpressionBindings> extractor;
+  private final String[] samples;
+
+  ExpressionGrammar(final Function<String, ExpressionBindings> extractor, final String... samples) {
+    this.extractor = extractor;
+    this.samples = samples;
+  }
+
+  /**
+   * Parses some representative expressions of every grammar once per process, so that the ANTLR
+   * state shared by the parsers is initialized before the first proxy is created.
+   */
+  public static void warmUp() {
+    if (WARMED_UP.compareAndSet(false, true)) {
+      for (final ExpressionGrammar grammar : values()) {
+        for (final String sample : grammar.samples) {
+          grammar.parse(sample);
+        }
+      }
+      KeyExpressionMapper.extract(KEY_EXPRESSION_SAMPLE);
+    }
+  }
+
+  /**
+   * Parses the expression with ANTLR.
+   *
+   * @throws RuntimeException if the expression is not valid.
+   */
+  public ExpressionBindings parse(final String expression) {
+    return extractor.apply(expression);
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.parsing;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.Value;
+
+/**
+ * Process-wide cache of parsed expressions.
+ *
+ * <p>It is two-level: the table model independent {@link ExpressionBindings} are cached by
+ * (grammar, expression), so an expression is parsed by ANTLR at most once even if it is used by
+ * many table models; the {@link ExpressionParser} built from them are cached by (grammar,
+ * expression, model class, mapper config). Mappers create a table model of their own for every
+ * class, so the parsers are shared by all the mappers with the same config, and only the table
+ * model of the first of them is kept.
+ *
+ * <p>Both caches are bounded and cached values are immutable, so they can be shared by all proxies.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ExpressionParseCache {
+  private static final long MAXIMUM_SIZE = 4096;
+
+  private static final Cache<BindingsKey, ExpressionBindings> BINDINGS = newCache();
+  private static final Cache<String, Optional<KeyExpressionBindings>> KEY_BINDINGS = newCache();
+  private static final Cache<ParserKey, ExpressionParser> PARSERS = newCache();
+
+  private static <K, V> Cache<K, V> newCache() {
+    return CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE).recordStats().build();
+  }
+
+  /**
+   * Returns the parsing result of the expression for the table model of a mapper created with the
+   * default config, as all the mappers of the library are.
+   *
+   * @throws RuntimeException if the expression is not valid.
+   */
+  public static ExpressionParser get(
+      final ExpressionGrammar grammar,
+      final String expression,
+      final DynamoDBMapperTableModel tableModel) {
+    return get(grammar, expression, tableModel, DynamoDBMapperConfig.DEFAULT);
+  }
+
+  /**
+   * Returns the parsing result of the expression for the table model.
+   *
+   * @param mapperConfig the config of the mapper which created the table model
+   * @throws RuntimeException if the expression is not valid.
+   */
+  public static ExpressionParser get(
+      final ExpressionGrammar grammar,
+      final String expression,
+      final DynamoDBMapperTableModel tableModel,
+      final DynamoDBMapperConfig mapperConfig) {
+    return get(
+        PARSERS,
+        new ParserKey(grammar, expression, tableModel.targetType(), mapperConfig),
+        () -> new ImmutableExpressionParser(getBindings(grammar, expression), tableModel));
+  }
+
+  /** Returns the precompiled bindings if there are some, otherwise parses the expression. */
+  public static ExpressionBindings getBindings(
+      final ExpressionGrammar grammar, final String expression) {
+    return get(
+        BINDINGS,
+        new BindingsKey(grammar, expression),
+        () ->
+            PrecompiledExpressions.lookup(grammar, expression)
+                .orElseGet(() -> grammar.parse(expression)));
+  }
+
+  /** Same as {@link #getBindings} for key expressions, empty if the expression has no key. */
+  public static Optional<KeyExpressionBindings> getKeyBindings(final String keyExpression) {
+    return get(
+        KEY_BINDINGS,
+        keyExpression,
+        () -> {
+          final Optional<KeyExpressionBindings> precompiled =
+              PrecompiledExpressions.lookupKeyExpression(keyExpression);
+          return precompiled.isPresent() ? precompiled : KeyExpressionMapper.extract(keyExpression);
+        });
+  }
+
+  /** Hits and misses of parsing results, see {@link #get}. */
+  public static CacheStats stats() {
+    return PARSERS.stats();
+  }
+
+  /** Hits and misses of bindings, each miss is a parse unless the expression is precompiled. */
+  public static CacheStats bindingStats() {
+    return BINDINGS.stats().plus(KEY_BINDINGS.stats());
+  }
+
+  private static <K, V> V get(final Cache<K, V> cache, final K key, final Callable<V> loader) {
+    try {
+      return cache.get(key, loader);
+    } catch (final ExecutionException | UncheckedExecutionException | ExecutionError e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  @Value
+  private static class BindingsKey {
+    private final ExpressionGrammar grammar;
+    private final String expression;
+  }
+
+  /** Mapper configs are compared by identity, as they do not implement equals. */
+  @Value
+  private static class ParserKey {
+    private final ExpressionGrammar grammar;
+    private final String expression;
+    private final Class<?> modelType;
+    private final DynamoDBMapperConfig mapperConfig;
+  }
+
+  @Value
+  private static class ImmutableExpressionParser implements ExpressionParser {
+    private final AttributeNameMapper attributeNameMapper;
+    private final AttributeValueMapper attributeValueMapper;
+    private final Set<String> expressionAttributeNames;
+
+    private ImmutableExpressionParser(
+        final ExpressionBindings bindings, final DynamoDBMapperTableModel tableModel) {
+      attributeNameMapper = bindings.newAttributeNameMapper(tableModel).toImmutable();
+      attributeValueMapper = bindings.newAttributeValueMapper(tableModel).toImmutable();
+      expressionAttributeNames = bindings.getExpressionAttributeNames();
+    }
+  }
+}
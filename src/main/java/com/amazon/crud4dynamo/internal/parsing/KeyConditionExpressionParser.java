@@ -17,10 +17,15 @@ package com.amazon.crud4dynamo.internal.parsing;
 
 import com.amazon.crud4dynamo.ddbparser.KeyConditionExpressionBaseVisitor;
 import com.amazon.crud4dynamo.ddbparser.KeyConditionExpressionLexer;
+import com.amazon.crud4dynamo.ddbparser.KeyConditionExpressionParser.StartContext;
 import com.amazon.crud4dynamo.ddbparser.ParserFactory;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
 import com.google.common.base.Strings;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import lombok.Getter;
@@ -34,168 +39,204 @@ import org.antlr.v4.runtime.tree.TerminalNode;
  * name and attribute name, and between expression attribute value and attribute value.
  */
 public class KeyConditionExpressionParser implements ExpressionParser {
-  private final String keyCondition;
-  private final DynamoDBMapperTableModel tableModel;
-  private final Optional<com.amazon.crud4dynamo.ddbparser.KeyConditionExpressionParser.StartContext>
-      contextRoot;
   @Getter private final AttributeNameMapper attributeNameMapper;
   @Getter private final AttributeValueMapper attributeValueMapper;
   @Getter private final Set<String> expressionAttributeNames;
 
   public KeyConditionExpressionParser(
       final String keyCondition, final DynamoDBMapperTableModel tableModel) {
-    this.keyCondition = keyCondition;
-    this.tableModel = tableModel;
-    contextRoot = getContextRoot();
-    attributeNameMapper = newNameMapper();
-    attributeValueMapper = newValueMapper();
-    expressionAttributeNames = newExpressionAttributeNames();
+    final ExpressionParser parsed =
+        ExpressionParseCache.get(ExpressionGrammar.KEY_CONDITION, keyCondition, tableModel);
+    attributeNameMapper = parsed.getAttributeNameMapper();
+    attributeValueMapper = parsed.getAttributeValueMapper();
+    expressionAttributeNames = parsed.getExpressionAttributeNames();
   }
 
-  private AttributeValueMapper newValueMapper() {
-    final AttributeValueMapper mapper = new AttributeValueMapper();
-    contextRoot.ifPresent(
-        root ->
-            root.accept(
-                new KeyConditionExpressionBaseVisitor<Void>() {
-                  @Override
-                  public Void visitPartitionKeyExpWithAttrName(
-                      final com.amazon.crud4dynamo.ddbparser.KeyConditionExpressionParser
-                              .PartitionKeyExpWithAttrNameContext
-                          ctx) {
-                    mapper.put(
-                        ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(),
-                        tableModel.field(ctx.ATTRIBUTE_NAME().getText())::convert);
-                    return null;
-                  }
-
-                  @Override
-                  public Void visitCompareExpWithAttrName(
-                      final com.amazon.crud4dynamo.ddbparser.KeyConditionExpressionParser
-                              .CompareExpWithAttrNameContext
-                          ctx) {
-                    mapper.put(
-                        ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(),
-                        tableModel.field(ctx.ATTRIBUTE_NAME().getText())::convert);
-                    return null;
-                  }
-
-                  @Override
-                  public Void visitBetweenExpWithAttrName(
-                      final com.amazon.crud4dynamo.ddbparser.KeyConditionExpressionParser
-                              .BetweenExpWithAttrNameContext
-                          ctx) {
-                    final AttributeValueConverter convertFun =
-                        tableModel.field(ctx.ATTRIBUTE_NAME().getText())::convert;
-                    ctx.EXPRESSION_ATTRIBUTE_VALUE().stream()
-                        .map(ParseTree::getText)
-                        .forEach(val -> mapper.put(val, convertFun));
-                    return null;
-                  }
-
-                  @Override
-                  public Void visitBeginsWithExpWithAttrName(
-                      final com.amazon.crud4dynamo.ddbparser.KeyConditionExpressionParser
-                              .BeginsWithExpWithAttrNameContext
-                          ctx) {
-                    mapper.put(
-                        ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(),
-                        tableModel.field(ctx.ATTRIBUTE_NAME().getText())::convert);
-                    return null;
-                  }
-                }));
+  /** Parses the expression into bindings which do not depend on the table model. */
+  public static ExpressionBindings extract(final String keyCondition) {
+    return getContextRoot(keyCondition)
+        .map(
+            root ->
+                ExpressionBindings.builder()
+                    .expressionAttributeNames(newExpressionAttributeNames(root))
+                    .valueBindings(newValueBindings(root))
+                    .nameBindings(newNameBindings(root))
+                    .build())
+        .orElse(ExpressionBindings.EMPTY);
+  }
+
+  /** Returns the expression attribute value compared with the partition key, e.g, ":hashKey". */
+  public static Optional<String> getPartitionKeyValue(final String keyCondition) {
+    return getContextRoot(keyCondition)
+        .map(
+            root ->
+                root.accept(
+                    new KeyConditionExpressionBaseVisitor<String>() {
+                      @Override
+                      public String visitPartitionKeyExpWithAttrName(
+                          final com.amazon.crud4dynamo.ddbparser.KeyConditionExpressionParser
+                                  .PartitionKeyExpWithAttrNameContext
+                              ctx) {
+                        return ctx.EXPRESSION_ATTRIBUTE_VALUE().getText();
+                      }
+
+                      @Override
+                      public String visitPartitionKeyExpWithExpAttrName(
+                          final com.amazon.crud4dynamo.ddbparser.KeyConditionExpressionParser
+                                  .PartitionKeyExpWithExpAttrNameContext
+                              ctx) {
+                        return ctx.EXPRESSION_ATTRIBUTE_VALUE().getText();
+                      }
+
+                      @Override
+                      protected String aggregateResult(
+                          final String aggregate, final String nextResult) {
+                        return aggregate != null ? aggregate : nextResult;
+                      }
+                    }));
+  }
+
+  private static void addNameBinding(
+      final Map<String, List<String>> mapper, final String name, final String value) {
+    mapper.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+  }
+
+  private static Map<String, ValueBinding> newValueBindings(final StartContext root) {
+    final Map<String, ValueBinding> mapper = new LinkedHashMap<>();
+    root.accept(
+        new KeyConditionExpressionBaseVisitor<Void>() {
+          @Override
+          public Void visitPartitionKeyExpWithAttrName(
+              final com.amazon.crud4dynamo.ddbparser.KeyConditionExpressionParser
+                      .PartitionKeyExpWithAttrNameContext
+                  ctx) {
+            mapper.put(
+                ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(),
+                ValueBinding.attribute(ctx.ATTRIBUTE_NAME().getText()));
+            return null;
+          }
+
+          @Override
+          public Void visitCompareExpWithAttrName(
+              final com.amazon.crud4dynamo.ddbparser.KeyConditionExpressionParser
+                      .CompareExpWithAttrNameContext
+                  ctx) {
+            mapper.put(
+                ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(),
+                ValueBinding.attribute(ctx.ATTRIBUTE_NAME().getText()));
+            return null;
+          }
+
+          @Override
+          public Void visitBetweenExpWithAttrName(
+              final com.amazon.crud4dynamo.ddbparser.KeyConditionExpressionParser
+                      .BetweenExpWithAttrNameContext
+                  ctx) {
+            final ValueBinding binding = ValueBinding.attribute(ctx.ATTRIBUTE_NAME().getText());
+            ctx.EXPRESSION_ATTRIBUTE_VALUE().stream()
+                .map(ParseTree::getText)
+                .forEach(val -> mapper.put(val, binding));
+            return null;
+          }
+
+          @Override
+          public Void visitBeginsWithExpWithAttrName(
+              final com.amazon.crud4dynamo.ddbparser.KeyConditionExpressionParser
+                      .BeginsWithExpWithAttrNameContext
+                  ctx) {
+            mapper.put(
+                ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(),
+                ValueBinding.attribute(ctx.ATTRIBUTE_NAME().getText()));
+            return null;
+          }
+        });
     return mapper;
   }
 
-  private AttributeNameMapper newNameMapper() {
-    final AttributeNameMapper mapper = new AttributeNameMapper();
-    contextRoot.ifPresent(
-        root ->
-            root.accept(
-                new KeyConditionExpressionBaseVisitor<Void>() {
-                  @Override
-                  public Void visitPartitionKeyExpWithExpAttrName(
-                      final com.amazon.crud4dynamo.ddbparser.KeyConditionExpressionParser
-                              .PartitionKeyExpWithExpAttrNameContext
-                          ctx) {
-                    mapper.put(
-                        ctx.EXPRESSION_ATTRIBUTE_NAME().getText(),
-                        NameAwareConverter.newLazyConverter(
-                            ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(), tableModel));
-                    return null;
-                  }
-
-                  @Override
-                  public Void visitCompareExpWithExpAttrName(
-                      final com.amazon.crud4dynamo.ddbparser.KeyConditionExpressionParser
-                              .CompareExpWithExpAttrNameContext
-                          ctx) {
-                    mapper.put(
-                        ctx.EXPRESSION_ATTRIBUTE_NAME().getText(),
-                        NameAwareConverter.newLazyConverter(
-                            ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(), tableModel));
-                    return null;
-                  }
-
-                  @Override
-                  public Void visitBetweenExpWithExpAttrName(
-                      final com.amazon.crud4dynamo.ddbparser.KeyConditionExpressionParser
-                              .BetweenExpWithExpAttrNameContext
-                          ctx) {
-                    ctx.EXPRESSION_ATTRIBUTE_VALUE().stream()
-                        .map(
-                            attr -> NameAwareConverter.newLazyConverter(attr.getText(), tableModel))
-                        .forEach(
-                            converter ->
-                                mapper.put(ctx.EXPRESSION_ATTRIBUTE_NAME().getText(), converter));
-                    return null;
-                  }
-
-                  @Override
-                  public Void visitBeginsWithExpWithExpAttrName(
-                      final com.amazon.crud4dynamo.ddbparser.KeyConditionExpressionParser
-                              .BeginsWithExpWithExpAttrNameContext
-                          ctx) {
-                    mapper.put(
-                        ctx.EXPRESSION_ATTRIBUTE_NAME().getText(),
-                        NameAwareConverter.newLazyConverter(
-                            ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(), tableModel));
-                    return null;
-                  }
-                }));
+  private static Map<String, List<String>> newNameBindings(final StartContext root) {
+    final Map<String, List<String>> mapper = new LinkedHashMap<>();
+    root.accept(
+        new KeyConditionExpressionBaseVisitor<Void>() {
+          @Override
+          public Void visitPartitionKeyExpWithExpAttrName(
+              final com.amazon.crud4dynamo.ddbparser.KeyConditionExpressionParser
+                      .PartitionKeyExpWithExpAttrNameContext
+                  ctx) {
+            addNameBinding(
+                mapper,
+                ctx.EXPRESSION_ATTRIBUTE_NAME().getText(),
+                ctx.EXPRESSION_ATTRIBUTE_VALUE().getText());
+            return null;
+          }
+
+          @Override
+          public Void visitCompareExpWithExpAttrName(
+              final com.amazon.crud4dynamo.ddbparser.KeyConditionExpressionParser
+                      .CompareExpWithExpAttrNameContext
+                  ctx) {
+            addNameBinding(
+                mapper,
+                ctx.EXPRESSION_ATTRIBUTE_NAME().getText(),
+                ctx.EXPRESSION_ATTRIBUTE_VALUE().getText());
+            return null;
+          }
+
+          @Override
+          public Void visitBetweenExpWithExpAttrName(
+              final com.amazon.crud4dynamo.ddbparser.KeyConditionExpressionParser
+                      .BetweenExpWithExpAttrNameContext
+                  ctx) {
+            ctx.EXPRESSION_ATTRIBUTE_VALUE().stream()
+                .map(ParseTree::getText)
+                .forEach(
+                    value ->
+                        addNameBinding(mapper, ctx.EXPRESSION_ATTRIBUTE_NAME().getText(), value));
+            return null;
+          }
+
+          @Override
+          public Void visitBeginsWithExpWithExpAttrName(
+              final com.amazon.crud4dynamo.ddbparser.KeyConditionExpressionParser
+                      .BeginsWithExpWithExpAttrNameContext
+                  ctx) {
+            addNameBinding(
+                mapper,
+                ctx.EXPRESSION_ATTRIBUTE_NAME().getText(),
+                ctx.EXPRESSION_ATTRIBUTE_VALUE().getText());
+            return null;
+          }
+        });
     return mapper;
   }
 
-  private Optional<com.amazon.crud4dynamo.ddbparser.KeyConditionExpressionParser.StartContext>
-      getContextRoot() {
+  private static Set<String> newExpressionAttributeNames(final StartContext root) {
+    final Set<String> names = new LinkedHashSet<>();
+    root.accept(
+        new KeyConditionExpressionBaseVisitor<Void>() {
+
+          @Override
+          public Void visitTerminal(final TerminalNode node) {
+            if (node.getSymbol().getType()
+                == com.amazon.crud4dynamo.ddbparser.KeyConditionExpressionParser
+                    .EXPRESSION_ATTRIBUTE_NAME) {
+              names.add(node.getText());
+            }
+            return super.visitTerminal(node);
+          }
+        });
+    return names;
+  }
+
+  private static Optional<StartContext> getContextRoot(final String keyCondition) {
     return Optional.ofNullable(keyCondition)
         .filter(s -> !Strings.isNullOrEmpty(s))
         .map(
             expr ->
-                new ParserFactory<>(
+                ParserFactory.of(
                         KeyConditionExpressionLexer.class,
                         com.amazon.crud4dynamo.ddbparser.KeyConditionExpressionParser.class)
-                    .create(expr))
-        .map(com.amazon.crud4dynamo.ddbparser.KeyConditionExpressionParser::start);
-  }
-
-  private Set<String> newExpressionAttributeNames() {
-    final Set<String> names = new HashSet<>();
-    contextRoot.ifPresent(
-        root ->
-            root.accept(
-                new KeyConditionExpressionBaseVisitor<Void>() {
-
-                  @Override
-                  public Void visitTerminal(final TerminalNode node) {
-                    if (node.getSymbol().getType()
-                        == com.amazon.crud4dynamo.ddbparser.KeyConditionExpressionParser
-                            .EXPRESSION_ATTRIBUTE_NAME) {
-                      names.add(node.getText());
-                    }
-                    return super.visitTerminal(node);
-                  }
-                }));
-    return names;
+                    .parse(
+                        expr,
+                        com.amazon.crud4dynamo.ddbparser.KeyConditionExpressionParser::start));
   }
 }
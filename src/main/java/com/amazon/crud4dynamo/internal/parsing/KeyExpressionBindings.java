@@ -0,0 +1,41 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.parsing;
+
+import java.util.Optional;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+/** The result of parsing a key expression, independent of any table model. */
+@Value
+@Builder
+public class KeyExpressionBindings {
+  @NonNull private final Key hashKey;
+  private final Key rangeKey;
+
+  public Optional<Key> getRangeKey() {
+    return Optional.ofNullable(rangeKey);
+  }
+
+  @Value
+  public static class Key {
+    /** Either the attribute name or the expression attribute name of the key. */
+    private final String keyStringText;
+
+    private final ExpressionBindings bindings;
+  }
+}
@@ -24,154 +24,111 @@ import com.amazon.crud4dynamo.ddbparser.KeyExpressionParser.RangeKeyExpressionCo
 import com.amazon.crud4dynamo.ddbparser.KeyExpressionParser.StartContext;
 import com.amazon.crud4dynamo.ddbparser.ParserFactory;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
-import com.amazonaws.services.dynamodbv2.model.AttributeValue;
-import com.google.common.base.Function;
 import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
 import java.util.Optional;
 import lombok.Builder;
 import lombok.Value;
 import org.antlr.v4.runtime.tree.ParseTree;
 
 public class KeyExpressionMapper {
-  private final String keyExpression;
   private final DynamoDBMapperTableModel tableModel;
-  private final Optional<StartContext> contextRoot;
+  private final Optional<KeyExpressionBindings> bindings;
+
   public KeyExpressionMapper(
       final String keyExpression, final DynamoDBMapperTableModel tableModel) {
-    this.keyExpression = keyExpression;
     this.tableModel = tableModel;
-    contextRoot = getContextRoot();
+    bindings = ExpressionParseCache.getKeyBindings(keyExpression);
   }
 
-  public Context getHashKeyContext() {
-    final AttributeNameMapper nameMapper = new AttributeNameMapper();
-    final AttributeValueMapper valueMapper = new AttributeValueMapper();
-    final String hashKeyText =
-        contextRoot
-            .map(
-                root ->
-                    root.accept(
-                        new KeyExpressionBaseVisitor<String>() {
-                          @Override
-                          public String visitHashKeyExpression(final HashKeyExpressionContext ctx) {
-                            final EqualityExpressionContext equalExpr = ctx.equalityExpression();
-                            return doVisit(equalExpr, nameMapper, valueMapper);
-                          }
+  /**
+   * Parses the expression into bindings which do not depend on the table model. Returns empty if
+   * the expression is empty.
+   */
+  public static Optional<KeyExpressionBindings> extract(final String keyExpression) {
+    return getContextRoot(keyExpression)
+        .map(
+            root ->
+                KeyExpressionBindings.builder()
+                    .hashKey(
+                        root.accept(
+                            new KeyExpressionBaseVisitor<KeyExpressionBindings.Key>() {
+                              @Override
+                              public KeyExpressionBindings.Key visitHashKeyExpression(
+                                  final HashKeyExpressionContext ctx) {
+                                return toKey(ctx.equalityExpression());
+                              }
 
-                          @Override
-                          protected String aggregateResult(
-                              final String aggregate, final String nextResult) {
-                            return aggregate != null ? aggregate : nextResult;
-                          }
-                        }))
-            .orElseThrow(() -> new IllegalStateException("HashKey should not be empty"));
-    return Context.builder()
-        .keyStringText(hashKeyText)
-        .nameMapper(nameMapper)
-        .valueMapper(valueMapper)
-        .build();
-  }
+                              @Override
+                              protected KeyExpressionBindings.Key aggregateResult(
+                                  final KeyExpressionBindings.Key aggregate,
+                                  final KeyExpressionBindings.Key nextResult) {
+                                return aggregate != null ? aggregate : nextResult;
+                              }
+                            }))
+                    .rangeKey(
+                        root.accept(
+                            new KeyExpressionBaseVisitor<KeyExpressionBindings.Key>() {
+                              @Override
+                              public KeyExpressionBindings.Key visitRangeKeyExpression(
+                                  final RangeKeyExpressionContext ctx) {
+                                return toKey(ctx.equalityExpression());
+                              }
 
-  private String doVisit(
-      final EqualityExpressionContext equalExpr,
-      final AttributeNameMapper nameMapper,
-      final AttributeValueMapper valueMapper) {
-    equalExpr.accept(newNameMapperVisitor(nameMapper));
-    equalExpr.accept(newValueMapperVisitor(valueMapper));
-    return Optional.ofNullable(equalExpr.ATTRIBUTE_NAME())
-        .flatMap(symbol -> Optional.of(symbol.getText()))
-        .orElseGet(
-            () ->
-                Optional.ofNullable(equalExpr.EXPRESSION_ATTRIBUTE_NAME())
-                    .map(ParseTree::getText)
-                    .get());
+                              @Override
+                              protected KeyExpressionBindings.Key aggregateResult(
+                                  final KeyExpressionBindings.Key aggregate,
+                                  final KeyExpressionBindings.Key nextResult) {
+                                return aggregate != null ? aggregate : nextResult;
+                              }
+                            }))
+                    .build());
   }
 
-  private KeyExpressionBaseVisitor<Void> newValueMapperVisitor(
-      final AttributeValueMapper valueMapper) {
-    return new KeyExpressionBaseVisitor<Void>() {
-      @Override
-      public Void visitEqualityExpression(final EqualityExpressionContext ctx) {
-        Optional.ofNullable(ctx.ATTRIBUTE_NAME())
-            .map(ParseTree::getText)
-            .ifPresent(
-                attributeName ->
-                    valueMapper.put(
-                        ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(),
-                        tableModel.field(attributeName)::convert));
-        return null;
-      }
-    };
+  private static KeyExpressionBindings.Key toKey(final EqualityExpressionContext equalExpr) {
+    final String value = equalExpr.EXPRESSION_ATTRIBUTE_VALUE().getText();
+    final ExpressionBindings.ExpressionBindingsBuilder builder = ExpressionBindings.builder();
+    final Optional<String> attributeName =
+        Optional.ofNullable(equalExpr.ATTRIBUTE_NAME()).map(ParseTree::getText);
+    final Optional<String> expressionAttributeName =
+        Optional.ofNullable(equalExpr.EXPRESSION_ATTRIBUTE_NAME()).map(ParseTree::getText);
+    attributeName.ifPresent(name -> builder.valueBinding(value, ValueBinding.attribute(name)));
+    expressionAttributeName.ifPresent(
+        name -> builder.expressionAttributeName(name).nameBinding(name, ImmutableList.of(value)));
+    return new KeyExpressionBindings.Key(
+        attributeName.orElseGet(expressionAttributeName::get), builder.build());
   }
 
-  private KeyExpressionBaseVisitor<Void> newNameMapperVisitor(
-      final AttributeNameMapper nameMapper) {
-    return new KeyExpressionBaseVisitor<Void>() {
-      @Override
-      public Void visitEqualityExpression(final EqualityExpressionContext ctx) {
-        Optional.ofNullable(ctx.EXPRESSION_ATTRIBUTE_NAME())
-            .map(ParseTree::getText)
-            .ifPresent(
-                placeholder ->
-                    nameMapper.put(
-                        placeholder, newLazyConverter(ctx.EXPRESSION_ATTRIBUTE_VALUE().getText())));
-        return super.visitEqualityExpression(ctx);
-      }
-    };
+  private static Optional<StartContext> getContextRoot(final String keyExpression) {
+    return Optional.ofNullable(keyExpression)
+        .filter(s -> !Strings.isNullOrEmpty(s))
+        .map(
+            expr ->
+                ParserFactory.of(KeyExpressionLexer.class, KeyExpressionParser.class)
+                    .parse(expr, KeyExpressionParser::start));
   }
 
-  public Optional<Context> getRangeKeyContext() {
-    final AttributeNameMapper nameMapper = new AttributeNameMapper();
-    final AttributeValueMapper valueMapper = new AttributeValueMapper();
-    final Optional<String> keyText =
-        contextRoot.map(
-            root ->
-                root.accept(
-                    new KeyExpressionBaseVisitor<String>() {
-                      @Override
-                      public String visitRangeKeyExpression(final RangeKeyExpressionContext ctx) {
-                        final EqualityExpressionContext equalExpr = ctx.equalityExpression();
-                        return doVisit(equalExpr, nameMapper, valueMapper);
-                      }
-
-                      @Override
-                      protected String aggregateResult(
-                          final String aggregate, final String nextResult) {
-                        return aggregate != null ? aggregate : nextResult;
-                      }
-                    }));
-    return keyText.map(
-        text ->
-            Context.builder()
-                .keyStringText(text)
-                .nameMapper(nameMapper)
-                .valueMapper(valueMapper)
-                .build());
+  public boolean isEmpty() {
+    return !bindings.isPresent();
   }
 
-  private Function<String, NameAwareConverter> newLazyConverter(final String attributeValue) {
-    return name ->
-        new NameAwareConverter() {
-          @Override
-          public String getName() {
-            return attributeValue;
-          }
+  public Context getHashKeyContext() {
+    return bindings
+        .map(KeyExpressionBindings::getHashKey)
+        .map(this::toContext)
+        .orElseThrow(() -> new IllegalStateException("HashKey should not be empty"));
+  }
 
-          @Override
-          public AttributeValue convert(final Object object) {
-            return tableModel.field(name).convert(object);
-          }
-        };
+  public Optional<Context> getRangeKeyContext() {
+    return bindings.flatMap(KeyExpressionBindings::getRangeKey).map(this::toContext);
   }
 
-  private Optional<StartContext> getContextRoot() {
-    return Optional.ofNullable(keyExpression)
-        .filter(s -> !Strings.isNullOrEmpty(s))
-        .map(
-            expr ->
-                new ParserFactory<>(KeyExpressionLexer.class, KeyExpressionParser.class)
-                    .create(expr))
-        .map(KeyExpressionParser::start);
+  private Context toContext(final KeyExpressionBindings.Key key) {
+    return Context.builder()
+        .keyStringText(key.getKeyStringText())
+        .nameMapper(key.getBindings().newAttributeNameMapper(tableModel))
+        .valueMapper(key.getBindings().newAttributeValueMapper(tableModel))
+        .build();
   }
 
   @Value
@@ -33,9 +33,8 @@ public class ParseTreeHelper {
         .filter(s -> !Strings.isNullOrEmpty(s))
         .map(
             expr ->
-                new ParserFactory<>(ConditionExpressionLexer.class, ConditionExpressionParser.class)
-                    .create(expr))
-        .map(ConditionExpressionParser::start);
+                ParserFactory.of(ConditionExpressionLexer.class, ConditionExpressionParser.class)
+                    .parse(expr, ConditionExpressionParser::start));
   }
 
   public static Optional<UpdateExpressionParser.StartContext> getRootOfUpdateExpr(
@@ -44,8 +43,7 @@ public class ParseTreeHelper {
         .filter(s -> !Strings.isNullOrEmpty(s))
         .map(
             expr ->
-                new ParserFactory<>(UpdateExpressionLexer.class, UpdateExpressionParser.class)
-                    .create(expr))
-        .map(UpdateExpressionParser::start);
+                ParserFactory.of(UpdateExpressionLexer.class, UpdateExpressionParser.class)
+                    .parse(expr, UpdateExpressionParser::start));
   }
 }
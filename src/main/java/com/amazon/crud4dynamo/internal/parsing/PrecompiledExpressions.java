@@ -0,0 +1,118 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.parsing;
+
+import com.amazon.crud4dynamo.exception.CrudForDynamoException;
+import com.google.common.reflect.TypeToken;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holds the expressions parsed at compile time by {@link
+ * com.amazon.crud4dynamo.processor.ExpressionProcessor}.
+ *
+ * <p>For every annotated interface the processor generates a {@link Provider} named after the
+ * interface with the {@link #CLASS_NAME_SUFFIX} suffix. The provider is loaded when a proxy of the
+ * interface is created, after which the parsers look up expressions here before falling back to
+ * ANTLR.
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class PrecompiledExpressions {
+  public static final String CLASS_NAME_SUFFIX = "_Crud4DynamoExpressions";
+
+  private static final Map<ExpressionKey, ExpressionBindings> EXPRESSIONS =
+      new ConcurrentHashMap<>();
+  private static final Map<String, KeyExpressionBindings> KEY_EXPRESSIONS =
+      new ConcurrentHashMap<>();
+  private static final Set<Class<?>> LOADED_TYPES = ConcurrentHashMap.newKeySet();
+  private static final Registry REGISTRY =
+      new Registry() {
+        @Override
+        public Registry expression(
+            final ExpressionGrammar grammar,
+            final String expression,
+            final ExpressionBindings bindings) {
+          EXPRESSIONS.put(new ExpressionKey(grammar, expression), bindings);
+          return this;
+        }
+
+        @Override
+        public Registry keyExpression(
+            final String expression, final KeyExpressionBindings bindings) {
+          KEY_EXPRESSIONS.put(expression, bindings);
+          return this;
+        }
+      };
+
+  /** Loads the generated providers of the interface and its super interfaces, if any. */
+  public static void load(final Class<?> interfaceType) {
+    TypeToken.of(interfaceType).getTypes().interfaces().rawTypes().stream()
+        .filter(LOADED_TYPES::add)
+        .forEach(PrecompiledExpressions::loadProvider);
+  }
+
+  private static void loadProvider(final Class<?> type) {
+    final String providerName = type.getName() + CLASS_NAME_SUFFIX;
+    final Class<?> providerClass;
+    try {
+      providerClass = Class.forName(providerName, true, type.getClassLoader());
+    } catch (final ClassNotFoundException e) {
+      return;
+    }
+    try {
+      ((Provider) providerClass.getConstructor().newInstance()).register(REGISTRY);
+      log.debug("Loaded precompiled expressions '{}'.", providerName);
+    } catch (final ReflectiveOperationException | ClassCastException e) {
+      throw new CrudForDynamoException("Failed to load precompiled expressions " + providerName, e);
+    }
+  }
+
+  public static Optional<ExpressionBindings> lookup(
+      final ExpressionGrammar grammar, final String expression) {
+    if (EXPRESSIONS.isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(EXPRESSIONS.get(new ExpressionKey(grammar, expression)));
+  }
+
+  public static Optional<KeyExpressionBindings> lookupKeyExpression(final String expression) {
+    return Optional.ofNullable(KEY_EXPRESSIONS.get(expression));
+  }
+
+  /** Implemented by the classes generated by the expression processor. */
+  public interface Provider {
+    void register(Registry registry);
+  }
+
+  public interface Registry {
+    Registry expression(ExpressionGrammar grammar, String expression, ExpressionBindings bindings);
+
+    Registry keyExpression(String expression, KeyExpressionBindings bindings);
+  }
+
+  @Value
+  private static class ExpressionKey {
+    private final ExpressionGrammar grammar;
+    private final String expression;
+  }
+}
@@ -19,7 +19,7 @@ import com.amazon.crud4dynamo.ddbparser.ParserFactory;
 import com.amazon.crud4dynamo.ddbparser.ProjectionExpressionBaseVisitor;
 import com.amazon.crud4dynamo.ddbparser.ProjectionExpressionLexer;
 import com.google.common.base.Strings;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Optional;
 import java.util.Set;
 import lombok.Getter;
@@ -31,52 +31,58 @@ import org.antlr.v4.runtime.tree.TerminalNode;
  * <p>Retrieve a set of expression attribute names.
  */
 public class ProjectionExpressionParser implements ExpressionParser {
-  private final String projectionExpression;
-  private final Optional<com.amazon.crud4dynamo.ddbparser.ProjectionExpressionParser.StartContext>
-      contextRoot;
   @Getter private final AttributeNameMapper attributeNameMapper = new AttributeNameMapper();
   @Getter private final AttributeValueMapper attributeValueMapper = new AttributeValueMapper();
   @Getter private final Set<String> expressionAttributeNames;
 
   public ProjectionExpressionParser(final String projectionExpression) {
-    this.projectionExpression = projectionExpression;
-    contextRoot = getContextRoot();
-    expressionAttributeNames = newExpressionAttributeNames();
+    expressionAttributeNames =
+        ExpressionParseCache.getBindings(ExpressionGrammar.PROJECTION, projectionExpression)
+            .getExpressionAttributeNames();
   }
 
-  private Set<String> newExpressionAttributeNames() {
-    final Set<String> names = new HashSet<>();
-    contextRoot.ifPresent(
-        root ->
-            root.accept(
-                new ProjectionExpressionBaseVisitor<Void>() {
-                  @Override
-                  public Void visitTerminal(final TerminalNode node) {
-                    if (isExpressionAttributeName(node)) {
-                      names.add(node.getText());
-                    }
-                    return super.visitTerminal(node);
-                  }
+  /** Parses the expression into bindings which do not depend on the table model. */
+  public static ExpressionBindings extract(final String projectionExpression) {
+    return getContextRoot(projectionExpression)
+        .map(
+            root ->
+                ExpressionBindings.builder()
+                    .expressionAttributeNames(newExpressionAttributeNames(root))
+                    .build())
+        .orElse(ExpressionBindings.EMPTY);
+  }
+
+  private static Set<String> newExpressionAttributeNames(
+      final com.amazon.crud4dynamo.ddbparser.ProjectionExpressionParser.StartContext root) {
+    final Set<String> names = new LinkedHashSet<>();
+    root.accept(
+        new ProjectionExpressionBaseVisitor<Void>() {
+          @Override
+          public Void visitTerminal(final TerminalNode node) {
+            if (isExpressionAttributeName(node)) {
+              names.add(node.getText());
+            }
+            return super.visitTerminal(node);
+          }
 
-                  private boolean isExpressionAttributeName(final TerminalNode node) {
-                    return node.getSymbol().getType()
-                        == com.amazon.crud4dynamo.ddbparser.ProjectionExpressionParser
-                            .EXPRESSION_ATTRIBUTE_NAME;
-                  }
-                }));
+          private boolean isExpressionAttributeName(final TerminalNode node) {
+            return node.getSymbol().getType()
+                == com.amazon.crud4dynamo.ddbparser.ProjectionExpressionParser
+                    .EXPRESSION_ATTRIBUTE_NAME;
+          }
+        });
     return names;
   }
 
-  private Optional<com.amazon.crud4dynamo.ddbparser.ProjectionExpressionParser.StartContext>
-      getContextRoot() {
+  private static Optional<com.amazon.crud4dynamo.ddbparser.ProjectionExpressionParser.StartContext>
+      getContextRoot(final String projectionExpression) {
     return Optional.ofNullable(projectionExpression)
         .filter(s -> !Strings.isNullOrEmpty(s))
         .map(
             s ->
-                new ParserFactory<>(
+                ParserFactory.of(
                         ProjectionExpressionLexer.class,
                         com.amazon.crud4dynamo.ddbparser.ProjectionExpressionParser.class)
-                    .create(s))
-        .map(com.amazon.crud4dynamo.ddbparser.ProjectionExpressionParser::start);
+                    .parse(s, com.amazon.crud4dynamo.ddbparser.ProjectionExpressionParser::start));
   }
 }
@@ -23,7 +23,11 @@ import com.amazon.crud4dynamo.ddbparser.UpdateExpressionParser.PathContext;
 import com.amazon.crud4dynamo.ddbparser.UpdateExpressionParser.SetActionContext;
 import com.amazon.crud4dynamo.ddbparser.UpdateExpressionParser.StartContext;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import lombok.Getter;
@@ -32,196 +36,182 @@ import org.antlr.v4.runtime.tree.TerminalNode;
 
 public class UpdateExpressionParser implements ExpressionParser {
 
-  private final String updateExpression;
-  private final DynamoDBMapperTableModel tableModel;
-  private final Optional<StartContext> contextRoot;
   @Getter private final AttributeNameMapper attributeNameMapper;
   @Getter private final AttributeValueMapper attributeValueMapper;
   @Getter private final Set<String> expressionAttributeNames;
 
   public UpdateExpressionParser(
       final String updateExpression, final DynamoDBMapperTableModel tableModel) {
-    this.updateExpression = updateExpression;
-    this.tableModel = tableModel;
-    contextRoot = ParseTreeHelper.getRootOfUpdateExpr(updateExpression);
-    attributeNameMapper = newNameMapper();
-    attributeValueMapper = newValueMapper();
-    expressionAttributeNames = newExpressionAttributeNames();
+    final ExpressionParser parsed =
+        ExpressionParseCache.get(ExpressionGrammar.UPDATE, updateExpression, tableModel);
+    attributeNameMapper = parsed.getAttributeNameMapper();
+    attributeValueMapper = parsed.getAttributeValueMapper();
+    expressionAttributeNames = parsed.getExpressionAttributeNames();
   }
 
-  private AttributeNameMapper newNameMapper() {
-    final AttributeNameMapper mapper = new AttributeNameMapper();
-    contextRoot.ifPresent(
-        root ->
-            root.accept(
-                new UpdateExpressionBaseVisitor<Void>() {
-                  /* Visit value tree only when the left hand path is an expression attribute name. */
-                  @Override
-                  public Void visitSetAction(final SetActionContext ctx) {
-                    Optional.ofNullable(ctx.path().EXPRESSION_ATTRIBUTE_NAME())
-                        .map(ParseTree::getText)
-                        .ifPresent(
-                            name -> ctx.value().accept(newExpressionAttributeValueVisitor(name)));
-                    return null;
-                  }
-
-                  private UpdateExpressionBaseVisitor<Void> newExpressionAttributeValueVisitor(
-                      final String expAttrName) {
-                    return new UpdateExpressionBaseVisitor<Void>() {
-
-                      @Override
-                      public Void visitOperand(final OperandContext ctx) {
-                        Optional.ofNullable(ctx.EXPRESSION_ATTRIBUTE_VALUE())
-                            .map(ParseTree::getText)
-                            .ifPresent(
-                                expAttrValue ->
-                                    mapper.put(
-                                        expAttrName,
-                                        NameAwareConverter.newLazyConverter(
-                                            expAttrValue, tableModel)));
-                        return super.visitOperand(ctx);
-                      }
-                    };
-                  }
-
-                  @Override
-                  public Void visitAddAction(final AddActionContext ctx) {
-                    Optional.ofNullable(ctx.path().EXPRESSION_ATTRIBUTE_NAME())
-                        .map(ParseTree::getText)
-                        .ifPresent(
-                            exprAttrName ->
-                                mapper.put(
-                                    exprAttrName,
-                                    NameAwareConverter.newLazyConverter(
-                                        ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(), tableModel)));
-                    return null;
-                  }
-
-                  @Override
-                  public Void visitDeleteAction(final DeleteActionContext ctx) {
-                    Optional.ofNullable(ctx.path().EXPRESSION_ATTRIBUTE_NAME())
-                        .map(ParseTree::getText)
-                        .ifPresent(
-                            exprAttrName ->
-                                mapper.put(
-                                    exprAttrName,
-                                    NameAwareConverter.newLazyConverter(
-                                        ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(), tableModel)));
-                    return null;
-                  }
-                }));
+  /** Parses the expression into bindings which do not depend on the table model. */
+  public static ExpressionBindings extract(final String updateExpression) {
+    return ParseTreeHelper.getRootOfUpdateExpr(updateExpression)
+        .map(
+            root ->
+                ExpressionBindings.builder()
+                    .expressionAttributeNames(newExpressionAttributeNames(root))
+                    .valueBindings(newValueBindings(root))
+                    .nameBindings(newNameBindings(root))
+                    .build())
+        .orElse(ExpressionBindings.EMPTY);
+  }
+
+  private static void addNameBinding(
+      final Map<String, List<String>> mapper, final String name, final String value) {
+    mapper.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+  }
+
+  private static Map<String, List<String>> newNameBindings(final StartContext root) {
+    final Map<String, List<String>> mapper = new LinkedHashMap<>();
+    root.accept(
+        new UpdateExpressionBaseVisitor<Void>() {
+          /* Visit value tree only when the left hand path is an expression attribute name. */
+          @Override
+          public Void visitSetAction(final SetActionContext ctx) {
+            Optional.ofNullable(ctx.path().EXPRESSION_ATTRIBUTE_NAME())
+                .map(ParseTree::getText)
+                .ifPresent(name -> ctx.value().accept(newExpressionAttributeValueVisitor(name)));
+            return null;
+          }
+
+          private UpdateExpressionBaseVisitor<Void> newExpressionAttributeValueVisitor(
+              final String expAttrName) {
+            return new UpdateExpressionBaseVisitor<Void>() {
+
+              @Override
+              public Void visitOperand(final OperandContext ctx) {
+                Optional.ofNullable(ctx.EXPRESSION_ATTRIBUTE_VALUE())
+                    .map(ParseTree::getText)
+                    .ifPresent(expAttrValue -> addNameBinding(mapper, expAttrName, expAttrValue));
+                return super.visitOperand(ctx);
+              }
+            };
+          }
+
+          @Override
+          public Void visitAddAction(final AddActionContext ctx) {
+            Optional.ofNullable(ctx.path().EXPRESSION_ATTRIBUTE_NAME())
+                .map(ParseTree::getText)
+                .ifPresent(
+                    exprAttrName ->
+                        addNameBinding(
+                            mapper, exprAttrName, ctx.EXPRESSION_ATTRIBUTE_VALUE().getText()));
+            return null;
+          }
+
+          @Override
+          public Void visitDeleteAction(final DeleteActionContext ctx) {
+            Optional.ofNullable(ctx.path().EXPRESSION_ATTRIBUTE_NAME())
+                .map(ParseTree::getText)
+                .ifPresent(
+                    exprAttrName ->
+                        addNameBinding(
+                            mapper, exprAttrName, ctx.EXPRESSION_ATTRIBUTE_VALUE().getText()));
+            return null;
+          }
+        });
     return mapper;
   }
 
-  private AttributeValueMapper newValueMapper() {
-    final AttributeValueMapper mapper = new AttributeValueMapper();
-    contextRoot.ifPresent(
-        root ->
-            root.accept(
-                new UpdateExpressionBaseVisitor<Void>() {
-                  @Override
-                  public Void visitSetAction(final SetActionContext setActionCtx) {
-                    if (isExpressionAttributeName(setActionCtx.path())) {
-                      return null;
-                    }
-                    setActionCtx
-                        .value()
-                        .accept(newExpressionAttributeValueVisitor(setActionCtx.path()));
-                    return null;
-                  }
-
-                  private UpdateExpressionBaseVisitor<Void> newExpressionAttributeValueVisitor(
-                      final PathContext path) {
-                    return new UpdateExpressionBaseVisitor<Void>() {
-                      @Override
-                      public Void visitOperand(final OperandContext ctx) {
-                        final Optional<String> exprValue =
-                            Optional.ofNullable(ctx.EXPRESSION_ATTRIBUTE_VALUE())
-                                .map(ParseTree::getText);
-                        if (!exprValue.isPresent()) {
-                          return super.visitOperand(ctx);
-                        }
-                        if (path.nestedPath() != null) {
-                          mapper.put(
-                              exprValue.get(),
-                              obj ->
-                                  new ArgumentTypeBasedConverter(path.nestedPath().getText())
-                                      .convert(obj));
-                        } else {
-                          /**
-                           * If it is not a nested path it must be a ATTRIBUTE_NAME because it is
-                           * checked before invoking this function.
-                           */
-                          mapper.put(
-                              exprValue.get(),
-                              tableModel.field(path.ATTRIBUTE_NAME().getText())::convert);
-                        }
-                        return super.visitOperand(ctx);
-                      }
-                    };
-                  }
-
-                  @Override
-                  public Void visitAddAction(final AddActionContext ctx) {
-                    if (isExpressionAttributeName(ctx.path())) {
-                      return null;
-                    }
-                    if (ctx.path().ATTRIBUTE_NAME() != null) {
-                      mapper.put(
-                          ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(),
-                          tableModel.field(ctx.path().ATTRIBUTE_NAME().getText())::convert);
-                    } else {
-                      mapper.put(
-                          ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(),
-                          obj ->
-                              new ArgumentTypeBasedConverter(ctx.path().nestedPath().getText())
-                                  .convert(obj));
-                    }
-                    return null;
-                  }
-
-                  @Override
-                  public Void visitDeleteAction(final DeleteActionContext ctx) {
-                    if (isExpressionAttributeName(ctx.path())) {
-                      return null;
-                    }
-                    if (ctx.path().ATTRIBUTE_NAME() != null) {
-                      mapper.put(
-                          ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(),
-                          tableModel.field(ctx.path().ATTRIBUTE_NAME().getText())::convert);
-                    } else {
-                      mapper.put(
-                          ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(),
-                          obj ->
-                              new ArgumentTypeBasedConverter(ctx.path().nestedPath().getText())
-                                  .convert(obj));
-                    }
-                    return null;
-                  }
-
-                  private boolean isExpressionAttributeName(final PathContext pathContext) {
-                    return pathContext.EXPRESSION_ATTRIBUTE_NAME() != null;
-                  }
-                }));
+  private static Map<String, ValueBinding> newValueBindings(final StartContext root) {
+    final Map<String, ValueBinding> mapper = new LinkedHashMap<>();
+    root.accept(
+        new UpdateExpressionBaseVisitor<Void>() {
+          @Override
+          public Void visitSetAction(final SetActionContext setActionCtx) {
+            if (isExpressionAttributeName(setActionCtx.path())) {
+              return null;
+            }
+            setActionCtx.value().accept(newExpressionAttributeValueVisitor(setActionCtx.path()));
+            return null;
+          }
+
+          private UpdateExpressionBaseVisitor<Void> newExpressionAttributeValueVisitor(
+              final PathContext path) {
+            return new UpdateExpressionBaseVisitor<Void>() {
+              @Override
+              public Void visitOperand(final OperandContext ctx) {
+                final Optional<String> exprValue =
+                    Optional.ofNullable(ctx.EXPRESSION_ATTRIBUTE_VALUE()).map(ParseTree::getText);
+                if (!exprValue.isPresent()) {
+                  return super.visitOperand(ctx);
+                }
+                if (path.nestedPath() != null) {
+                  mapper.put(exprValue.get(), ValueBinding.nestedPath(path.nestedPath().getText()));
+                } else {
+                  /**
+                   * If it is not a nested path it must be a ATTRIBUTE_NAME because it is checked
+                   * before invoking this function.
+                   */
+                  mapper.put(
+                      exprValue.get(), ValueBinding.attribute(path.ATTRIBUTE_NAME().getText()));
+                }
+                return super.visitOperand(ctx);
+              }
+            };
+          }
+
+          @Override
+          public Void visitAddAction(final AddActionContext ctx) {
+            if (isExpressionAttributeName(ctx.path())) {
+              return null;
+            }
+            if (ctx.path().ATTRIBUTE_NAME() != null) {
+              mapper.put(
+                  ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(),
+                  ValueBinding.attribute(ctx.path().ATTRIBUTE_NAME().getText()));
+            } else {
+              mapper.put(
+                  ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(),
+                  ValueBinding.nestedPath(ctx.path().nestedPath().getText()));
+            }
+            return null;
+          }
+
+          @Override
+          public Void visitDeleteAction(final DeleteActionContext ctx) {
+            if (isExpressionAttributeName(ctx.path())) {
+              return null;
+            }
+            if (ctx.path().ATTRIBUTE_NAME() != null) {
+              mapper.put(
+                  ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(),
+                  ValueBinding.attribute(ctx.path().ATTRIBUTE_NAME().getText()));
+            } else {
+              mapper.put(
+                  ctx.EXPRESSION_ATTRIBUTE_VALUE().getText(),
+                  ValueBinding.nestedPath(ctx.path().nestedPath().getText()));
+            }
+            return null;
+          }
+
+          private boolean isExpressionAttributeName(final PathContext pathContext) {
+            return pathContext.EXPRESSION_ATTRIBUTE_NAME() != null;
+          }
+        });
     return mapper;
   }
 
-  private Set<String> newExpressionAttributeNames() {
-    final Set<String> names = new HashSet<>();
-    contextRoot.ifPresent(
-        ctx ->
-            ctx.accept(
-                new UpdateExpressionBaseVisitor<Void>() {
-                  @Override
-                  public Void visitTerminal(final TerminalNode node) {
-                    if (node.getSymbol().getType()
-                        == com.amazon.crud4dynamo.ddbparser.UpdateExpressionParser
-                            .EXPRESSION_ATTRIBUTE_NAME) {
-                      names.add(node.getText());
-                    }
-                    return super.visitTerminal(node);
-                  }
-                }));
+  private static Set<String> newExpressionAttributeNames(final StartContext root) {
+    final Set<String> names = new LinkedHashSet<>();
+    root.accept(
+        new UpdateExpressionBaseVisitor<Void>() {
+          @Override
+          public Void visitTerminal(final TerminalNode node) {
+            if (node.getSymbol().getType()
+                == com.amazon.crud4dynamo.ddbparser.UpdateExpressionParser
+                    .EXPRESSION_ATTRIBUTE_NAME) {
+              names.add(node.getText());
+            }
+            return super.visitTerminal(node);
+          }
+        });
     return names;
   }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.parsing;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Describes how the argument of an expression attribute value is converted, independent of any
+ * table model.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ValueBinding {
+  private static final ValueBinding STRING = new ValueBinding(Kind.STRING, null);
+
+  private final Kind kind;
+  /** Attribute name for {@link Kind#ATTRIBUTE}, document path for {@link Kind#NESTED_PATH}. */
+  private final String target;
+
+  public static ValueBinding attribute(final String attributeName) {
+    return new ValueBinding(Kind.ATTRIBUTE, attributeName);
+  }
+
+  public static ValueBinding nestedPath(final String path) {
+    return new ValueBinding(Kind.NESTED_PATH, path);
+  }
+
+  public static ValueBinding string() {
+    return STRING;
+  }
+
+  public AttributeValueConverter newConverter(final DynamoDBMapperTableModel tableModel) {
+    switch (kind) {
+      case ATTRIBUTE:
+        return tableModel.field(target)::convert;
+      case NESTED_PATH:
+        return new ArgumentTypeBasedConverter(target);
+      default:
+        return obj -> new AttributeValue().withS(obj.toString());
+    }
+  }
+
+  public enum Kind {
+    /** Converted by the table model field of the attribute. */
+    ATTRIBUTE,
+    /** Converted by the argument type, see {@link ArgumentTypeBasedConverter}. */
+    NESTED_PATH,
+    /** Converted to a string attribute value, e.g, argument of begins_with. */
+    STRING
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.utility;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.handlers.AsyncHandler;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/** Adapts the callback style of the asynchronous SDK client to {@link CompletableFuture}. */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class AsyncCalls {
+  public static <Q extends AmazonWebServiceRequest, S> CompletableFuture<S> call(
+      final Q request, final BiFunction<Q, AsyncHandler<Q, S>, Future<S>> asyncOperation) {
+    final CompletableFuture<S> future = new CompletableFuture<>();
+    asyncOperation.apply(
+        request,
+        new AsyncHandler<Q, S>() {
+          @Override
+          public void onError(final Exception exception) {
+            future.completeExceptionally(exception);
+          }
+
+          @Override
+          public void onSuccess(final Q request, final S result) {
+            future.complete(result);
+          }
+        });
+    return future;
+  }
+}
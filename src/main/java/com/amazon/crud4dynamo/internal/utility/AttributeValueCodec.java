@@ -0,0 +1,182 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.utility;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/** Binary encoding of items, with the type of every attribute value and length-prefixed data. */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class AttributeValueCodec {
+  private static final byte S = 1;
+  private static final byte N = 2;
+  private static final byte B = 3;
+  private static final byte SS = 4;
+  private static final byte NS = 5;
+  private static final byte BS = 6;
+  private static final byte M = 7;
+  private static final byte L = 8;
+  private static final byte NULL = 9;
+  private static final byte BOOL = 10;
+
+  public static void writeItem(final DataOutput out, final Map<String, AttributeValue> item)
+      throws IOException {
+    out.writeInt(item.size());
+    for (final Map.Entry<String, AttributeValue> attribute : item.entrySet()) {
+      writeString(out, attribute.getKey());
+      write(out, attribute.getValue());
+    }
+  }
+
+  public static Map<String, AttributeValue> readItem(final DataInput in) throws IOException {
+    final int size = in.readInt();
+    final Map<String, AttributeValue> item = new LinkedHashMap<>(size * 4 / 3 + 1);
+    for (int i = 0; i < size; i++) {
+      item.put(readString(in), read(in));
+    }
+    return item;
+  }
+
+  public static void write(final DataOutput out, final AttributeValue value) throws IOException {
+    if (value.getS() != null) {
+      out.writeByte(S);
+      writeString(out, value.getS());
+    } else if (value.getN() != null) {
+      out.writeByte(N);
+      writeString(out, value.getN());
+    } else if (value.getB() != null) {
+      out.writeByte(B);
+      writeBytes(out, value.getB());
+    } else if (value.getSS() != null) {
+      out.writeByte(SS);
+      writeStrings(out, value.getSS());
+    } else if (value.getNS() != null) {
+      out.writeByte(NS);
+      writeStrings(out, value.getNS());
+    } else if (value.getBS() != null) {
+      out.writeByte(BS);
+      out.writeInt(value.getBS().size());
+      for (final ByteBuffer bytes : value.getBS()) {
+        writeBytes(out, bytes);
+      }
+    } else if (value.getM() != null) {
+      out.writeByte(M);
+      writeItem(out, value.getM());
+    } else if (value.getL() != null) {
+      out.writeByte(L);
+      out.writeInt(value.getL().size());
+      for (final AttributeValue element : value.getL()) {
+        write(out, element);
+      }
+    } else if (value.getBOOL() != null) {
+      out.writeByte(BOOL);
+      out.writeBoolean(value.getBOOL());
+    } else {
+      out.writeByte(NULL);
+    }
+  }
+
+  public static AttributeValue read(final DataInput in) throws IOException {
+    final byte type = in.readByte();
+    switch (type) {
+      case S:
+        return new AttributeValue().withS(readString(in));
+      case N:
+        return new AttributeValue().withN(readString(in));
+      case B:
+        return new AttributeValue().withB(readBytes(in));
+      case SS:
+        return new AttributeValue().withSS(readStrings(in));
+      case NS:
+        return new AttributeValue().withNS(readStrings(in));
+      case BS:
+        final int size = in.readInt();
+        final List<ByteBuffer> bytesList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+          bytesList.add(readBytes(in));
+        }
+        return new AttributeValue().withBS(bytesList);
+      case M:
+        return new AttributeValue().withM(readItem(in));
+      case L:
+        final int length = in.readInt();
+        final List<AttributeValue> values = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+          values.add(read(in));
+        }
+        return new AttributeValue().withL(values);
+      case BOOL:
+        return new AttributeValue().withBOOL(in.readBoolean());
+      case NULL:
+        return new AttributeValue().withNULL(true);
+      default:
+        throw new IOException("Unknown attribute value type " + type);
+    }
+  }
+
+  private static void writeString(final DataOutput out, final String value) throws IOException {
+    final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(final DataInput in) throws IOException {
+    final byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static void writeStrings(final DataOutput out, final List<String> values)
+      throws IOException {
+    out.writeInt(values.size());
+    for (final String value : values) {
+      writeString(out, value);
+    }
+  }
+
+  private static List<String> readStrings(final DataInput in) throws IOException {
+    final int size = in.readInt();
+    final List<String> values = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      values.add(readString(in));
+    }
+    return values;
+  }
+
+  private static void writeBytes(final DataOutput out, final ByteBuffer value) throws IOException {
+    final ByteBuffer bytes = value.duplicate();
+    out.writeInt(bytes.remaining());
+    while (bytes.hasRemaining()) {
+      out.writeByte(bytes.get());
+    }
+  }
+
+  private static ByteBuffer readBytes(final DataInput in) throws IOException {
+    final byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return ByteBuffer.wrap(bytes);
+  }
+}
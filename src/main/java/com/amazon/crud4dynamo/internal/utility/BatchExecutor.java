@@ -0,0 +1,212 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.utility;
+
+import com.amazon.crud4dynamo.exception.CrudForDynamoException;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Iterators;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import lombok.Getter;
+
+/**
+ * Splits the items of a batch operation into chunks and runs the operation on each chunk.
+ *
+ * <p>Without an executor the chunks run one after another on the caller thread. With an executor at
+ * most {@link #getMaxInFlightRequests()} chunks run at the same time, and the caller waits until
+ * all of them have completed. Results are collected in completion order.
+ */
+public class BatchExecutor {
+  public static final int DEFAULT_MAX_IN_FLIGHT_REQUESTS = 8;
+  public static final BatchExecutor SEQUENTIAL = new BatchExecutor(null, 1);
+
+  private final Executor executor;
+  @Getter private final int maxInFlightRequests;
+
+  private BatchExecutor(final Executor executor, final int maxInFlightRequests) {
+    Preconditions.checkArgument(
+        maxInFlightRequests > 0, "maxInFlightRequests should be positive: %s", maxInFlightRequests);
+    this.executor = executor;
+    this.maxInFlightRequests = maxInFlightRequests;
+  }
+
+  public static BatchExecutor of(final Executor executor, final Integer maxInFlightRequests) {
+    if (executor == null) {
+      return SEQUENTIAL;
+    }
+    return new BatchExecutor(
+        executor,
+        maxInFlightRequests == null ? DEFAULT_MAX_IN_FLIGHT_REQUESTS : maxInFlightRequests);
+  }
+
+  public boolean isSequential() {
+    return executor == null;
+  }
+
+  /**
+   * Runs the operation on every chunk, even after one has failed, so a failure never leaves the
+   * later chunks unwritten. The failure of the first chunk to fail is thrown once all chunks have
+   * completed, with those of the other failed chunks suppressed.
+   */
+  public <T, R> List<R> execute(
+      final Iterable<T> items,
+      final int chunkSize,
+      final Function<? super List<T>, ? extends Collection<R>> operation) {
+    final Iterable<List<T>> chunks = Iterables.partition(items, chunkSize);
+    final Queue<R> results = new ConcurrentLinkedQueue<>();
+    final AtomicReference<Throwable> failure = new AtomicReference<>();
+    if (isSequential()) {
+      chunks.forEach(chunk -> runChunk(chunk, operation, results, failure));
+    } else {
+      final Semaphore permits = new Semaphore(maxInFlightRequests);
+      for (final List<T> chunk : chunks) {
+        acquire(permits, 1);
+        final Runnable task =
+            () -> {
+              try {
+                runChunk(chunk, operation, results, failure);
+              } finally {
+                permits.release();
+              }
+            };
+        try {
+          executor.execute(task);
+        } catch (final RejectedExecutionException e) {
+          task.run();
+        }
+      }
+      acquire(permits, maxInFlightRequests);
+      permits.release(maxInFlightRequests);
+    }
+    final Throwable throwable = failure.get();
+    if (throwable != null) {
+      Throwables.throwIfUnchecked(throwable);
+      throw new CrudForDynamoException(throwable);
+    }
+    return new ArrayList<>(results);
+  }
+
+  private static <T, R> void runChunk(
+      final List<T> chunk,
+      final Function<? super List<T>, ? extends Collection<R>> operation,
+      final Queue<R> results,
+      final AtomicReference<Throwable> failure) {
+    try {
+      results.addAll(operation.apply(chunk));
+    } catch (final Throwable e) {
+      if (!failure.compareAndSet(null, e) && failure.get() != e) {
+        synchronized (failure) {
+          failure.get().addSuppressed(e);
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the results of the chunks as they complete. Chunks are submitted while the iterator is
+   * consumed, so at most {@link #getMaxInFlightRequests()} chunks are running or waiting to be
+   * consumed at any time. Without an executor each chunk runs on the caller thread when the results
+   * of the previous chunk have been consumed.
+   */
+  public <T, R> Iterator<R> stream(
+      final Iterable<T> items,
+      final int chunkSize,
+      final Function<? super List<T>, ? extends Collection<R>> operation) {
+    final Iterator<List<T>> chunks = Iterables.partition(items, chunkSize).iterator();
+    if (isSequential()) {
+      return Iterators.concat(
+          Iterators.transform(chunks, chunk -> operation.apply(chunk).iterator()));
+    }
+    return new StreamingIterator<>(chunks, operation);
+  }
+
+  private static void acquire(final Semaphore permits, final int count) {
+    try {
+      permits.acquire(count);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CrudForDynamoException("Interrupted while waiting for batch requests.", e);
+    }
+  }
+
+  private class StreamingIterator<T, R> extends AbstractIterator<R> {
+    private final Iterator<List<T>> chunks;
+    private final Function<? super List<T>, ? extends Collection<R>> operation;
+    private final BlockingQueue<CompletableFuture<Collection<R>>> completed =
+        new LinkedBlockingQueue<>();
+    private Iterator<R> current = Collections.emptyIterator();
+    private int inFlight;
+
+    private StreamingIterator(
+        final Iterator<List<T>> chunks,
+        final Function<? super List<T>, ? extends Collection<R>> operation) {
+      this.chunks = chunks;
+      this.operation = operation;
+    }
+
+    @Override
+    protected R computeNext() {
+      while (!current.hasNext()) {
+        while (inFlight < maxInFlightRequests && chunks.hasNext()) {
+          final List<T> chunk = chunks.next();
+          final CompletableFuture<Collection<R>> future =
+              CompletableFuture.supplyAsync(() -> operation.apply(chunk), executor);
+          future.whenComplete((results, e) -> completed.add(future));
+          inFlight++;
+        }
+        if (inFlight == 0) {
+          return endOfData();
+        }
+        current = take().iterator();
+        inFlight--;
+      }
+      return current.next();
+    }
+
+    private Collection<R> take() {
+      final CompletableFuture<Collection<R>> future;
+      try {
+        future = completed.take();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new CrudForDynamoException("Interrupted while waiting for batch requests.", e);
+      }
+      try {
+        return future.join();
+      } catch (final CompletionException e) {
+        Throwables.throwIfUnchecked(e.getCause());
+        throw new CrudForDynamoException(e.getCause());
+      }
+    }
+  }
+}
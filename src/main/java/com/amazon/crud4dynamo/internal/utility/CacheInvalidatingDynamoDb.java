@@ -0,0 +1,186 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.utility;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBAsync;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.DeleteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.PutItemRequest;
+import com.amazonaws.services.dynamodbv2.model.TransactWriteItem;
+import com.amazonaws.services.dynamodbv2.model.TransactWriteItemsRequest;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemRequest;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Invalidates the cached items written by the put, update, delete, batch write and transact write
+ * requests sent through a client, once the request completes whether it succeeds or not.
+ *
+ * <p>Asynchronous requests are sent with a callback, which invalidates the items before the
+ * callback of the caller, if any, is notified.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CacheInvalidatingDynamoDb {
+  public static AmazonDynamoDB wrap(final AmazonDynamoDB dynamoDb, final ItemCache itemCache) {
+    if (dynamoDb == null || itemCache.isEmpty()) {
+      return dynamoDb;
+    }
+    return ClientDecorator.proxy(AmazonDynamoDB.class, new Handler(dynamoDb, itemCache));
+  }
+
+  public static AmazonDynamoDBAsync wrap(
+      final AmazonDynamoDBAsync dynamoDbAsync, final ItemCache itemCache) {
+    if (dynamoDbAsync == null || itemCache.isEmpty()) {
+      return dynamoDbAsync;
+    }
+    return ClientDecorator.proxy(AmazonDynamoDBAsync.class, new Handler(dynamoDbAsync, itemCache));
+  }
+
+  /**
+   * Returns the item cache invalidated by the client, which may go through other decorators. The
+   * cache is empty unless the client was wrapped with one, so that items are never cached without
+   * their writes invalidating them.
+   */
+  public static ItemCache itemCacheOf(final AmazonDynamoDB dynamoDb) {
+    return ClientDecorator.find(dynamoDb, Handler.class)
+        .map(handler -> handler.itemCache)
+        .orElse(ItemCache.NONE);
+  }
+
+  private static boolean isWrite(final Object request) {
+    return request instanceof PutItemRequest
+        || request instanceof UpdateItemRequest
+        || request instanceof DeleteItemRequest
+        || request instanceof BatchWriteItemRequest
+        || request instanceof TransactWriteItemsRequest;
+  }
+
+  private static void invalidate(final ItemCache itemCache, final Object request) {
+    if (request instanceof PutItemRequest) {
+      final PutItemRequest putRequest = (PutItemRequest) request;
+      itemCache.invalidate(putRequest.getTableName(), putRequest.getItem());
+    } else if (request instanceof UpdateItemRequest) {
+      final UpdateItemRequest updateRequest = (UpdateItemRequest) request;
+      itemCache.invalidate(updateRequest.getTableName(), updateRequest.getKey());
+    } else if (request instanceof DeleteItemRequest) {
+      final DeleteItemRequest deleteRequest = (DeleteItemRequest) request;
+      itemCache.invalidate(deleteRequest.getTableName(), deleteRequest.getKey());
+    } else if (request instanceof BatchWriteItemRequest) {
+      final Map<String, List<WriteRequest>> requestItems =
+          ((BatchWriteItemRequest) request).getRequestItems();
+      if (requestItems != null) {
+        requestItems.forEach(
+            (tableName, writeRequests) ->
+                writeRequests.forEach(
+                    writeRequest -> invalidate(itemCache, tableName, writeRequest)));
+      }
+    } else if (request instanceof TransactWriteItemsRequest) {
+      final List<TransactWriteItem> transactItems =
+          ((TransactWriteItemsRequest) request).getTransactItems();
+      if (transactItems != null) {
+        transactItems.forEach(item -> invalidate(itemCache, item));
+      }
+    }
+  }
+
+  private static void invalidate(
+      final ItemCache itemCache, final String tableName, final WriteRequest writeRequest) {
+    if (writeRequest.getPutRequest() != null) {
+      itemCache.invalidate(tableName, writeRequest.getPutRequest().getItem());
+    }
+    if (writeRequest.getDeleteRequest() != null) {
+      itemCache.invalidate(tableName, writeRequest.getDeleteRequest().getKey());
+    }
+  }
+
+  private static void invalidate(final ItemCache itemCache, final TransactWriteItem item) {
+    if (item.getPut() != null) {
+      itemCache.invalidate(item.getPut().getTableName(), item.getPut().getItem());
+    }
+    if (item.getUpdate() != null) {
+      itemCache.invalidate(item.getUpdate().getTableName(), item.getUpdate().getKey());
+    }
+    if (item.getDelete() != null) {
+      itemCache.invalidate(item.getDelete().getTableName(), item.getDelete().getKey());
+    }
+  }
+
+  private static class Handler extends ClientDecorator {
+    private final ItemCache itemCache;
+
+    private Handler(final AmazonDynamoDB delegate, final ItemCache itemCache) {
+      super(delegate);
+      this.itemCache = itemCache;
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args)
+        throws Throwable {
+      final Object request = args != null && args.length > 0 ? args[0] : null;
+      if (!isWrite(request)) {
+        return delegate(method, args);
+      }
+      if (method.getName().endsWith("Async")) {
+        return invokeAsync(method, request, args.length > 1 ? (AsyncHandler<?, ?>) args[1] : null);
+      }
+      try {
+        return delegate(method, args);
+      } finally {
+        invalidate(itemCache, request);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object invokeAsync(
+        final Method method, final Object request, final AsyncHandler<?, ?> callerHandler)
+        throws Throwable {
+      final AsyncHandler<AmazonWebServiceRequest, Object> handler =
+          (AsyncHandler<AmazonWebServiceRequest, Object>) callerHandler;
+      final Method withHandler =
+          AmazonDynamoDBAsync.class.getMethod(
+              method.getName(), request.getClass(), AsyncHandler.class);
+      return delegate(
+          withHandler,
+          new Object[] {
+            request,
+            new AsyncHandler<AmazonWebServiceRequest, Object>() {
+              @Override
+              public void onError(final Exception exception) {
+                invalidate(itemCache, request);
+                if (handler != null) {
+                  handler.onError(exception);
+                }
+              }
+
+              @Override
+              public void onSuccess(final AmazonWebServiceRequest request, final Object result) {
+                invalidate(itemCache, request);
+                if (handler != null) {
+                  handler.onSuccess(request, result);
+                }
+              }
+            }
+          });
+    }
+  }
+}
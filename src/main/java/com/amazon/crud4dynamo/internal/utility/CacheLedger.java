@@ -0,0 +1,134 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.utility;
+
+import com.amazon.crud4dynamo.extension.CacheBudget;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.primitives.Ints;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Optional;
+
+/**
+ * Accounts the results of the method caches sharing a {@link CacheBudget}. The least recently used
+ * results are invalidated in their method cache once the ledger exceeds the budget.
+ *
+ * <p>The ledger references the method caches weakly, so that the caches of discarded cruds are
+ * collected even if the budget is still used by others. Their entries are dropped once they are.
+ */
+public class CacheLedger {
+  /** The ledgers of the budgets created by {@link CacheBudget#ofBytes(long)}. */
+  private static final Cache<CacheBudget, CacheLedger> LEDGERS =
+      CacheBuilder.newBuilder().weakKeys().build();
+
+  private final Cache<Entry, Integer> ledger;
+  private final ReferenceQueue<Cache<?, ?>> collectedOwners = new ReferenceQueue<>();
+
+  private CacheLedger(final long maxBytes) {
+    ledger =
+        CacheBuilder.newBuilder()
+            .concurrencyLevel(1)
+            .maximumWeight(maxBytes)
+            .<Entry, Integer>weigher((entry, weight) -> weight)
+            .removalListener(
+                notification -> {
+                  final Cache<?, ?> owner = notification.getKey().owner.get();
+                  if (notification.getCause() == RemovalCause.SIZE && owner != null) {
+                    owner.invalidate(notification.getKey().key);
+                  }
+                })
+            .build();
+  }
+
+  static CacheLedger ofBytes(final long maxBytes) {
+    return new CacheLedger(maxBytes);
+  }
+
+  /** Creates the ledger of a new budget. */
+  public static void register(final CacheBudget budget, final long maxBytes) {
+    LEDGERS.put(budget, ofBytes(maxBytes));
+  }
+
+  /** Returns the ledger of the budget, if there is one. */
+  public static Optional<CacheLedger> of(final CacheBudget budget) {
+    return Optional.ofNullable(budget).map(LEDGERS::getIfPresent);
+  }
+
+  public long getUsedBytes() {
+    dropCollectedOwners();
+    return ledger.asMap().values().stream().mapToLong(Integer::longValue).sum();
+  }
+
+  /** Accounts the result of the key of a method cache, which may be evicted right away. */
+  public void record(final Cache<?, ?> owner, final Object key, final long weightBytes) {
+    dropCollectedOwners();
+    ledger.put(new Entry(owner, key, collectedOwners), Ints.saturatedCast(weightBytes));
+  }
+
+  /** Marks the result of the key of a method cache as used. */
+  public void touch(final Cache<?, ?> owner, final Object key) {
+    ledger.getIfPresent(new Entry(owner, key, null));
+  }
+
+  /** Stops accounting the result of the key of a method cache, after it is removed from it. */
+  public void remove(final Cache<?, ?> owner, final Object key) {
+    ledger.invalidate(new Entry(owner, key, null));
+  }
+
+  private void dropCollectedOwners() {
+    boolean collected = false;
+    while (collectedOwners.poll() != null) {
+      collected = true;
+    }
+    if (collected) {
+      ledger.asMap().keySet().removeIf(entry -> entry.owner.get() == null);
+    }
+  }
+
+  /** A key of a method cache, equal to the entries of the same key of the same cache. */
+  private static class Entry {
+    private final WeakReference<Cache<?, ?>> owner;
+    private final int ownerHash;
+    private final Object key;
+
+    private Entry(
+        final Cache<?, ?> owner, final Object key, final ReferenceQueue<Cache<?, ?>> queue) {
+      this.owner = new WeakReference<>(owner, queue);
+      this.ownerHash = System.identityHashCode(owner);
+      this.key = key;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof Entry)) {
+        return false;
+      }
+      final Entry entry = (Entry) other;
+      final Cache<?, ?> cache = owner.get();
+      return cache != null && cache == entry.owner.get() && key.equals(entry.key);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * ownerHash + key.hashCode();
+    }
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.utility;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBAsync;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemResult;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.ConsumedCapacity;
+import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+import com.amazonaws.services.dynamodbv2.model.QueryResult;
+import com.amazonaws.services.dynamodbv2.model.ScanRequest;
+import com.amazonaws.services.dynamodbv2.model.ScanResult;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Paces the scans, queries and batch operations sent through a client by the capacity they consume.
+ *
+ * <p>The requests ask for the total consumed capacity, which is acquired from the limiter once the
+ * response arrives. All other operations are passed through.
+ *
+ * <p>Asynchronous requests are sent with a callback, which acquires the consumed capacity before
+ * the callback of the caller, if any, is notified, so a budget paces the callers of both clients
+ * alike.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CapacityLimitedDynamoDb {
+  public static AmazonDynamoDB wrap(
+      final AmazonDynamoDB dynamoDb, final CapacityLimiter capacityLimiter) {
+    if (dynamoDb == null || capacityLimiter.isUnlimited()) {
+      return dynamoDb;
+    }
+    return ClientDecorator.proxy(AmazonDynamoDB.class, new Handler(dynamoDb, capacityLimiter));
+  }
+
+  public static AmazonDynamoDBAsync wrap(
+      final AmazonDynamoDBAsync dynamoDbAsync, final CapacityLimiter capacityLimiter) {
+    if (dynamoDbAsync == null || capacityLimiter.isUnlimited()) {
+      return dynamoDbAsync;
+    }
+    return ClientDecorator.proxy(
+        AmazonDynamoDBAsync.class, new Handler(dynamoDbAsync, capacityLimiter));
+  }
+
+  private static boolean isPaced(final Object request) {
+    return request instanceof ScanRequest
+        || request instanceof QueryRequest
+        || request instanceof BatchGetItemRequest
+        || request instanceof BatchWriteItemRequest;
+  }
+
+  private static double units(final ConsumedCapacity consumedCapacity) {
+    return Optional.ofNullable(consumedCapacity)
+        .map(ConsumedCapacity::getCapacityUnits)
+        .orElse(0.0);
+  }
+
+  private static class Handler extends ClientDecorator {
+    private final CapacityLimiter limiter;
+
+    private Handler(final AmazonDynamoDB delegate, final CapacityLimiter limiter) {
+      super(delegate);
+      this.limiter = limiter;
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args)
+        throws Throwable {
+      final Object request = args != null && args.length > 0 ? args[0] : null;
+      if (!isPaced(request)) {
+        return delegate(method, args);
+      }
+      requestConsumedCapacity(request);
+      if (method.getName().endsWith("Async")) {
+        return invokeAsync(method, request, args.length > 1 ? (AsyncHandler<?, ?>) args[1] : null);
+      }
+      final Object result = delegate(method, args);
+      consumed(request, result);
+      return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object invokeAsync(
+        final Method method, final Object request, final AsyncHandler<?, ?> callerHandler)
+        throws Throwable {
+      final AsyncHandler<AmazonWebServiceRequest, Object> handler =
+          (AsyncHandler<AmazonWebServiceRequest, Object>) callerHandler;
+      final Method withHandler =
+          AmazonDynamoDBAsync.class.getMethod(
+              method.getName(), request.getClass(), AsyncHandler.class);
+      return delegate(
+          withHandler,
+          new Object[] {
+            request,
+            new AsyncHandler<AmazonWebServiceRequest, Object>() {
+              @Override
+              public void onError(final Exception exception) {
+                if (handler != null) {
+                  handler.onError(exception);
+                }
+              }
+
+              @Override
+              public void onSuccess(final AmazonWebServiceRequest request, final Object result) {
+                consumed(request, result);
+                if (handler != null) {
+                  handler.onSuccess(request, result);
+                }
+              }
+            }
+          });
+    }
+
+    private void consumed(final Object request, final Object result) {
+      if (request instanceof ScanRequest) {
+        final ScanRequest scanRequest = (ScanRequest) request;
+        limiter.consumedRead(
+            scanRequest.getTableName(),
+            scanRequest.getIndexName(),
+            units(((ScanResult) result).getConsumedCapacity()));
+      } else if (request instanceof QueryRequest) {
+        final QueryRequest queryRequest = (QueryRequest) request;
+        limiter.consumedRead(
+            queryRequest.getTableName(),
+            queryRequest.getIndexName(),
+            units(((QueryResult) result).getConsumedCapacity()));
+      } else if (request instanceof BatchGetItemRequest) {
+        forEach(
+            ((BatchGetItemResult) result).getConsumedCapacity(),
+            capacity -> limiter.consumedRead(capacity.getTableName(), null, units(capacity)));
+      } else if (request instanceof BatchWriteItemRequest) {
+        forEach(
+            ((BatchWriteItemResult) result).getConsumedCapacity(),
+            capacity -> limiter.consumedWrite(capacity.getTableName(), units(capacity)));
+      }
+    }
+
+    private void forEach(
+        final List<ConsumedCapacity> capacities, final Consumer<ConsumedCapacity> action) {
+      if (capacities != null) {
+        capacities.forEach(action);
+      }
+    }
+  }
+}
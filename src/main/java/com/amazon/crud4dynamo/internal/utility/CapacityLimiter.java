@@ -0,0 +1,130 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.utility;
+
+import com.amazon.crud4dynamo.extension.CapacityBudget;
+import com.google.common.primitives.Ints;
+import com.google.common.util.concurrent.RateLimiter;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.Value;
+
+/**
+ * Token buckets of read and write capacity units, by table and index.
+ *
+ * <p>Consumed capacity is acquired after the fact, so a request is never delayed by its own cost
+ * but by the cost of the requests before it. The buckets count thousandths of a unit, so the half
+ * units of eventually consistent reads are not rounded up to whole ones.
+ */
+public class CapacityLimiter {
+  public static final CapacityLimiter UNLIMITED =
+      new CapacityLimiter(Collections.emptyMap(), Collections.emptyMap());
+
+  /** Permits of the rate limiters per capacity unit. */
+  static final int PERMITS_PER_UNIT = 1000;
+
+  /** Key of the buckets which apply to every table. */
+  private static final TableIndex ANY_TABLE = new TableIndex(null, null);
+
+  private final Map<TableIndex, RateLimiter> readLimiters;
+  private final Map<TableIndex, RateLimiter> writeLimiters;
+
+  CapacityLimiter(
+      final Map<TableIndex, RateLimiter> readLimiters,
+      final Map<TableIndex, RateLimiter> writeLimiters) {
+    this.readLimiters = readLimiters;
+    this.writeLimiters = writeLimiters;
+  }
+
+  public static CapacityLimiter of(final List<CapacityBudget> budgets) {
+    final Map<TableIndex, RateLimiter> readLimiters = new HashMap<>();
+    final Map<TableIndex, RateLimiter> writeLimiters = new HashMap<>();
+    for (final CapacityBudget budget : budgets) {
+      final TableIndex key = new TableIndex(budget.getTableName(), budget.getIndexName());
+      newRateLimiter(budget.getReadCapacityUnits()).ifPresent(l -> readLimiters.put(key, l));
+      newRateLimiter(budget.getWriteCapacityUnits()).ifPresent(l -> writeLimiters.put(key, l));
+    }
+    return readLimiters.isEmpty() && writeLimiters.isEmpty()
+        ? UNLIMITED
+        : new CapacityLimiter(readLimiters, writeLimiters);
+  }
+
+  /** Returns a limiter whose budgets apply to all tables together. */
+  public static CapacityLimiter of(
+      final Double readCapacityUnits, final Double writeCapacityUnits) {
+    final Map<TableIndex, RateLimiter> readLimiters = new HashMap<>();
+    final Map<TableIndex, RateLimiter> writeLimiters = new HashMap<>();
+    newRateLimiter(readCapacityUnits).ifPresent(l -> readLimiters.put(ANY_TABLE, l));
+    newRateLimiter(writeCapacityUnits).ifPresent(l -> writeLimiters.put(ANY_TABLE, l));
+    return readLimiters.isEmpty() && writeLimiters.isEmpty()
+        ? UNLIMITED
+        : new CapacityLimiter(readLimiters, writeLimiters);
+  }
+
+  private static Optional<RateLimiter> newRateLimiter(final Double capacityUnits) {
+    return Optional.ofNullable(capacityUnits)
+        .filter(units -> units > 0)
+        .map(units -> RateLimiter.create(units * PERMITS_PER_UNIT));
+  }
+
+  private static void acquire(
+      final Map<TableIndex, RateLimiter> limiters,
+      final String tableName,
+      final String indexName,
+      final double capacityUnits) {
+    final int permits = Ints.saturatedCast(Math.round(capacityUnits * PERMITS_PER_UNIT));
+    if (limiters.isEmpty() || permits <= 0) {
+      return;
+    }
+    RateLimiter limiter = null;
+    if (indexName != null) {
+      limiter = limiters.get(new TableIndex(tableName, indexName));
+    }
+    if (limiter == null) {
+      limiter = limiters.get(new TableIndex(tableName, null));
+    }
+    if (limiter == null) {
+      limiter = limiters.get(ANY_TABLE);
+    }
+    if (limiter != null) {
+      limiter.acquire(permits);
+    }
+  }
+
+  public boolean isUnlimited() {
+    return readLimiters.isEmpty() && writeLimiters.isEmpty();
+  }
+
+  /** Blocks until the read capacity consumed by previous requests is within the budget. */
+  public void consumedRead(
+      final String tableName, final String indexName, final double capacityUnits) {
+    acquire(readLimiters, tableName, indexName, capacityUnits);
+  }
+
+  /** Blocks until the write capacity consumed by previous requests is within the budget. */
+  public void consumedWrite(final String tableName, final double capacityUnits) {
+    acquire(writeLimiters, tableName, null, capacityUnits);
+  }
+
+  @Value
+  static class TableIndex {
+    private final String tableName;
+    private final String indexName;
+  }
+}
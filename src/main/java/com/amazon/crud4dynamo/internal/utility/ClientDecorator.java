@@ -0,0 +1,111 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.utility;
+
+import com.amazonaws.services.dynamodbv2.model.ReturnConsumedCapacity;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+
+/**
+ * Base of the invocation handlers which decorate the requests sent through a client. Calls which
+ * are not decorated are passed to the delegate as they are.
+ */
+abstract class ClientDecorator implements InvocationHandler {
+  private static final ClassValue<Optional<Method>> CAPACITY_GETTERS =
+      new ClassValue<Optional<Method>>() {
+        @Override
+        protected Optional<Method> computeValue(final Class<?> type) {
+          return findMethod(type, "getReturnConsumedCapacity");
+        }
+      };
+  private static final ClassValue<Optional<Method>> CAPACITY_SETTERS =
+      new ClassValue<Optional<Method>>() {
+        @Override
+        protected Optional<Method> computeValue(final Class<?> type) {
+          return findMethod(type, "setReturnConsumedCapacity", String.class);
+        }
+      };
+
+  private final Object delegate;
+
+  protected ClientDecorator(final Object delegate) {
+    this.delegate = delegate;
+  }
+
+  /** Returns a client of the given type whose calls go through the decorator. */
+  static <C> C proxy(final Class<C> clientType, final ClientDecorator decorator) {
+    return clientType.cast(
+        Proxy.newProxyInstance(
+            clientType.getClassLoader(), new Class<?>[] {clientType}, decorator));
+  }
+
+  /**
+   * Returns the decorator of the given type among those the client goes through, the outermost
+   * first.
+   */
+  static <D extends ClientDecorator> Optional<D> find(
+      final Object client, final Class<D> decoratorType) {
+    Object current = client;
+    while (current != null && Proxy.isProxyClass(current.getClass())) {
+      final InvocationHandler handler = Proxy.getInvocationHandler(current);
+      if (!(handler instanceof ClientDecorator)) {
+        break;
+      }
+      if (decoratorType.isInstance(handler)) {
+        return Optional.of(decoratorType.cast(handler));
+      }
+      current = ((ClientDecorator) handler).delegate;
+    }
+    return Optional.empty();
+  }
+
+  static Optional<Method> findMethod(
+      final Class<?> type, final String name, final Class<?>... parameterTypes) {
+    try {
+      return Optional.of(type.getMethod(name, parameterTypes));
+    } catch (final NoSuchMethodException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Changes a request which does not ask for its consumed capacity to ask for the total. Requests
+   * of operations which do not report consumed capacity are left as they are.
+   */
+  static void requestConsumedCapacity(final Object request) throws ReflectiveOperationException {
+    final Optional<Method> getter = CAPACITY_GETTERS.get(request.getClass());
+    final Optional<Method> setter = CAPACITY_SETTERS.get(request.getClass());
+    if (!getter.isPresent() || !setter.isPresent()) {
+      return;
+    }
+    final Object current = getter.get().invoke(request);
+    if (current == null || ReturnConsumedCapacity.NONE.toString().equals(current)) {
+      setter.get().invoke(request, ReturnConsumedCapacity.TOTAL.toString());
+    }
+  }
+
+  /** Invokes the method on the delegate, and throws what the delegate throws. */
+  protected final Object delegate(final Method method, final Object[] args) throws Throwable {
+    try {
+      return method.invoke(delegate, args);
+    } catch (final InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+}
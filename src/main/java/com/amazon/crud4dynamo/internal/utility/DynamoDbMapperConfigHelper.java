@@ -17,6 +17,7 @@ package com.amazon.crud4dynamo.internal.utility;
 
 import com.amazon.crud4dynamo.utility.ExceptionHelper;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.DefaultTableNameResolver;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Optional;
@@ -39,4 +40,16 @@ public class DynamoDbMapperConfigHelper {
       throw ExceptionHelper.throwAsUnchecked(e);
     }
   }
+
+  /**
+   * Returns the table name requests for the model type are sent to, with the table name override of
+   * the config if any.
+   */
+  public static String getTableName(
+      final Class<?> modelType, final DynamoDBMapperConfig mapperConfig) {
+    final DynamoDBMapperConfig config = override(DynamoDBMapperConfig.DEFAULT, mapperConfig);
+    return Optional.ofNullable(config.getTableNameResolver())
+        .orElse(DefaultTableNameResolver.INSTANCE)
+        .getTableName(modelType, config);
+  }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.utility;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Finds the models of the keys of failed delete requests, in the order of the models.
+ *
+ * <p>The positions of the models are indexed by their keys the first time a failed key is resolved,
+ * so each model is converted at most once however many keys fail. Nothing is converted if no key
+ * fails.
+ *
+ * @param <M> Model Generic Type Parameter
+ */
+public class FailedModelResolver<M> {
+  private final DynamoDBMapperTableModel<M> tableModel;
+  private final Iterable<M> models;
+  private List<M> modelList;
+  private ListMultimap<Map<String, AttributeValue>, Integer> positionsByKey;
+
+  public FailedModelResolver(
+      final DynamoDBMapperTableModel<M> tableModel, final Iterable<M> models) {
+    this.tableModel = tableModel;
+    this.models = models;
+  }
+
+  public List<M> resolve(final List<Map<String, AttributeValue>> failedKeys) {
+    if (failedKeys.isEmpty()) {
+      return new ArrayList<>();
+    }
+    final ListMultimap<Map<String, AttributeValue>, Integer> index = getPositionsByKey();
+    final SortedSet<Integer> positions = new TreeSet<>();
+    for (final Map<String, AttributeValue> key : failedKeys) {
+      positions.addAll(index.get(key));
+    }
+    final List<M> failedModels = new ArrayList<>(positions.size());
+    for (final int position : positions) {
+      failedModels.add(modelList.get(position));
+    }
+    return failedModels;
+  }
+
+  private synchronized ListMultimap<Map<String, AttributeValue>, Integer> getPositionsByKey() {
+    if (positionsByKey == null) {
+      modelList = Lists.newArrayList(models);
+      positionsByKey = ArrayListMultimap.create();
+      for (int i = 0; i < modelList.size(); i++) {
+        positionsByKey.put(tableModel.convertKey(modelList.get(i)), i);
+      }
+    }
+    return positionsByKey;
+  }
+}
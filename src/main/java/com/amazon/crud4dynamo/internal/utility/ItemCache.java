@@ -0,0 +1,214 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.utility;
+
+import com.amazon.crud4dynamo.extension.ItemCacheSpec;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Iterators;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Items of the tables with an {@link ItemCacheSpec}, keyed by their primary key attributes.
+ *
+ * <p>An item holds the attributes mapped by a model class, so every model class of a table has a
+ * cache of its own. A write to the table invalidates the key in all of them.
+ *
+ * <p>Absent items are cached as well. A load which overlaps the invalidation of its key does not
+ * store its result, so an item read before a write completes never outlives the write.
+ */
+public class ItemCache {
+  public static final ItemCache NONE = new ItemCache(Collections.emptyMap());
+
+  private final Map<String, ItemCacheSpec> specs;
+  /** Caches by table name and model class. */
+  private final ConcurrentMap<String, ConcurrentMap<Class<?>, Table>> tables =
+      new ConcurrentHashMap<>();
+
+  private ItemCache(final Map<String, ItemCacheSpec> specs) {
+    this.specs = specs;
+  }
+
+  public static ItemCache of(final List<ItemCacheSpec> specs) {
+    if (specs.isEmpty()) {
+      return NONE;
+    }
+    final Map<String, ItemCacheSpec> specMap = new HashMap<>();
+    specs.forEach(spec -> specMap.put(spec.getTableName(), spec));
+    return new ItemCache(specMap);
+  }
+
+  public boolean isEmpty() {
+    return specs.isEmpty();
+  }
+
+  /**
+   * Returns the cache of the items of the table mapped by the model class, if the table has a spec.
+   * The primary key of the table has the given names.
+   */
+  public Optional<Table> table(
+      final String tableName, final Class<?> modelClass, final Collection<String> keyNames) {
+    return Optional.ofNullable(specs.get(tableName))
+        .map(
+            spec ->
+                tables
+                    .computeIfAbsent(tableName, name -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(modelClass, type -> new Table(spec, keyNames)));
+  }
+
+  /** Invalidates the item of the table with the key of the given item, which may be a key only. */
+  public void invalidate(final String tableName, final Map<String, AttributeValue> item) {
+    if (tableName != null && item != null) {
+      Optional.ofNullable(tables.get(tableName))
+          .ifPresent(modelTables -> modelTables.values().forEach(table -> table.invalidate(item)));
+    }
+  }
+
+  public static class Table {
+    private static final int STRIPES = 64;
+
+    private final Set<String> keyNames;
+    private final Cache<Map<String, AttributeValue>, Optional<Map<String, AttributeValue>>> items;
+    private final AtomicLong clock = new AtomicLong();
+    /** Time of the latest invalidation of the keys of each stripe. */
+    private final AtomicLongArray invalidatedAt = new AtomicLongArray(STRIPES);
+
+    private Table(final ItemCacheSpec spec, final Collection<String> keyNames) {
+      this.keyNames = new LinkedHashSet<>(keyNames);
+      CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder();
+      if (spec.getMaximumSize() != null) {
+        builder = builder.maximumSize(spec.getMaximumSize());
+      }
+      if (spec.getExpireAfterWrite() != null) {
+        builder =
+            builder.expireAfterWrite(spec.getExpireAfterWrite().toNanos(), TimeUnit.NANOSECONDS);
+      }
+      items = builder.build();
+    }
+
+    private static int stripe(final Map<String, AttributeValue> key) {
+      return (key.hashCode() & Integer.MAX_VALUE) % STRIPES;
+    }
+
+    /** Returns the cached item of the key, loading it if it is not cached. */
+    public Optional<Map<String, AttributeValue>> get(
+        final Map<String, AttributeValue> key, final Supplier<Map<String, AttributeValue>> loader) {
+      final Map<String, AttributeValue> cacheKey = keyOf(key);
+      final Optional<Map<String, AttributeValue>> cached = items.getIfPresent(cacheKey);
+      if (cached != null) {
+        return cached;
+      }
+      final long loadStartedAt = clock.get();
+      final Optional<Map<String, AttributeValue>> loaded = Optional.ofNullable(loader.get());
+      store(cacheKey, loaded, loadStartedAt);
+      return loaded;
+    }
+
+    /**
+     * Returns the existing items of the keys, loading those which are not cached with one call of
+     * the loader. The loader returns the existing items of the keys it is given.
+     *
+     * <p>The cached items come first. The loaded items follow as the caller iterates the loader,
+     * and each is stored when it arrives. The keys the loader does not return are stored as absent
+     * once it is exhausted.
+     */
+    public Iterator<Map<String, AttributeValue>> getAll(
+        final Iterable<Map<String, AttributeValue>> keys,
+        final Function<List<Map<String, AttributeValue>>, Iterator<Map<String, AttributeValue>>>
+            loader) {
+      final List<Map<String, AttributeValue>> found = new ArrayList<>();
+      final Set<Map<String, AttributeValue>> missing = new LinkedHashSet<>();
+      for (final Map<String, AttributeValue> key : keys) {
+        final Map<String, AttributeValue> cacheKey = keyOf(key);
+        final Optional<Map<String, AttributeValue>> cached = items.getIfPresent(cacheKey);
+        if (cached == null) {
+          missing.add(cacheKey);
+        } else {
+          cached.ifPresent(found::add);
+        }
+      }
+      if (missing.isEmpty()) {
+        return found.iterator();
+      }
+      final long loadStartedAt = clock.get();
+      final Iterator<Map<String, AttributeValue>> loaded = loader.apply(new ArrayList<>(missing));
+      return Iterators.concat(
+          found.iterator(),
+          new AbstractIterator<Map<String, AttributeValue>>() {
+            @Override
+            protected Map<String, AttributeValue> computeNext() {
+              if (loaded.hasNext()) {
+                final Map<String, AttributeValue> item = loaded.next();
+                final Map<String, AttributeValue> key = keyOf(item);
+                missing.remove(key);
+                store(key, Optional.of(item), loadStartedAt);
+                return item;
+              }
+              missing.forEach(key -> store(key, Optional.empty(), loadStartedAt));
+              missing.clear();
+              return endOfData();
+            }
+          });
+    }
+
+    private void invalidate(final Map<String, AttributeValue> item) {
+      items
+          .asMap()
+          .compute(
+              keyOf(item),
+              (key, cached) -> {
+                invalidatedAt.set(stripe(key), clock.incrementAndGet());
+                return null;
+              });
+    }
+
+    private void store(
+        final Map<String, AttributeValue> key,
+        final Optional<Map<String, AttributeValue>> item,
+        final long loadStartedAt) {
+      items
+          .asMap()
+          .compute(
+              key,
+              (cacheKey, cached) ->
+                  invalidatedAt.get(stripe(cacheKey)) > loadStartedAt ? cached : item);
+    }
+
+    private Map<String, AttributeValue> keyOf(final Map<String, AttributeValue> item) {
+      final Map<String, AttributeValue> key = new HashMap<>();
+      keyNames.forEach(name -> key.put(name, item.get(name)));
+      return key;
+    }
+  }
+}
@@ -18,6 +18,7 @@ package com.amazon.crud4dynamo.internal.utility;
 import com.amazon.crud4dynamo.exception.CrudForDynamoException;
 import com.amazon.crud4dynamo.extension.Argument;
 import com.amazon.crud4dynamo.internal.factory.ExpressionFactoryHelper;
+import com.amazon.crud4dynamo.internal.parsing.ArgumentBindingPlan;
 import com.amazon.crud4dynamo.internal.parsing.AttributeValueMapper;
 import com.amazon.crud4dynamo.internal.parsing.KeyExpressionMapper;
 import com.amazon.crud4dynamo.utility.MapHelper;
@@ -25,7 +26,10 @@ import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
 import com.amazonaws.services.dynamodbv2.model.AttributeValue;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.reflect.Parameter;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -75,6 +79,65 @@ public class KeyAttributeConstructor {
     return MapHelper.overrideMerge(hashKey, rangeKey);
   }
 
+  /** Resolves the arguments of the method parameters once, see {@link ArgumentBindingPlan}. */
+  public Plan bind(final List<Parameter> parameters) {
+    return new Plan(parameters);
+  }
+
+  /** Creates the key of a method call from its arguments. */
+  public class Plan {
+    private final KeyPlan hashKeyPlan;
+    private final Optional<KeyPlan> rangeKeyPlan;
+
+    private Plan(final List<Parameter> parameters) {
+      // Like create(List<Argument>), fail on an empty key expression only when a key is created.
+      hashKeyPlan =
+          keyExpressionMapper.isEmpty()
+              ? null
+              : new KeyPlan(keyExpressionMapper.getHashKeyContext(), parameters);
+      rangeKeyPlan =
+          keyExpressionMapper.getRangeKeyContext().map(ctx -> new KeyPlan(ctx, parameters));
+    }
+
+    public Map<String, AttributeValue> create(final Object[] args) {
+      if (hashKeyPlan == null) {
+        throw new IllegalStateException("HashKey should not be empty");
+      }
+      if (!rangeKeyPlan.isPresent()) {
+        return hashKeyPlan.create(args);
+      }
+      final Map<String, AttributeValue> key = new HashMap<>(hashKeyPlan.create(args));
+      key.putAll(rangeKeyPlan.get().create(args));
+      return key;
+    }
+  }
+
+  private static class KeyPlan {
+    private final String keyStringText;
+    private final ArgumentBindingPlan bindingPlan;
+
+    private KeyPlan(final KeyExpressionMapper.Context context, final List<Parameter> parameters) {
+      keyStringText = context.getKeyStringText();
+      bindingPlan =
+          new ArgumentBindingPlan(
+              context.getNameMapper(),
+              context.getValueMapper(),
+              ImmutableSet.of(keyStringText),
+              parameters);
+    }
+
+    private Map<String, AttributeValue> create(final Object[] args) {
+      final Map<String, AttributeValue> values = bindingPlan.newExpressionAttributeValues(args);
+      if (values == null) {
+        throw new NoKeyAttributeException(keyStringText);
+      }
+      final Map<String, String> names = bindingPlan.newExpressionAttributeNames(args);
+      final String keyName =
+          names == null ? keyStringText : names.getOrDefault(keyStringText, keyStringText);
+      return ImmutableMap.of(keyName, values.values().iterator().next());
+    }
+  }
+
   @VisibleForTesting
   static class NoKeyAttributeException extends CrudForDynamoException {
     NoKeyAttributeException(final String keyText) {
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.utility;
+
+import com.amazon.crud4dynamo.extension.metrics.MethodMetrics;
+import com.amazon.crud4dynamo.extension.metrics.MethodTags;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemResult;
+import com.amazonaws.services.dynamodbv2.model.ConsumedCapacity;
+import com.amazonaws.services.dynamodbv2.model.GetItemResult;
+import com.amazonaws.services.dynamodbv2.model.QueryResult;
+import com.amazonaws.services.dynamodbv2.model.ScanResult;
+import com.amazonaws.services.dynamodbv2.model.TransactGetItemsResult;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Records the latency, consumed capacity and items read of every request sent through a client.
+ *
+ * <p>Requests which do not ask for consumed capacity are changed to ask for the total.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class MeteredDynamoDb {
+  private static final String REQUEST_SUFFIX = "Request";
+  private static final ClassValue<Optional<Method>> CONSUMED_CAPACITY_GETTERS =
+      new ClassValue<Optional<Method>>() {
+        @Override
+        protected Optional<Method> computeValue(final Class<?> type) {
+          return ClientDecorator.findMethod(type, "getConsumedCapacity");
+        }
+      };
+
+  public static AmazonDynamoDB wrap(
+      final AmazonDynamoDB dynamoDb, final MethodMetrics metrics, final MethodTags tags) {
+    return ClientDecorator.proxy(AmazonDynamoDB.class, new Handler(dynamoDb, metrics, tags));
+  }
+
+  private static String operationOf(final AmazonWebServiceRequest request) {
+    final String name = request.getClass().getSimpleName();
+    return name.endsWith(REQUEST_SUFFIX)
+        ? name.substring(0, name.length() - REQUEST_SUFFIX.length())
+        : name;
+  }
+
+  private static double consumedCapacityOf(final Object result)
+      throws ReflectiveOperationException {
+    if (result == null) {
+      return 0;
+    }
+    final Optional<Method> getter = CONSUMED_CAPACITY_GETTERS.get(result.getClass());
+    if (!getter.isPresent()) {
+      return 0;
+    }
+    final Object consumed = getter.get().invoke(result);
+    if (consumed instanceof ConsumedCapacity) {
+      return unitsOf((ConsumedCapacity) consumed);
+    }
+    if (consumed instanceof List) {
+      double units = 0;
+      for (final Object capacity : (List<?>) consumed) {
+        units += unitsOf((ConsumedCapacity) capacity);
+      }
+      return units;
+    }
+    return 0;
+  }
+
+  private static double unitsOf(final ConsumedCapacity consumedCapacity) {
+    return Optional.ofNullable(consumedCapacity.getCapacityUnits()).orElse(0.0);
+  }
+
+  private static int itemCountOf(final Object result) {
+    if (result instanceof QueryResult) {
+      return Optional.ofNullable(((QueryResult) result).getCount()).orElse(0);
+    }
+    if (result instanceof ScanResult) {
+      return Optional.ofNullable(((ScanResult) result).getCount()).orElse(0);
+    }
+    if (result instanceof GetItemResult) {
+      return ((GetItemResult) result).getItem() == null ? 0 : 1;
+    }
+    if (result instanceof BatchGetItemResult) {
+      return Optional.ofNullable(((BatchGetItemResult) result).getResponses())
+          .map(responses -> responses.values().stream().mapToInt(Collection::size).sum())
+          .orElse(0);
+    }
+    if (result instanceof TransactGetItemsResult) {
+      return Optional.ofNullable(((TransactGetItemsResult) result).getResponses())
+          .map(List::size)
+          .orElse(0);
+    }
+    return 0;
+  }
+
+  private static class Handler extends ClientDecorator {
+    private final MethodMetrics metrics;
+    private final MethodTags tags;
+
+    private Handler(
+        final AmazonDynamoDB delegate, final MethodMetrics metrics, final MethodTags tags) {
+      super(delegate);
+      this.metrics = metrics;
+      this.tags = tags;
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args)
+        throws Throwable {
+      if (args == null || args.length != 1 || !(args[0] instanceof AmazonWebServiceRequest)) {
+        return delegate(method, args);
+      }
+      final AmazonWebServiceRequest request = (AmazonWebServiceRequest) args[0];
+      ClientDecorator.requestConsumedCapacity(request);
+      final long start = System.nanoTime();
+      final Object result;
+      try {
+        result = delegate(method, args);
+      } catch (final Throwable e) {
+        metrics.recordRequest(tags, operationOf(request), System.nanoTime() - start, 0, 0);
+        throw e;
+      }
+      metrics.recordRequest(
+          tags,
+          operationOf(request),
+          System.nanoTime() - start,
+          consumedCapacityOf(result),
+          itemCountOf(result));
+      return result;
+    }
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.utility;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import lombok.NonNull;
+
+/**
+ * A mapper which sends the requests of one method through a client of its own, but takes its table
+ * models from the mapper of the DAO.
+ *
+ * <p>A mapper builds the table model of every model class it maps and keeps it for its lifetime, so
+ * a plain mapper per method would build the same models once per method.
+ */
+public class MethodMapper extends DynamoDBMapper {
+  private final DynamoDBMapper daoMapper;
+
+  private MethodMapper(final AmazonDynamoDB dynamoDb, final DynamoDBMapper daoMapper) {
+    super(dynamoDb);
+    this.daoMapper = daoMapper;
+  }
+
+  /**
+   * @param dynamoDb the client of the method
+   * @param mapper the mapper of the DAO, or the mapper of the method created for another client, a
+   *     plain mapper is returned if it is null
+   */
+  public static DynamoDBMapper of(
+      @NonNull final AmazonDynamoDB dynamoDb, final DynamoDBMapper mapper) {
+    if (mapper == null) {
+      return new DynamoDBMapper(dynamoDb);
+    }
+    return new MethodMapper(
+        dynamoDb, mapper instanceof MethodMapper ? ((MethodMapper) mapper).daoMapper : mapper);
+  }
+
+  @Override
+  public <T> DynamoDBMapperTableModel<T> getTableModel(
+      final Class<T> clazz, final DynamoDBMapperConfig config) {
+    return daoMapper.getTableModel(clazz, config);
+  }
+}
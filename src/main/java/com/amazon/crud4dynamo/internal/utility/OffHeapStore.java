@@ -0,0 +1,123 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.utility;
+
+import com.google.common.base.Preconditions;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.Value;
+
+/**
+ * Serialized values kept outside of the heap, in direct byte buffer slabs.
+ *
+ * <p>Values are appended to the current slab. When it is full the next slab is reused, and all the
+ * values in it are dropped, so the oldest values are evicted first. The space of replaced and
+ * invalidated values is reclaimed when their slab is reused. Slabs are allocated on first use.
+ */
+public class OffHeapStore<K> {
+  static final int DEFAULT_SLAB_SIZE = 16 * 1024 * 1024;
+
+  private final int slabSize;
+  private final ByteBuffer[] slabs;
+  private final List<Set<K>> slabKeys;
+  private final Map<K, Slot> index = new HashMap<>();
+  private int currentSlab;
+  private int position;
+
+  public OffHeapStore(final long maxBytes) {
+    this(maxBytes, DEFAULT_SLAB_SIZE);
+  }
+
+  OffHeapStore(final long maxBytes, final int slabSize) {
+    Preconditions.checkArgument(maxBytes > 0, "Off-heap bytes must be positive");
+    this.slabSize = (int) Math.min(maxBytes, slabSize);
+    final int slabCount = (int) ((maxBytes + this.slabSize - 1) / this.slabSize);
+    slabs = new ByteBuffer[slabCount];
+    slabKeys = new ArrayList<>(slabCount);
+    for (int i = 0; i < slabCount; i++) {
+      slabKeys.add(new HashSet<>());
+    }
+  }
+
+  /** @return false if the value is larger than a slab, and not stored */
+  public synchronized boolean put(final K key, final byte[] value) {
+    invalidate(key);
+    if (value.length > slabSize) {
+      return false;
+    }
+    if (position + value.length > slabSize) {
+      nextSlab();
+    }
+    final ByteBuffer slab = getSlab(currentSlab);
+    slab.position(position);
+    slab.put(value);
+    index.put(key, new Slot(currentSlab, position, value.length));
+    slabKeys.get(currentSlab).add(key);
+    position += value.length;
+    return true;
+  }
+
+  public synchronized Optional<byte[]> get(final K key) {
+    final Slot slot = index.get(key);
+    if (slot == null) {
+      return Optional.empty();
+    }
+    final byte[] value = new byte[slot.length];
+    final ByteBuffer slab = slabs[slot.slab];
+    slab.position(slot.offset);
+    slab.get(value);
+    return Optional.of(value);
+  }
+
+  public synchronized void invalidate(final K key) {
+    final Slot slot = index.remove(key);
+    if (slot != null) {
+      slabKeys.get(slot.slab).remove(key);
+    }
+  }
+
+  public synchronized int size() {
+    return index.size();
+  }
+
+  private void nextSlab() {
+    currentSlab = (currentSlab + 1) % slabs.length;
+    position = 0;
+    final Set<K> evicted = slabKeys.get(currentSlab);
+    evicted.forEach(index::remove);
+    evicted.clear();
+  }
+
+  private ByteBuffer getSlab(final int slab) {
+    if (slabs[slab] == null) {
+      slabs[slab] = ByteBuffer.allocateDirect(slabSize);
+    }
+    return slabs[slab];
+  }
+
+  @Value
+  private static class Slot {
+    private final int slab;
+    private final int offset;
+    private final int length;
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.utility;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import java.util.List;
+import java.util.Map;
+import lombok.NonNull;
+import lombok.Value;
+
+/** Fetches one page of a query or scan, starting after the given key. */
+@FunctionalInterface
+public interface PageFetcher<T> {
+  /**
+   * @param exclusiveStartKey the last evaluated key of the previous page, or null for the first
+   *     page.
+   */
+  Page<T> fetch(Map<String, AttributeValue> exclusiveStartKey);
+
+  @Value
+  class Page<T> {
+    @NonNull private final List<T> items;
+    /** Null if this is the last page. */
+    private final Map<String, AttributeValue> lastEvaluatedKey;
+
+    public boolean isLast() {
+      return lastEvaluatedKey == null;
+    }
+  }
+}
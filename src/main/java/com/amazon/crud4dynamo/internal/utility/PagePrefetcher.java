@@ -0,0 +1,197 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.utility;
+
+import com.amazon.crud4dynamo.exception.CrudForDynamoException;
+import com.amazon.crud4dynamo.internal.utility.PageFetcher.Page;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.google.common.base.Throwables;
+import com.google.common.collect.AbstractIterator;
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.Getter;
+
+/**
+ * Iterates the items of a query or scan while the following pages are fetched in the background.
+ *
+ * <p>While the caller consumes one page, at most {@link #getPrefetchPages()} following pages are
+ * fetched or waiting to be consumed, so the caller does not wait for a round trip at every page
+ * boundary as long as it is slower than DynamoDB.
+ */
+public class PagePrefetcher {
+  public static final PagePrefetcher NONE = new PagePrefetcher(null, 0);
+
+  private final Executor executor;
+  @Getter private final int prefetchPages;
+
+  private PagePrefetcher(final Executor executor, final int prefetchPages) {
+    this.executor = executor;
+    this.prefetchPages = prefetchPages;
+  }
+
+  /**
+   * @param executor the executor to fetch pages on, or null for the shared pool.
+   * @param prefetchPages the number of pages to fetch ahead, no prefetching if it is null or not
+   *     positive.
+   */
+  public static PagePrefetcher of(final Executor executor, final Integer prefetchPages) {
+    if (prefetchPages == null || prefetchPages <= 0) {
+      return NONE;
+    }
+    return new PagePrefetcher(SharedExecutor.orDefault(executor), prefetchPages);
+  }
+
+  public boolean isEnabled() {
+    return prefetchPages > 0;
+  }
+
+  /**
+   * Returns the items of all pages. Without prefetching each page is fetched on the caller thread
+   * when the previous one has been consumed. With prefetching the iterator is {@link Closeable},
+   * closing it stops fetching further pages.
+   */
+  public <T> Iterator<T> iterator(final PageFetcher<T> fetcher) {
+    return isEnabled() ? new PrefetchingIterator<>(fetcher) : new LazyIterator<>(fetcher);
+  }
+
+  private static class LazyIterator<T> extends AbstractIterator<T> {
+    private final PageFetcher<T> fetcher;
+    private Iterator<T> current = Collections.emptyIterator();
+    private Page<T> lastPage;
+
+    private LazyIterator(final PageFetcher<T> fetcher) {
+      this.fetcher = fetcher;
+    }
+
+    @Override
+    protected T computeNext() {
+      while (!current.hasNext()) {
+        if (lastPage != null && lastPage.isLast()) {
+          return endOfData();
+        }
+        lastPage = fetcher.fetch(lastPage == null ? null : lastPage.getLastEvaluatedKey());
+        current = lastPage.getItems().iterator();
+      }
+      return current.next();
+    }
+  }
+
+  private class PrefetchingIterator<T> extends AbstractIterator<T> implements Closeable {
+    private final PageFetcher<T> fetcher;
+    private final BlockingQueue<CompletableFuture<Page<T>>> fetched = new LinkedBlockingQueue<>();
+    private Iterator<T> current = Collections.emptyIterator();
+    private boolean lastPageTaken;
+
+    /** Pages being fetched or waiting to be consumed, guarded by this. */
+    private int buffered;
+
+    private boolean fetching;
+    private boolean lastPageFetched;
+    private Map<String, AttributeValue> nextStartKey;
+    private volatile boolean closed;
+
+    private PrefetchingIterator(final PageFetcher<T> fetcher) {
+      this.fetcher = fetcher;
+    }
+
+    @Override
+    protected T computeNext() {
+      while (!current.hasNext()) {
+        if (lastPageTaken || closed) {
+          return endOfData();
+        }
+        fetchAhead();
+        final Page<T> page = take();
+        current = page.getItems().iterator();
+        lastPageTaken = page.isLast();
+      }
+      return current.next();
+    }
+
+    private synchronized void fetchAhead() {
+      if (closed || fetching || lastPageFetched || buffered >= prefetchPages) {
+        return;
+      }
+      fetching = true;
+      buffered++;
+      final Map<String, AttributeValue> startKey = nextStartKey;
+      CompletableFuture<Page<T>> future;
+      try {
+        future = CompletableFuture.supplyAsync(() -> fetcher.fetch(startKey), executor);
+      } catch (final RejectedExecutionException e) {
+        future = new CompletableFuture<>();
+        future.completeExceptionally(e);
+      }
+      final CompletableFuture<Page<T>> submitted = future;
+      submitted.whenComplete((page, e) -> onFetched(submitted, page, e));
+    }
+
+    private synchronized void onFetched(
+        final CompletableFuture<Page<T>> future, final Page<T> page, final Throwable error) {
+      fetching = false;
+      if (error != null) {
+        lastPageFetched = true;
+      } else {
+        nextStartKey = page.getLastEvaluatedKey();
+        lastPageFetched = page.isLast();
+      }
+      if (!closed) {
+        fetched.add(future);
+        fetchAhead();
+      }
+    }
+
+    private Page<T> take() {
+      final CompletableFuture<Page<T>> future;
+      try {
+        future = fetched.take();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new CrudForDynamoException("Interrupted while waiting for the next page.", e);
+      }
+      synchronized (this) {
+        buffered--;
+      }
+      fetchAhead();
+      try {
+        return future.join();
+      } catch (final CompletionException e) {
+        close();
+        Throwables.throwIfUnchecked(e.getCause());
+        throw new CrudForDynamoException(e.getCause());
+      }
+    }
+
+    /**
+     * Stops fetching further pages and drops the pages which have not been consumed. A consumer
+     * waiting for the next page on another thread is woken up with an empty last page.
+     */
+    @Override
+    public synchronized void close() {
+      closed = true;
+      fetched.clear();
+      fetched.add(CompletableFuture.completedFuture(new Page<>(Collections.emptyList(), null)));
+    }
+  }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.utility;
+
+import com.amazon.crud4dynamo.internal.utility.PageFetcher.Page;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Publishes the items of a query or scan page by page.
+ *
+ * <p>Every subscriber starts from the first page, with a fetcher of its own. No page is fetched
+ * before the subscriber requests items, and while the subscriber consumes one page the next one is
+ * fetched on the executor, so at most one page is buffered and one is in flight. After cancellation
+ * no further page is fetched.
+ */
+public class PagePublisher<T> implements Publisher<T> {
+  private static final int MAX_BUFFERED_PAGES = 1;
+
+  private final Supplier<? extends PageFetcher<T>> fetchers;
+  private final Executor executor;
+
+  public PagePublisher(@NonNull final PageFetcher<T> fetcher, @NonNull final Executor executor) {
+    this(() -> fetcher, executor);
+  }
+
+  /** @param fetchers creates the fetcher of each subscription. */
+  public PagePublisher(
+      @NonNull final Supplier<? extends PageFetcher<T>> fetchers,
+      @NonNull final Executor executor) {
+    this.fetchers = fetchers;
+    this.executor = executor;
+  }
+
+  @Override
+  public void subscribe(final Subscriber<? super T> subscriber) {
+    if (subscriber == null) {
+      throw new NullPointerException("subscriber");
+    }
+    final PageSubscription subscription = new PageSubscription(subscriber, fetchers.get());
+    subscriber.onSubscribe(subscription);
+  }
+
+  private class PageSubscription implements Subscription {
+    private final Subscriber<? super T> subscriber;
+    private final PageFetcher<T> fetcher;
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final Queue<List<T>> fetchedPages = new ConcurrentLinkedQueue<>();
+
+    /** Only accessed by the thread draining the buffer. */
+    private Iterator<T> current = Collections.emptyIterator();
+
+    private boolean terminated;
+
+    private volatile boolean started;
+    private volatile boolean cancelled;
+    private volatile boolean invalidRequest;
+    private volatile boolean fetching;
+    private volatile boolean lastPageFetched;
+    private volatile Throwable error;
+    private volatile Map<String, AttributeValue> nextStartKey;
+
+    PageSubscription(final Subscriber<? super T> subscriber, final PageFetcher<T> fetcher) {
+      this.subscriber = subscriber;
+      this.fetcher = fetcher;
+    }
+
+    @Override
+    public void request(final long n) {
+      if (n <= 0) {
+        error =
+            new IllegalArgumentException("Requested " + n + " items, expected a positive number.");
+        invalidRequest = true;
+      } else {
+        requested.getAndUpdate(r -> r + n < 0 ? Long.MAX_VALUE : r + n);
+        started = true;
+      }
+      drain();
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+      drain();
+    }
+
+    private void drain() {
+      if (wip.getAndIncrement() != 0) {
+        return;
+      }
+      int missed = 1;
+      do {
+        if (!terminated) {
+          drainOnce();
+        }
+        missed = wip.addAndGet(-missed);
+      } while (missed != 0);
+    }
+
+    private void drainOnce() {
+      if (cancelled) {
+        terminate();
+        return;
+      }
+      if (invalidRequest) {
+        terminate();
+        subscriber.onError(error);
+        return;
+      }
+      final long demand = requested.get();
+      long emitted = 0;
+      while (emitted != demand) {
+        if (!current.hasNext()) {
+          final List<T> page = fetchedPages.poll();
+          if (page == null) {
+            break;
+          }
+          current = page.iterator();
+          continue;
+        }
+        subscriber.onNext(current.next());
+        emitted++;
+        if (cancelled) {
+          terminate();
+          return;
+        }
+      }
+      if (emitted != 0 && demand != Long.MAX_VALUE) {
+        requested.addAndGet(-emitted);
+      }
+      if (fetching) {
+        return;
+      }
+      final boolean empty = !current.hasNext() && fetchedPages.isEmpty();
+      if (error != null) {
+        if (empty) {
+          terminate();
+          subscriber.onError(error);
+        }
+      } else if (lastPageFetched) {
+        if (empty) {
+          terminate();
+          subscriber.onComplete();
+        }
+      } else if (started && bufferedPages() < MAX_BUFFERED_PAGES + 1) {
+        fetchNextPage();
+      }
+    }
+
+    private int bufferedPages() {
+      return fetchedPages.size() + (current.hasNext() ? 1 : 0);
+    }
+
+    private void fetchNextPage() {
+      fetching = true;
+      final Map<String, AttributeValue> startKey = nextStartKey;
+      try {
+        executor.execute(() -> onPage(startKey));
+      } catch (final RuntimeException e) {
+        error = e;
+        fetching = false;
+        wip.incrementAndGet();
+      }
+    }
+
+    private void onPage(final Map<String, AttributeValue> startKey) {
+      try {
+        if (!cancelled) {
+          final Page<T> page = fetcher.fetch(startKey);
+          nextStartKey = page.getLastEvaluatedKey();
+          lastPageFetched = page.isLast();
+          fetchedPages.offer(page.getItems());
+        }
+      } catch (final Throwable e) {
+        error = e;
+      } finally {
+        fetching = false;
+        drain();
+      }
+    }
+
+    private void terminate() {
+      terminated = true;
+      fetchedPages.clear();
+      current = Collections.emptyIterator();
+    }
+  }
+}
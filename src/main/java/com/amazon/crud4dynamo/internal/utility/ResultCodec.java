@@ -0,0 +1,144 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.utility;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.NonNull;
+
+/**
+ * Serializes method results made of models of {@link DynamoDBTable} classes: a model, an optional
+ * model, a list of models or null. Models are converted to items by their table model and written
+ * with {@link AttributeValueCodec}.
+ *
+ * <p>Model classes are written as ids of this codec, so it decodes only what it encoded.
+ */
+public class ResultCodec {
+  private static final byte NULL = 0;
+  private static final byte MODEL = 1;
+  private static final byte EMPTY_OPTIONAL = 2;
+  private static final byte OPTIONAL = 3;
+  private static final byte LIST = 4;
+
+  private final DynamoDBMapper mapper;
+  private final List<Class<?>> modelClasses = new CopyOnWriteArrayList<>();
+  private final Map<Class<?>, Integer> modelClassIds = new ConcurrentHashMap<>();
+
+  public ResultCodec(@NonNull final DynamoDBMapper mapper) {
+    this.mapper = mapper;
+  }
+
+  private static boolean isModel(final Object value) {
+    return value != null && value.getClass().isAnnotationPresent(DynamoDBTable.class);
+  }
+
+  public boolean canEncode(final Object result) {
+    if (result == null || isModel(result)) {
+      return true;
+    }
+    if (result instanceof Optional) {
+      return canEncode(((Optional<?>) result).orElse(null));
+    }
+    if (result instanceof List) {
+      return ((List<?>) result).stream().allMatch(ResultCodec::isModel);
+    }
+    return false;
+  }
+
+  public void encode(final DataOutput out, final Object result) throws IOException {
+    if (result == null) {
+      out.writeByte(NULL);
+    } else if (result instanceof Optional) {
+      final Optional<?> optional = (Optional<?>) result;
+      if (optional.isPresent()) {
+        out.writeByte(OPTIONAL);
+        writeModel(out, optional.get());
+      } else {
+        out.writeByte(EMPTY_OPTIONAL);
+      }
+    } else if (result instanceof List) {
+      final List<?> models = (List<?>) result;
+      out.writeByte(LIST);
+      out.writeInt(models.size());
+      for (final Object model : models) {
+        writeModel(out, model);
+      }
+    } else {
+      out.writeByte(MODEL);
+      writeModel(out, result);
+    }
+  }
+
+  /** Decodes a list as an unmodifiable list. */
+  public Object decode(final DataInput in) throws IOException {
+    final byte type = in.readByte();
+    switch (type) {
+      case NULL:
+        return null;
+      case MODEL:
+        return readModel(in);
+      case EMPTY_OPTIONAL:
+        return Optional.empty();
+      case OPTIONAL:
+        return Optional.of(readModel(in));
+      case LIST:
+        final int size = in.readInt();
+        final List<Object> models = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+          models.add(readModel(in));
+        }
+        return Collections.unmodifiableList(models);
+      default:
+        throw new IOException("Unknown result type " + type);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> void writeModel(final DataOutput out, final T model) throws IOException {
+    final Class<T> modelClass = (Class<T>) model.getClass();
+    out.writeInt(getModelClassId(modelClass));
+    AttributeValueCodec.writeItem(out, mapper.getTableModel(modelClass).convert(model));
+  }
+
+  private Object readModel(final DataInput in) throws IOException {
+    final Class<?> modelClass = modelClasses.get(in.readInt());
+    return mapper.getTableModel(modelClass).unconvert(AttributeValueCodec.readItem(in));
+  }
+
+  private int getModelClassId(final Class<?> modelClass) {
+    final Integer id = modelClassIds.get(modelClass);
+    return id != null ? id : addModelClass(modelClass);
+  }
+
+  private synchronized int addModelClass(final Class<?> modelClass) {
+    return modelClassIds.computeIfAbsent(
+        modelClass,
+        cls -> {
+          modelClasses.add(cls);
+          return modelClasses.size() - 1;
+        });
+  }
+}
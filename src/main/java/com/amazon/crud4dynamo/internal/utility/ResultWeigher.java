@@ -0,0 +1,134 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.utility;
+
+import com.amazon.crud4dynamo.extension.PageResult;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Estimates the heap size of method results in bytes.
+ *
+ * <p>Models of {@link DynamoDBTable} classes weigh the size of their attribute values plus a fixed
+ * overhead per attribute. Collections weigh their size times the average weight of their first
+ * {@value #SAMPLE_SIZE} elements. Other objects weigh a fixed overhead.
+ */
+public class ResultWeigher {
+  static final long OBJECT_OVERHEAD = 16;
+  static final long ATTRIBUTE_OVERHEAD = 48;
+  private static final int SAMPLE_SIZE = 8;
+
+  private final DynamoDBMapper mapper;
+
+  /** @param mapper converts models to attribute values, models weigh the overhead only if null */
+  public ResultWeigher(final DynamoDBMapper mapper) {
+    this.mapper = mapper;
+  }
+
+  public static long sizeOf(final Map<String, AttributeValue> item) {
+    long size = 0;
+    for (final Map.Entry<String, AttributeValue> attribute : item.entrySet()) {
+      size += ATTRIBUTE_OVERHEAD + attribute.getKey().length() + sizeOf(attribute.getValue());
+    }
+    return size;
+  }
+
+  public static long sizeOf(final AttributeValue value) {
+    if (value == null) {
+      return 0;
+    }
+    long size = 1;
+    size += value.getS() == null ? 0 : value.getS().length();
+    size += value.getN() == null ? 0 : value.getN().length();
+    size += value.getB() == null ? 0 : value.getB().remaining();
+    size += sumLength(value.getSS());
+    size += sumLength(value.getNS());
+    if (value.getBS() != null) {
+      size += value.getBS().stream().mapToLong(ByteBuffer::remaining).sum();
+    }
+    if (value.getM() != null) {
+      size += sizeOf(value.getM());
+    }
+    if (value.getL() != null) {
+      size += value.getL().stream().mapToLong(v -> ATTRIBUTE_OVERHEAD + sizeOf(v)).sum();
+    }
+    return size;
+  }
+
+  private static long sumLength(final List<String> values) {
+    return values == null ? 0 : values.stream().mapToLong(String::length).sum();
+  }
+
+  public long weigh(final Object result) {
+    if (result == null || result instanceof Iterator) {
+      return OBJECT_OVERHEAD;
+    }
+    if (result instanceof Optional) {
+      return OBJECT_OVERHEAD + weigh(((Optional<?>) result).orElse(null));
+    }
+    if (result instanceof PageResult) {
+      final PageResult<?> pageResult = (PageResult<?>) result;
+      return OBJECT_OVERHEAD
+          + weigh(pageResult.getItems())
+          + weigh(pageResult.getLastEvaluatedItem());
+    }
+    if (result instanceof Collection) {
+      return OBJECT_OVERHEAD + weighCollection((Collection<?>) result);
+    }
+    if (result instanceof Map) {
+      final Map<?, ?> map = (Map<?, ?>) result;
+      return OBJECT_OVERHEAD + weighCollection(map.keySet()) + weighCollection(map.values());
+    }
+    if (result instanceof CharSequence) {
+      return OBJECT_OVERHEAD + 2L * ((CharSequence) result).length();
+    }
+    if (result instanceof byte[]) {
+      return OBJECT_OVERHEAD + ((byte[]) result).length;
+    }
+    if (mapper != null && result.getClass().isAnnotationPresent(DynamoDBTable.class)) {
+      return OBJECT_OVERHEAD + sizeOf(convert(result));
+    }
+    return OBJECT_OVERHEAD;
+  }
+
+  private long weighCollection(final Collection<?> collection) {
+    if (collection.isEmpty()) {
+      return 0;
+    }
+    long sampleWeight = 0;
+    int sampleSize = 0;
+    for (final Object element : collection) {
+      if (sampleSize == SAMPLE_SIZE) {
+        break;
+      }
+      sampleWeight += weigh(element);
+      sampleSize++;
+    }
+    return sampleWeight * collection.size() / sampleSize;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> Map<String, AttributeValue> convert(final T model) {
+    return mapper.getTableModel((Class<T>) model.getClass()).convert(model);
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.utility;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+/**
+ * Spliterator over the items of a parallel scan, which splits by scan segment.
+ *
+ * <p>A spliterator covers a range of segments and is split in halves until it covers a single
+ * segment. Each segment is scanned page by page by the thread which traverses it, so a parallel
+ * stream scans the segments on the fork-join pool.
+ */
+public class SegmentSpliterator<T> implements Spliterator<T> {
+  private final IntFunction<PageFetcher<T>> segmentFetcher;
+  private final IntConsumer segmentCompletionListener;
+  private final int endSegment;
+  private int nextSegment;
+  private Iterator<T> current;
+  private int currentSegment;
+
+  /** @param segmentFetcher returns the fetcher of the pages of the given segment. */
+  public SegmentSpliterator(
+      final IntFunction<PageFetcher<T>> segmentFetcher, final int totalSegments) {
+    this(segmentFetcher, totalSegments, segment -> {});
+  }
+
+  /**
+   * @param segmentCompletionListener is called with a segment once all of its items have been
+   *     consumed.
+   */
+  public SegmentSpliterator(
+      final IntFunction<PageFetcher<T>> segmentFetcher,
+      final int totalSegments,
+      final IntConsumer segmentCompletionListener) {
+    this(segmentFetcher, segmentCompletionListener, 0, totalSegments);
+  }
+
+  private SegmentSpliterator(
+      final IntFunction<PageFetcher<T>> segmentFetcher,
+      final IntConsumer segmentCompletionListener,
+      final int startSegment,
+      final int endSegment) {
+    this.segmentFetcher = segmentFetcher;
+    this.segmentCompletionListener = segmentCompletionListener;
+    this.nextSegment = startSegment;
+    this.endSegment = endSegment;
+  }
+
+  @Override
+  public boolean tryAdvance(final Consumer<? super T> action) {
+    while (true) {
+      if (current == null) {
+        if (nextSegment >= endSegment) {
+          return false;
+        }
+        currentSegment = nextSegment++;
+        current = PagePrefetcher.NONE.iterator(segmentFetcher.apply(currentSegment));
+      }
+      if (current.hasNext()) {
+        action.accept(current.next());
+        return true;
+      }
+      current = null;
+      segmentCompletionListener.accept(currentSegment);
+    }
+  }
+
+  @Override
+  public Spliterator<T> trySplit() {
+    if (current != null || endSegment - nextSegment < 2) {
+      return null;
+    }
+    final int middle = nextSegment + (endSegment - nextSegment) / 2;
+    final SegmentSpliterator<T> prefix =
+        new SegmentSpliterator<>(segmentFetcher, segmentCompletionListener, nextSegment, middle);
+    nextSegment = middle;
+    return prefix;
+  }
+
+  /** The number of items is unknown until the segments are scanned. */
+  @Override
+  public long estimateSize() {
+    return Long.MAX_VALUE;
+  }
+
+  @Override
+  public int characteristics() {
+    return NONNULL;
+  }
+}
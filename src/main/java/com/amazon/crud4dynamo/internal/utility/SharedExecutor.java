@@ -0,0 +1,86 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.utility;
+
+import com.google.common.base.Suppliers;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * A pool of daemon threads used by background work when no executor is configured.
+ *
+ * <p>The work blocks on DynamoDB calls, so the pool has a few threads per core and a bounded queue.
+ * Idle threads stop after a while. Once the queue is full, the submitting thread runs the task
+ * itself, which slows down the callers instead of starting a thread per outstanding call.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class SharedExecutor {
+  static final int THREADS_PER_CORE = 4;
+  static final int MIN_THREADS = 8;
+  static final int QUEUE_CAPACITY = 1024;
+  private static final long KEEP_ALIVE_SECONDS = 60;
+
+  private static final Supplier<Executor> DEFAULT_EXECUTOR =
+      Suppliers.memoize(
+          () ->
+              newBoundedPool(
+                  Math.max(
+                      MIN_THREADS, THREADS_PER_CORE * Runtime.getRuntime().availableProcessors()),
+                  QUEUE_CAPACITY));
+
+  private static final Supplier<ScheduledExecutorService> SCHEDULER =
+      Suppliers.memoize(
+          () ->
+              Executors.newSingleThreadScheduledExecutor(
+                  new ThreadFactoryBuilder()
+                      .setDaemon(true)
+                      .setNameFormat("crud4dynamo-scheduler-%d")
+                      .build()));
+
+  static ThreadPoolExecutor newBoundedPool(final int threads, final int queueCapacity) {
+    final ThreadPoolExecutor pool =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("crud4dynamo-async-%d")
+                .build(),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    pool.allowCoreThreadTimeOut(true);
+    return pool;
+  }
+
+  public static Executor orDefault(final Executor executor) {
+    return executor == null ? DEFAULT_EXECUTOR.get() : executor;
+  }
+
+  /** A daemon thread for timers, whose tasks must only hand work over to an executor. */
+  public static ScheduledExecutorService scheduler() {
+    return SCHEDULER.get();
+  }
+}
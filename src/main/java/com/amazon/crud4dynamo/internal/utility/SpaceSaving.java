@@ -0,0 +1,139 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.internal.utility;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.Value;
+
+/**
+ * Approximate heavy hitters of a stream by the Space-Saving algorithm, in memory bounded by the
+ * capacity.
+ *
+ * <p>Once the capacity is reached, a new key takes over the counter of the least frequent key and
+ * inherits its count as error. Every key more frequent than {@code offers / capacity} is kept, and
+ * its count is overestimated by at most its error. Counters are kept in a min-heap, so offering a
+ * key takes logarithmic time.
+ */
+public class SpaceSaving<K> {
+  private final int capacity;
+  private final Map<K, Counter<K>> counters = new HashMap<>();
+  private final List<Counter<K>> heap;
+
+  public SpaceSaving(final int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+    }
+    this.capacity = capacity;
+    this.heap = new ArrayList<>(capacity);
+  }
+
+  public synchronized void offer(final K key) {
+    final Counter<K> existing = counters.get(key);
+    if (existing != null) {
+      existing.count++;
+      siftDown(existing.index);
+      return;
+    }
+    if (heap.size() < capacity) {
+      final Counter<K> counter = new Counter<>(key, heap.size());
+      counter.count = 1;
+      heap.add(counter);
+      counters.put(key, counter);
+      siftUp(counter.index);
+      return;
+    }
+    final Counter<K> minimum = heap.get(0);
+    counters.remove(minimum.key);
+    minimum.key = key;
+    minimum.error = minimum.count;
+    minimum.count++;
+    counters.put(key, minimum);
+    siftDown(0);
+  }
+
+  /** Returns the most frequent keys, the most frequent first. */
+  public synchronized List<Entry<K>> top(final int limit) {
+    return heap.stream()
+        .map(counter -> new Entry<>(counter.key, counter.count, counter.error))
+        .sorted(Comparator.comparingLong(Entry<K>::getCount).reversed())
+        .limit(limit)
+        .collect(Collectors.toList());
+  }
+
+  private void siftUp(int index) {
+    while (index > 0) {
+      final int parent = (index - 1) / 2;
+      if (heap.get(parent).count <= heap.get(index).count) {
+        return;
+      }
+      swap(index, parent);
+      index = parent;
+    }
+  }
+
+  private void siftDown(int index) {
+    while (true) {
+      final int left = 2 * index + 1;
+      final int right = left + 1;
+      int smallest = index;
+      if (left < heap.size() && heap.get(left).count < heap.get(smallest).count) {
+        smallest = left;
+      }
+      if (right < heap.size() && heap.get(right).count < heap.get(smallest).count) {
+        smallest = right;
+      }
+      if (smallest == index) {
+        return;
+      }
+      swap(index, smallest);
+      index = smallest;
+    }
+  }
+
+  private void swap(final int i, final int j) {
+    final Counter<K> first = heap.get(i);
+    final Counter<K> second = heap.get(j);
+    heap.set(i, second);
+    heap.set(j, first);
+    second.index = i;
+    first.index = j;
+  }
+
+  /** A key with its approximate count, which is at most {@code error} above the exact count. */
+  @Value
+  public static class Entry<K> {
+    private final K key;
+    private final long count;
+    private final long error;
+  }
+
+  private static class Counter<K> {
+    private K key;
+    private long count;
+    private long error;
+    private int index;
+
+    private Counter(final K key, final int index) {
+      this.key = key;
+      this.index = index;
+    }
+  }
+}
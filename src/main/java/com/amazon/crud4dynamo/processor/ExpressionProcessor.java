@@ -0,0 +1,417 @@
+/*
+ * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License").
+ *   You may not use this file except in compliance with the License.
+ *   A copy of the License is located at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   or in the "license" file accompanying this file. This file is distributed
+ *   on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ *   express or implied. See the License for the specific language governing
+ *   permissions and limitations under the License.
+ */
+
+package com.amazon.crud4dynamo.processor;
+
+import com.amazon.crud4dynamo.annotation.Delete;
+import com.amazon.crud4dynamo.annotation.Param;
+import com.amazon.crud4dynamo.annotation.Put;
+import com.amazon.crud4dynamo.annotation.Query;
+import com.amazon.crud4dynamo.annotation.Scan;
+import com.amazon.crud4dynamo.annotation.Update;
+import com.amazon.crud4dynamo.internal.parsing.ExpressionBindings;
+import com.amazon.crud4dynamo.internal.parsing.ExpressionGrammar;
+import com.amazon.crud4dynamo.internal.parsing.KeyExpressionBindings;
+import com.amazon.crud4dynamo.internal.parsing.KeyExpressionMapper;
+import com.amazon.crud4dynamo.internal.parsing.PrecompiledExpressions;
+import com.amazon.crud4dynamo.internal.parsing.ValueBinding;
+import com.google.common.base.Strings;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic.Kind;
+
+/**
+ * Parses the expressions of {@link Query}, {@link Scan}, {@link Update}, {@link Put} and {@link
+ * Delete} at compile time.
+ *
+ * <p>An invalid expression fails the compilation, and an expression attribute value or name without
+ * a matching {@link Param} parameter is reported as a warning. For every type declaring valid
+ * expressions a {@link PrecompiledExpressions.Provider} is generated, so the expressions do not
+ * need to be parsed again when the proxy is created.
+ *
+ * <p>The processor needs the ANTLR runtime on the processor path; if it is missing the processor
+ * does nothing. It is registered in the jar with the {@code processor} classifier only, so it never
+ * runs just because the library is on the compile classpath.
+ */
+public class ExpressionProcessor extends AbstractProcessor {
+  private static final List<Class<? extends Annotation>> ANNOTATIONS =
+      Arrays.asList(Query.class, Scan.class, Update.class, Put.class, Delete.class);
+
+  private boolean antlrAvailable;
+
+  @Override
+  public synchronized void init(final ProcessingEnvironment processingEnv) {
+    super.init(processingEnv);
+    try {
+      Class.forName("org.antlr.v4.runtime.Parser", false, getClass().getClassLoader());
+      antlrAvailable = true;
+    } catch (final ClassNotFoundException e) {
+      processingEnv
+          .getMessager()
+          .printMessage(
+              Kind.NOTE, "ANTLR runtime is not on the processor path, skip expression checks.");
+    }
+  }
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    return ANNOTATIONS.stream().map(Class::getCanonicalName).collect(Collectors.toSet());
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(
+      final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+    if (!antlrAvailable) {
+      return false;
+    }
+    final Map<TypeElement, TypeExpressions> expressionsByType = new LinkedHashMap<>();
+    for (final Class<? extends Annotation> annotation : ANNOTATIONS) {
+      for (final Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+        final ExecutableElement method = (ExecutableElement) element;
+        final TypeElement type = (TypeElement) method.getEnclosingElement();
+        new MethodExpressions(
+                method, expressionsByType.computeIfAbsent(type, key -> new TypeExpressions()))
+            .collect(method.getAnnotation(annotation));
+      }
+    }
+    expressionsByType.forEach(
+        (type, expressions) -> {
+          if (!expressions.hasError) {
+            generate(type, expressions);
+          }
+        });
+    return false;
+  }
+
+  private void generate(final TypeElement type, final TypeExpressions expressions) {
+    final PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+    final String packageName = packageElement.getQualifiedName().toString();
+    final String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+    final String simpleName =
+        (packageElement.isUnnamed() ? binaryName : binaryName.substring(packageName.length() + 1))
+            + PrecompiledExpressions.CLASS_NAME_SUFFIX;
+    final String qualifiedName =
+        packageElement.isUnnamed() ? simpleName : packageName + "." + simpleName;
+    try (final Writer writer =
+        processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+      writer.write(new SourceWriter(packageName, simpleName, expressions).toSource());
+    } catch (final IOException e) {
+      processingEnv
+          .getMessager()
+          .printMessage(Kind.ERROR, "Failed to generate " + qualifiedName + ": " + e, type);
+    }
+  }
+
+  private static class TypeExpressions {
+    private final Map<ExpressionGrammar, Map<String, ExpressionBindings>> expressions =
+        new LinkedHashMap<>();
+    private final Map<String, KeyExpressionBindings> keyExpressions = new LinkedHashMap<>();
+    private boolean hasError;
+  }
+
+  private class MethodExpressions {
+    private final ExecutableElement method;
+    private final TypeExpressions typeExpressions;
+    private final Set<String> params;
+
+    private MethodExpressions(
+        final ExecutableElement method, final TypeExpressions typeExpressions) {
+      this.method = method;
+      this.typeExpressions = typeExpressions;
+      params =
+          method.getParameters().stream()
+              .map(parameter -> parameter.getAnnotation(Param.class))
+              .filter(Objects::nonNull)
+              .map(Param::value)
+              .collect(Collectors.toSet());
+    }
+
+    private void collect(final Annotation annotation) {
+      if (annotation instanceof Query) {
+        final Query query = (Query) annotation;
+        expression("keyCondition", ExpressionGrammar.KEY_CONDITION, query.keyCondition());
+        expression("filter", ExpressionGrammar.CONDITION, query.filter());
+      } else if (annotation instanceof Scan) {
+        expression("filter", ExpressionGrammar.CONDITION, ((Scan) annotation).filter());
+      } else if (annotation instanceof Update) {
+        final Update update = (Update) annotation;
+        keyExpression(update.keyExpression());
+        expression("updateExpression", ExpressionGrammar.UPDATE, update.updateExpression());
+        expression(
+            "conditionExpression", ExpressionGrammar.CONDITION, update.conditionExpression());
+      } else if (annotation instanceof Put) {
+        final Put put = (Put) annotation;
+        checkParams("item", Stream.of(put.item()));
+        expression("conditionExpression", ExpressionGrammar.CONDITION, put.conditionExpression());
+      } else if (annotation instanceof Delete) {
+        final Delete delete = (Delete) annotation;
+        keyExpression(delete.keyExpression());
+        expression(
+            "conditionExpression", ExpressionGrammar.CONDITION, delete.conditionExpression());
+      }
+    }
+
+    private void expression(
+        final String attribute, final ExpressionGrammar grammar, final String expression) {
+      if (Strings.isNullOrEmpty(expression)) {
+        return;
+      }
+      final ExpressionBindings bindings =
+          parse(attribute, expression, () -> grammar.parse(expression));
+      if (bindings != null) {
+        checkParams(attribute, placeholders(bindings));
+        typeExpressions
+            .expressions
+            .computeIfAbsent(grammar, key -> new LinkedHashMap<>())
+            .put(expression, bindings);
+      }
+    }
+
+    private void keyExpression(final String expression) {
+      if (Strings.isNullOrEmpty(expression)) {
+        return;
+      }
+      final KeyExpressionBindings bindings =
+          parse("keyExpression", expression, () -> KeyExpressionMapper.extract(expression).get());
+      if (bindings != null) {
+        checkParams(
+            "keyExpression",
+            Stream.concat(
+                    Stream.of(bindings.getHashKey()),
+                    bindings.getRangeKey().map(Stream::of).orElseGet(Stream::empty))
+                .map(KeyExpressionBindings.Key::getBindings)
+                .flatMap(ExpressionProcessor::placeholders));
+        typeExpressions.keyExpressions.put(expression, bindings);
+      }
+    }
+
+    private <T> T parse(final String attribute, final String expression, final Supplier<T> parser) {
+      try {
+        return parser.get();
+      } catch (final RuntimeException e) {
+        typeExpressions.hasError = true;
+        processingEnv
+            .getMessager()
+            .printMessage(
+                Kind.ERROR,
+                String.format("Invalid %s '%s': %s", attribute, expression, e.getMessage()),
+                method);
+        return null;
+      }
+    }
+
+    private void checkParams(final String attribute, final Stream<String> placeholders) {
+      placeholders
+          .distinct()
+          .filter(placeholder -> !params.contains(placeholder))
+          .forEach(
+              placeholder ->
+                  processingEnv
+                      .getMessager()
+                      .printMessage(
+                          Kind.WARNING,
+                          String.format(
+                              "%s of %s has no parameter annotated with @Param(\"%s\").",
+                              placeholder, attribute, placeholder),
+                          method));
+    }
+  }
+
+  private static Stream<String> placeholders(final ExpressionBindings bindings) {
+    return Stream.of(
+            bindings.getExpressionAttributeNames().stream(),
+            bindings.getValueBindings().keySet().stream(),
+            bindings.getNameBindings().values().stream().flatMap(List::stream))
+        .flatMap(Function.identity());
+  }
+
+  private static class SourceWriter {
+    private final String packageName;
+    private final String simpleName;
+    private final TypeExpressions expressions;
+    private final StringBuilder source = new StringBuilder();
+
+    private SourceWriter(
+        final String packageName, final String simpleName, final TypeExpressions expressions) {
+      this.packageName = packageName;
+      this.simpleName = simpleName;
+      this.expressions = expressions;
+    }
+
+    private static String literal(final String text) {
+      final StringBuilder builder = new StringBuilder("\"");
+      for (final char c : text.toCharArray()) {
+        switch (c) {
+          case '"':
+            builder.append("\\\"");
+            break;
+          case '\\':
+            builder.append("\\\\");
+            break;
+          case '\n':
+            builder.append("\\n");
+            break;
+          case '\r':
+            builder.append("\\r");
+            break;
+          case '\t':
+            builder.append("\\t");
+            break;
+          default:
+            if (c < 0x20 || c > 0x7e) {
+              builder.append(String.format("\\u%04x", (int) c));
+            } else {
+              builder.append(c);
+            }
+        }
+      }
+      return builder.append('"').toString();
+    }
+
+    private String toSource() {
+      if (!packageName.isEmpty()) {
+        source.append("package ").append(packageName).append(";\n\n");
+      }
+      source
+          .append("/** Generated by ")
+          .append(ExpressionProcessor.class.getName())
+          .append(", do not edit. */\n")
+          .append("public final class ")
+          .append(simpleName)
+          .append(" implements ")
+          .append(PrecompiledExpressions.Provider.class.getCanonicalName())
+          .append(" {\n")
+          .append("  @Override\n")
+          .append("  public void register(final ")
+          .append(PrecompiledExpressions.Registry.class.getCanonicalName())
+          .append(" registry) {\n");
+      expressions.expressions.forEach(
+          (grammar, bindingsByExpression) ->
+              bindingsByExpression.forEach(
+                  (expression, bindings) -> {
+                    source
+                        .append("    registry.expression(")
+                        .append(ExpressionGrammar.class.getCanonicalName())
+                        .append('.')
+                        .append(grammar.name())
+                        .append(", ")
+                        .append(literal(expression))
+                        .append(", ");
+                    appendBindings(bindings);
+                    source.append(");\n");
+                  }));
+      expressions.keyExpressions.forEach(
+          (expression, bindings) -> {
+            source
+                .append("    registry.keyExpression(")
+                .append(literal(expression))
+                .append(", ")
+                .append(KeyExpressionBindings.class.getCanonicalName())
+                .append(".builder().hashKey(");
+            appendKey(bindings.getHashKey());
+            source.append(")");
+            bindings
+                .getRangeKey()
+                .ifPresent(
+                    rangeKey -> {
+                      source.append(".rangeKey(");
+                      appendKey(rangeKey);
+                      source.append(")");
+                    });
+            source.append(".build());\n");
+          });
+      return source.append("  }\n}\n").toString();
+    }
+
+    private void appendKey(final KeyExpressionBindings.Key key) {
+      source
+          .append("new ")
+          .append(KeyExpressionBindings.Key.class.getCanonicalName())
+          .append("(")
+          .append(literal(key.getKeyStringText()))
+          .append(", ");
+      appendBindings(key.getBindings());
+      source.append(")");
+    }
+
+    private void appendBindings(final ExpressionBindings bindings) {
+      source.append(ExpressionBindings.class.getCanonicalName()).append(".builder()");
+      bindings
+          .getExpressionAttributeNames()
+          .forEach(
+              name -> source.append(".expressionAttributeName(").append(literal(name)).append(")"));
+      bindings
+          .getValueBindings()
+          .forEach(
+              (value, binding) ->
+                  source
+                      .append(".valueBinding(")
+                      .append(literal(value))
+                      .append(", ")
+                      .append(toSource(binding))
+                      .append(")"));
+      bindings
+          .getNameBindings()
+          .forEach(
+              (name, values) ->
+                  source
+                      .append(".nameBinding(")
+                      .append(literal(name))
+                      .append(", java.util.Arrays.asList(")
+                      .append(
+                          values.stream()
+                              .map(SourceWriter::literal)
+                              .collect(Collectors.joining(", ")))
+                      .append("))"));
+      source.append(".build()");
+    }
+
+    private static String toSource(final ValueBinding binding) {
+      final String type = ValueBinding.class.getCanonicalName();
+      switch (binding.getKind()) {
+        case ATTRIBUTE:
+          return type + ".attribute(" + literal(binding.getTarget()) + ")";
+        case NESTED_PATH:
+          return type + ".nestedPath(" + literal(binding.getTarget()) + ")";
+        default:
+          return type + ".string()";
+      }
+    }
+  }
+}
@@ -3,10 +3,17 @@ package com.amazon.crud4dynamo;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.mockito.Mockito.mock;
 
+import com.amazon.crud4dynamo.extension.CacheBudget;
+import com.amazon.crud4dynamo.extension.CapacityBudget;
+import com.amazon.crud4dynamo.extension.ItemCacheSpec;
+import com.amazon.crud4dynamo.extension.diagnostics.OperationDiagnostics;
 import com.amazon.crud4dynamo.extension.factory.ChainedFactoryConstructor;
 import com.amazon.crud4dynamo.extension.factory.ChainedMethodFactoryConfig;
 import com.amazon.crud4dynamo.extension.factory.FactoryConfig;
+import com.amazon.crud4dynamo.extension.metrics.InMemoryMethodMetrics;
+import com.amazon.crud4dynamo.extension.metrics.MethodMetrics;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import java.util.concurrent.Executor;
 import org.assertj.core.api.AssertionsForClassTypes;
 import org.junit.jupiter.api.Test;
 
@@ -71,6 +78,107 @@ class ConfigTest {
         .containsExactly(config1, config2);
   }
 
+  @Test
+  void mergeExecutor() {
+    final Executor executor = Runnable::run;
+    final Config base = Config.builder().executor(executor).maxInFlightRequests(4).build();
+    final Config overrides = Config.builder().maxInFlightRequests(16).build();
+
+    final Config mergedConfig = Config.merge(base, overrides);
+
+    AssertionsForClassTypes.assertThat(mergedConfig.executor()).isSameAs(executor);
+    AssertionsForClassTypes.assertThat(mergedConfig.maxInFlightRequests()).isEqualTo(16);
+  }
+
+  @Test
+  void mergePrefetchPages() {
+    final Config base = Config.builder().prefetchPages(2).build();
+
+    AssertionsForClassTypes.assertThat(Config.merge(base, Config.builder().build()).prefetchPages())
+        .isEqualTo(2);
+    AssertionsForClassTypes.assertThat(
+            Config.merge(base, Config.builder().prefetchPages(0).build()).prefetchPages())
+        .isEqualTo(0);
+  }
+
+  @Test
+  void mergeMaxScanSegments() {
+    final Config base = Config.builder().maxScanSegments(8).build();
+    final Config overrides = Config.builder().maxScanSegments(32).build();
+
+    AssertionsForClassTypes.assertThat(Config.merge(base, overrides).maxScanSegments())
+        .isEqualTo(32);
+  }
+
+  @Test
+  void mergeWarmUpParsers() {
+    final Config base = Config.builder().warmUpParsers(true).build();
+
+    AssertionsForClassTypes.assertThat(Config.merge(base, Config.builder().build()).warmUpParsers())
+        .isTrue();
+    AssertionsForClassTypes.assertThat(
+            Config.merge(base, Config.builder().warmUpParsers(false).build()).warmUpParsers())
+        .isFalse();
+  }
+
+  @Test
+  void mergeCapacityBudgets_overrideSameTableAndIndex() {
+    final CapacityBudget table =
+        CapacityBudget.builder().tableName("Table").readCapacityUnits(10.0).build();
+    final CapacityBudget index =
+        CapacityBudget.builder()
+            .tableName("Table")
+            .indexName("Index")
+            .readCapacityUnits(5.0)
+            .build();
+    final CapacityBudget overridden =
+        CapacityBudget.builder().tableName("Table").readCapacityUnits(20.0).build();
+    final Config base = Config.builder().capacityBudget(table).capacityBudget(index).build();
+    final Config overrides = Config.builder().capacityBudget(overridden).build();
+
+    assertThat(Config.merge(base, overrides).capacityBudgets()).containsExactly(overridden, index);
+  }
+
+  @Test
+  void mergeItemCaches_overrideSameTable() {
+    final ItemCacheSpec table1 =
+        ItemCacheSpec.builder().tableName("Table1").maximumSize(10L).build();
+    final ItemCacheSpec table2 = ItemCacheSpec.builder().tableName("Table2").build();
+    final ItemCacheSpec overridden =
+        ItemCacheSpec.builder().tableName("Table1").maximumSize(20L).build();
+    final Config base = Config.builder().itemCache(table1).itemCache(table2).build();
+    final Config overrides = Config.builder().itemCache(overridden).build();
+
+    assertThat(Config.merge(base, overrides).itemCaches()).containsExactly(overridden, table2);
+  }
+
+  @Test
+  void mergeCacheBudget() {
+    final CacheBudget budget = CacheBudget.ofBytes(1024);
+    final Config base = Config.builder().cacheBudget(budget).build();
+
+    AssertionsForClassTypes.assertThat(Config.merge(base, Config.builder().build()).cacheBudget())
+        .isSameAs(budget);
+  }
+
+  @Test
+  void mergeMetrics() {
+    final MethodMetrics metrics = new InMemoryMethodMetrics();
+    final Config base = Config.builder().metrics(MethodMetrics.NO_OP).build();
+    final Config overrides = Config.builder().metrics(metrics).build();
+
+    AssertionsForClassTypes.assertThat(Config.merge(base, overrides).metrics()).isSameAs(metrics);
+  }
+
+  @Test
+  void mergeDiagnostics() {
+    final OperationDiagnostics diagnostics = OperationDiagnostics.builder().build();
+    final Config base = Config.builder().diagnostics(diagnostics).build();
+
+    AssertionsForClassTypes.assertThat(Config.merge(base, Config.builder().build()).diagnostics())
+        .isSameAs(diagnostics);
+  }
+
   private ChainedMethodFactoryConfig mockChainedMethodFactoryConfig(final int order) {
     return new FactoryConfig(order, mock(ChainedFactoryConstructor.class));
   }
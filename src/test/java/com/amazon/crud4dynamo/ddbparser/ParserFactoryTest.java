@@ -0,0 +1,47 @@
+package com.amazon.crud4dynamo.ddbparser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class ParserFactoryTest {
+  private static final ParserFactory<ConditionExpressionLexer, ConditionExpressionParser> FACTORY =
+      ParserFactory.of(ConditionExpressionLexer.class, ConditionExpressionParser.class);
+
+  private static String parseInLlMode(final String input) {
+    final ConditionExpressionParser parser = FACTORY.create(input);
+    return parser.start().toStringTree(parser);
+  }
+
+  @Test
+  void of_returnSharedFactory() {
+    assertThat(ParserFactory.of(ConditionExpressionLexer.class, ConditionExpressionParser.class))
+        .isSameAs(FACTORY);
+    assertThat(ParserFactory.of(UpdateExpressionLexer.class, UpdateExpressionParser.class))
+        .isNotSameAs(FACTORY);
+  }
+
+  @Test
+  void parse_sameTreeAsLlMode() {
+    final String input = "#a = :a AND (b.c[1] < :b OR attribute_exists(d)) AND e IN (:e1, :e2)";
+    final ConditionExpressionParser parser = FACTORY.create("");
+
+    assertThat(FACTORY.parse(input, ConditionExpressionParser::start).toStringTree(parser))
+        .isEqualTo(parseInLlMode(input));
+  }
+
+  @Test
+  void parse_invalidInput_reportSyntaxError() {
+    assertThatThrownBy(() -> FACTORY.parse("a = = :a", ConditionExpressionParser::start))
+        .isExactlyInstanceOf(RuntimeException.class)
+        .hasMessageStartingWith("Parsing error:");
+  }
+
+  @Test
+  void parse_invalidToken_reportSyntaxError() {
+    assertThatThrownBy(() -> FACTORY.parse("a = :a ^", ConditionExpressionParser::start))
+        .isExactlyInstanceOf(RuntimeException.class)
+        .hasMessageStartingWith("Parsing error:");
+  }
+}
@@ -0,0 +1,19 @@
+package com.amazon.crud4dynamo.extension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class CacheBudgetTest {
+
+  @Test
+  void nonPositiveBytes_throwException() {
+    assertThatThrownBy(() -> CacheBudget.ofBytes(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void ofBytes_noBytesUsed() {
+    assertThat(CacheBudget.ofBytes(100).getUsedBytes()).isZero();
+  }
+}
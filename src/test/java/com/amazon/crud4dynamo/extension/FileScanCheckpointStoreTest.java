@@ -0,0 +1,61 @@
+package com.amazon.crud4dynamo.extension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.amazon.crud4dynamo.extension.ScanCheckpointStore.ScanState;
+import com.amazon.crud4dynamo.extension.ScanCheckpointStore.SegmentCheckpoint;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.google.common.collect.ImmutableMap;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileScanCheckpointStoreTest {
+  private static final String SCAN_ID = "backfill-2019.06";
+  private static final Map<String, AttributeValue> KEY =
+      ImmutableMap.of(
+          "HashKey", new AttributeValue("a=b.c"),
+          "RangeKey", new AttributeValue().withN("42"),
+          "Binary.Key", new AttributeValue().withB(ByteBuffer.wrap(new byte[] {0, 1, 2})));
+
+  @TempDir Path directory;
+
+  @Test
+  void notStarted_empty() {
+    assertThat(new FileScanCheckpointStore(directory).load(SCAN_ID)).isEmpty();
+  }
+
+  @Test
+  void saveAndLoad() {
+    final FileScanCheckpointStore store = new FileScanCheckpointStore(directory);
+
+    store.save(SCAN_ID, 4, 0, SegmentCheckpoint.COMPLETED);
+    store.save(SCAN_ID, 4, 2, SegmentCheckpoint.after(KEY));
+
+    final ScanState expected =
+        new ScanState(
+            4, ImmutableMap.of(0, SegmentCheckpoint.COMPLETED, 2, SegmentCheckpoint.after(KEY)));
+    assertThat(store.load(SCAN_ID)).contains(expected);
+    assertThat(new FileScanCheckpointStore(directory).load(SCAN_ID)).contains(expected);
+  }
+
+  @Test
+  void save_replacePreviousCheckpoint() {
+    final FileScanCheckpointStore store = new FileScanCheckpointStore(directory);
+
+    store.save(SCAN_ID, 2, 1, SegmentCheckpoint.after(KEY));
+    store.save(SCAN_ID, 2, 1, SegmentCheckpoint.COMPLETED);
+
+    assertThat(new FileScanCheckpointStore(directory).load(SCAN_ID))
+        .contains(new ScanState(2, ImmutableMap.of(1, SegmentCheckpoint.COMPLETED)));
+  }
+
+  @Test
+  void invalidScanId_throwException() {
+    assertThatThrownBy(() -> new FileScanCheckpointStore(directory).load("../scan"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
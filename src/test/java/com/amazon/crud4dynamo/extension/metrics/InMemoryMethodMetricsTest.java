@@ -0,0 +1,85 @@
+package com.amazon.crud4dynamo.extension.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.amazon.crud4dynamo.extension.metrics.InMemoryMethodMetrics.Histogram;
+import com.amazon.crud4dynamo.extension.metrics.InMemoryMethodMetrics.Stats;
+import java.util.stream.LongStream;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+class InMemoryMethodMetricsTest {
+  private static final MethodTags TAGS = new MethodTags("Dao", "query", OperationType.QUERY);
+
+  @Test
+  void recordInvocationsAndRequests() {
+    final InMemoryMethodMetrics metrics = new InMemoryMethodMetrics();
+
+    metrics.recordInvocation(TAGS, 100, false);
+    metrics.recordInvocation(TAGS, 200, true);
+    metrics.recordRequest(TAGS, "Query", 50, 1.5, 3);
+    metrics.recordRequest(TAGS, "Query", 70, 0.5, 2);
+
+    final Stats stats = metrics.getStats(TAGS).get();
+    assertThat(stats.getInvocations()).isEqualTo(2);
+    assertThat(stats.getFailures()).isEqualTo(1);
+    assertThat(stats.getRequests()).isEqualTo(2);
+    assertThat(stats.getItems()).isEqualTo(5);
+    assertThat(stats.getConsumedCapacityUnits()).isEqualTo(2.0);
+    assertThat(stats.getLatency().getMax()).isEqualTo(200);
+    assertThat(stats.getRequestLatency().getCount()).isEqualTo(2);
+    assertThat(metrics.getAllStats()).containsOnlyKeys(TAGS);
+  }
+
+  @Test
+  void recordCacheHitsAndMisses() {
+    final InMemoryMethodMetrics metrics = new InMemoryMethodMetrics();
+
+    metrics.recordCacheHit(TAGS);
+    metrics.recordCacheHit(TAGS);
+    metrics.recordCacheMiss(TAGS);
+
+    final Stats stats = metrics.getStats(TAGS).get();
+    assertThat(stats.getCacheHits()).isEqualTo(2);
+    assertThat(stats.getCacheMisses()).isEqualTo(1);
+    assertThat(stats.getInvocations()).isZero();
+  }
+
+  @Test
+  void notRecorded_noStats() {
+    assertThat(new InMemoryMethodMetrics().getStats(TAGS)).isEmpty();
+  }
+
+  @Test
+  void histogram_bucketsAreContiguous() {
+    for (int bucket = 0; bucket < 200; bucket++) {
+      final long upperBound = Histogram.upperBoundOf(bucket);
+      assertThat(Histogram.bucketOf(upperBound)).isEqualTo(bucket);
+      assertThat(Histogram.bucketOf(upperBound + 1)).isEqualTo(bucket + 1);
+    }
+    assertThat(Histogram.bucketOf(Long.MAX_VALUE)).isLessThan(Long.SIZE * 4);
+  }
+
+  @Test
+  void histogram_percentileWithinBucketResolution() {
+    final Histogram histogram = new Histogram();
+    LongStream.rangeClosed(1, 1000).forEach(histogram::record);
+
+    assertThat(histogram.getCount()).isEqualTo(1000);
+    assertThat(histogram.percentile(0.5)).isCloseTo(500, Offset.offset(125L));
+    assertThat(histogram.percentile(0.99)).isCloseTo(990, Offset.offset(250L));
+    assertThat(histogram.percentile(1)).isEqualTo(1000);
+  }
+
+  @Test
+  void histogram_empty() {
+    assertThat(new Histogram().percentile(0.5)).isZero();
+  }
+
+  @Test
+  void histogram_invalidFraction_throwException() {
+    assertThatThrownBy(() -> new Histogram().percentile(1.5))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
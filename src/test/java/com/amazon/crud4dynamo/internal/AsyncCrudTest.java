@@ -0,0 +1,155 @@
+package com.amazon.crud4dynamo.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.amazon.crud4dynamo.CrudForDynamo;
+import com.amazon.crud4dynamo.annotation.Delete;
+import com.amazon.crud4dynamo.annotation.Param;
+import com.amazon.crud4dynamo.annotation.Query;
+import com.amazon.crud4dynamo.annotation.Update;
+import com.amazon.crud4dynamo.crudinterface.SimpleKeyCrud;
+import com.amazon.crud4dynamo.internal.AsyncCrudTest.Model;
+import com.amazon.crud4dynamo.testbase.SingleTableDynamoDbTestBase;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBAsync;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBAttribute;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
+import com.amazonaws.services.dynamodbv2.model.DeleteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.DeleteItemResult;
+import com.amazonaws.services.dynamodbv2.model.ReturnValue;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemRequest;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemResult;
+import com.google.common.collect.Lists;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AsyncCrudTest extends SingleTableDynamoDbTestBase<Model> {
+  private AmazonDynamoDBAsync asyncClient;
+
+  @Override
+  protected Class<Model> getModelClass() {
+    return Model.class;
+  }
+
+  @Override
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  public void setUp() throws Exception {
+    super.setUp();
+    asyncClient = mock(AmazonDynamoDBAsync.class, delegatesTo(getDynamoDbClient()));
+    doAnswer(
+            invocation -> {
+              final UpdateItemRequest request = invocation.getArgument(0);
+              final UpdateItemResult result = getDynamoDbClient().updateItem(request);
+              invocation
+                  .<AsyncHandler<UpdateItemRequest, UpdateItemResult>>getArgument(1)
+                  .onSuccess(request, result);
+              return CompletableFuture.completedFuture(result);
+            })
+        .when(asyncClient)
+        .updateItemAsync(any(UpdateItemRequest.class), any(AsyncHandler.class));
+    doAnswer(
+            invocation -> {
+              final DeleteItemRequest request = invocation.getArgument(0);
+              final AsyncHandler<DeleteItemRequest, DeleteItemResult> handler =
+                  invocation.getArgument(1);
+              try {
+                final DeleteItemResult result = getDynamoDbClient().deleteItem(request);
+                handler.onSuccess(request, result);
+                return CompletableFuture.completedFuture(result);
+              } catch (final Exception e) {
+                handler.onError(e);
+                final CompletableFuture<DeleteItemResult> future = new CompletableFuture<>();
+                future.completeExceptionally(e);
+                return future;
+              }
+            })
+        .when(asyncClient)
+        .deleteItemAsync(any(DeleteItemRequest.class), any(AsyncHandler.class));
+  }
+
+  @Test
+  void update_sentThroughAsyncClient() throws Exception {
+    final Dao dao = new CrudForDynamo(asyncClient).create(Dao.class);
+
+    final CompletableFuture<Model> future = dao.updateValue("A", "value");
+
+    assertThat(future.get()).isEqualTo(new Model("A", "value"));
+    verify(asyncClient).updateItemAsync(any(UpdateItemRequest.class), any(AsyncHandler.class));
+  }
+
+  @Test
+  void delete_failed_completeExceptionally() {
+    final Dao dao = new CrudForDynamo(asyncClient).create(Dao.class);
+
+    final CompletableFuture<Model> future = dao.deleteExisting("A");
+
+    assertThatThrownBy(future::get)
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(ConditionalCheckFailedException.class);
+  }
+
+  @Test
+  void query_runOnExecutor() throws Exception {
+    storeItems(new Model("A", "value"));
+    final Dao dao = new CrudForDynamo(asyncClient).create(Dao.class);
+
+    final CompletableFuture<Iterator<Model>> future = dao.query("A");
+
+    assertThat(Lists.newArrayList(future.get())).containsExactly(new Model("A", "value"));
+  }
+
+  @Test
+  void syncClient_runOnExecutor() throws Exception {
+    final Dao dao = new CrudForDynamo(getDynamoDbClient()).create(Dao.class);
+
+    assertThat(dao.updateValue("A", "value").get()).isEqualTo(new Model("A", "value"));
+    assertThat(dao.findBy("A")).contains(new Model("A", "value"));
+  }
+
+  public interface Dao extends SimpleKeyCrud<String, Model> {
+    @Update(
+        keyExpression = "HashKey = :hashKey",
+        updateExpression = "SET Str1 = :value",
+        returnValue = ReturnValue.ALL_NEW)
+    CompletableFuture<Model> updateValue(
+        @Param(":hashKey") final String hashKey, @Param(":value") final String value);
+
+    @Delete(
+        keyExpression = "HashKey = :hashKey",
+        conditionExpression = "attribute_exists(HashKey)",
+        returnValue = ReturnValue.ALL_OLD)
+    CompletableFuture<Model> deleteExisting(@Param(":hashKey") final String hashKey);
+
+    @Query(keyCondition = "HashKey = :hashKey")
+    CompletableFuture<Iterator<Model>> query(@Param(":hashKey") final String hashKey);
+  }
+
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @DynamoDBTable(tableName = "AsyncTable")
+  public static class Model {
+    @DynamoDBHashKey(attributeName = "HashKey")
+    private String hashKey;
+
+    @DynamoDBAttribute(attributeName = "Str1")
+    private String value;
+  }
+}
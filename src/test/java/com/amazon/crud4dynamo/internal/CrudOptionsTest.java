@@ -0,0 +1,38 @@
+package com.amazon.crud4dynamo.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.amazon.crud4dynamo.extension.Context;
+import com.amazon.crud4dynamo.internal.utility.BatchExecutor;
+import com.amazon.crud4dynamo.internal.utility.ItemCache;
+import com.amazon.crud4dynamo.internal.utility.PagePrefetcher;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class CrudOptionsTest {
+
+  @Test
+  void contextWithoutOptions_useDefaults() {
+    final CrudOptions options = CrudOptions.from(Context.builder().build());
+
+    assertThat(options.getBatchExecutor()).isSameAs(BatchExecutor.SEQUENTIAL);
+    assertThat(options.getPagePrefetcher()).isSameAs(PagePrefetcher.NONE);
+    assertThat(options.getItemCache()).isSameAs(ItemCache.NONE);
+    assertThat(options).isEqualTo(CrudOptions.DEFAULT);
+  }
+
+  @Test
+  void contextWithExecutor_enableBatchesAndPrefetching() {
+    final CrudOptions options =
+        CrudOptions.from(
+            Context.builder()
+                .executor(ForkJoinPool.commonPool())
+                .maxInFlightRequests(2)
+                .prefetchPages(2)
+                .build());
+
+    assertThat(options.getBatchExecutor()).isNotSameAs(BatchExecutor.SEQUENTIAL);
+    assertThat(options.getPagePrefetcher().isEnabled()).isTrue();
+    assertThat(options.getItemCache()).isSameAs(ItemCache.NONE);
+  }
+}
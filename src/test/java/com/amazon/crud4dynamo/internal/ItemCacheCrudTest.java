@@ -0,0 +1,128 @@
+package com.amazon.crud4dynamo.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.amazon.crud4dynamo.Config;
+import com.amazon.crud4dynamo.CrudForDynamo;
+import com.amazon.crud4dynamo.annotation.Delete;
+import com.amazon.crud4dynamo.annotation.Param;
+import com.amazon.crud4dynamo.annotation.Put;
+import com.amazon.crud4dynamo.annotation.Update;
+import com.amazon.crud4dynamo.crudinterface.SimpleKeyCrud;
+import com.amazon.crud4dynamo.extension.ItemCacheSpec;
+import com.amazon.crud4dynamo.internal.ItemCacheCrudTest.Model;
+import com.amazon.crud4dynamo.testbase.SingleTableDynamoDbTestBase;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBAttribute;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import java.time.Duration;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ItemCacheCrudTest extends SingleTableDynamoDbTestBase<Model> {
+  private CrudForDynamo crudForDynamo;
+  private Dao dao;
+  private Dao otherDao;
+
+  @Override
+  protected Class<Model> getModelClass() {
+    return Model.class;
+  }
+
+  @Override
+  @BeforeEach
+  public void setUp() throws Exception {
+    super.setUp();
+    crudForDynamo =
+        new CrudForDynamo(
+            getDynamoDbClient(),
+            Config.builder()
+                .itemCache(
+                    ItemCacheSpec.builder()
+                        .tableName("CachedTable")
+                        .maximumSize(100L)
+                        .expireAfterWrite(Duration.ofMinutes(1))
+                        .build())
+                .build());
+    dao = crudForDynamo.create(Dao.class);
+    otherDao = crudForDynamo.create(Dao.class);
+    storeItems(new Model("A", "old"));
+    assertThat(dao.findBy("A")).contains(new Model("A", "old"));
+    storeItems(new Model("A", "unseen"));
+  }
+
+  @Test
+  void findBy_sharedByCruds() {
+    assertThat(otherDao.findBy("A")).contains(new Model("A", "old"));
+  }
+
+  @Test
+  void notCachedByOtherCrudForDynamo() {
+    assertThat(new CrudForDynamo(getDynamoDbClient()).create(Dao.class).findBy("A"))
+        .contains(new Model("A", "unseen"));
+  }
+
+  @Test
+  void update_invalidate() {
+    otherDao.updateValue("A", "updated");
+
+    assertThat(dao.findBy("A")).contains(new Model("A", "updated"));
+  }
+
+  @Test
+  void put_invalidate() {
+    otherDao.put(new Model("A", "put"));
+
+    assertThat(dao.findBy("A")).contains(new Model("A", "put"));
+  }
+
+  @Test
+  void delete_invalidate() {
+    otherDao.deleteByKey("A");
+
+    assertThat(dao.findBy("A")).isEmpty();
+  }
+
+  @Test
+  void transactionWrite_invalidate() {
+    crudForDynamo.createTransaction(Transaction.class).updateValue("A", "transacted");
+
+    assertThat(dao.findBy("A")).contains(new Model("A", "transacted"));
+  }
+
+  public interface Dao extends SimpleKeyCrud<String, Model> {
+    @Update(keyExpression = "HashKey = :hashKey", updateExpression = "SET Str1 = :value")
+    void updateValue(@Param(":hashKey") final String hashKey, @Param(":value") final String value);
+
+    @Put
+    void put(@Param(":item") final Model model);
+
+    @Delete(keyExpression = "HashKey = :hashKey")
+    void deleteByKey(@Param(":hashKey") final String hashKey);
+  }
+
+  private interface Transaction {
+    @com.amazon.crud4dynamo.annotation.transaction.Update(
+        tableClass = Model.class,
+        keyExpression = "HashKey = :hashKey",
+        updateExpression = "SET Str1 = :value")
+    void updateValue(@Param(":hashKey") final String hashKey, @Param(":value") final String value);
+  }
+
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @DynamoDBTable(tableName = "CachedTable")
+  public static class Model {
+    @DynamoDBHashKey(attributeName = "HashKey")
+    private String hashKey;
+
+    @DynamoDBAttribute(attributeName = "Str1")
+    private String value;
+  }
+}
@@ -0,0 +1,75 @@
+package com.amazon.crud4dynamo.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.amazon.crud4dynamo.extension.ItemCacheSpec;
+import com.amazon.crud4dynamo.extension.Pair;
+import com.amazon.crud4dynamo.internal.CompositeKeyCrudImplTest.Model;
+import com.amazon.crud4dynamo.internal.utility.CacheInvalidatingDynamoDb;
+import com.amazon.crud4dynamo.internal.utility.ItemCache;
+import com.amazon.crud4dynamo.testbase.CompositeKeyTestBase;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.google.common.collect.Lists;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Runs the composite key crud tests with the items of the table cached. */
+public class ItemCachedCompositeKeyCrudImplTest
+    extends CompositeKeyTestBase<Model, CompositeKeyCrudImpl> {
+  @Override
+  protected Class<Model> getModelClass() {
+    return Model.class;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  protected CompositeKeyCrudImpl newDao() {
+    final ItemCache itemCache =
+        ItemCache.of(
+            Collections.singletonList(ItemCacheSpec.builder().tableName("TestTable").build()));
+    return new CompositeKeyCrudImpl<>(
+        new DynamoDBMapper(CacheInvalidatingDynamoDb.wrap(getDynamoDbClient(), itemCache)),
+        DynamoDBMapperConfig.DEFAULT,
+        getModelClass(),
+        CrudOptions.builder().itemCache(itemCache).build());
+  }
+
+  @Override
+  protected List<Model> getTestData() {
+    return Arrays.asList(
+        Model.builder().hashKey("A").rangeKey(1).stringAttribute("A").build(),
+        Model.builder().hashKey("A").rangeKey(2).stringAttribute("B").build(),
+        Model.builder().hashKey("B").rangeKey(3).stringAttribute("C").build());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void findBy_cachedByHashAndRangeKey() {
+    storeItems(getTestData().get(0), getTestData().get(1));
+    assertThat(getDao().findBy("A", 1)).contains(getTestData().get(0));
+
+    storeItems(Model.builder().hashKey("A").rangeKey(1).stringAttribute("Z").build());
+    storeItems(Model.builder().hashKey("A").rangeKey(2).stringAttribute("Z").build());
+
+    assertThat(getDao().findBy("A", 1)).contains(getTestData().get(0));
+    assertThat(
+            Lists.newArrayList(getDao().findAllBy(Arrays.asList(Pair.of("A", 1), Pair.of("A", 2)))))
+        .containsExactlyInAnyOrder(
+            getTestData().get(0),
+            Model.builder().hashKey("A").rangeKey(2).stringAttribute("Z").build());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void deleteBy_invalidate() {
+    getDao().save(getTestData().get(0));
+    assertThat(getDao().findBy("A", 1)).contains(getTestData().get(0));
+
+    getDao().deleteBy("A", 1);
+
+    assertThat(getDao().findBy("A", 1)).isEmpty();
+  }
+}
@@ -0,0 +1,94 @@
+package com.amazon.crud4dynamo.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.amazon.crud4dynamo.extension.ItemCacheSpec;
+import com.amazon.crud4dynamo.internal.SimpleKeyCrudImplTest.Model;
+import com.amazon.crud4dynamo.internal.utility.CacheInvalidatingDynamoDb;
+import com.amazon.crud4dynamo.internal.utility.ItemCache;
+import com.amazon.crud4dynamo.testbase.SimpleKeyTestBase;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.google.common.collect.Lists;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Runs the simple key crud tests with the items of the table cached. */
+public class ItemCachedSimpleKeyCrudImplTest extends SimpleKeyTestBase<Model, SimpleKeyCrudImpl> {
+  @Override
+  @SuppressWarnings("unchecked")
+  protected SimpleKeyCrudImpl newDao() {
+    final ItemCache itemCache =
+        ItemCache.of(
+            Collections.singletonList(ItemCacheSpec.builder().tableName("TestTable").build()));
+    return new SimpleKeyCrudImpl<>(
+        new DynamoDBMapper(CacheInvalidatingDynamoDb.wrap(getDynamoDbClient(), itemCache)),
+        DynamoDBMapperConfig.DEFAULT,
+        getModelClass(),
+        CrudOptions.builder().itemCache(itemCache).build());
+  }
+
+  @Override
+  protected List<Model> getTestData() {
+    return Arrays.asList(
+        Model.builder().hashKey("A").integer1(1).build(),
+        Model.builder().hashKey("B").integer1(2).build(),
+        Model.builder().hashKey("C").integer1(3).build());
+  }
+
+  @Override
+  protected Class getModelClass() {
+    return Model.class;
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void findBy_cached() {
+    storeItems(new Model("A", 1));
+    assertThat(getDao().findBy("A")).contains(new Model("A", 1));
+
+    storeItems(new Model("A", 2));
+
+    assertThat(getDao().findBy("A")).contains(new Model("A", 1));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void findBy_absentCached() {
+    assertThat(getDao().findBy("A")).isEmpty();
+
+    storeItems(new Model("A", 1));
+
+    assertThat(getDao().findBy("A")).isEmpty();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void findBy_newModelOnEveryHit() {
+    storeItems(new Model("A", 1));
+    ((Model) getDao().findBy("A").get()).setInteger1(2);
+
+    assertThat(getDao().findBy("A")).contains(new Model("A", 1));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void writes_invalidate() {
+    getDao().findAllBy(Arrays.asList("A", "B", "C")).forEachRemaining(model -> {});
+
+    getDao().save(new Model("A", 1));
+    getDao().saveAll(Collections.singletonList(new Model("B", 2)));
+    storeItems(new Model("C", 3));
+
+    assertThat(getDao().findBy("A")).contains(new Model("A", 1));
+    assertThat(Lists.newArrayList(getDao().findAllBy(Arrays.asList("A", "B", "C"))))
+        .containsExactlyInAnyOrder(new Model("A", 1), new Model("B", 2));
+
+    getDao().deleteBy("A");
+    getDao().delete(new Model("B", 2));
+
+    assertThat(Lists.newArrayList(getDao().findAllBy(Arrays.asList("A", "B", "C")))).isEmpty();
+  }
+}
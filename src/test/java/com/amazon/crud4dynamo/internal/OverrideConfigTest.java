@@ -2,10 +2,13 @@ package com.amazon.crud4dynamo.internal;
 
 import com.amazon.crud4dynamo.Config;
 import com.amazon.crud4dynamo.CrudForDynamo;
+import com.amazon.crud4dynamo.crudinterface.CompositeKeyCrud;
 import com.amazon.crud4dynamo.crudinterface.SimpleKeyCrud;
 import com.amazon.crud4dynamo.extension.factory.AbstractMethodFactory;
 import com.amazon.crud4dynamo.extension.factory.ChainedFactoryConstructor;
 import com.amazon.crud4dynamo.extension.factory.ChainedMethodFactoryConfig;
+import com.amazon.crud4dynamo.internal.config.DefaultCrudFactoryConfig;
+import com.amazon.crud4dynamo.internal.factory.DirectCrudMethodFactory;
 import com.amazon.crud4dynamo.internal.factory.MapperConfigAwareMethodFactory;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
 import org.assertj.core.api.AssertionsForClassTypes;
@@ -91,4 +94,31 @@ class OverrideConfigTest {
           .createSimple(getModelClass());
     }
   }
+
+  @Nested
+  class WithDirectCrudFactoryForSimpleKey extends SimpleKeyCrudTest {
+    @Override
+    protected SimpleKeyCrud newDao() {
+      return new CrudForDynamo(getDynamoDbClient(), directCrudConfig())
+          .createSimple(getModelClass());
+    }
+  }
+
+  @Nested
+  class WithDirectCrudFactoryForCompositeKey extends CompositeKeyCrudTest {
+    @Override
+    protected CompositeKeyCrud newDao() {
+      return new CrudForDynamo(getDynamoDbClient(), directCrudConfig())
+          .createComposite(getModelClass());
+    }
+  }
+
+  private static Config directCrudConfig() {
+    return Config.builder()
+        .crudFactoryConstructorConfig(
+            new com.amazon.crud4dynamo.extension.factory.FactoryConfig(
+                DefaultCrudFactoryConfig.BASIC_CRUD_METHOD.getOrder(),
+                DirectCrudMethodFactory::new))
+        .build();
+  }
 }
@@ -0,0 +1,44 @@
+package com.amazon.crud4dynamo.internal;
+
+import com.amazon.crud4dynamo.internal.CompositeKeyCrudImplTest.Model;
+import com.amazon.crud4dynamo.internal.utility.BatchExecutor;
+import com.amazon.crud4dynamo.internal.utility.PagePrefetcher;
+import com.amazon.crud4dynamo.testbase.CompositeKeyTestBase;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Runs the composite key crud tests with more items than a single batch request can hold,
+ * prefetching pages in the background.
+ */
+public class ParallelBatchCompositeKeyCrudImplTest
+    extends CompositeKeyTestBase<Model, CompositeKeyCrudImpl> {
+  @Override
+  protected Class<Model> getModelClass() {
+    return Model.class;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  protected CompositeKeyCrudImpl newDao() {
+    return new CompositeKeyCrudImpl<>(
+        getDynamoDbMapper(),
+        DynamoDBMapperConfig.DEFAULT,
+        getModelClass(),
+        CrudOptions.builder()
+            .batchExecutor(BatchExecutor.of(ForkJoinPool.commonPool(), 2))
+            .pagePrefetcher(PagePrefetcher.of(ForkJoinPool.commonPool(), 2))
+            .build());
+  }
+
+  @Override
+  protected List<Model> getTestData() {
+    return IntStream.range(0, 250)
+        .mapToObj(
+            i -> Model.builder().hashKey("Key" + i % 3).rangeKey(i).stringAttribute("A").build())
+        .collect(Collectors.toList());
+  }
+}
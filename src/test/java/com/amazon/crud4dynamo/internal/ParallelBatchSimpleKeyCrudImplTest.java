@@ -0,0 +1,43 @@
+package com.amazon.crud4dynamo.internal;
+
+import com.amazon.crud4dynamo.internal.SimpleKeyCrudImplTest.Model;
+import com.amazon.crud4dynamo.internal.utility.BatchExecutor;
+import com.amazon.crud4dynamo.internal.utility.PagePrefetcher;
+import com.amazon.crud4dynamo.testbase.SimpleKeyTestBase;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Runs the simple key crud tests with more items than a single batch request can hold, prefetching
+ * pages in the background.
+ */
+public class ParallelBatchSimpleKeyCrudImplTest
+    extends SimpleKeyTestBase<Model, SimpleKeyCrudImpl> {
+  @Override
+  @SuppressWarnings("unchecked")
+  protected SimpleKeyCrudImpl newDao() {
+    return new SimpleKeyCrudImpl<>(
+        getDynamoDbMapper(),
+        DynamoDBMapperConfig.DEFAULT,
+        getModelClass(),
+        CrudOptions.builder()
+            .batchExecutor(BatchExecutor.of(ForkJoinPool.commonPool(), 2))
+            .pagePrefetcher(PagePrefetcher.of(ForkJoinPool.commonPool(), 2))
+            .build());
+  }
+
+  @Override
+  protected List<Model> getTestData() {
+    return IntStream.range(0, 60)
+        .mapToObj(i -> Model.builder().hashKey("Key" + i).integer1(i).build())
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  protected Class getModelClass() {
+    return Model.class;
+  }
+}
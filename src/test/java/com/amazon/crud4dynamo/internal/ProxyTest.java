@@ -1,7 +1,9 @@
 package com.amazon.crud4dynamo.internal;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -21,7 +23,47 @@ class ProxyTest {
     verify(abstractMethod).invoke();
   }
 
+  @Test
+  void repeatedCalls_dispatchToMethodOfEachSignature() throws Throwable {
+    final FinderDao dao =
+        new Proxy<>(
+                FinderDao.class,
+                method ->
+                    mock(
+                        AbstractMethod.class,
+                        invocation ->
+                            invocation.getMethod().getName().equals("bind")
+                                ? invocation.getMock()
+                                : method.getName()))
+            .create();
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(dao.findBy("key")).isEqualTo("findBy");
+      assertThat(dao.findAllBy("key")).isEqualTo("findAllBy");
+    }
+    assertThat(dao).isEqualTo(dao);
+    assertThat(dao.hashCode()).isEqualTo(System.identityHashCode(dao));
+  }
+
+  @Test
+  void repeatedCalls_invokeSameMethod() throws Throwable {
+    final AbstractMethod abstractMethod = mock(AbstractMethod.class);
+    when(abstractMethod.bind(any())).thenReturn(abstractMethod);
+    final Dao dao = new Proxy<>(Dao.class, method -> abstractMethod).create();
+
+    dao.aMethod();
+    dao.aMethod();
+
+    verify(abstractMethod, times(2)).invoke();
+  }
+
   private interface Dao {
     void aMethod();
   }
+
+  private interface FinderDao {
+    String findBy(String key);
+
+    String findAllBy(String key);
+  }
 }
@@ -0,0 +1,66 @@
+package com.amazon.crud4dynamo.internal.factory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amazon.crud4dynamo.extension.Context;
+import com.amazon.crud4dynamo.extension.Signature;
+import com.amazon.crud4dynamo.extension.factory.AbstractMethodFactory;
+import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.amazon.crud4dynamo.internal.method.AsyncMethod;
+import com.google.common.reflect.TypeToken;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class AsyncMethodFactoryTest {
+  private AbstractMethodFactory delegate;
+  private AsyncMethodFactory factory;
+
+  @BeforeEach
+  void setUp() {
+    delegate = mock(AbstractMethodFactory.class);
+    factory = new AsyncMethodFactory(delegate);
+  }
+
+  @Test
+  void notReturnCompletableFuture_delegate() throws Exception {
+    final Context context = getContext("syncMethod");
+
+    factory.create(context);
+
+    verify(delegate).create(context);
+  }
+
+  @Test
+  void returnCompletableFuture_createAsyncMethodOfResultType() throws Exception {
+    final Context context = getContext("asyncMethod");
+    when(delegate.create(any())).thenReturn(mock(AbstractMethod.class));
+
+    final AbstractMethod method = factory.create(context);
+
+    final ArgumentCaptor<Context> captor = ArgumentCaptor.forClass(Context.class);
+    verify(delegate).create(captor.capture());
+    assertThat(method).isInstanceOf(AsyncMethod.class);
+    assertThat(method.getSignature()).isEqualTo(context.signature());
+    assertThat(captor.getValue().signature().returnType())
+        .isEqualTo(new TypeToken<List<String>>() {});
+  }
+
+  private Context getContext(final String methodName) throws NoSuchMethodException {
+    return Context.builder()
+        .signature(Signature.resolve(Dao.class.getMethod(methodName), Dao.class))
+        .build();
+  }
+
+  private interface Dao {
+    List<String> syncMethod();
+
+    CompletableFuture<List<String>> asyncMethod();
+  }
+}
@@ -0,0 +1,120 @@
+package com.amazon.crud4dynamo.internal.factory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import com.amazon.crud4dynamo.annotation.Coalesce;
+import com.amazon.crud4dynamo.annotation.Param;
+import com.amazon.crud4dynamo.annotation.Update;
+import com.amazon.crud4dynamo.exception.CrudForDynamoException;
+import com.amazon.crud4dynamo.extension.Context;
+import com.amazon.crud4dynamo.extension.Signature;
+import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.amazon.crud4dynamo.internal.method.CoalescingUpdateMethod;
+import com.amazon.crud4dynamo.internal.parsing.CoalescibleUpdateExpression.NotCoalescibleException;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBAttribute;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import lombok.Data;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CoalescingUpdateMethodFactoryTest {
+  private AmazonDynamoDB mockDynamoDb;
+  private AbstractMethod mockMethod;
+  private CoalescingUpdateMethodFactory factory;
+
+  @BeforeEach
+  void setUp() {
+    mockDynamoDb = mock(AmazonDynamoDB.class);
+    mockMethod = mock(AbstractMethod.class);
+    factory = new CoalescingUpdateMethodFactory(context -> mockMethod);
+  }
+
+  @Test
+  void withoutCoalesceAnnotation_delegate() throws Exception {
+    assertThat(factory.create(getContext("withoutCoalesce"))).isSameAs(mockMethod);
+  }
+
+  @Test
+  void withCoalesceAnnotation_createCoalescingUpdateMethod() throws Exception {
+    assertThat(factory.create(getContext("coalesced"))).isInstanceOf(CoalescingUpdateMethod.class);
+  }
+
+  @Test
+  void invalidMethods_throwException() throws Exception {
+    for (final String methodName :
+        Arrays.asList("notUpdate", "notCompletableFuture", "withConditionExpression")) {
+      final Context context = getContext(methodName);
+
+      assertThatThrownBy(() -> factory.create(context)).isInstanceOf(CrudForDynamoException.class);
+    }
+  }
+
+  @Test
+  void notCoalescibleUpdateExpression_throwException() throws Exception {
+    final Context context = getContext("notCoalescible");
+
+    assertThatThrownBy(() -> factory.create(context)).isInstanceOf(NotCoalescibleException.class);
+  }
+
+  private Context getContext(final String methodName) throws NoSuchMethodException {
+    final Method method =
+        Arrays.stream(Dao.class.getMethods())
+            .filter(m -> m.getName().equals(methodName))
+            .findFirst()
+            .orElseThrow(NoSuchMethodException::new);
+    return Context.builder()
+        .signature(Signature.resolve(method, Dao.class))
+        .method(method)
+        .modelType(Model.class)
+        .amazonDynamoDb(mockDynamoDb)
+        .mapper(new DynamoDBMapper(mockDynamoDb))
+        .build();
+  }
+
+  private interface Dao {
+    @Update(keyExpression = "HashKey = :hashKey", updateExpression = "ADD Counter :inc")
+    CompletableFuture<Void> withoutCoalesce(
+        @Param(":hashKey") String hashKey, @Param(":inc") long inc);
+
+    @Coalesce
+    @Update(keyExpression = "HashKey = :hashKey", updateExpression = "ADD Counter :inc")
+    CompletableFuture<Void> coalesced(@Param(":hashKey") String hashKey, @Param(":inc") long inc);
+
+    @Coalesce
+    CompletableFuture<Void> notUpdate(@Param(":hashKey") String hashKey);
+
+    @Coalesce
+    @Update(keyExpression = "HashKey = :hashKey", updateExpression = "ADD Counter :inc")
+    void notCompletableFuture(@Param(":hashKey") String hashKey, @Param(":inc") long inc);
+
+    @Coalesce
+    @Update(
+        keyExpression = "HashKey = :hashKey",
+        updateExpression = "ADD Counter :inc",
+        conditionExpression = "Counter < :max")
+    CompletableFuture<Void> withConditionExpression(
+        @Param(":hashKey") String hashKey, @Param(":inc") long inc, @Param(":max") long max);
+
+    @Coalesce
+    @Update(keyExpression = "HashKey = :hashKey", updateExpression = "REMOVE Counter")
+    CompletableFuture<Void> notCoalescible(@Param(":hashKey") String hashKey);
+  }
+
+  @Data
+  @DynamoDBTable(tableName = "Model")
+  public static class Model {
+    @DynamoDBHashKey(attributeName = "HashKey")
+    private String hashKey;
+
+    @DynamoDBAttribute(attributeName = "Counter")
+    private Long counter;
+  }
+}
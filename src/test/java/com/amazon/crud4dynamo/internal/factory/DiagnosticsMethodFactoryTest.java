@@ -0,0 +1,177 @@
+package com.amazon.crud4dynamo.internal.factory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.amazon.crud4dynamo.annotation.Param;
+import com.amazon.crud4dynamo.annotation.Query;
+import com.amazon.crud4dynamo.annotation.Update;
+import com.amazon.crud4dynamo.crudinterface.CompositeKeyCrud;
+import com.amazon.crud4dynamo.extension.Context;
+import com.amazon.crud4dynamo.extension.Signature;
+import com.amazon.crud4dynamo.extension.diagnostics.HotKey;
+import com.amazon.crud4dynamo.extension.diagnostics.OperationDiagnostics;
+import com.amazon.crud4dynamo.extension.diagnostics.SlowOperation;
+import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.amazon.crud4dynamo.extension.metrics.OperationType;
+import com.amazon.crud4dynamo.internal.factory.DiagnosticsMethodFactoryTest.Model;
+import com.amazon.crud4dynamo.internal.method.DiagnosedMethod;
+import com.amazon.crud4dynamo.testbase.SingleTableDynamoDbTestBase;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBRangeKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+class DiagnosticsMethodFactoryTest extends SingleTableDynamoDbTestBase<Model> {
+  @Override
+  protected Class<Model> getModelClass() {
+    return Model.class;
+  }
+
+  @Test
+  void withoutDiagnostics_returnDelegateMethod() throws Exception {
+    final AbstractMethod delegateMethod = mock(AbstractMethod.class);
+
+    assertThat(
+            new DiagnosticsMethodFactory(context -> delegateMethod)
+                .create(getContext(getMethod("findAll"), null)))
+        .isSameAs(delegateMethod);
+  }
+
+  @Test
+  void query_sampleHashKeyArgument() throws Throwable {
+    final OperationDiagnostics diagnostics =
+        OperationDiagnostics.builder().keySampleRate(1.0).build();
+    final AbstractMethod method =
+        new DiagnosticsMethodFactory(new QueryMethodFactory(null))
+            .create(getContext(getMethod("query", String.class), diagnostics));
+
+    assertThat(method).isInstanceOf(DiagnosedMethod.class);
+    method.invoke("A");
+    method.invoke("A");
+    method.invoke("B");
+
+    assertThat(diagnostics.getHotKeys(1)).containsExactly(new HotKey("Model", "A", 2, 0));
+  }
+
+  @Test
+  void defaultKeySampleRate_sampleFewOperations() {
+    final OperationDiagnostics diagnostics = OperationDiagnostics.builder().build();
+
+    final long sampled =
+        IntStream.range(0, 10_000).filter(i -> diagnostics.shouldSampleKey()).count();
+
+    assertThat(sampled).isBetween(1L, 1_000L);
+  }
+
+  @Test
+  void partitionKeySampler() throws Exception {
+    assertThat(sampler(getMethod("query", String.class)).apply(new Object[] {"A"})).isEqualTo("A");
+    assertThat(
+            sampler(getMethod("update", String.class, Integer.class)).apply(new Object[] {"A", 1}))
+        .isEqualTo("A");
+    assertThat(
+            sampler(getMethod("findBy", Object.class, Object.class)).apply(new Object[] {"A", 1}))
+        .isEqualTo("A");
+    assertThat(sampler(getMethod("save", Object.class)).apply(new Object[] {new Model("A", 1)}))
+        .isEqualTo("A");
+    assertThat(sampler(getMethod("findAll")).apply(new Object[0])).isNull();
+  }
+
+  @Test
+  void slowOperation_reportWithKey() throws Throwable {
+    final List<SlowOperation> slowOperations = new ArrayList<>();
+    final OperationDiagnostics diagnostics =
+        OperationDiagnostics.builder()
+            .slowOperationThreshold(Duration.ofMillis(10))
+            .keySampleRate(0.0)
+            .slowOperationListener(slowOperations::add)
+            .build();
+    final AbstractMethod method =
+        new DiagnosticsMethodFactory(
+                context ->
+                    new AbstractMethod() {
+                      @Override
+                      public Signature getSignature() {
+                        return context.signature();
+                      }
+
+                      @Override
+                      public Object invoke(final Object... args) throws Throwable {
+                        Thread.sleep(args[0].equals("slow") ? 50 : 0);
+                        return null;
+                      }
+
+                      @Override
+                      public AbstractMethod bind(final Object target) {
+                        return this;
+                      }
+                    })
+            .create(getContext(getMethod("query", String.class), diagnostics));
+
+    method.invoke("fast");
+    method.invoke("slow");
+
+    assertThat(diagnostics.getHotKeys(10)).isEmpty();
+    assertThat(slowOperations).hasSize(1);
+    final SlowOperation slowOperation = slowOperations.get(0);
+    assertThat(slowOperation.getTags().getOperationType()).isEqualTo(OperationType.QUERY);
+    assertThat(slowOperation.getTableName()).isEqualTo("Model");
+    assertThat(slowOperation.getPartitionKey()).isEqualTo("slow");
+    assertThat(slowOperation.getLatencyNanos()).isGreaterThan(Duration.ofMillis(10).toNanos());
+  }
+
+  private Function<Object[], String> sampler(final Method method) throws Exception {
+    return DiagnosticsMethodFactory.newPartitionKeySampler(
+        getContext(method, null), getDynamoDbMapperTableModel());
+  }
+
+  private static Method getMethod(final String name, final Class<?>... parameterTypes)
+      throws NoSuchMethodException {
+    return Dao.class.getMethod(name, parameterTypes);
+  }
+
+  private Context getContext(final Method method, final OperationDiagnostics diagnostics) {
+    return Context.builder()
+        .signature(Signature.resolve(method, Dao.class))
+        .method(method)
+        .interfaceType(Dao.class)
+        .modelType(getModelClass())
+        .mapper(getDynamoDbMapper())
+        .amazonDynamoDb(getDynamoDbClient())
+        .diagnostics(diagnostics)
+        .build();
+  }
+
+  public interface Dao extends CompositeKeyCrud<String, Integer, Model> {
+    @Query(keyCondition = "HashKey = :hashKey")
+    Iterator<Model> query(@Param(":hashKey") String hashKey);
+
+    @Update(keyExpression = "HashKey = :hashKey, RangeKey = :rangeKey", updateExpression = "")
+    void update(@Param(":hashKey") String hashKey, @Param(":rangeKey") Integer rangeKey);
+  }
+
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @DynamoDBTable(tableName = "Model")
+  public static class Model {
+    @DynamoDBHashKey(attributeName = "HashKey")
+    private String hashKey;
+
+    @DynamoDBRangeKey(attributeName = "RangeKey")
+    private Integer rangeKey;
+  }
+}
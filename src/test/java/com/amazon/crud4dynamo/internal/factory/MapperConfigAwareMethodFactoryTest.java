@@ -8,10 +8,12 @@ import com.amazon.crud4dynamo.extension.Context;
 import com.amazon.crud4dynamo.extension.Signature;
 import com.amazon.crud4dynamo.extension.factory.AbstractMethodFactory;
 import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBAsync;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.ConsistentReads;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.SaveBehavior;
 import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -62,6 +64,21 @@ class MapperConfigAwareMethodFactoryTest {
         .matches(newConfigPredicate(ConsistentReads.CONSISTENT, SaveBehavior.APPEND_SET));
   }
 
+  @Test
+  void methodWithMapperConfigAnnotation_keepOtherContextFields() throws Exception {
+    final Context context =
+        getContext("withDefaultMapperConfigAnnotation")
+            .toBuilder()
+            .amazonDynamoDbAsync(mock(AmazonDynamoDBAsync.class))
+            .executor(mock(Executor.class))
+            .maxInFlightRequests(2)
+            .build();
+
+    mapperConfigAwareMethodFactory.create(context);
+
+    assertThat(delegateFactory.getContext()).isEqualToIgnoringGivenFields(context, "mapperConfig");
+  }
+
   private Predicate<DynamoDBMapperConfig> newConfigPredicate(
       ConsistentReads consistent, SaveBehavior appendSet) {
     return config ->
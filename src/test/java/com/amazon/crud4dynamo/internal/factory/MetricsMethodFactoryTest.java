@@ -0,0 +1,122 @@
+package com.amazon.crud4dynamo.internal.factory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.amazon.crud4dynamo.annotation.Param;
+import com.amazon.crud4dynamo.annotation.Query;
+import com.amazon.crud4dynamo.crudinterface.CompositeKeyCrud;
+import com.amazon.crud4dynamo.extension.Context;
+import com.amazon.crud4dynamo.extension.Signature;
+import com.amazon.crud4dynamo.extension.factory.AbstractMethodFactory;
+import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.amazon.crud4dynamo.extension.metrics.InMemoryMethodMetrics;
+import com.amazon.crud4dynamo.extension.metrics.InMemoryMethodMetrics.Stats;
+import com.amazon.crud4dynamo.extension.metrics.MethodMetrics;
+import com.amazon.crud4dynamo.extension.metrics.MethodTags;
+import com.amazon.crud4dynamo.extension.metrics.OperationType;
+import com.amazon.crud4dynamo.internal.factory.MetricsMethodFactoryTest.Model;
+import com.amazon.crud4dynamo.internal.method.MeteredMethod;
+import com.amazon.crud4dynamo.testbase.SingleTableDynamoDbTestBase;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBRangeKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import com.google.common.collect.Lists;
+import java.lang.reflect.Method;
+import java.util.Iterator;
+import java.util.stream.IntStream;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+class MetricsMethodFactoryTest extends SingleTableDynamoDbTestBase<Model> {
+  @Override
+  protected Class<Model> getModelClass() {
+    return Model.class;
+  }
+
+  @Test
+  void noOpMetrics_delegate() throws Exception {
+    final AbstractMethodFactory mockDelegate = mock(AbstractMethodFactory.class);
+    final Context context = getContext("query", MethodMetrics.NO_OP);
+
+    new MetricsMethodFactory(mockDelegate).create(context);
+
+    verify(mockDelegate).create(context);
+  }
+
+  @Test
+  void query_recordInvocationAndRequests() throws Throwable {
+    storeItems(IntStream.range(0, 3).mapToObj(i -> new Model("A", i)));
+    storeItems(new Model("B", 0));
+    final InMemoryMethodMetrics metrics = new InMemoryMethodMetrics();
+
+    final AbstractMethod method =
+        new MetricsMethodFactory(new QueryMethodFactory(null)).create(getContext("query", metrics));
+
+    assertThat(method).isInstanceOf(MeteredMethod.class);
+    assertThat(Lists.newArrayList((Iterator<Model>) method.invoke("A"))).hasSize(3);
+    final Stats stats = metrics.getStats(new MethodTags("Dao", "query", OperationType.QUERY)).get();
+    assertThat(stats.getInvocations()).isEqualTo(1);
+    assertThat(stats.getRequests()).isEqualTo(1);
+    assertThat(stats.getItems()).isEqualTo(3);
+    assertThat(stats.getConsumedCapacityUnits()).isPositive();
+  }
+
+  @Test
+  void operationType() throws Exception {
+    assertThat(operationTypeOf("query")).isEqualTo(OperationType.QUERY);
+    assertThat(operationTypeOf("findAll")).isEqualTo(OperationType.CRUD);
+    assertThat(operationTypeOf("defaultMethod")).isEqualTo(OperationType.DEFAULT);
+  }
+
+  private OperationType operationTypeOf(final String methodName) throws Exception {
+    final Signature signature = getSignature(methodName);
+    return MetricsMethodFactory.operationTypeOf(signature, signature.method());
+  }
+
+  private Signature getSignature(final String methodName) throws NoSuchMethodException {
+    final Method method =
+        methodName.equals("query")
+            ? Dao.class.getMethod(methodName, String.class)
+            : Dao.class.getMethod(methodName);
+    return Signature.resolve(method, Dao.class);
+  }
+
+  private Context getContext(final String methodName, final MethodMetrics metrics)
+      throws NoSuchMethodException {
+    final Signature signature = getSignature(methodName);
+    return Context.builder()
+        .signature(signature)
+        .method(signature.method())
+        .interfaceType(Dao.class)
+        .modelType(getModelClass())
+        .mapper(getDynamoDbMapper())
+        .amazonDynamoDb(getDynamoDbClient())
+        .metrics(metrics)
+        .build();
+  }
+
+  public interface Dao extends CompositeKeyCrud<String, Integer, Model> {
+    @Query(keyCondition = "HashKey = :hashKey")
+    Iterator<Model> query(@Param(":hashKey") String hashKey);
+
+    default void defaultMethod() {}
+  }
+
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @DynamoDBTable(tableName = "Model")
+  public static class Model {
+    @DynamoDBHashKey(attributeName = "HashKey")
+    private String hashKey;
+
+    @DynamoDBRangeKey(attributeName = "RangeKey")
+    private Integer rangeKey;
+  }
+}
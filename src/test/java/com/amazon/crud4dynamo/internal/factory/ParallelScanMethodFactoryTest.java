@@ -1,6 +1,7 @@
 package com.amazon.crud4dynamo.internal.factory;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -8,7 +9,9 @@ import com.amazon.crud4dynamo.annotation.Parallel;
 import com.amazon.crud4dynamo.annotation.Param;
 import com.amazon.crud4dynamo.annotation.Scan;
 import com.amazon.crud4dynamo.crudinterface.CompositeKeyCrud;
+import com.amazon.crud4dynamo.exception.CrudForDynamoException;
 import com.amazon.crud4dynamo.extension.Context;
+import com.amazon.crud4dynamo.extension.ScanCheckpoint;
 import com.amazon.crud4dynamo.extension.Signature;
 import com.amazon.crud4dynamo.extension.factory.AbstractMethodFactory;
 import com.amazon.crud4dynamo.extension.method.AbstractMethod;
@@ -18,8 +21,12 @@ import com.amazon.crud4dynamo.testbase.SingleTableDynamoDbTestBase;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBRangeKey;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import com.google.common.collect.Lists;
 import java.lang.reflect.Method;
 import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -43,6 +50,62 @@ class ParallelScanMethodFactoryTest extends SingleTableDynamoDbTestBase<Model> {
     assertThat(abstractMethod).isInstanceOf(ParallelScanMethod.class);
   }
 
+  @Test
+  void autoTotalSegments_resolveFromTableSize() throws Throwable {
+    final ParallelScanMethodFactory factory =
+        new ParallelScanMethodFactory(mock(AbstractMethodFactory.class));
+    final Method scan = Dao.class.getMethod("autoScan", String.class, int.class, int.class);
+    final List<Model> models =
+        storeItems(
+            IntStream.range(0, 10)
+                .mapToObj(i -> Model.builder().hashKey("Key" + i).rangeKey(i).build()));
+
+    final AbstractMethod abstractMethod =
+        factory.create(
+            Context.builder()
+                .signature(Signature.resolve(scan, Dao.class))
+                .modelType(getModelClass())
+                .mapper(getDynamoDbMapper())
+                .amazonDynamoDb(getDynamoDbClient())
+                .maxScanSegments(4)
+                .build());
+
+    assertThat(abstractMethod).isInstanceOf(ParallelScanMethod.class);
+    assertThat(Lists.newArrayList((Iterator<Model>) abstractMethod.invoke("RangeKey", 3, 7)))
+        .containsExactlyInAnyOrderElementsOf(models.subList(3, 8));
+  }
+
+  @Test
+  void notPositiveBytesPerSegment_throwException() throws Throwable {
+    final ParallelScanMethodFactory factory =
+        new ParallelScanMethodFactory(mock(AbstractMethodFactory.class));
+    final Method scan = Dao.class.getMethod("zeroBytesPerSegmentScan");
+
+    assertThatThrownBy(() -> factory.create(createContext(scan)))
+        .isInstanceOf(CrudForDynamoException.class)
+        .hasMessageContaining("bytesPerSegment");
+  }
+
+  @Test
+  void checkpointedIteratorScan_throwException() throws Throwable {
+    final ParallelScanMethodFactory factory =
+        new ParallelScanMethodFactory(mock(AbstractMethodFactory.class));
+    final Method scan = Dao.class.getMethod("checkpointedIteratorScan", ScanCheckpoint.class);
+
+    assertThatThrownBy(() -> factory.create(createContext(scan)))
+        .isInstanceOf(CrudForDynamoException.class)
+        .hasMessageContaining("Stream");
+  }
+
+  @Test
+  void checkpointedStreamScan_createParallelScanMethod() throws Throwable {
+    final ParallelScanMethodFactory factory =
+        new ParallelScanMethodFactory(mock(AbstractMethodFactory.class));
+    final Method scan = Dao.class.getMethod("checkpointedStreamScan", ScanCheckpoint.class);
+
+    assertThat(factory.create(createContext(scan))).isInstanceOf(ParallelScanMethod.class);
+  }
+
   private Context createContext(final Method method) throws NoSuchMethodException {
     return Context.builder()
         .signature(Signature.resolve(method, Dao.class))
@@ -72,6 +135,25 @@ class ParallelScanMethodFactoryTest extends SingleTableDynamoDbTestBase<Model> {
         @Param(":lower") int lower,
         @Param(":upper") int upper);
 
+    @Parallel
+    @Scan(filter = "#rangeKey between :lower and :upper")
+    Iterator<Model> autoScan(
+        @Param("#rangeKey") String rangeKeyName,
+        @Param(":lower") int lower,
+        @Param(":upper") int upper);
+
+    @Parallel(bytesPerSegment = 0)
+    @Scan(filter = "#rangeKey > :lower")
+    Iterator<Model> zeroBytesPerSegmentScan();
+
+    @Parallel(totalSegments = 2)
+    @Scan(filter = "#rangeKey > :lower")
+    Iterator<Model> checkpointedIteratorScan(ScanCheckpoint checkpoint);
+
+    @Parallel(totalSegments = 2)
+    @Scan(filter = "#rangeKey > :lower")
+    Stream<Model> checkpointedStreamScan(ScanCheckpoint checkpoint);
+
     void aNormalMethod();
   }
 
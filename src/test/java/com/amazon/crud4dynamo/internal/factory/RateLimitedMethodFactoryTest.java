@@ -0,0 +1,103 @@
+package com.amazon.crud4dynamo.internal.factory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amazon.crud4dynamo.annotation.RateLimit;
+import com.amazon.crud4dynamo.extension.Context;
+import com.amazon.crud4dynamo.extension.Signature;
+import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+import com.amazonaws.services.dynamodbv2.model.QueryResult;
+import com.amazonaws.services.dynamodbv2.model.ReturnConsumedCapacity;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.Data;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RateLimitedMethodFactoryTest {
+  private AmazonDynamoDB mockDynamoDb;
+  private AtomicReference<Context> delegatedContext;
+  private AbstractMethod mockMethod;
+  private RateLimitedMethodFactory factory;
+
+  @BeforeEach
+  void setUp() {
+    mockDynamoDb = mock(AmazonDynamoDB.class);
+    delegatedContext = new AtomicReference<>();
+    mockMethod = mock(AbstractMethod.class);
+    factory =
+        new RateLimitedMethodFactory(
+            context -> {
+              delegatedContext.set(context);
+              return mockMethod;
+            });
+  }
+
+  @Test
+  void withoutRateLimitAnnotation_delegate() throws Exception {
+    final Context context = getContext("withoutRateLimit");
+
+    assertThat(factory.create(context)).isSameAs(mockMethod);
+    assertThat(delegatedContext.get()).isSameAs(context);
+  }
+
+  @Test
+  void withRateLimitAnnotation_useLimitedClientAndMapper() throws Exception {
+    final Context context = getContext("withRateLimit");
+    when(mockDynamoDb.query(any(QueryRequest.class))).thenReturn(new QueryResult());
+
+    assertThat(factory.create(context)).isSameAs(mockMethod);
+
+    final Context limitedContext = delegatedContext.get();
+    assertThat(limitedContext.amazonDynamoDb()).isNotSameAs(mockDynamoDb);
+    assertThat(limitedContext.mapper()).isNotSameAs(context.mapper());
+    assertThat(limitedContext.mapper().getTableModel(Model.class))
+        .isSameAs(context.mapper().getTableModel(Model.class));
+    final QueryRequest request = new QueryRequest("Table");
+    limitedContext.amazonDynamoDb().query(request);
+    verify(mockDynamoDb).query(request);
+    assertThat(request.getReturnConsumedCapacity())
+        .isEqualTo(ReturnConsumedCapacity.TOTAL.toString());
+  }
+
+  @Test
+  void withoutClient_delegate() throws Exception {
+    final Context context = getContext("withRateLimit").toBuilder().amazonDynamoDb(null).build();
+
+    factory.create(context);
+
+    assertThat(delegatedContext.get()).isSameAs(context);
+  }
+
+  private Context getContext(final String methodName) throws NoSuchMethodException {
+    final Method method = Dao.class.getMethod(methodName);
+    return Context.builder()
+        .signature(Signature.resolve(method, Dao.class))
+        .method(method)
+        .amazonDynamoDb(mockDynamoDb)
+        .mapper(new DynamoDBMapper(mockDynamoDb))
+        .build();
+  }
+
+  public interface Dao {
+    void withoutRateLimit();
+
+    @RateLimit(readCapacityUnits = 100)
+    void withRateLimit();
+  }
+
+  @Data
+  @DynamoDBTable(tableName = "Model")
+  public static class Model {
+    @DynamoDBHashKey private String hashKey;
+  }
+}
@@ -0,0 +1,76 @@
+package com.amazon.crud4dynamo.internal.method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.amazon.crud4dynamo.extension.Signature;
+import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBAsync;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AsyncMethodTest {
+  private static final Executor DIRECT_EXECUTOR = Runnable::run;
+
+  private Signature signature;
+  private AmazonDynamoDBAsync dynamoDbAsync;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    signature = Signature.resolve(Dao.class.getMethod("method"), Dao.class);
+    dynamoDbAsync = mock(AmazonDynamoDBAsync.class);
+  }
+
+  @Test
+  void asyncInvocableDelegate_invokeAsync() throws Throwable {
+    final AbstractMethod delegate =
+        mock(AbstractMethod.class, withSettings().extraInterfaces(AsyncInvocable.class));
+    when(((AsyncInvocable) delegate).invokeAsync(any(), any()))
+        .thenReturn(CompletableFuture.completedFuture("result"));
+
+    final Object result =
+        new AsyncMethod(signature, delegate, dynamoDbAsync, DIRECT_EXECUTOR).invoke("arg");
+
+    assertThat(((CompletableFuture<?>) result).get()).isEqualTo("result");
+    verify((AsyncInvocable) delegate).invokeAsync(dynamoDbAsync, "arg");
+  }
+
+  @Test
+  void noAsyncClient_invokeOnExecutor() throws Throwable {
+    final AbstractMethod delegate =
+        mock(AbstractMethod.class, withSettings().extraInterfaces(AsyncInvocable.class));
+    when(delegate.invoke("arg")).thenReturn("result");
+
+    final Object result = new AsyncMethod(signature, delegate, null, DIRECT_EXECUTOR).invoke("arg");
+
+    assertThat(((CompletableFuture<?>) result).get()).isEqualTo("result");
+    verifyZeroInteractions(dynamoDbAsync);
+  }
+
+  @Test
+  void delegateThrow_completeExceptionally() throws Throwable {
+    final AbstractMethod delegate = mock(AbstractMethod.class);
+    final Exception exception = new Exception();
+    when(delegate.invoke()).thenThrow(exception);
+
+    final Object result =
+        new AsyncMethod(signature, delegate, dynamoDbAsync, DIRECT_EXECUTOR).invoke();
+
+    assertThatThrownBy(((CompletableFuture<?>) result)::get)
+        .isInstanceOf(ExecutionException.class)
+        .hasCause(exception);
+  }
+
+  private interface Dao {
+    CompletableFuture<String> method();
+  }
+}
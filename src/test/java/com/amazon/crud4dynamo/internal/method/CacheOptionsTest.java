@@ -0,0 +1,53 @@
+package com.amazon.crud4dynamo.internal.method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.amazon.crud4dynamo.annotation.Cached;
+import com.amazon.crud4dynamo.extension.CacheBudget;
+import com.amazon.crud4dynamo.extension.Context;
+import com.amazon.crud4dynamo.extension.Signature;
+import com.amazon.crud4dynamo.extension.metrics.InMemoryMethodMetrics;
+import com.amazon.crud4dynamo.extension.metrics.MethodMetrics;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class CacheOptionsTest {
+
+  @Test
+  void contextWithoutOptions_useDefaults() {
+    final CacheOptions options = CacheOptions.from(Context.builder().build());
+
+    assertThat(options.getMetrics()).isSameAs(MethodMetrics.NO_OP);
+    assertThat(options.getTags()).isNull();
+    assertThat(options).isEqualTo(CacheOptions.DEFAULT);
+  }
+
+  @Test
+  void contextWithOptions_takeThem() throws Exception {
+    final CacheBudget budget = CacheBudget.ofBytes(1024);
+    final InMemoryMethodMetrics metrics = new InMemoryMethodMetrics();
+
+    final CacheOptions options =
+        CacheOptions.from(
+            Context.builder()
+                .signature(
+                    Signature.resolve(
+                        TestInterface.class.getMethod("cachedMethod"), TestInterface.class))
+                .interfaceType(TestInterface.class)
+                .executor(ForkJoinPool.commonPool())
+                .cacheBudget(budget)
+                .metrics(metrics)
+                .build());
+
+    assertThat(options.getExecutor()).isSameAs(ForkJoinPool.commonPool());
+    assertThat(options.getCacheBudget()).isSameAs(budget);
+    assertThat(options.getMetrics()).isSameAs(metrics);
+    assertThat(options.getTags().getInterfaceName()).isEqualTo("TestInterface");
+    assertThat(options.getTags().getMethodName()).isEqualTo("cachedMethod");
+  }
+
+  private interface TestInterface {
+    @Cached
+    int cachedMethod();
+  }
+}
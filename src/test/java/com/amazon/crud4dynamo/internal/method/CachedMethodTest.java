@@ -1,22 +1,50 @@
 package com.amazon.crud4dynamo.internal.method;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.amazon.crud4dynamo.annotation.Cached;
+import com.amazon.crud4dynamo.extension.CacheBudget;
 import com.amazon.crud4dynamo.extension.Signature;
 import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.amazon.crud4dynamo.extension.metrics.InMemoryMethodMetrics;
+import com.amazon.crud4dynamo.extension.metrics.MethodTags;
+import com.amazon.crud4dynamo.extension.metrics.OperationType;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import com.google.common.base.Strings;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Iterators;
+import java.io.Closeable;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 class CachedMethodTest {
   private static final int EXPIRE_AFTER_WRITE = 2;
+  private static final int REFRESH_AFTER_WRITE_MILLIS = 50;
+  /** Weighs 16 + 2 * 40 = 96 bytes. */
+  private static final String RESULT = Strings.repeat("a", 40);
 
   private CachedMethod getCachedMethod(final AbstractMethod delegate, final Method method) {
     final Signature signature = Signature.resolve(method, TestInterface.class);
@@ -68,6 +96,375 @@ class CachedMethodTest {
     verify(delegate, times(2)).invoke(2);
   }
 
+  @Test
+  void recordCacheHitsAndMisses() throws Throwable {
+    final AbstractMethod delegate = mock(AbstractMethod.class);
+    when(delegate.invoke(1)).thenReturn(1);
+    when(delegate.invoke(2)).thenReturn(2);
+    final Method method = TestInterface.class.getMethod("methodWithArgument", int.class);
+    final InMemoryMethodMetrics metrics = new InMemoryMethodMetrics();
+    final MethodTags tags =
+        new MethodTags("TestInterface", "methodWithArgument", OperationType.DEFAULT);
+    final CachedMethod cachedMethod =
+        new CachedMethod(
+            Signature.resolve(method, TestInterface.class),
+            delegate,
+            CacheOptions.builder().metrics(metrics).tags(tags).build());
+
+    cachedMethod.invoke(1);
+    cachedMethod.invoke(1);
+    cachedMethod.invoke(2);
+    cachedMethod.invoke(1);
+
+    assertThat(metrics.getStats(tags).get().getCacheHits()).isEqualTo(2);
+    assertThat(metrics.getStats(tags).get().getCacheMisses()).isEqualTo(2);
+  }
+
+  @Test
+  void refreshAfterWrite_serveCurrentResultWhileReloading() throws Throwable {
+    final AbstractMethod delegate = mock(AbstractMethod.class);
+    when(delegate.invoke()).thenReturn(1).thenReturn(2);
+    final List<Runnable> refreshes = new ArrayList<>();
+    final CachedMethod cachedMethod =
+        new CachedMethod(
+            Signature.resolve(
+                TestInterface.class.getMethod("refreshedMethod"), TestInterface.class),
+            delegate,
+            CacheOptions.builder().executor(refreshes::add).build());
+
+    assertThat(cachedMethod.invoke()).isEqualTo(1);
+    waitRefresh();
+
+    assertThat(cachedMethod.invoke()).isEqualTo(1);
+    assertThat(refreshes).hasSize(1);
+    refreshes.get(0).run();
+    assertThat(cachedMethod.invoke()).isEqualTo(2);
+  }
+
+  @Test
+  void refreshFailed_serveStaleResultUntilRefreshed() throws Throwable {
+    final AbstractMethod delegate = mock(AbstractMethod.class);
+    when(delegate.invoke()).thenReturn(1).thenThrow(new IllegalStateException()).thenReturn(2);
+    final CachedMethod cachedMethod =
+        new CachedMethod(
+            Signature.resolve(
+                TestInterface.class.getMethod("refreshedMethod"), TestInterface.class),
+            delegate,
+            CacheOptions.builder().executor(Runnable::run).build());
+
+    assertThat(cachedMethod.invoke()).isEqualTo(1);
+    waitRefresh();
+
+    assertThat(cachedMethod.invoke()).isEqualTo(1);
+    assertThat(cachedMethod.invoke()).isEqualTo(2);
+  }
+
+  @Test
+  void refreshFailed_notServeStaleOnError_loadAgain() throws Throwable {
+    final AbstractMethod delegate = mock(AbstractMethod.class);
+    when(delegate.invoke()).thenReturn(1).thenThrow(new IllegalStateException()).thenReturn(2);
+    final CachedMethod cachedMethod =
+        new CachedMethod(
+            Signature.resolve(
+                TestInterface.class.getMethod("refreshedWithoutStaleMethod"), TestInterface.class),
+            delegate,
+            CacheOptions.builder().executor(Runnable::run).build());
+
+    assertThat(cachedMethod.invoke()).isEqualTo(1);
+    waitRefresh();
+
+    assertThat(cachedMethod.invoke()).isEqualTo(1);
+    assertThat(cachedMethod.invoke()).isEqualTo(2);
+    verify(delegate, times(3)).invoke();
+  }
+
+  @Test
+  void loadFailed_throwExceptionOfDelegate() throws Throwable {
+    final AbstractMethod delegate = mock(AbstractMethod.class);
+    final IllegalStateException exception = new IllegalStateException();
+    when(delegate.invoke()).thenThrow(exception).thenReturn(1);
+    final CachedMethod cachedMethod =
+        getCachedMethod(delegate, TestInterface.class.getMethod("aMethod"));
+
+    assertThatThrownBy(cachedMethod::invoke).isSameAs(exception);
+    assertThat(cachedMethod.invoke()).isEqualTo(1);
+  }
+
+  @Test
+  void nullResult_cached() throws Throwable {
+    final AbstractMethod delegate = mock(AbstractMethod.class);
+    when(delegate.invoke()).thenReturn(null).thenReturn(1);
+    final CachedMethod cachedMethod =
+        getCachedMethod(delegate, TestInterface.class.getMethod("aMethod"));
+
+    assertThat(cachedMethod.invoke()).isNull();
+    assertThat(cachedMethod.invoke()).isNull();
+    verify(delegate, times(1)).invoke();
+  }
+
+  @Test
+  void emptyResult_expireAfterEmptyExpiration() throws Throwable {
+    final AbstractMethod delegate = mock(AbstractMethod.class);
+    when(delegate.invoke(1)).thenReturn(Optional.empty()).thenReturn(Optional.of(1));
+    when(delegate.invoke(2)).thenReturn(Optional.of(2)).thenReturn(Optional.of(3));
+    final CachedMethod cachedMethod =
+        getCachedMethod(delegate, TestInterface.class.getMethod("negativeCachedMethod", int.class));
+
+    assertThat(cachedMethod.invoke(1)).isEqualTo(Optional.empty());
+    assertThat(cachedMethod.invoke(2)).isEqualTo(Optional.of(2));
+    waitRefresh();
+
+    assertThat(cachedMethod.invoke(1)).isEqualTo(Optional.of(1));
+    assertThat(cachedMethod.invoke(2)).isEqualTo(Optional.of(2));
+  }
+
+  @Test
+  void maxWeightBytesExceeded_evictResult() throws Throwable {
+    final AbstractMethod delegate = mock(AbstractMethod.class);
+    when(delegate.invoke(1)).thenReturn(RESULT);
+    when(delegate.invoke(2)).thenReturn(RESULT);
+    final CachedMethod cachedMethod =
+        getCachedMethod(delegate, TestInterface.class.getMethod("weighedMethod", int.class));
+
+    cachedMethod.invoke(1);
+    cachedMethod.invoke(1);
+    cachedMethod.invoke(2);
+    cachedMethod.invoke(1);
+
+    verify(delegate, times(2)).invoke(1);
+    verify(delegate, times(1)).invoke(2);
+  }
+
+  @Test
+  void cacheBudgetExceeded_evictLeastRecentlyUsedResultOfAnyMethod() throws Throwable {
+    final CacheBudget budget = CacheBudget.ofBytes(200);
+    final Method method = TestInterface.class.getMethod("methodWithArgument", int.class);
+    final Signature signature = Signature.resolve(method, TestInterface.class);
+    final AbstractMethod delegate1 = mock(AbstractMethod.class);
+    when(delegate1.invoke(1)).thenReturn(RESULT);
+    final AbstractMethod delegate2 = mock(AbstractMethod.class);
+    when(delegate2.invoke(1)).thenReturn(RESULT);
+    when(delegate2.invoke(2)).thenReturn(RESULT);
+    final CachedMethod cachedMethod1 =
+        new CachedMethod(signature, delegate1, CacheOptions.builder().cacheBudget(budget).build());
+    final CachedMethod cachedMethod2 =
+        new CachedMethod(signature, delegate2, CacheOptions.builder().cacheBudget(budget).build());
+
+    cachedMethod1.invoke(1);
+    cachedMethod2.invoke(1);
+    cachedMethod2.invoke(1);
+    cachedMethod2.invoke(2);
+    assertThat(budget.getUsedBytes()).isEqualTo(192);
+
+    cachedMethod1.invoke(1);
+    cachedMethod2.invoke(2);
+
+    verify(delegate1, times(2)).invoke(1);
+    verify(delegate2, times(1)).invoke(2);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void iteratorResult_replayToEveryCaller() throws Throwable {
+    final AbstractMethod delegate = mock(AbstractMethod.class);
+    when(delegate.invoke()).thenReturn(Arrays.asList(1, 2, 3).iterator());
+    final CachedMethod cachedMethod =
+        getCachedMethod(delegate, TestInterface.class.getMethod("iteratorMethod"));
+
+    assertThat((Iterator<Integer>) cachedMethod.invoke()).toIterable().containsExactly(1, 2, 3);
+    assertThat((Iterator<Integer>) cachedMethod.invoke()).toIterable().containsExactly(1, 2, 3);
+    assertThat((Iterator<Integer>) cachedMethod.invoke()).toIterable().containsExactly(1, 2, 3);
+    verify(delegate, times(1)).invoke();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void iteratorResult_recordWhileCallerIteratesAndKeepFirstRecorded() throws Throwable {
+    final AbstractMethod delegate = mock(AbstractMethod.class);
+    final AtomicInteger read = new AtomicInteger();
+    when(delegate.invoke())
+        .thenReturn(
+            Iterators.transform(
+                Arrays.asList(1, 2, 3).iterator(),
+                item -> {
+                  read.incrementAndGet();
+                  return item;
+                }))
+        .thenReturn(Arrays.asList(4, 5, 6).iterator());
+    final CachedMethod cachedMethod =
+        getCachedMethod(delegate, TestInterface.class.getMethod("iteratorMethod"));
+
+    final Iterator<Integer> first = (Iterator<Integer>) cachedMethod.invoke();
+    assertThat(read).hasValue(0);
+    assertThat(first.next()).isEqualTo(1);
+    assertThat(read).hasValue(1);
+    assertThat((Iterator<Integer>) cachedMethod.invoke()).toIterable().containsExactly(4, 5, 6);
+    assertThat(first).toIterable().containsExactly(2, 3);
+
+    assertThat((Iterator<Integer>) cachedMethod.invoke()).toIterable().containsExactly(4, 5, 6);
+    verify(delegate, times(2)).invoke();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void iteratorResultNotExhausted_notCached() throws Throwable {
+    final AbstractMethod delegate = mock(AbstractMethod.class);
+    when(delegate.invoke())
+        .thenReturn(Arrays.asList(1, 2, 3).iterator())
+        .thenReturn(Arrays.asList(4, 5, 6).iterator());
+    final CachedMethod cachedMethod =
+        getCachedMethod(delegate, TestInterface.class.getMethod("iteratorMethod"));
+
+    assertThat(((Iterator<Integer>) cachedMethod.invoke()).next()).isEqualTo(1);
+
+    assertThat((Iterator<Integer>) cachedMethod.invoke()).toIterable().containsExactly(4, 5, 6);
+    verify(delegate, times(2)).invoke();
+  }
+
+  @Test
+  void closeableIteratorResult_closeDelegateIterator() throws Throwable {
+    final AbstractMethod delegate = mock(AbstractMethod.class);
+    final AtomicBoolean closed = new AtomicBoolean();
+    when(delegate.invoke()).thenReturn(new CloseableIterator(closed, 1, 2, 3, 4));
+    final CachedMethod cachedMethod =
+        getCachedMethod(delegate, TestInterface.class.getMethod("iteratorMethod"));
+
+    final Object result = cachedMethod.invoke();
+    assertThat(result).isInstanceOf(Closeable.class);
+    assertThat(((Iterator<?>) result).next()).isEqualTo(1);
+    ((Closeable) result).close();
+
+    assertThat(closed).isTrue();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void iteratorResultLargerThanMaxIteratorSize_notCached() throws Throwable {
+    final AbstractMethod delegate = mock(AbstractMethod.class);
+    when(delegate.invoke())
+        .thenReturn(Arrays.asList(1, 2, 3, 4).iterator())
+        .thenReturn(Arrays.asList(5, 6, 7, 8).iterator());
+    final CachedMethod cachedMethod =
+        getCachedMethod(delegate, TestInterface.class.getMethod("iteratorMethod"));
+
+    assertThat((Iterator<Integer>) cachedMethod.invoke()).toIterable().containsExactly(1, 2, 3, 4);
+    assertThat((Iterator<Integer>) cachedMethod.invoke()).toIterable().containsExactly(5, 6, 7, 8);
+    verify(delegate, times(2)).invoke();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void streamResult_replayToEveryCallerAndCloseDelegateStream() throws Throwable {
+    final AbstractMethod delegate = mock(AbstractMethod.class);
+    final AtomicBoolean closed = new AtomicBoolean();
+    when(delegate.invoke()).thenReturn(Stream.of(1, 2, 3).onClose(() -> closed.set(true)));
+    final CachedMethod cachedMethod =
+        getCachedMethod(delegate, TestInterface.class.getMethod("streamMethod"));
+
+    final Stream<Integer> first = (Stream<Integer>) cachedMethod.invoke();
+    assertThat(first.collect(Collectors.toList())).containsExactly(1, 2, 3);
+    assertThat(closed).isTrue();
+    final Stream<Integer> second = (Stream<Integer>) cachedMethod.invoke();
+
+    assertThat(second.collect(Collectors.toList())).containsExactly(1, 2, 3);
+    verify(delegate, times(1)).invoke();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void streamResultLargerThanMaxIteratorSize_closeDelegateStreamWithResult() throws Throwable {
+    final AbstractMethod delegate = mock(AbstractMethod.class);
+    final AtomicBoolean closed = new AtomicBoolean();
+    when(delegate.invoke()).thenReturn(Stream.of(1, 2, 3, 4).onClose(() -> closed.set(true)));
+    final CachedMethod cachedMethod =
+        getCachedMethod(delegate, TestInterface.class.getMethod("streamMethod"));
+
+    try (final Stream<Integer> result = (Stream<Integer>) cachedMethod.invoke()) {
+      assertThat(result.collect(Collectors.toList())).containsExactly(1, 2, 3, 4);
+      assertThat(closed).isFalse();
+    }
+    assertThat(closed).isTrue();
+  }
+
+  @Test
+  void evictedFromHeap_loadFromOffHeap() throws Throwable {
+    final AbstractMethod delegate = mock(AbstractMethod.class);
+    when(delegate.invoke(1)).thenReturn(new Model("k1"));
+    when(delegate.invoke(2)).thenReturn(new Model("k2"));
+    final CachedMethod cachedMethod =
+        getOffHeapCachedMethod(delegate, TestInterface.class.getMethod("offHeapMethod", int.class));
+
+    final Object first = cachedMethod.invoke(1);
+    cachedMethod.invoke(2);
+    final Object second = cachedMethod.invoke(1);
+
+    assertThat(second).isEqualTo(new Model("k1")).isNotSameAs(first);
+    verify(delegate, times(1)).invoke(1);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void iteratorResultEvictedFromHeap_replayFromOffHeap() throws Throwable {
+    final AbstractMethod delegate = mock(AbstractMethod.class);
+    when(delegate.invoke(1)).thenReturn(Arrays.asList(new Model("k1"), new Model("k2")).iterator());
+    when(delegate.invoke(2)).thenReturn(Arrays.asList(new Model("k3")).iterator());
+    final CachedMethod cachedMethod =
+        getOffHeapCachedMethod(
+            delegate, TestInterface.class.getMethod("offHeapIteratorMethod", int.class));
+
+    Iterators.size((Iterator<Model>) cachedMethod.invoke(1));
+    Iterators.size((Iterator<Model>) cachedMethod.invoke(2));
+
+    assertThat((Iterator<Model>) cachedMethod.invoke(1))
+        .toIterable()
+        .containsExactly(new Model("k1"), new Model("k2"));
+    verify(delegate, times(1)).invoke(1);
+  }
+
+  @Test
+  void offHeapResultExpired_loadFromDelegate() throws Throwable {
+    final AbstractMethod delegate = mock(AbstractMethod.class);
+    when(delegate.invoke(1)).thenReturn(new Model("k1"));
+    when(delegate.invoke(2)).thenReturn(new Model("k2"));
+    final CachedMethod cachedMethod =
+        getOffHeapCachedMethod(
+            delegate, TestInterface.class.getMethod("expiringOffHeapMethod", int.class));
+
+    cachedMethod.invoke(1);
+    cachedMethod.invoke(2);
+    waitRefresh();
+    cachedMethod.invoke(1);
+
+    verify(delegate, times(2)).invoke(1);
+  }
+
+  @Test
+  void offHeapResultDueForRefresh_loadFromDelegate() throws Throwable {
+    final AbstractMethod delegate = mock(AbstractMethod.class);
+    when(delegate.invoke(1)).thenReturn(new Model("k1"));
+    when(delegate.invoke(2)).thenReturn(new Model("k2"));
+    final CachedMethod cachedMethod =
+        getOffHeapCachedMethod(
+            delegate, TestInterface.class.getMethod("refreshedOffHeapMethod", int.class));
+
+    cachedMethod.invoke(1);
+    cachedMethod.invoke(2);
+    waitRefresh();
+    cachedMethod.invoke(1);
+
+    verify(delegate, times(2)).invoke(1);
+  }
+
+  private CachedMethod getOffHeapCachedMethod(final AbstractMethod delegate, final Method method) {
+    final Signature signature = Signature.resolve(method, TestInterface.class);
+    final DynamoDBMapper mapper = new DynamoDBMapper(mock(AmazonDynamoDB.class));
+    return new CachedMethod(signature, delegate, CacheOptions.builder().mapper(mapper).build());
+  }
+
+  private void waitRefresh() throws InterruptedException {
+    TimeUnit.MILLISECONDS.sleep(REFRESH_AFTER_WRITE_MILLIS * 2);
+  }
+
   private void waitExpire() throws InterruptedException {
     TimeUnit.SECONDS.sleep(EXPIRE_AFTER_WRITE);
   }
@@ -81,6 +478,73 @@ class CachedMethodTest {
 
     @Cached(expireAfterWrite = EXPIRE_AFTER_WRITE, expireAfterWriteTimeUnit = TimeUnit.SECONDS)
     int methodWithArgument(int i);
+
+    @Cached(refreshAfterWrite = REFRESH_AFTER_WRITE_MILLIS)
+    int refreshedMethod();
+
+    @Cached(refreshAfterWrite = REFRESH_AFTER_WRITE_MILLIS, serveStaleOnError = false)
+    int refreshedWithoutStaleMethod();
+
+    @Cached(expireEmptyAfterWrite = REFRESH_AFTER_WRITE_MILLIS)
+    Optional<Integer> negativeCachedMethod(int i);
+
+    @Cached(maxWeightBytes = 100, concurrencyLevel = 1)
+    String weighedMethod(int i);
+
+    @Cached(maxIteratorSize = 3)
+    Iterator<Integer> iteratorMethod();
+
+    @Cached(maxIteratorSize = 3)
+    Stream<Integer> streamMethod();
+
+    @Cached(maxSize = 1, concurrencyLevel = 1, offHeapMaxBytes = 1024)
+    Model offHeapMethod(int i);
+
+    @Cached(maxSize = 1, concurrencyLevel = 1, offHeapMaxBytes = 1024)
+    Iterator<Model> offHeapIteratorMethod(int i);
+
+    @Cached(
+        maxSize = 1,
+        concurrencyLevel = 1,
+        offHeapMaxBytes = 1024,
+        expireAfterWrite = REFRESH_AFTER_WRITE_MILLIS)
+    Model expiringOffHeapMethod(int i);
+
+    @Cached(
+        maxSize = 1,
+        concurrencyLevel = 1,
+        offHeapMaxBytes = 1024,
+        refreshAfterWrite = REFRESH_AFTER_WRITE_MILLIS)
+    Model refreshedOffHeapMethod(int i);
+  }
+
+  private static class CloseableIterator extends AbstractIterator<Integer> implements Closeable {
+    private final AtomicBoolean closed;
+    private final Iterator<Integer> items;
+
+    private CloseableIterator(final AtomicBoolean closed, final Integer... items) {
+      this.closed = closed;
+      this.items = Arrays.asList(items).iterator();
+    }
+
+    @Override
+    protected Integer computeNext() {
+      return items.hasNext() ? items.next() : endOfData();
+    }
+
+    @Override
+    public void close() {
+      closed.set(true);
+    }
+  }
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @DynamoDBTable(tableName = "Model")
+  public static class Model {
+    @DynamoDBHashKey(attributeName = "HashKey")
+    private String hashKey;
   }
 
   @Nested
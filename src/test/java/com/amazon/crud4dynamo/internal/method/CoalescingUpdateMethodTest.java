@@ -0,0 +1,147 @@
+package com.amazon.crud4dynamo.internal.method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.amazon.crud4dynamo.annotation.Coalesce;
+import com.amazon.crud4dynamo.annotation.Param;
+import com.amazon.crud4dynamo.annotation.Update;
+import com.amazon.crud4dynamo.extension.Signature;
+import com.amazon.crud4dynamo.extension.metrics.InMemoryMethodMetrics;
+import com.amazon.crud4dynamo.extension.metrics.MethodTags;
+import com.amazon.crud4dynamo.extension.metrics.OperationType;
+import com.amazon.crud4dynamo.internal.method.CoalescingUpdateMethodTest.Model;
+import com.amazon.crud4dynamo.internal.utility.MeteredDynamoDb;
+import com.amazon.crud4dynamo.testbase.SingleTableDynamoDbTestBase;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBAttribute;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import com.amazonaws.services.dynamodbv2.model.ReturnValue;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CoalescingUpdateMethodTest extends SingleTableDynamoDbTestBase<Model> {
+  private static final MethodTags TAGS = new MethodTags("Dao", "increment", OperationType.UPDATE);
+  private InMemoryMethodMetrics metrics;
+  private AmazonDynamoDB meteredDynamoDb;
+
+  @Override
+  protected Class<Model> getModelClass() {
+    return Model.class;
+  }
+
+  @BeforeEach
+  void setUpMetrics() {
+    metrics = new InMemoryMethodMetrics();
+    meteredDynamoDb = MeteredDynamoDb.wrap(getDynamoDbClient(), metrics, TAGS);
+  }
+
+  @Test
+  void callsWithinWindow_oneRequest() throws Throwable {
+    final CoalescingUpdateMethod method = newMethod("increment");
+
+    final List<CompletableFuture<?>> futures =
+        IntStream.rangeClosed(1, 10)
+            .mapToObj(i -> invoke(method, "A", 0L, (long) i, "now" + i))
+            .collect(Collectors.toList());
+
+    final List<Object> results =
+        futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+    assertThat(results).containsOnly(new Model("A", 55L, "now10"));
+    assertThat(load("A")).isEqualTo(new Model("A", 55L, "now10"));
+    assertThat(metrics.getStats(TAGS).get().getRequests()).isEqualTo(1);
+  }
+
+  @Test
+  void differentItems_separateRequests() throws Throwable {
+    final CoalescingUpdateMethod method = newMethod("increment");
+
+    invoke(method, "A", 0L, 1L, "now").join();
+    invoke(method, "B", 0L, 2L, "now").join();
+
+    assertThat(load("A")).isEqualTo(new Model("A", 1L, "now"));
+    assertThat(load("B")).isEqualTo(new Model("B", 2L, "now"));
+    assertThat(metrics.getStats(TAGS).get().getRequests()).isEqualTo(2);
+  }
+
+  @Test
+  void maxCalls_closeWindowEarly() throws Throwable {
+    final CoalescingUpdateMethod method = newMethod("incrementAtMostTwice");
+
+    final List<CompletableFuture<?>> futures =
+        IntStream.rangeClosed(1, 5)
+            .mapToObj(i -> invoke(method, "A", (long) i))
+            .collect(Collectors.toList());
+    futures.forEach(CompletableFuture::join);
+
+    assertThat(load("A")).isEqualTo(new Model("A", 15L, null));
+    assertThat(metrics.getStats(TAGS).get().getRequests()).isEqualTo(3);
+  }
+
+  private Model load(final String hashKey) {
+    return getDynamoDbMapper().load(Model.class, hashKey);
+  }
+
+  private CompletableFuture<?> invoke(final CoalescingUpdateMethod method, final Object... args) {
+    return (CompletableFuture<?>) method.invoke(args);
+  }
+
+  private CoalescingUpdateMethod newMethod(final String name) throws NoSuchMethodException {
+    return new CoalescingUpdateMethod(
+        Signature.resolve(
+            Arrays.stream(Dao.class.getMethods())
+                .filter(method -> method.getName().equals(name))
+                .findFirst()
+                .orElseThrow(NoSuchMethodException::new),
+            Dao.class),
+        Model.class,
+        getDynamoDbMapper(),
+        meteredDynamoDb,
+        null,
+        null);
+  }
+
+  private interface Dao {
+    @Coalesce(window = 1, windowTimeUnit = TimeUnit.SECONDS)
+    @Update(
+        keyExpression = "HashKey = :hashKey",
+        updateExpression = "SET Score = if_not_exists(Score, :zero) + :inc, LastSeen = :now",
+        returnValue = ReturnValue.ALL_NEW)
+    CompletableFuture<Model> increment(
+        @Param(":hashKey") String hashKey,
+        @Param(":zero") long zero,
+        @Param(":inc") long inc,
+        @Param(":now") String now);
+
+    @Coalesce(window = 1, windowTimeUnit = TimeUnit.SECONDS, maxCalls = 2)
+    @Update(keyExpression = "HashKey = :hashKey", updateExpression = "ADD Score :inc")
+    CompletableFuture<Model> incrementAtMostTwice(
+        @Param(":hashKey") String hashKey, @Param(":inc") long inc);
+  }
+
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @DynamoDBTable(tableName = "Model")
+  public static class Model {
+    @DynamoDBHashKey(attributeName = "HashKey")
+    private String hashKey;
+
+    @DynamoDBAttribute(attributeName = "Score")
+    private Long score;
+
+    @DynamoDBAttribute(attributeName = "LastSeen")
+    private String lastSeen;
+  }
+}
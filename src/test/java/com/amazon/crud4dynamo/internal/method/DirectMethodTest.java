@@ -0,0 +1,139 @@
+package com.amazon.crud4dynamo.internal.method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.amazon.crud4dynamo.exception.CrudForDynamoException;
+import com.amazon.crud4dynamo.extension.Signature;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DirectMethodTest {
+
+  private static final Signature SIGNATURE = Signature.builder().build();
+
+  private Receiver receiver;
+
+  @BeforeEach
+  void setUp() {
+    receiver = new Receiver();
+  }
+
+  private DirectMethod newMethod(final String name, final Class<?>... parameterTypes)
+      throws Throwable {
+    return DirectMethod.create(
+        receiver, ReceiverInterface.class.getMethod(name, parameterTypes), SIGNATURE);
+  }
+
+  @Test
+  void getSignature() throws Throwable {
+    assertThat(newMethod("get").getSignature()).isEqualTo(SIGNATURE);
+  }
+
+  @Test
+  void invokeMethodWithReturnValue() throws Throwable {
+    assertThat(newMethod("get").invoke()).isEqualTo("value");
+    assertThat(newMethod("concat", String.class).invoke("a")).isEqualTo("valuea");
+    assertThat(newMethod("concat", String.class, String.class).invoke("a", "b"))
+        .isEqualTo("valueab");
+  }
+
+  @Test
+  void invokeMethodWithPrimitives() throws Throwable {
+    assertThat(newMethod("add", int.class, int.class).invoke(1, 2)).isEqualTo(3);
+  }
+
+  @Test
+  void invokeVoidMethod() throws Throwable {
+    assertThat(newMethod("clear").invoke()).isNull();
+    assertThat(newMethod("record", Object.class).invoke("a")).isNull();
+    assertThat(newMethod("record", Object.class, Object.class).invoke("b", "c")).isNull();
+
+    assertThat(receiver.records).containsExactly("a", "b", "c");
+  }
+
+  @Test
+  void exceptionIsNotWrapped() throws Throwable {
+    final DirectMethod method = newMethod("fail");
+
+    assertThatThrownBy(method::invoke)
+        .isExactlyInstanceOf(IllegalStateException.class)
+        .hasMessage("failure");
+  }
+
+  @Test
+  void tooManyParameters_throwException() {
+    assertThatThrownBy(() -> newMethod("tooMany", Object.class, Object.class, Object.class))
+        .isInstanceOf(CrudForDynamoException.class);
+  }
+
+  public interface ReceiverInterface {
+    String get();
+
+    String concat(String a);
+
+    String concat(String a, String b);
+
+    int add(int a, int b);
+
+    void clear();
+
+    void record(Object a);
+
+    void record(Object a, Object b);
+
+    void fail();
+
+    void tooMany(Object a, Object b, Object c);
+  }
+
+  private static class Receiver implements ReceiverInterface {
+    private final List<Object> records = new ArrayList<>();
+
+    @Override
+    public String get() {
+      return "value";
+    }
+
+    @Override
+    public String concat(final String a) {
+      return get() + a;
+    }
+
+    @Override
+    public String concat(final String a, final String b) {
+      return get() + a + b;
+    }
+
+    @Override
+    public int add(final int a, final int b) {
+      return a + b;
+    }
+
+    @Override
+    public void clear() {
+      records.clear();
+    }
+
+    @Override
+    public void record(final Object a) {
+      records.add(a);
+    }
+
+    @Override
+    public void record(final Object a, final Object b) {
+      records.add(a);
+      records.add(b);
+    }
+
+    @Override
+    public void fail() {
+      throw new IllegalStateException("failure");
+    }
+
+    @Override
+    public void tooMany(final Object a, final Object b, final Object c) {}
+  }
+}
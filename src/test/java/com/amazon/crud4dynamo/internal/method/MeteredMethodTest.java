@@ -0,0 +1,70 @@
+package com.amazon.crud4dynamo.internal.method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import com.amazon.crud4dynamo.extension.Signature;
+import com.amazon.crud4dynamo.extension.method.AbstractMethod;
+import com.amazon.crud4dynamo.extension.metrics.MethodMetrics;
+import com.amazon.crud4dynamo.extension.metrics.MethodTags;
+import com.amazon.crud4dynamo.extension.metrics.OperationType;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MeteredMethodTest {
+  private static final MethodTags TAGS = new MethodTags("Dao", "get", OperationType.CRUD);
+  private AbstractMethod mockDelegate;
+  private MethodMetrics mockMetrics;
+  private MeteredMethod meteredMethod;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mockDelegate = mock(AbstractMethod.class);
+    mockMetrics = mock(MethodMetrics.class);
+    meteredMethod =
+        new MeteredMethod(
+            Signature.resolve(Dao.class.getMethod("get"), Dao.class),
+            mockDelegate,
+            mockMetrics,
+            TAGS);
+  }
+
+  @Test
+  void invoke_recordSuccess() throws Throwable {
+    when(mockDelegate.invoke()).thenReturn("result");
+
+    assertThat(meteredMethod.invoke()).isEqualTo("result");
+    verify(mockMetrics).recordInvocation(eq(TAGS), anyLong(), eq(false));
+  }
+
+  @Test
+  void invokeThrow_recordFailure() throws Throwable {
+    when(mockDelegate.invoke()).thenThrow(new IllegalStateException());
+
+    assertThatThrownBy(() -> meteredMethod.invoke()).isInstanceOf(IllegalStateException.class);
+    verify(mockMetrics).recordInvocation(eq(TAGS), anyLong(), eq(true));
+  }
+
+  @Test
+  void futureResult_recordOnCompletion() throws Throwable {
+    final CompletableFuture<Object> future = new CompletableFuture<>();
+    when(mockDelegate.invoke()).thenReturn(future);
+
+    assertThat(meteredMethod.invoke()).isSameAs(future);
+    verifyZeroInteractions(mockMetrics);
+
+    future.completeExceptionally(new IllegalStateException());
+    verify(mockMetrics).recordInvocation(eq(TAGS), anyLong(), eq(true));
+  }
+
+  private interface Dao {
+    String get();
+  }
+}
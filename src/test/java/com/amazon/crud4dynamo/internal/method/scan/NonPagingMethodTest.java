@@ -6,6 +6,7 @@ import com.amazon.crud4dynamo.annotation.Param;
 import com.amazon.crud4dynamo.annotation.Scan;
 import com.amazon.crud4dynamo.crudinterface.CompositeKeyCrud;
 import com.amazon.crud4dynamo.extension.Signature;
+import com.amazon.crud4dynamo.internal.utility.PagePrefetcher;
 import com.amazon.crud4dynamo.testbase.SingleTableDynamoDbTestBase;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBRangeKey;
@@ -13,6 +14,7 @@ import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
 import com.google.common.collect.Lists;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
@@ -42,6 +44,23 @@ class NonPagingMethodTest extends SingleTableDynamoDbTestBase<NonPagingMethodTes
     assertThat(scanResult).containsAll(testData.subList(3, 8));
   }
 
+  @Test
+  void scan_prefetchPages() throws Throwable {
+    final List<Model> testData = storeItems(prepareData());
+    final NonPagingMethod scanMethod =
+        new NonPagingMethod(
+            getMethod().getSignature(),
+            getModelClass(),
+            getDynamoDbMapper(),
+            null,
+            PagePrefetcher.of(ForkJoinPool.commonPool(), 1));
+
+    final List<Model> scanResult =
+        Lists.newArrayList((Iterator<Model>) scanMethod.invoke("RangeKey", 3, 7));
+
+    assertThat(scanResult).containsExactlyInAnyOrderElementsOf(testData.subList(3, 8));
+  }
+
   private NonPagingMethod getMethod() throws NoSuchMethodException {
     final Signature signature =
         Signature.resolve(
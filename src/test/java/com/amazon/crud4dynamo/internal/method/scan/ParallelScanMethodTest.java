@@ -6,14 +6,21 @@ import com.amazon.crud4dynamo.annotation.Parallel;
 import com.amazon.crud4dynamo.annotation.Param;
 import com.amazon.crud4dynamo.annotation.Scan;
 import com.amazon.crud4dynamo.crudinterface.CompositeKeyCrud;
+import com.amazon.crud4dynamo.extension.FileScanCheckpointStore;
+import com.amazon.crud4dynamo.extension.ScanCheckpoint;
+import com.amazon.crud4dynamo.extension.ScanCheckpointStore;
+import com.amazon.crud4dynamo.extension.ScanCheckpointStore.SegmentCheckpoint;
 import com.amazon.crud4dynamo.extension.Signature;
 import com.amazon.crud4dynamo.internal.method.scan.ParallelScanMethodTest.Model;
 import com.amazon.crud4dynamo.testbase.SingleTableDynamoDbTestBase;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBRangeKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import java.nio.file.Path;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
@@ -22,6 +29,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.assertj.core.util.Lists;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class ParallelScanMethodTest extends SingleTableDynamoDbTestBase<Model> {
   private static Stream<Model> prepareData(final int numItems) {
@@ -45,6 +53,75 @@ class ParallelScanMethodTest extends SingleTableDynamoDbTestBase<Model> {
     assertThat(scanResult).containsAll(models.subList(3, 8));
   }
 
+  @Test
+  void parallelScan_stream() throws Throwable {
+    final List<Model> models = storeItems(prepareData(10));
+    final Signature signature =
+        Signature.resolve(
+            Dao.class.getMethod("scanStream", String.class, int.class, int.class), Dao.class);
+    final ParallelScanMethod method =
+        new ParallelScanMethod(signature, getModelClass(), getDynamoDbMapper(), null);
+
+    final List<Model> scanResult =
+        ((Stream<Model>) method.invoke("RangeKey", 3, 7)).parallel().collect(Collectors.toList());
+
+    assertThat(scanResult).containsExactlyInAnyOrderElementsOf(models.subList(3, 8));
+  }
+
+  @Test
+  void checkpointedScan_completedSegmentsSkipped(@TempDir final Path directory) throws Throwable {
+    final List<Model> models = storeItems(prepareData(20));
+    final ParallelScanMethod method = getCheckpointedMethod();
+    final ScanCheckpointStore store = new FileScanCheckpointStore(directory);
+
+    final List<Model> scanResult =
+        ((Stream<Model>) method.invoke(ScanCheckpoint.of("scan", store)))
+            .parallel()
+            .collect(Collectors.toList());
+
+    assertThat(scanResult).containsExactlyInAnyOrderElementsOf(models);
+    assertThat(store.load("scan").get().getSegments())
+        .containsOnlyKeys(0, 1, 2, 3)
+        .allSatisfy((segment, checkpoint) -> assertThat(checkpoint.isCompleted()).isTrue());
+    assertThat((Stream<Model>) method.invoke(ScanCheckpoint.of("scan", store))).isEmpty();
+  }
+
+  @Test
+  void checkpointedScan_resumeAfterSavedKey(@TempDir final Path directory) throws Throwable {
+    final List<Model> models = storeItems(prepareData(20));
+    final ParallelScanMethod method = getCheckpointedMethod();
+    final ScanCheckpointStore store = new FileScanCheckpointStore(directory);
+    final List<Model> segment0 = scanSegment(0, 2);
+    final List<Model> segment1 = scanSegment(1, 2);
+    store.save("scan", 2, 0, SegmentCheckpoint.COMPLETED);
+    store.save(
+        "scan",
+        2,
+        1,
+        SegmentCheckpoint.after(getDynamoDbMapperTableModel().convertKey(segment1.get(0))));
+
+    final List<Model> scanResult =
+        ((Stream<Model>) method.invoke(ScanCheckpoint.of("scan", store)))
+            .collect(Collectors.toList());
+
+    assertThat(segment0.size() + segment1.size()).isEqualTo(models.size());
+    assertThat(scanResult).isEqualTo(segment1.subList(1, segment1.size()));
+  }
+
+  private List<Model> scanSegment(final int segment, final int totalSegments) {
+    return getDynamoDbMapper()
+        .scanPage(
+            Model.class,
+            new DynamoDBScanExpression().withSegment(segment).withTotalSegments(totalSegments))
+        .getResults();
+  }
+
+  private ParallelScanMethod getCheckpointedMethod() throws NoSuchMethodException {
+    final Signature signature =
+        Signature.resolve(Dao.class.getMethod("checkpointedScan", ScanCheckpoint.class), Dao.class);
+    return new ParallelScanMethod(signature, getModelClass(), getDynamoDbMapper(), null);
+  }
+
   private ParallelScanMethod getMethod() throws NoSuchMethodException {
     final Signature signature =
         Signature.resolve(
@@ -59,6 +136,17 @@ class ParallelScanMethodTest extends SingleTableDynamoDbTestBase<Model> {
         @Param("#rangeKey") String rangeKeyName,
         @Param(":lower") int lower,
         @Param(":upper") int upper);
+
+    @Parallel(totalSegments = 4)
+    @Scan(filter = "")
+    Stream<Model> checkpointedScan(ScanCheckpoint checkpoint);
+
+    @Parallel(totalSegments = 4)
+    @Scan(filter = "#rangeKey between :lower and :upper")
+    Stream<Model> scanStream(
+        @Param("#rangeKey") String rangeKeyName,
+        @Param(":lower") int lower,
+        @Param(":upper") int upper);
   }
 
   @Data
@@ -0,0 +1,171 @@
+package com.amazon.crud4dynamo.internal.method.scan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+import com.amazon.crud4dynamo.annotation.Param;
+import com.amazon.crud4dynamo.annotation.Scan;
+import com.amazon.crud4dynamo.crudinterface.CompositeKeyCrud;
+import com.amazon.crud4dynamo.extension.Signature;
+import com.amazon.crud4dynamo.testbase.SingleTableDynamoDbTestBase;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBRangeKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+class PublisherMethodTest extends SingleTableDynamoDbTestBase<PublisherMethodTest.Model> {
+  private static Stream<Model> prepareData() {
+    return IntStream.range(0, 10).mapToObj(i -> Model.builder().hashKey("A").rangeKey(i).build());
+  }
+
+  @Override
+  protected Class<Model> getModelClass() {
+    return Model.class;
+  }
+
+  @Test
+  void scan() throws Throwable {
+    final List<Model> testData = storeItems(prepareData());
+    final Publisher<Model> publisher = (Publisher<Model>) getMethod().invoke("RangeKey", 3, 7);
+    final List<Model> items = new CopyOnWriteArrayList<>();
+    final CompletableFuture<Void> completed = new CompletableFuture<>();
+
+    publisher.subscribe(
+        new Subscriber<Model>() {
+          private Subscription subscription;
+
+          @Override
+          public void onSubscribe(final Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+          }
+
+          @Override
+          public void onNext(final Model model) {
+            items.add(model);
+            subscription.request(1);
+          }
+
+          @Override
+          public void onError(final Throwable error) {
+            completed.completeExceptionally(error);
+          }
+
+          @Override
+          public void onComplete() {
+            completed.complete(null);
+          }
+        });
+    completed.get(10, TimeUnit.SECONDS);
+
+    assertThat(items).containsExactlyInAnyOrderElementsOf(testData.subList(3, 8));
+  }
+
+  @Test
+  void concurrentSubscribers_scanWithTheirOwnExpression() throws Throwable {
+    final List<Model> testData = storeItems(prepareData());
+    final DynamoDBMapper mapper = spy(getDynamoDbMapper());
+    final Set<DynamoDBScanExpression> expressions = ConcurrentHashMap.newKeySet();
+    doAnswer(
+            invocation -> {
+              expressions.add(invocation.getArgument(1));
+              return invocation.callRealMethod();
+            })
+        .when(mapper)
+        .scanPage(any(), any(DynamoDBScanExpression.class), any());
+    final Publisher<Model> publisher =
+        (Publisher<Model>) getMethod(mapper, ForkJoinPool.commonPool()).invoke("RangeKey", 3, 7);
+
+    final CompletableFuture<List<Model>> first = subscribe(publisher);
+    final CompletableFuture<List<Model>> second = subscribe(publisher);
+
+    assertThat(first.get(10, TimeUnit.SECONDS))
+        .containsExactlyInAnyOrderElementsOf(testData.subList(3, 8));
+    assertThat(second.get(10, TimeUnit.SECONDS))
+        .containsExactlyInAnyOrderElementsOf(testData.subList(3, 8));
+    assertThat(expressions).hasSize(2);
+  }
+
+  private static CompletableFuture<List<Model>> subscribe(final Publisher<Model> publisher) {
+    final List<Model> items = new CopyOnWriteArrayList<>();
+    final CompletableFuture<List<Model>> completed = new CompletableFuture<>();
+    publisher.subscribe(
+        new Subscriber<Model>() {
+          @Override
+          public void onSubscribe(final Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+          }
+
+          @Override
+          public void onNext(final Model model) {
+            items.add(model);
+          }
+
+          @Override
+          public void onError(final Throwable error) {
+            completed.completeExceptionally(error);
+          }
+
+          @Override
+          public void onComplete() {
+            completed.complete(items);
+          }
+        });
+    return completed;
+  }
+
+  private PublisherMethod getMethod() throws NoSuchMethodException {
+    return getMethod(getDynamoDbMapper(), MoreExecutors.directExecutor());
+  }
+
+  private PublisherMethod getMethod(final DynamoDBMapper mapper, final Executor executor)
+      throws NoSuchMethodException {
+    final Signature signature =
+        Signature.resolve(
+            Dao.class.getMethod("scan", String.class, int.class, int.class), Dao.class);
+    return new PublisherMethod(signature, getModelClass(), mapper, null, executor);
+  }
+
+  public interface Dao extends CompositeKeyCrud<String, Integer, Model> {
+    @Scan(filter = "#rangeKey between :lower and :upper")
+    Publisher<Model> scan(
+        @Param("#rangeKey") String rangeKeyName,
+        @Param(":lower") int lower,
+        @Param(":upper") int upper);
+  }
+
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @DynamoDBTable(tableName = "Model")
+  public static class Model {
+    @DynamoDBHashKey(attributeName = "HashKey")
+    private String hashKey;
+
+    @DynamoDBRangeKey(attributeName = "RangeKey")
+    private Integer rangeKey;
+  }
+}
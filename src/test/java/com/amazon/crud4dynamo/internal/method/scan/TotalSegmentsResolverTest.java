@@ -0,0 +1,92 @@
+package com.amazon.crud4dynamo.internal.method.scan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.model.DescribeTableResult;
+import com.amazonaws.services.dynamodbv2.model.ResourceNotFoundException;
+import com.amazonaws.services.dynamodbv2.model.TableDescription;
+import com.google.common.base.Ticker;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TotalSegmentsResolverTest {
+  private static final String TABLE_NAME = "Model";
+  private static final long GB = 1L << 30;
+
+  private final AtomicLong nanos = new AtomicLong();
+  private AmazonDynamoDB dynamoDb;
+  private TotalSegmentsResolver resolver;
+
+  @BeforeEach
+  void setUp() {
+    dynamoDb = mock(AmazonDynamoDB.class);
+    resolver =
+        new TotalSegmentsResolver(
+            new Ticker() {
+              @Override
+              public long read() {
+                return nanos.get();
+              }
+            },
+            1,
+            TimeUnit.HOURS);
+  }
+
+  private void givenTableSize(final long bytes) {
+    when(dynamoDb.describeTable(anyString()))
+        .thenReturn(
+            new DescribeTableResult()
+                .withTable(
+                    new TableDescription().withTableName(TABLE_NAME).withTableSizeBytes(bytes)));
+  }
+
+  @Test
+  void totalSegments() {
+    assertThat(TotalSegmentsResolver.totalSegments(0, GB, 16)).isEqualTo(1);
+    assertThat(TotalSegmentsResolver.totalSegments(GB, GB, 16)).isEqualTo(1);
+    assertThat(TotalSegmentsResolver.totalSegments(GB + 1, GB, 16)).isEqualTo(2);
+    assertThat(TotalSegmentsResolver.totalSegments(100 * GB, GB, 16)).isEqualTo(16);
+    assertThat(TotalSegmentsResolver.totalSegments(Long.MAX_VALUE, Long.MAX_VALUE - 1, 16))
+        .isEqualTo(2);
+  }
+
+  @Test
+  void resolve_cachedUntilExpired() {
+    givenTableSize(3 * GB);
+
+    assertThat(resolver.resolve(dynamoDb, TABLE_NAME, GB, 16)).isEqualTo(3);
+    assertThat(resolver.resolve(dynamoDb, TABLE_NAME, GB, 16)).isEqualTo(3);
+    verify(dynamoDb, times(1)).describeTable(TABLE_NAME);
+
+    givenTableSize(10 * GB);
+    nanos.addAndGet(TimeUnit.HOURS.toNanos(1));
+
+    assertThat(resolver.resolve(dynamoDb, TABLE_NAME, GB, 16)).isEqualTo(10);
+    verify(dynamoDb, times(2)).describeTable(TABLE_NAME);
+  }
+
+  @Test
+  void resolve_defaultMaxSegments() {
+    givenTableSize(Long.MAX_VALUE / 2);
+
+    assertThat(resolver.resolve(dynamoDb, TABLE_NAME, GB, null))
+        .isEqualTo(TotalSegmentsResolver.DEFAULT_MAX_SEGMENTS);
+  }
+
+  @Test
+  void describeTableFails_throwException() {
+    when(dynamoDb.describeTable(anyString())).thenThrow(new ResourceNotFoundException("missing"));
+
+    assertThatThrownBy(() -> resolver.resolve(dynamoDb, TABLE_NAME, GB, 16))
+        .isInstanceOf(ResourceNotFoundException.class);
+  }
+}
@@ -9,6 +9,7 @@ import com.amazonaws.util.DateUtils;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.reflect.TypeToken;
 import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -153,6 +154,78 @@ class ArgumentTypeBasedConverterTest {
     assertThatThrownBy(() -> convert(new Object())).isInstanceOf(CrudForDynamoException.class);
   }
 
+  @Test
+  void specialized_stringSet() {
+    final Set<String> value = ImmutableSet.of("a", "b");
+
+    assertThat(specialize(new TypeToken<Set<String>>() {}).convert(value))
+        .isEqualTo(new AttributeValue().withSS("a", "b"));
+  }
+
+  @Test
+  void specialized_numberList() {
+    final List<Integer> value = ImmutableList.of(1, 2);
+
+    assertThat(specialize(new TypeToken<List<Integer>>() {}).convert(value))
+        .isEqualTo(
+            new AttributeValue()
+                .withL(new AttributeValue().withN("1"), new AttributeValue().withN("2")));
+  }
+
+  @Test
+  void specialized_rawList_convertElementsByRuntimeType() {
+    final List<Object> value = ImmutableList.of(1, "a");
+
+    assertThat(specialize(TypeToken.of(List.class)).convert(value))
+        .isEqualTo(
+            new AttributeValue()
+                .withL(new AttributeValue().withN("1"), new AttributeValue().withS("a")));
+  }
+
+  @Test
+  void specialized_primitive() {
+    assertThat(specialize(TypeToken.of(long.class)).convert(1L))
+        .isEqualTo(new AttributeValue().withN("1"));
+  }
+
+  @Test
+  void specialized_mapOfSets() {
+    final Map<String, Set<Integer>> value = ImmutableMap.of("key", ImmutableSet.of(1));
+
+    assertThat(specialize(new TypeToken<Map<String, Set<Integer>>>() {}).convert(value))
+        .isEqualTo(
+            new AttributeValue().withM(ImmutableMap.of("key", new AttributeValue().withNS("1"))));
+  }
+
+  @Test
+  void specialized_mismatchedType_fallBackToRuntimeType() {
+    final Set<Object> value = ImmutableSet.of(1, 2);
+
+    assertThat(specialize(new TypeToken<Set<String>>() {}).convert(value))
+        .isEqualTo(new AttributeValue().withNS("1", "2"));
+    assertThat(specialize(TypeToken.of(String.class)).convert(true))
+        .isEqualTo(new AttributeValue().withBOOL(true));
+  }
+
+  @Test
+  void specialized_mixedSet_throwException() {
+    final Set<Object> value = ImmutableSet.of("a", 1);
+
+    assertThatThrownBy(() -> specialize(new TypeToken<Set<String>>() {}).convert(value))
+        .isInstanceOf(CrudForDynamoException.class);
+  }
+
+  @Test
+  void specialized_objectType_returnDynamicConverter() {
+    final ArgumentTypeBasedConverter converter = new ArgumentTypeBasedConverter(DUMMY_PATH);
+
+    assertThat(converter.specialize(TypeToken.of(Object.class))).isSameAs(converter);
+  }
+
+  private AttributeValueConverter specialize(final TypeToken<?> type) {
+    return new ArgumentTypeBasedConverter(DUMMY_PATH).specialize(type);
+  }
+
   private AttributeValue convert(final Object object) {
     return new ArgumentTypeBasedConverter(DUMMY_PATH).convert(object);
   }
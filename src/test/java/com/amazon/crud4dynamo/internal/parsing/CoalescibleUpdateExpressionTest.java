@@ -0,0 +1,55 @@
+package com.amazon.crud4dynamo.internal.parsing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.amazon.crud4dynamo.internal.parsing.CoalescibleUpdateExpression.MergeRule;
+import com.amazon.crud4dynamo.internal.parsing.CoalescibleUpdateExpression.NotCoalescibleException;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+
+class CoalescibleUpdateExpressionTest {
+  @Test
+  void add_sum() {
+    assertThat(CoalescibleUpdateExpression.getMergeRules("ADD Counter :inc, Tags :tags"))
+        .isEqualTo(ImmutableMap.of(":inc", MergeRule.SUM, ":tags", MergeRule.SUM));
+  }
+
+  @Test
+  void set_mergeRules() {
+    assertThat(
+            CoalescibleUpdateExpression.getMergeRules(
+                "SET LastSeen = :now, Counter = Counter + :inc, #total = :delta + #total,"
+                    + " Hits = if_not_exists(Hits, :zero) - :hits, Created = if_not_exists(Created, :created)"))
+        .isEqualTo(
+            ImmutableMap.builder()
+                .put(":now", MergeRule.LAST)
+                .put(":inc", MergeRule.SUM)
+                .put(":delta", MergeRule.SUM)
+                .put(":zero", MergeRule.SAME)
+                .put(":hits", MergeRule.SUM)
+                .put(":created", MergeRule.FIRST)
+                .build());
+  }
+
+  @Test
+  void notAdditive_throwException() {
+    assertThatThrownBy(() -> CoalescibleUpdateExpression.getMergeRules("SET A = B + :v"))
+        .isInstanceOf(NotCoalescibleException.class);
+    assertThatThrownBy(() -> CoalescibleUpdateExpression.getMergeRules("SET A = :v - A"))
+        .isInstanceOf(NotCoalescibleException.class);
+    assertThatThrownBy(
+            () -> CoalescibleUpdateExpression.getMergeRules("SET A = list_append(A, :v)"))
+        .isInstanceOf(NotCoalescibleException.class);
+    assertThatThrownBy(() -> CoalescibleUpdateExpression.getMergeRules("REMOVE A"))
+        .isInstanceOf(NotCoalescibleException.class);
+    assertThatThrownBy(() -> CoalescibleUpdateExpression.getMergeRules(""))
+        .isInstanceOf(NotCoalescibleException.class);
+  }
+
+  @Test
+  void valueInDifferentActions_throwException() {
+    assertThatThrownBy(() -> CoalescibleUpdateExpression.getMergeRules("SET A = A + :v, B = :v"))
+        .isInstanceOf(NotCoalescibleException.class);
+  }
+}
@@ -1,8 +1,10 @@
 package com.amazon.crud4dynamo.internal.parsing;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.amazon.crud4dynamo.annotation.Param;
+import com.amazon.crud4dynamo.exception.CrudForDynamoException;
 import com.amazon.crud4dynamo.extension.Argument;
 import com.amazon.crud4dynamo.extension.Signature;
 import com.amazonaws.services.dynamodbv2.model.AttributeValue;
@@ -65,7 +67,95 @@ class ExpressionAttributesFactoryTest {
         .hasSize(3);
   }
 
+  @Test
+  void bindingPlanWithMultipleParsers() throws Exception {
+    final ArgumentBindingPlan plan =
+        new ExpressionAttributesFactory(new TestParser1(), new TestParser2())
+            .bind(TestInterface.getSignatureA().parameters());
+    final Object[] arguments = {"name1", "name2", "name3", "value1", "value2", "value3"};
+
+    assertThat(plan.newExpressionAttributeNames(arguments))
+        .containsEntry(EXPRESSION_ATTRIBUTE_NAME_1, "name1")
+        .containsEntry(EXPRESSION_ATTRIBUTE_NAME_2, "name2")
+        .containsEntry(EXPRESSION_ATTRIBUTE_NAME_3, "name3")
+        .hasSize(3);
+    assertThat(plan.newExpressionAttributeValues(arguments))
+        .containsEntry(EXPRESSION_ATTRIBUTE_VALUE_1, new AttributeValue("value1"))
+        .containsEntry(EXPRESSION_ATTRIBUTE_VALUE_2, new AttributeValue("value2"))
+        .containsEntry(EXPRESSION_ATTRIBUTE_VALUE_3, new AttributeValue("value3"))
+        .hasSize(3);
+  }
+
+  @Test
+  void bindingPlan_sameResultAsArgumentList() throws Exception {
+    final ExpressionAttributesFactory factory =
+        new ExpressionAttributesFactory(new TestParser1(), new TestParser2());
+    final ArgumentBindingPlan plan = factory.bind(TestInterface.getSignatureA().parameters());
+    final Object[] arguments = {"name1", "dummyName2", "name3", "value1", "value2", "value3"};
+    final List<Argument> argumentList =
+        TestInterface.newArgumentList(TestInterface.getMethodA(), arguments);
+
+    assertThat(plan.newExpressionAttributeNames(arguments))
+        .isEqualTo(factory.newExpressionAttributeNames(argumentList));
+    assertThat(plan.newExpressionAttributeValues(arguments))
+        .isEqualTo(factory.newExpressionAttributeValues(argumentList));
+  }
+
+  @Test
+  void bindingPlan_converterDependsOnNameArgument() throws Exception {
+    final ArgumentBindingPlan plan =
+        new ExpressionAttributesFactory(new NameDependentParser())
+            .bind(TestInterface.getSignatureA().parameters());
+
+    assertThat(plan.newExpressionAttributeValues(new Object[] {"", "", "a", "", "", "value"}))
+        .containsEntry(EXPRESSION_ATTRIBUTE_VALUE_3, new AttributeValue("a:value"))
+        .hasSize(1);
+    assertThat(plan.newExpressionAttributeValues(new Object[] {"", "", "b", "", "", "value"}))
+        .containsEntry(EXPRESSION_ATTRIBUTE_VALUE_3, new AttributeValue("b:value"))
+        .hasSize(1);
+  }
+
+  @Test
+  void bindingPlan_noPlaceholder_returnNull() throws Exception {
+    final ArgumentBindingPlan plan =
+        new ExpressionAttributesFactory().bind(TestInterface.getSignatureA().parameters());
+    final Object[] arguments = {"name1", "name2", "name3", "value1", "value2", "value3"};
+
+    assertThat(plan.newExpressionAttributeNames(arguments)).isNull();
+    assertThat(plan.newExpressionAttributeValues(arguments)).isNull();
+  }
+
+  @Test
+  void bindingPlan_nameBoundTwice_throwException() throws Exception {
+    final Signature signature =
+        Signature.resolve(
+            TestInterface.class.getMethod("duplicateNames", String.class, String.class),
+            TestInterface.class);
+
+    assertThatThrownBy(
+            () -> new ExpressionAttributesFactory(new TestParser1()).bind(signature.parameters()))
+        .isInstanceOf(CrudForDynamoException.class)
+        .hasMessageContaining(EXPRESSION_ATTRIBUTE_NAME_1);
+  }
+
+  @Test
+  void bindingPlan_valueBoundTwice_throwException() throws Exception {
+    final Signature signature =
+        Signature.resolve(
+            TestInterface.class.getMethod("duplicateValues", String.class, String.class),
+            TestInterface.class);
+
+    assertThatThrownBy(
+            () -> new ExpressionAttributesFactory(new TestParser1()).bind(signature.parameters()))
+        .isInstanceOf(CrudForDynamoException.class)
+        .hasMessageContaining(EXPRESSION_ATTRIBUTE_VALUE_1);
+  }
+
   private interface TestInterface {
+    static Signature getSignatureA() throws Exception {
+      return Signature.resolve(getMethodA(), TestInterface.class);
+    }
+
     static Method getMethodA() throws Exception {
       return TestInterface.class.getMethod(
           "methodA",
@@ -89,6 +179,14 @@ class ExpressionAttributesFactoryTest {
         @Param(EXPRESSION_ATTRIBUTE_VALUE_1) final String expressionAttributeValue1,
         @Param(EXPRESSION_ATTRIBUTE_VALUE_2) final String expressionAttributeValue2,
         @Param(EXPRESSION_ATTRIBUTE_VALUE_3) final String expressionAttributeValue3);
+
+    void duplicateNames(
+        @Param(EXPRESSION_ATTRIBUTE_NAME_1) final String first,
+        @Param(EXPRESSION_ATTRIBUTE_NAME_1) final String second);
+
+    void duplicateValues(
+        @Param(EXPRESSION_ATTRIBUTE_VALUE_1) final String first,
+        @Param(EXPRESSION_ATTRIBUTE_VALUE_1) final String second);
   }
 
   private class TestParser1 implements ExpressionParser {
@@ -142,4 +240,36 @@ class ExpressionAttributesFactoryTest {
       return ImmutableSet.of(EXPRESSION_ATTRIBUTE_NAME_2, EXPRESSION_ATTRIBUTE_NAME_3);
     }
   }
+
+  private class NameDependentParser implements ExpressionParser {
+
+    @Override
+    public AttributeNameMapper getAttributeNameMapper() {
+      return new AttributeNameMapper()
+          .put(
+              EXPRESSION_ATTRIBUTE_NAME_3,
+              name ->
+                  new NameAwareConverter() {
+                    @Override
+                    public String getName() {
+                      return EXPRESSION_ATTRIBUTE_VALUE_3;
+                    }
+
+                    @Override
+                    public AttributeValue convert(final Object object) {
+                      return new AttributeValue(name + ":" + object);
+                    }
+                  });
+    }
+
+    @Override
+    public AttributeValueMapper getAttributeValueMapper() {
+      return new AttributeValueMapper();
+    }
+
+    @Override
+    public Set<String> getExpressionAttributeNames() {
+      return ImmutableSet.of();
+    }
+  }
 }
@@ -0,0 +1,129 @@
+package com.amazon.crud4dynamo.internal.parsing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.ConversionSchemas;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import com.google.common.cache.CacheStats;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+
+class ExpressionParseCacheTest {
+  private static DynamoDBMapperTableModel<Model> newTableModel() {
+    return new DynamoDBMapper(mock(AmazonDynamoDB.class)).getTableModel(Model.class);
+  }
+
+  @Test
+  void sameExpressionAndTableModel_returnCachedResult() {
+    final String expression = "HashKey = :hitValue";
+    final DynamoDBMapperTableModel<Model> tableModel = newTableModel();
+    final CacheStats before = ExpressionParseCache.stats();
+
+    final ExpressionParser first =
+        ExpressionParseCache.get(ExpressionGrammar.CONDITION, expression, tableModel);
+    final ExpressionParser second =
+        ExpressionParseCache.get(ExpressionGrammar.CONDITION, expression, tableModel);
+
+    assertThat(second).isSameAs(first);
+    final CacheStats delta = ExpressionParseCache.stats().minus(before);
+    assertThat(delta.missCount()).isEqualTo(1);
+    assertThat(delta.hitCount()).isEqualTo(1);
+  }
+
+  @Test
+  void tableModelsOfDifferentMappers_shareResult() {
+    final String expression = "HashKey = :sharedValue";
+    final CacheStats before = ExpressionParseCache.stats();
+
+    final ExpressionParser first =
+        ExpressionParseCache.get(ExpressionGrammar.CONDITION, expression, newTableModel());
+    final ExpressionParser second =
+        ExpressionParseCache.get(ExpressionGrammar.CONDITION, expression, newTableModel());
+
+    assertThat(second).isSameAs(first);
+    final CacheStats delta = ExpressionParseCache.stats().minus(before);
+    assertThat(delta.missCount()).isEqualTo(1);
+    assertThat(delta.hitCount()).isEqualTo(1);
+  }
+
+  @Test
+  void differentMapperConfigs_shareBindings() {
+    final String expression = "HashKey = :configValue";
+    final DynamoDBMapperConfig config =
+        DynamoDBMapperConfig.builder().withConversionSchema(ConversionSchemas.V1).build();
+    final CacheStats before = ExpressionParseCache.bindingStats();
+
+    final ExpressionParser first =
+        ExpressionParseCache.get(ExpressionGrammar.CONDITION, expression, newTableModel());
+    final ExpressionParser second =
+        ExpressionParseCache.get(
+            ExpressionGrammar.CONDITION,
+            expression,
+            new DynamoDBMapper(mock(AmazonDynamoDB.class), config).getTableModel(Model.class),
+            config);
+
+    assertThat(second).isNotSameAs(first);
+    final CacheStats delta = ExpressionParseCache.bindingStats().minus(before);
+    assertThat(delta.missCount()).isEqualTo(1);
+    assertThat(delta.hitCount()).isEqualTo(1);
+  }
+
+  @Test
+  void differentGrammars_cachedSeparately() {
+    final String expression = "HashKey = :grammarValue";
+    final DynamoDBMapperTableModel<Model> tableModel = newTableModel();
+
+    assertThat(ExpressionParseCache.get(ExpressionGrammar.CONDITION, expression, tableModel))
+        .isNotSameAs(
+            ExpressionParseCache.get(ExpressionGrammar.KEY_CONDITION, expression, tableModel));
+  }
+
+  @Test
+  void cachedResult_isImmutable() {
+    final ExpressionParser parser =
+        ExpressionParseCache.get(
+            ExpressionGrammar.CONDITION, "#cacheName = :value", newTableModel());
+
+    assertThatThrownBy(() -> parser.getAttributeNameMapper().put("#other", name -> null))
+        .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> parser.getAttributeValueMapper().put(":other", obj -> null))
+        .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> parser.getExpressionAttributeNames().add("#other"))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void invalidExpression_throwParsingError() {
+    assertThatThrownBy(
+            () ->
+                ExpressionParseCache.get(
+                    ExpressionGrammar.CONDITION, "HashKey = = :invalidValue", newTableModel()))
+        .isExactlyInstanceOf(RuntimeException.class)
+        .hasMessageStartingWith("Parsing error");
+  }
+
+  @Test
+  void keyExpression_cached() {
+    final String expression = "HashKey = :cacheHashKey";
+    final CacheStats before = ExpressionParseCache.bindingStats();
+
+    assertThat(ExpressionParseCache.getKeyBindings(expression))
+        .isSameAs(ExpressionParseCache.getKeyBindings(expression))
+        .isPresent();
+    assertThat(ExpressionParseCache.bindingStats().minus(before).hitCount()).isEqualTo(1);
+  }
+
+  @Data
+  @DynamoDBTable(tableName = "Table")
+  public static class Model {
+    @DynamoDBHashKey(attributeName = "HashKey")
+    private String hashKey;
+  }
+}
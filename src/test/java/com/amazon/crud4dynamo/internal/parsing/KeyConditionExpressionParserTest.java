@@ -26,6 +26,17 @@ class KeyConditionExpressionParserTest {
         .collect(Collectors.toList());
   }
 
+  @Test
+  void getPartitionKeyValue() {
+    assertThat(KeyConditionExpressionParser.getPartitionKeyValue("HashKey = :hashKey"))
+        .hasValue(":hashKey");
+    assertThat(
+            KeyConditionExpressionParser.getPartitionKeyValue(
+                "#hashKey = :hashKey AND RangeKey between :lower and :upper"))
+        .hasValue(":hashKey");
+    assertThat(KeyConditionExpressionParser.getPartitionKeyValue("")).isEmpty();
+  }
+
   @Data
   @Builder
   @NoArgsConstructor
@@ -0,0 +1,54 @@
+package com.amazon.crud4dynamo.internal.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteArrayDataOutput;
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class AttributeValueCodecTest {
+
+  private static Map<String, AttributeValue> roundTrip(final Map<String, AttributeValue> item)
+      throws IOException {
+    final ByteArrayDataOutput out = ByteStreams.newDataOutput();
+    AttributeValueCodec.writeItem(out, item);
+    return AttributeValueCodec.readItem(ByteStreams.newDataInput(out.toByteArray()));
+  }
+
+  @Test
+  void roundTripAllTypes() throws Exception {
+    final Map<String, AttributeValue> item =
+        ImmutableMap.<String, AttributeValue>builder()
+            .put("S", new AttributeValue().withS("v\u00e4lue"))
+            .put("N", new AttributeValue().withN("-1.5"))
+            .put("B", new AttributeValue().withB(ByteBuffer.wrap(new byte[] {1, 2})))
+            .put("SS", new AttributeValue().withSS("a", "b"))
+            .put("NS", new AttributeValue().withNS("1", "2"))
+            .put("BS", new AttributeValue().withBS(ByteBuffer.wrap(new byte[] {3})))
+            .put("M", new AttributeValue().withM(ImmutableMap.of("S", new AttributeValue("x"))))
+            .put("L", new AttributeValue().withL(new AttributeValue().withN("1")))
+            .put("BOOL", new AttributeValue().withBOOL(false))
+            .put("NULL", new AttributeValue().withNULL(true))
+            .build();
+
+    assertThat(roundTrip(item)).isEqualTo(item).containsOnlyKeys(item.keySet());
+  }
+
+  @Test
+  void emptyItem() throws Exception {
+    assertThat(roundTrip(ImmutableMap.of())).isEmpty();
+  }
+
+  @Test
+  void unknownType_throwException() {
+    assertThatThrownBy(
+            () -> AttributeValueCodec.read(ByteStreams.newDataInput(new byte[] {(byte) 99})))
+        .isInstanceOf(IOException.class);
+  }
+}
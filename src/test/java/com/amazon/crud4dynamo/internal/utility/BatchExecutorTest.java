@@ -0,0 +1,194 @@
+package com.amazon.crud4dynamo.internal.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BatchExecutorTest {
+  private static final List<Integer> ITEMS =
+      IntStream.range(0, 100).boxed().collect(Collectors.toList());
+
+  private ExecutorService executorService;
+
+  @BeforeEach
+  void setUp() {
+    executorService = Executors.newFixedThreadPool(8);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  void noExecutor_runChunksInOrder() {
+    final BatchExecutor batchExecutor = BatchExecutor.of(null, 4);
+
+    final List<List<Integer>> chunks = batchExecutor.execute(ITEMS, 25, Collections::singletonList);
+
+    assertThat(batchExecutor.isSequential()).isTrue();
+    assertThat(chunks).hasSize(4).allMatch(chunk -> chunk.size() == 25);
+    assertThat(chunks.stream().flatMap(List::stream)).containsExactlyElementsOf(ITEMS);
+  }
+
+  @Test
+  void withExecutor_boundInFlightChunks() {
+    final AtomicInteger inFlight = new AtomicInteger();
+    final AtomicInteger maxInFlight = new AtomicInteger();
+
+    final List<Integer> results =
+        BatchExecutor.of(executorService, 3)
+            .execute(
+                ITEMS,
+                10,
+                chunk -> {
+                  maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                  sleep();
+                  inFlight.decrementAndGet();
+                  return chunk;
+                });
+
+    assertThat(results).containsExactlyInAnyOrderElementsOf(ITEMS);
+    assertThat(maxInFlight.get()).isBetween(1, 3);
+  }
+
+  @Test
+  void withExecutor_chunkFailed_throwException() {
+    final IllegalStateException exception = new IllegalStateException();
+
+    assertThatThrownBy(
+            () ->
+                BatchExecutor.of(executorService, 3)
+                    .execute(
+                        ITEMS,
+                        10,
+                        chunk -> {
+                          if (chunk.contains(42)) {
+                            throw exception;
+                          }
+                          return ImmutableList.of();
+                        }))
+        .isSameAs(exception);
+  }
+
+  @Test
+  void withExecutor_chunkFailed_runRemainingChunks() {
+    assertRemainingChunksRun(BatchExecutor.of(executorService, 3));
+  }
+
+  @Test
+  void noExecutor_chunkFailed_runRemainingChunks() {
+    assertRemainingChunksRun(BatchExecutor.of(null, null));
+  }
+
+  private static void assertRemainingChunksRun(final BatchExecutor batchExecutor) {
+    final IllegalStateException first = new IllegalStateException("first");
+    final IllegalStateException second = new IllegalStateException("second");
+    final Set<Integer> written = ConcurrentHashMap.newKeySet();
+
+    assertThatThrownBy(
+            () ->
+                batchExecutor.execute(
+                    ITEMS,
+                    10,
+                    chunk -> {
+                      if (chunk.contains(0)) {
+                        throw first;
+                      }
+                      if (chunk.contains(50)) {
+                        sleep();
+                        throw second;
+                      }
+                      written.addAll(chunk);
+                      return chunk;
+                    }))
+        .isSameAs(first)
+        .satisfies(e -> assertThat(e.getSuppressed()).containsExactly(second));
+    assertThat(written).hasSize(ITEMS.size() - 20);
+  }
+
+  @Test
+  void stream_noExecutor_runChunkWhenConsumed() {
+    final AtomicInteger chunkCount = new AtomicInteger();
+
+    final Iterator<Integer> results =
+        BatchExecutor.of(null, null).stream(
+            ITEMS,
+            10,
+            chunk -> {
+              chunkCount.incrementAndGet();
+              return chunk;
+            });
+
+    assertThat(chunkCount).hasValue(0);
+    assertThat(results.next()).isEqualTo(0);
+    assertThat(chunkCount).hasValue(1);
+    assertThat(Lists.newArrayList(results)).hasSize(ITEMS.size() - 1);
+    assertThat(chunkCount).hasValue(10);
+  }
+
+  @Test
+  void stream_withExecutor_submitChunksAsConsumed() {
+    final AtomicInteger chunkCount = new AtomicInteger();
+
+    final Iterator<Integer> results =
+        BatchExecutor.of(executorService, 3).stream(
+            ITEMS,
+            10,
+            chunk -> {
+              chunkCount.incrementAndGet();
+              return chunk;
+            });
+    results.next();
+
+    assertThat(chunkCount.get()).isBetween(1, 3);
+    assertThat(Lists.newArrayList(results)).hasSize(ITEMS.size() - 1);
+    assertThat(chunkCount).hasValue(10);
+  }
+
+  @Test
+  void stream_withExecutor_chunkFailed_throwException() {
+    final IllegalStateException exception = new IllegalStateException();
+    final Iterator<Integer> results =
+        BatchExecutor.of(executorService, 3).stream(
+            ITEMS,
+            10,
+            chunk -> {
+              if (chunk.contains(42)) {
+                throw exception;
+              }
+              return chunk;
+            });
+
+    assertThatThrownBy(() -> Lists.newArrayList(results)).isSameAs(exception);
+  }
+
+  @Test
+  void defaultMaxInFlightRequests() {
+    assertThat(BatchExecutor.of(executorService, null).getMaxInFlightRequests())
+        .isEqualTo(BatchExecutor.DEFAULT_MAX_IN_FLIGHT_REQUESTS);
+  }
+
+  private static void sleep() {
+    try {
+      Thread.sleep(5);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
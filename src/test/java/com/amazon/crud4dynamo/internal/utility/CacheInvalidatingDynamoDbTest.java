@@ -0,0 +1,179 @@
+package com.amazon.crud4dynamo.internal.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.amazon.crud4dynamo.extension.ItemCacheSpec;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBAsync;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.DeleteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.DeleteRequest;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.Put;
+import com.amazonaws.services.dynamodbv2.model.PutItemRequest;
+import com.amazonaws.services.dynamodbv2.model.PutRequest;
+import com.amazonaws.services.dynamodbv2.model.TransactWriteItem;
+import com.amazonaws.services.dynamodbv2.model.TransactWriteItemsRequest;
+import com.amazonaws.services.dynamodbv2.model.Update;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemRequest;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemResult;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+import com.google.common.collect.ImmutableMap;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CacheInvalidatingDynamoDbTest {
+  private static final String TABLE = "Table";
+
+  private ItemCache itemCache;
+  private ItemCache.Table table;
+
+  private static Map<String, AttributeValue> key(final String key) {
+    return ImmutableMap.of("Key", new AttributeValue(key));
+  }
+
+  private static Map<String, AttributeValue> item(final String key) {
+    return ImmutableMap.of("Key", new AttributeValue(key), "Value", new AttributeValue("value"));
+  }
+
+  @BeforeEach
+  void setUp() {
+    itemCache =
+        ItemCache.of(Collections.singletonList(ItemCacheSpec.builder().tableName(TABLE).build()));
+    table = itemCache.table(TABLE, Object.class, Collections.singletonList("Key")).get();
+  }
+
+  @Test
+  void noItemCache_returnClient() {
+    final AmazonDynamoDB dynamoDb = mock(AmazonDynamoDB.class);
+
+    assertThat(CacheInvalidatingDynamoDb.wrap(dynamoDb, ItemCache.NONE)).isSameAs(dynamoDb);
+  }
+
+  @Test
+  void itemCacheOf_findCacheThroughOtherDecorators() {
+    final AmazonDynamoDB invalidating =
+        CacheInvalidatingDynamoDb.wrap(mock(AmazonDynamoDB.class), itemCache);
+    final AmazonDynamoDB decorated =
+        ClientDecorator.proxy(
+            AmazonDynamoDB.class,
+            new ClientDecorator(invalidating) {
+              @Override
+              public Object invoke(final Object proxy, final Method method, final Object[] args)
+                  throws Throwable {
+                return delegate(method, args);
+              }
+            });
+
+    assertThat(CacheInvalidatingDynamoDb.itemCacheOf(decorated)).isSameAs(itemCache);
+    assertThat(CacheInvalidatingDynamoDb.itemCacheOf(mock(AmazonDynamoDB.class)))
+        .isSameAs(ItemCache.NONE);
+    assertThat(CacheInvalidatingDynamoDb.itemCacheOf(null)).isSameAs(ItemCache.NONE);
+  }
+
+  @Test
+  void writes_invalidate() {
+    final AmazonDynamoDB dynamoDb =
+        CacheInvalidatingDynamoDb.wrap(mock(AmazonDynamoDB.class), itemCache);
+
+    cache("A", "B", "C", "D", "E", "F", "G");
+    dynamoDb.putItem(new PutItemRequest(TABLE, item("A")));
+    dynamoDb.updateItem(new UpdateItemRequest().withTableName(TABLE).withKey(key("B")));
+    dynamoDb.deleteItem(new DeleteItemRequest(TABLE, key("C")));
+    dynamoDb.batchWriteItem(
+        new BatchWriteItemRequest(
+            ImmutableMap.of(
+                TABLE,
+                Arrays.asList(
+                    new WriteRequest(new PutRequest(item("D"))),
+                    new WriteRequest(new DeleteRequest(key("E")))))));
+    dynamoDb.transactWriteItems(
+        new TransactWriteItemsRequest()
+            .withTransactItems(
+                new TransactWriteItem().withPut(new Put().withTableName(TABLE).withItem(item("F"))),
+                new TransactWriteItem()
+                    .withUpdate(new Update().withTableName(TABLE).withKey(key("G")))));
+
+    for (final String key : new String[] {"A", "B", "C", "D", "E", "F", "G"}) {
+      assertThat(table.get(key(key), () -> null)).isEmpty();
+    }
+  }
+
+  @Test
+  void reads_keepCachedItems() {
+    final AmazonDynamoDB dynamoDb =
+        CacheInvalidatingDynamoDb.wrap(mock(AmazonDynamoDB.class), itemCache);
+    cache("A");
+
+    dynamoDb.getItem(new GetItemRequest(TABLE, key("A")));
+
+    assertThat(table.get(key("A"), () -> null)).contains(item("A"));
+  }
+
+  @Test
+  void failedWrite_invalidate() {
+    final AmazonDynamoDB mockDynamoDb = mock(AmazonDynamoDB.class);
+    when(mockDynamoDb.deleteItem(any(DeleteItemRequest.class)))
+        .thenThrow(new IllegalStateException());
+    final AmazonDynamoDB dynamoDb = CacheInvalidatingDynamoDb.wrap(mockDynamoDb, itemCache);
+    cache("A");
+
+    assertThatThrownBy(() -> dynamoDb.deleteItem(new DeleteItemRequest(TABLE, key("A"))))
+        .isInstanceOf(IllegalStateException.class);
+    assertThat(table.get(key("A"), () -> null)).isEmpty();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void asyncWrite_invalidateBeforeCallerHandler() throws Exception {
+    final AmazonDynamoDBAsync mockDynamoDb = mock(AmazonDynamoDBAsync.class);
+    doAnswer(
+            invocation -> {
+              final UpdateItemRequest request = invocation.getArgument(0);
+              invocation
+                  .<AsyncHandler<UpdateItemRequest, UpdateItemResult>>getArgument(1)
+                  .onSuccess(request, new UpdateItemResult());
+              return CompletableFuture.completedFuture(new UpdateItemResult());
+            })
+        .when(mockDynamoDb)
+        .updateItemAsync(any(UpdateItemRequest.class), any(AsyncHandler.class));
+    final AmazonDynamoDBAsync dynamoDb = CacheInvalidatingDynamoDb.wrap(mockDynamoDb, itemCache);
+    cache("A", "B");
+    final AtomicBoolean invalidatedBeforeHandler = new AtomicBoolean();
+
+    dynamoDb.updateItemAsync(
+        new UpdateItemRequest().withTableName(TABLE).withKey(key("A")),
+        new AsyncHandler<UpdateItemRequest, UpdateItemResult>() {
+          @Override
+          public void onError(final Exception exception) {}
+
+          @Override
+          public void onSuccess(final UpdateItemRequest request, final UpdateItemResult result) {
+            invalidatedBeforeHandler.set(!table.get(key("A"), () -> null).isPresent());
+          }
+        });
+    dynamoDb.updateItemAsync(new UpdateItemRequest().withTableName(TABLE).withKey(key("B"))).get();
+
+    assertThat(invalidatedBeforeHandler).isTrue();
+    assertThat(table.get(key("B"), () -> null)).isEmpty();
+  }
+
+  private void cache(final String... keys) {
+    for (final String key : keys) {
+      table.get(key(key), () -> item(key));
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package com.amazon.crud4dynamo.internal.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.amazon.crud4dynamo.extension.CacheBudget;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CacheLedgerTest {
+  private CacheLedger budget;
+  private Cache<String, String> cache1;
+  private Cache<String, String> cache2;
+
+  @BeforeEach
+  void setUp() {
+    budget = CacheLedger.ofBytes(100);
+    cache1 = CacheBuilder.newBuilder().build();
+    cache2 = CacheBuilder.newBuilder().build();
+  }
+
+  @Test
+  void of_budgetOfBytes_returnItsLedger() {
+    final CacheBudget cacheBudget = CacheBudget.ofBytes(100);
+
+    assertThat(CacheLedger.of(cacheBudget)).isPresent();
+    assertThat(CacheLedger.of(cacheBudget)).isEqualTo(CacheLedger.of(cacheBudget));
+    assertThat(CacheLedger.of(null)).isEmpty();
+  }
+
+  @Test
+  void ownerCollected_dropItsEntries() throws InterruptedException {
+    budget.record(CacheBuilder.newBuilder().build(), "key", 40);
+    budget.record(cache1, "key", 30);
+
+    for (int i = 0; i < 50 && budget.getUsedBytes() > 30; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+
+    assertThat(budget.getUsedBytes()).isEqualTo(30);
+  }
+
+  @Test
+  void record_accountWeight() {
+    budget.record(cache1, "key", 40);
+    budget.record(cache2, "key", 30);
+
+    assertThat(budget.getUsedBytes()).isEqualTo(70);
+  }
+
+  @Test
+  void recordSameKey_replaceWeight() {
+    budget.record(cache1, "key", 40);
+    budget.record(cache1, "key", 10);
+
+    assertThat(budget.getUsedBytes()).isEqualTo(10);
+  }
+
+  @Test
+  void exceeded_invalidateLeastRecentlyUsedKeyOfItsCache() {
+    cache1.put("key1", "value");
+    cache1.put("key2", "value");
+    cache2.put("key1", "value");
+    budget.record(cache1, "key1", 40);
+    budget.record(cache2, "key1", 40);
+    budget.touch(cache1, "key1");
+
+    budget.record(cache1, "key2", 40);
+
+    assertThat(cache1.asMap()).containsOnlyKeys("key1", "key2");
+    assertThat(cache2.asMap()).isEmpty();
+    assertThat(budget.getUsedBytes()).isEqualTo(80);
+  }
+
+  @Test
+  void remove_stopAccountingWithoutInvalidate() {
+    cache1.put("key", "value");
+    budget.record(cache1, "key", 40);
+
+    budget.remove(cache1, "key");
+
+    assertThat(budget.getUsedBytes()).isZero();
+    assertThat(cache1.asMap()).containsOnlyKeys("key");
+  }
+}
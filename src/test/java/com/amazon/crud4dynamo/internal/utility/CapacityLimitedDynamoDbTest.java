@@ -0,0 +1,127 @@
+package com.amazon.crud4dynamo.internal.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBAsync;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.ConsumedCapacity;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.GetItemResult;
+import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+import com.amazonaws.services.dynamodbv2.model.QueryResult;
+import com.amazonaws.services.dynamodbv2.model.ResourceNotFoundException;
+import com.amazonaws.services.dynamodbv2.model.ReturnConsumedCapacity;
+import com.amazonaws.services.dynamodbv2.model.ScanRequest;
+import com.amazonaws.services.dynamodbv2.model.ScanResult;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CapacityLimitedDynamoDbTest {
+  private static final String TABLE = "Table";
+  private AmazonDynamoDB mockDynamoDb;
+  private CapacityLimiter mockLimiter;
+  private AmazonDynamoDB limitedDynamoDb;
+
+  @BeforeEach
+  void setUp() {
+    mockDynamoDb = mock(AmazonDynamoDB.class);
+    mockLimiter = mock(CapacityLimiter.class);
+    limitedDynamoDb = CapacityLimitedDynamoDb.wrap(mockDynamoDb, mockLimiter);
+  }
+
+  @Test
+  void unlimited_returnClient() {
+    assertThat(CapacityLimitedDynamoDb.wrap(mockDynamoDb, CapacityLimiter.UNLIMITED))
+        .isSameAs(mockDynamoDb);
+  }
+
+  @Test
+  void query_acquireConsumedReadCapacity() {
+    final QueryRequest request = new QueryRequest(TABLE).withIndexName("Index");
+    when(mockDynamoDb.query(request))
+        .thenReturn(
+            new QueryResult().withConsumedCapacity(new ConsumedCapacity().withCapacityUnits(5.0)));
+
+    limitedDynamoDb.query(request);
+
+    assertThat(request.getReturnConsumedCapacity())
+        .isEqualTo(ReturnConsumedCapacity.TOTAL.toString());
+    verify(mockLimiter).consumedRead(TABLE, "Index", 5.0);
+  }
+
+  @Test
+  void batchWrite_acquireConsumedWriteCapacityByTable() {
+    final BatchWriteItemRequest request =
+        new BatchWriteItemRequest().withReturnConsumedCapacity(ReturnConsumedCapacity.INDEXES);
+    when(mockDynamoDb.batchWriteItem(request))
+        .thenReturn(
+            new BatchWriteItemResult()
+                .withConsumedCapacity(
+                    Arrays.asList(
+                        new ConsumedCapacity().withTableName(TABLE).withCapacityUnits(2.0),
+                        new ConsumedCapacity().withTableName("Other").withCapacityUnits(1.0))));
+
+    limitedDynamoDb.batchWriteItem(request);
+
+    assertThat(request.getReturnConsumedCapacity())
+        .isEqualTo(ReturnConsumedCapacity.INDEXES.toString());
+    verify(mockLimiter).consumedWrite(TABLE, 2.0);
+    verify(mockLimiter).consumedWrite("Other", 1.0);
+  }
+
+  @Test
+  void asyncScan_acquireConsumedReadCapacityBeforeHandler() throws Exception {
+    final AmazonDynamoDBAsync mockDynamoDbAsync = mock(AmazonDynamoDBAsync.class);
+    final ScanResult result =
+        new ScanResult().withConsumedCapacity(new ConsumedCapacity().withCapacityUnits(3.0));
+    doAnswer(
+            invocation -> {
+              invocation
+                  .<AsyncHandler<ScanRequest, ScanResult>>getArgument(1)
+                  .onSuccess(invocation.getArgument(0), result);
+              return CompletableFuture.completedFuture(result);
+            })
+        .when(mockDynamoDbAsync)
+        .scanAsync(any(ScanRequest.class), any(AsyncHandler.class));
+    final AmazonDynamoDBAsync limitedDynamoDbAsync =
+        CapacityLimitedDynamoDb.wrap(mockDynamoDbAsync, mockLimiter);
+    final ScanRequest request = new ScanRequest(TABLE);
+
+    assertThat(limitedDynamoDbAsync.scanAsync(request).get()).isSameAs(result);
+    assertThat(request.getReturnConsumedCapacity())
+        .isEqualTo(ReturnConsumedCapacity.TOTAL.toString());
+    verify(mockLimiter).consumedRead(TABLE, null, 3.0);
+  }
+
+  @Test
+  void failedScan_throwCause() {
+    final ScanRequest request = new ScanRequest(TABLE);
+    when(mockDynamoDb.scan(request)).thenThrow(new ResourceNotFoundException("missing"));
+
+    assertThatThrownBy(() -> limitedDynamoDb.scan(request))
+        .isInstanceOf(ResourceNotFoundException.class);
+    verify(mockLimiter, never()).consumedRead(any(), any(), anyDouble());
+  }
+
+  @Test
+  void otherOperation_passThrough() {
+    final GetItemResult result = new GetItemResult();
+    when(mockDynamoDb.getItem(any(GetItemRequest.class))).thenReturn(result);
+
+    assertThat(limitedDynamoDb.getItem(new GetItemRequest())).isSameAs(result);
+    verify(mockLimiter, never()).consumedRead(any(), any(), anyDouble());
+  }
+}
@@ -0,0 +1,100 @@
+package com.amazon.crud4dynamo.internal.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.amazon.crud4dynamo.extension.CapacityBudget;
+import com.amazon.crud4dynamo.internal.utility.CapacityLimiter.TableIndex;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.RateLimiter;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+class CapacityLimiterTest {
+  private static final String TABLE = "Table";
+  private static final String INDEX = "Index";
+
+  @Test
+  void noBudgets_unlimited() {
+    assertThat(CapacityLimiter.of(Collections.emptyList())).isSameAs(CapacityLimiter.UNLIMITED);
+    assertThat(CapacityLimiter.of(-1.0, null)).isSameAs(CapacityLimiter.UNLIMITED);
+    assertThat(CapacityLimiter.UNLIMITED.isUnlimited()).isTrue();
+  }
+
+  @Test
+  void budgets_limited() {
+    final CapacityLimiter limiter =
+        CapacityLimiter.of(
+            Arrays.asList(
+                CapacityBudget.builder().tableName(TABLE).readCapacityUnits(10.0).build(),
+                CapacityBudget.builder().tableName("Other").build()));
+
+    assertThat(limiter.isUnlimited()).isFalse();
+  }
+
+  @Test
+  void consumedRead_preferIndexBudget() {
+    final RateLimiter tableLimiter = mock(RateLimiter.class);
+    final RateLimiter indexLimiter = mock(RateLimiter.class);
+    final CapacityLimiter limiter =
+        new CapacityLimiter(
+            ImmutableMap.of(
+                new TableIndex(TABLE, null),
+                tableLimiter,
+                new TableIndex(TABLE, INDEX),
+                indexLimiter),
+            Collections.emptyMap());
+
+    limiter.consumedRead(TABLE, INDEX, 2.5);
+
+    verify(indexLimiter).acquire(2500);
+    verify(tableLimiter, never()).acquire(anyInt());
+  }
+
+  @Test
+  void consumedRead_fallBackToTableBudget() {
+    final RateLimiter tableLimiter = mock(RateLimiter.class);
+    final CapacityLimiter limiter =
+        new CapacityLimiter(
+            ImmutableMap.of(new TableIndex(TABLE, null), tableLimiter), Collections.emptyMap());
+
+    limiter.consumedRead(TABLE, INDEX, 0.5);
+
+    verify(tableLimiter).acquire(500);
+  }
+
+  @Test
+  void nothingConsumed_notAcquire() {
+    final RateLimiter tableLimiter = mock(RateLimiter.class);
+    final CapacityLimiter limiter =
+        new CapacityLimiter(
+            ImmutableMap.of(new TableIndex(TABLE, null), tableLimiter), Collections.emptyMap());
+
+    limiter.consumedRead(TABLE, null, 0);
+
+    verify(tableLimiter, never()).acquire(anyInt());
+  }
+
+  @Test
+  void consumedWrite_fallBackToAnyTableBudget() {
+    final RateLimiter anyTableLimiter = mock(RateLimiter.class);
+    final RateLimiter tableLimiter = mock(RateLimiter.class);
+    final CapacityLimiter limiter =
+        new CapacityLimiter(
+            Collections.emptyMap(),
+            ImmutableMap.of(
+                new TableIndex(null, null),
+                anyTableLimiter,
+                new TableIndex(TABLE, null),
+                tableLimiter));
+
+    limiter.consumedWrite("Other", 4);
+
+    verify(anyTableLimiter).acquire(4000);
+    verify(tableLimiter, never()).acquire(anyInt());
+  }
+}
@@ -0,0 +1,72 @@
+package com.amazon.crud4dynamo.internal.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.model.DescribeTableRequest;
+import com.amazonaws.services.dynamodbv2.model.DescribeTableResult;
+import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+import com.amazonaws.services.dynamodbv2.model.ResourceNotFoundException;
+import com.amazonaws.services.dynamodbv2.model.ReturnConsumedCapacity;
+import java.lang.reflect.Method;
+import org.junit.jupiter.api.Test;
+
+class ClientDecoratorTest {
+
+  @Test
+  void proxy_passCallsToDelegate() {
+    final AmazonDynamoDB delegate = mock(AmazonDynamoDB.class);
+    final DescribeTableResult result = new DescribeTableResult();
+    when(delegate.describeTable("Table")).thenReturn(result);
+
+    final AmazonDynamoDB dynamoDb =
+        ClientDecorator.proxy(AmazonDynamoDB.class, new Passing(delegate));
+
+    assertThat(dynamoDb.describeTable("Table")).isSameAs(result);
+  }
+
+  @Test
+  void proxy_throwExceptionOfDelegate() {
+    final AmazonDynamoDB delegate = mock(AmazonDynamoDB.class);
+    final ResourceNotFoundException failure = new ResourceNotFoundException("no table");
+    when(delegate.describeTable("Table")).thenThrow(failure);
+
+    final AmazonDynamoDB dynamoDb =
+        ClientDecorator.proxy(AmazonDynamoDB.class, new Passing(delegate));
+
+    assertThatThrownBy(() -> dynamoDb.describeTable("Table")).isSameAs(failure);
+  }
+
+  @Test
+  void requestConsumedCapacity_askForTotalUnlessAsked() throws Exception {
+    final QueryRequest notAsked = new QueryRequest();
+    final QueryRequest none =
+        new QueryRequest().withReturnConsumedCapacity(ReturnConsumedCapacity.NONE);
+    final QueryRequest indexes =
+        new QueryRequest().withReturnConsumedCapacity(ReturnConsumedCapacity.INDEXES);
+
+    ClientDecorator.requestConsumedCapacity(notAsked);
+    ClientDecorator.requestConsumedCapacity(none);
+    ClientDecorator.requestConsumedCapacity(indexes);
+    ClientDecorator.requestConsumedCapacity(new DescribeTableRequest());
+
+    assertThat(notAsked.getReturnConsumedCapacity()).isEqualTo("TOTAL");
+    assertThat(none.getReturnConsumedCapacity()).isEqualTo("TOTAL");
+    assertThat(indexes.getReturnConsumedCapacity()).isEqualTo("INDEXES");
+  }
+
+  private static class Passing extends ClientDecorator {
+    private Passing(final Object delegate) {
+      super(delegate);
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args)
+        throws Throwable {
+      return delegate(method, args);
+    }
+  }
+}
@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.PaginationLoadingStrategy;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.TableNameOverride;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
 import org.junit.jupiter.api.Test;
 
 class DynamoDbMapperConfigHelperTest {
@@ -21,4 +23,16 @@ class DynamoDbMapperConfigHelperTest {
     assertThat(overriddenConfig.getPaginationLoadingStrategy())
         .isEqualTo(PaginationLoadingStrategy.LAZY_LOADING);
   }
+
+  @Test
+  void getTableName() {
+    assertThat(DynamoDbMapperConfigHelper.getTableName(Model.class, null)).isEqualTo("Model");
+    assertThat(
+            DynamoDbMapperConfigHelper.getTableName(
+                Model.class, TableNameOverride.withTableNamePrefix("Test").config()))
+        .isEqualTo("TestModel");
+  }
+
+  @DynamoDBTable(tableName = "Model")
+  public static class Model {}
 }
@@ -0,0 +1,62 @@
+package com.amazon.crud4dynamo.internal.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import com.google.common.collect.ImmutableList;
+import java.util.Collections;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FailedModelResolverTest {
+  private static final List<Model> MODELS =
+      ImmutableList.of(new Model("A"), new Model("B"), new Model("C"), new Model("B"));
+
+  private DynamoDBMapperTableModel<Model> tableModel;
+
+  @BeforeEach
+  void setUp() {
+    tableModel = new DynamoDBMapper(mock(AmazonDynamoDB.class)).getTableModel(Model.class);
+  }
+
+  @Test
+  void noFailedKey_doNotIterateModels() {
+    final Iterable<Model> models = spy(Iterable.class);
+
+    assertThat(new FailedModelResolver<>(tableModel, models).resolve(Collections.emptyList()))
+        .isEmpty();
+    verifyZeroInteractions(models);
+  }
+
+  @Test
+  void resolveModelsOfFailedKeysInModelOrder() {
+    final FailedModelResolver<Model> resolver = new FailedModelResolver<>(tableModel, MODELS);
+
+    assertThat(
+            resolver.resolve(
+                ImmutableList.of(
+                    tableModel.convertKey(new Model("B")), tableModel.convertKey(new Model("C")))))
+        .containsExactly(new Model("B"), new Model("C"), new Model("B"));
+    assertThat(resolver.resolve(ImmutableList.of(tableModel.convertKey(new Model("D"))))).isEmpty();
+  }
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @DynamoDBTable(tableName = "TestTable")
+  public static class Model {
+    @DynamoDBHashKey(attributeName = "HashKey")
+    private String hashKey;
+  }
+}
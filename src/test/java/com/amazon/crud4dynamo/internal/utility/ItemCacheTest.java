@@ -0,0 +1,183 @@
+package com.amazon.crud4dynamo.internal.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.amazon.crud4dynamo.extension.ItemCacheSpec;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ItemCacheTest {
+  private static final String TABLE = "Table";
+  private static final List<String> KEY_NAMES = Collections.singletonList("Key");
+
+  private ItemCache itemCache;
+  private ItemCache.Table table;
+  private AtomicInteger loads;
+
+  private static Map<String, AttributeValue> key(final String key) {
+    return ImmutableMap.of("Key", new AttributeValue(key));
+  }
+
+  private static Map<String, AttributeValue> item(final String key, final String value) {
+    return ImmutableMap.of("Key", new AttributeValue(key), "Value", new AttributeValue(value));
+  }
+
+  @BeforeEach
+  void setUp() {
+    itemCache =
+        ItemCache.of(Collections.singletonList(ItemCacheSpec.builder().tableName(TABLE).build()));
+    table = itemCache.table(TABLE, Object.class, KEY_NAMES).get();
+    loads = new AtomicInteger();
+  }
+
+  @Test
+  void noSpecs_none() {
+    assertThat(ItemCache.of(Collections.emptyList())).isSameAs(ItemCache.NONE);
+    assertThat(ItemCache.NONE.isEmpty()).isTrue();
+    assertThat(itemCache.table("OtherTable", Object.class, KEY_NAMES)).isEmpty();
+  }
+
+  @Test
+  void sameTable_sameCache() {
+    assertThat(itemCache.table(TABLE, Object.class, KEY_NAMES)).containsSame(table);
+  }
+
+  @Test
+  void otherModelClass_otherCache() {
+    final ItemCache.Table other = itemCache.table(TABLE, String.class, KEY_NAMES).get();
+    table.get(key("A"), () -> load(item("A", "1")));
+    other.get(key("A"), () -> load(item("A", "2")));
+
+    assertThat(other).isNotSameAs(table);
+    assertThat(other.get(key("A"), () -> load(null))).contains(item("A", "2"));
+
+    itemCache.invalidate(TABLE, key("A"));
+
+    assertThat(table.get(key("A"), () -> load(item("A", "3")))).contains(item("A", "3"));
+    assertThat(other.get(key("A"), () -> load(item("A", "4")))).contains(item("A", "4"));
+  }
+
+  @Test
+  void get_loadOnce() {
+    assertThat(table.get(key("A"), () -> load(item("A", "1")))).contains(item("A", "1"));
+    assertThat(table.get(key("A"), () -> load(item("A", "2")))).contains(item("A", "1"));
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void get_cacheAbsentItem() {
+    assertThat(table.get(key("A"), () -> load(null))).isEmpty();
+    assertThat(table.get(key("A"), () -> load(item("A", "1")))).isEmpty();
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void invalidate_loadAgain() {
+    table.get(key("A"), () -> load(item("A", "1")));
+
+    itemCache.invalidate(TABLE, item("A", "1"));
+
+    assertThat(table.get(key("A"), () -> load(item("A", "2")))).contains(item("A", "2"));
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void invalidateOtherTable_keepItem() {
+    table.get(key("A"), () -> load(item("A", "1")));
+
+    itemCache.invalidate("OtherTable", key("A"));
+
+    assertThat(table.get(key("A"), () -> load(item("A", "2")))).contains(item("A", "1"));
+  }
+
+  @Test
+  void invalidatedWhileLoading_notStored() {
+    final Map<String, AttributeValue> loaded =
+        table
+            .get(
+                key("A"),
+                () -> {
+                  itemCache.invalidate(TABLE, key("A"));
+                  return load(item("A", "1"));
+                })
+            .get();
+
+    assertThat(loaded).isEqualTo(item("A", "1"));
+    assertThat(table.get(key("A"), () -> load(item("A", "2")))).contains(item("A", "2"));
+  }
+
+  @Test
+  void getAll_loadMissingKeysOnly() {
+    table.get(key("A"), () -> load(item("A", "1")));
+    table.get(key("B"), () -> load(null));
+
+    final List<Map<String, AttributeValue>> items =
+        Lists.newArrayList(
+            table.getAll(
+                Arrays.asList(key("A"), key("B"), key("C"), key("D")),
+                missing -> {
+                  assertThat(missing).containsExactly(key("C"), key("D"));
+                  return Collections.singletonList(item("C", "3")).iterator();
+                }));
+
+    assertThat(items).containsExactly(item("A", "1"), item("C", "3"));
+    assertThat(table.get(key("C"), () -> load(null))).contains(item("C", "3"));
+    assertThat(table.get(key("D"), () -> load(item("D", "4")))).isEmpty();
+  }
+
+  @Test
+  void getAll_returnHitsBeforeLoadingAndStoreItemsAsTheyArrive() {
+    table.get(key("A"), () -> load(item("A", "1")));
+    final AtomicInteger loaded = new AtomicInteger();
+
+    final Iterator<Map<String, AttributeValue>> items =
+        table.getAll(
+            Arrays.asList(key("A"), key("B"), key("C")),
+            missing ->
+                Iterators.transform(
+                    Arrays.asList(item("B", "2"), item("C", "3")).iterator(),
+                    item -> {
+                      loaded.incrementAndGet();
+                      return item;
+                    }));
+
+    assertThat(items.next()).isEqualTo(item("A", "1"));
+    assertThat(loaded).hasValue(0);
+    assertThat(items.next()).isEqualTo(item("B", "2"));
+    assertThat(loaded).hasValue(1);
+    assertThat(table.get(key("B"), () -> load(null))).contains(item("B", "2"));
+    assertThat(table.get(key("C"), () -> load(null))).isEmpty();
+    assertThat(Lists.newArrayList(items)).containsExactly(item("C", "3"));
+  }
+
+  @Test
+  void maximumSize_evict() {
+    final ItemCache.Table bounded =
+        ItemCache.of(
+                Collections.singletonList(
+                    ItemCacheSpec.builder().tableName(TABLE).maximumSize(1L).build()))
+            .table(TABLE, Object.class, KEY_NAMES)
+            .get();
+
+    bounded.get(key("A"), () -> load(item("A", "1")));
+    bounded.get(key("B"), () -> load(item("B", "1")));
+    bounded.get(key("A"), () -> load(item("A", "1")));
+
+    assertThat(loads).hasValue(3);
+  }
+
+  private Map<String, AttributeValue> load(final Map<String, AttributeValue> item) {
+    loads.incrementAndGet();
+    return item;
+  }
+}
@@ -86,6 +86,49 @@ class KeyAttributeConstructorTest {
         .hasSize(2);
   }
 
+  @Test
+  void plan_noAttributeValue_throwException() throws Exception {
+    final Signature method =
+        Signature.resolve(Dao.class.getMethod("emptyArgumentMethod"), Dao.class);
+    final KeyAttributeConstructor.Plan plan =
+        new KeyAttributeConstructor(
+                "#hashKey = :hashKeyValue", dynamoDBMapper.getTableModel(SimpleKeyModel.class))
+            .bind(method.parameters());
+
+    assertThatThrownBy(() -> plan.create(new Object[0]))
+        .isInstanceOf(KeyAttributeConstructor.NoKeyAttributeException.class);
+  }
+
+  @Test
+  void plan_createCompositeKeyAttributes() throws Exception {
+    final Signature method =
+        Signature.resolve(
+            Dao.class.getMethod(
+                "validCompositeKeyMethod", String.class, String.class, String.class, String.class),
+            Dao.class);
+    final KeyAttributeConstructor.Plan plan =
+        new KeyAttributeConstructor(
+                "#hashKey = :hashKeyValue, #rangeKey = :rangeKey",
+                dynamoDBMapper.getTableModel(CompositeKeyModel.class))
+            .bind(method.parameters());
+
+    assertThat(plan.create(new Object[] {HASH_KEY, "dummyValue1", RANGE_KEY, "dummyValue2"}))
+        .containsEntry(HASH_KEY, new AttributeValue("dummyValue1"))
+        .containsEntry(RANGE_KEY, new AttributeValue("dummyValue2"))
+        .hasSize(2);
+  }
+
+  @Test
+  void plan_emptyKeyExpression_throwOnCreate() throws Exception {
+    final Signature method =
+        Signature.resolve(Dao.class.getMethod("emptyArgumentMethod"), Dao.class);
+    final KeyAttributeConstructor.Plan plan =
+        new KeyAttributeConstructor("", dynamoDBMapper.getTableModel(SimpleKeyModel.class))
+            .bind(method.parameters());
+
+    assertThatThrownBy(() -> plan.create(new Object[0])).isInstanceOf(IllegalStateException.class);
+  }
+
   private interface Dao {
     void emptyArgumentMethod();
 
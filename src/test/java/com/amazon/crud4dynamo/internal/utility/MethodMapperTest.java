@@ -0,0 +1,63 @@
+package com.amazon.crud4dynamo.internal.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.GetItemResult;
+import lombok.Data;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MethodMapperTest {
+  private AmazonDynamoDB daoDynamoDb;
+  private AmazonDynamoDB methodDynamoDb;
+  private DynamoDBMapper daoMapper;
+
+  @BeforeEach
+  void setUp() {
+    daoDynamoDb = mock(AmazonDynamoDB.class);
+    methodDynamoDb = mock(AmazonDynamoDB.class);
+    daoMapper = new DynamoDBMapper(daoDynamoDb);
+  }
+
+  @Test
+  void shareTableModelsOfDaoMapper() {
+    final DynamoDBMapper mapper = MethodMapper.of(methodDynamoDb, daoMapper);
+    final DynamoDBMapper nestedMapper = MethodMapper.of(methodDynamoDb, mapper);
+
+    assertThat(mapper.getTableModel(Model.class)).isSameAs(daoMapper.getTableModel(Model.class));
+    assertThat(nestedMapper.getTableModel(Model.class, DynamoDBMapperConfig.DEFAULT))
+        .isSameAs(daoMapper.getTableModel(Model.class, DynamoDBMapperConfig.DEFAULT));
+  }
+
+  @Test
+  void sendRequestsThroughClientOfMethod() {
+    when(methodDynamoDb.getItem(any(GetItemRequest.class))).thenReturn(new GetItemResult());
+
+    MethodMapper.of(methodDynamoDb, daoMapper).load(Model.class, "A");
+
+    verify(methodDynamoDb).getItem(any(GetItemRequest.class));
+    verify(daoDynamoDb, never()).getItem(any(GetItemRequest.class));
+  }
+
+  @Test
+  void withoutDaoMapper_plainMapper() {
+    assertThat(MethodMapper.of(methodDynamoDb, null)).isNotInstanceOf(MethodMapper.class);
+  }
+
+  @Data
+  @DynamoDBTable(tableName = "Model")
+  public static class Model {
+    @DynamoDBHashKey private String hashKey;
+  }
+}
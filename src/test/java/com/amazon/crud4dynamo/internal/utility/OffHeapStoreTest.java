@@ -0,0 +1,73 @@
+package com.amazon.crud4dynamo.internal.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class OffHeapStoreTest {
+  private static final int SLAB_SIZE = 10;
+
+  private final OffHeapStore<String> store = new OffHeapStore<>(3 * SLAB_SIZE, SLAB_SIZE);
+
+  private static byte[] bytes(final int length, final int value) {
+    final byte[] bytes = new byte[length];
+    Arrays.fill(bytes, (byte) value);
+    return bytes;
+  }
+
+  @Test
+  void nonPositiveBytes_throwException() {
+    assertThatThrownBy(() -> new OffHeapStore<String>(0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void putAndGet() {
+    assertThat(store.put("key1", bytes(4, 1))).isTrue();
+    assertThat(store.put("key2", bytes(6, 2))).isTrue();
+
+    assertThat(store.get("key1")).contains(bytes(4, 1));
+    assertThat(store.get("key2")).contains(bytes(6, 2));
+    assertThat(store.get("key3")).isEmpty();
+  }
+
+  @Test
+  void putSameKey_replaceValue() {
+    store.put("key", bytes(4, 1));
+    store.put("key", bytes(2, 2));
+
+    assertThat(store.get("key")).contains(bytes(2, 2));
+    assertThat(store.size()).isEqualTo(1);
+  }
+
+  @Test
+  void invalidate() {
+    store.put("key", bytes(4, 1));
+
+    store.invalidate("key");
+
+    assertThat(store.get("key")).isEmpty();
+  }
+
+  @Test
+  void valueLargerThanSlab_notStored() {
+    assertThat(store.put("key", bytes(SLAB_SIZE + 1, 1))).isFalse();
+    assertThat(store.get("key")).isEmpty();
+  }
+
+  @Test
+  void full_evictValuesOfOldestSlab() {
+    store.put("key1", bytes(6, 1));
+    store.put("key2", bytes(6, 2));
+    store.put("key3", bytes(6, 3));
+
+    store.put("key4", bytes(6, 4));
+
+    assertThat(store.get("key1")).isEmpty();
+    assertThat(store.get("key2")).contains(bytes(6, 2));
+    assertThat(store.get("key3")).contains(bytes(6, 3));
+    assertThat(store.get("key4")).contains(bytes(6, 4));
+  }
+}
@@ -0,0 +1,138 @@
+package com.amazon.crud4dynamo.internal.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.amazon.crud4dynamo.internal.utility.PageFetcher.Page;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class PagePrefetcherTest {
+  private static final int PAGE_COUNT = 5;
+  private static final int PAGE_SIZE = 3;
+
+  private final AtomicInteger fetchCount = new AtomicInteger();
+
+  private Page<Integer> fetch(final Map<String, AttributeValue> startKey) {
+    fetchCount.incrementAndGet();
+    final int index = startKey == null ? 0 : Integer.parseInt(startKey.get("page").getN());
+    final List<Integer> items =
+        IntStream.range(index * PAGE_SIZE, (index + 1) * PAGE_SIZE)
+            .boxed()
+            .collect(Collectors.toList());
+    final Map<String, AttributeValue> lastKey =
+        index + 1 < PAGE_COUNT
+            ? Collections.singletonMap("page", new AttributeValue().withN("" + (index + 1)))
+            : null;
+    return new Page<>(items, lastKey);
+  }
+
+  private static List<Integer> allItems() {
+    return IntStream.range(0, PAGE_COUNT * PAGE_SIZE).boxed().collect(Collectors.toList());
+  }
+
+  @Test
+  void notPositive_disabled() {
+    assertThat(PagePrefetcher.of(null, null)).isSameAs(PagePrefetcher.NONE);
+    assertThat(PagePrefetcher.of(null, 0).isEnabled()).isFalse();
+    assertThat(PagePrefetcher.of(null, 2).getPrefetchPages()).isEqualTo(2);
+  }
+
+  @Test
+  void disabled_fetchPagesOnIteration() {
+    final Iterator<Integer> iterator = PagePrefetcher.NONE.iterator(this::fetch);
+
+    assertThat(fetchCount).hasValue(0);
+    iterator.next();
+    assertThat(fetchCount).hasValue(1);
+    assertThat(Lists.newArrayList(iterator)).hasSize(PAGE_COUNT * PAGE_SIZE - 1);
+    assertThat(fetchCount).hasValue(PAGE_COUNT);
+  }
+
+  @Test
+  void prefetch_iterateAllPagesInOrder() {
+    final Iterator<Integer> iterator =
+        PagePrefetcher.of(ForkJoinPool.commonPool(), 2).iterator(this::fetch);
+
+    assertThat(Lists.newArrayList(iterator)).isEqualTo(allItems());
+    assertThat(fetchCount).hasValue(PAGE_COUNT);
+  }
+
+  @Test
+  void prefetch_boundedNumberOfPagesAhead() {
+    final Iterator<Integer> iterator =
+        PagePrefetcher.of(MoreExecutors.directExecutor(), 2).iterator(this::fetch);
+
+    assertThat(fetchCount).hasValue(0);
+    assertThat(iterator.next()).isEqualTo(0);
+    assertThat(fetchCount).hasValue(3);
+  }
+
+  @Test
+  void close_stopFetching() throws Exception {
+    final Iterator<Integer> iterator =
+        PagePrefetcher.of(MoreExecutors.directExecutor(), 1).iterator(this::fetch);
+
+    assertThat(iterator.next()).isEqualTo(0);
+    ((Closeable) iterator).close();
+
+    assertThat(Lists.newArrayList(iterator)).containsExactly(1, 2);
+    assertThat(fetchCount).hasValue(2);
+  }
+
+  @Test
+  void closeFromAnotherThread_wakeUpWaitingConsumer() throws Exception {
+    final CountDownLatch fetchStarted = new CountDownLatch(1);
+    final CountDownLatch releaseFetch = new CountDownLatch(1);
+    final Iterator<Integer> iterator =
+        PagePrefetcher.of(ForkJoinPool.commonPool(), 1)
+            .iterator(
+                startKey -> {
+                  fetchStarted.countDown();
+                  Uninterruptibles.awaitUninterruptibly(releaseFetch);
+                  return fetch(startKey);
+                });
+    final ExecutorService consumer = Executors.newSingleThreadExecutor();
+    try {
+      final Future<Boolean> hasNext = consumer.submit(iterator::hasNext);
+      fetchStarted.await();
+
+      ((Closeable) iterator).close();
+
+      assertThat(hasNext.get(10, TimeUnit.SECONDS)).isFalse();
+    } finally {
+      releaseFetch.countDown();
+      consumer.shutdown();
+    }
+  }
+
+  @Test
+  void fetchFails_throwOnIteration() {
+    final RuntimeException failure = new RuntimeException("fetch failed");
+    final Iterator<Integer> iterator =
+        PagePrefetcher.of(MoreExecutors.directExecutor(), 1)
+            .iterator(
+                startKey -> {
+                  throw failure;
+                });
+
+    assertThatThrownBy(iterator::hasNext).isSameAs(failure);
+  }
+}
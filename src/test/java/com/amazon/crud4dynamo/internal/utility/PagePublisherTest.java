@@ -0,0 +1,155 @@
+package com.amazon.crud4dynamo.internal.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.amazon.crud4dynamo.internal.utility.PageFetcher.Page;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+class PagePublisherTest {
+  private static final List<List<Integer>> PAGES =
+      Arrays.asList(Arrays.asList(1, 2), Collections.emptyList(), Arrays.asList(3, 4));
+
+  private final List<Map<String, AttributeValue>> startKeys = new ArrayList<>();
+  private final Queue<Runnable> pendingFetches = new ArrayDeque<>();
+  private final Executor manualExecutor = pendingFetches::add;
+  private TestSubscriber subscriber;
+
+  private Page<Integer> fetch(final Map<String, AttributeValue> startKey) {
+    startKeys.add(startKey);
+    final int index = startKey == null ? 0 : Integer.parseInt(startKey.get("page").getN());
+    final Map<String, AttributeValue> lastKey =
+        index + 1 < PAGES.size()
+            ? Collections.singletonMap("page", new AttributeValue().withN("" + (index + 1)))
+            : null;
+    return new Page<>(PAGES.get(index), lastKey);
+  }
+
+  private void runPendingFetches() {
+    while (!pendingFetches.isEmpty()) {
+      pendingFetches.poll().run();
+    }
+  }
+
+  @BeforeEach
+  void setUp() {
+    subscriber = new TestSubscriber();
+  }
+
+  @Test
+  void publishAllPages() {
+    new PagePublisher<>(this::fetch, MoreExecutors.directExecutor()).subscribe(subscriber);
+
+    subscriber.subscription.request(Long.MAX_VALUE);
+
+    assertThat(subscriber.items).containsExactly(1, 2, 3, 4);
+    assertThat(subscriber.completed).isTrue();
+    assertThat(startKeys).hasSize(3);
+  }
+
+  @Test
+  void noFetchBeforeDemand() {
+    new PagePublisher<>(this::fetch, manualExecutor).subscribe(subscriber);
+
+    assertThat(pendingFetches).isEmpty();
+  }
+
+  @Test
+  void prefetchOnePageAhead() {
+    new PagePublisher<>(this::fetch, manualExecutor).subscribe(subscriber);
+
+    subscriber.subscription.request(1);
+    runPendingFetches();
+
+    assertThat(subscriber.items).containsExactly(1);
+    assertThat(startKeys).hasSize(2);
+    assertThat(subscriber.completed).isFalse();
+
+    subscriber.subscription.request(3);
+    runPendingFetches();
+
+    assertThat(subscriber.items).containsExactly(1, 2, 3, 4);
+    assertThat(subscriber.completed).isTrue();
+  }
+
+  @Test
+  void cancel_noMorePagesFetched() {
+    new PagePublisher<>(this::fetch, manualExecutor).subscribe(subscriber);
+
+    subscriber.subscription.request(1);
+    pendingFetches.poll().run();
+    subscriber.subscription.cancel();
+    runPendingFetches();
+    subscriber.subscription.request(10);
+
+    assertThat(subscriber.items).containsExactly(1);
+    assertThat(startKeys).hasSize(1);
+    assertThat(pendingFetches).isEmpty();
+    assertThat(subscriber.completed).isFalse();
+  }
+
+  @Test
+  void fetchFails_signalError() {
+    final RuntimeException failure = new RuntimeException("fetch failed");
+    new PagePublisher<Integer>(
+            startKey -> {
+              throw failure;
+            },
+            MoreExecutors.directExecutor())
+        .subscribe(subscriber);
+
+    subscriber.subscription.request(1);
+
+    assertThat(subscriber.error).isSameAs(failure);
+    assertThat(subscriber.items).isEmpty();
+  }
+
+  @Test
+  void nonPositiveRequest_signalError() {
+    new PagePublisher<>(this::fetch, manualExecutor).subscribe(subscriber);
+
+    subscriber.subscription.request(0);
+
+    assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+    assertThat(pendingFetches).isEmpty();
+  }
+
+  private static class TestSubscriber implements Subscriber<Integer> {
+    private final List<Integer> items = new ArrayList<>();
+    private Subscription subscription;
+    private Throwable error;
+    private boolean completed;
+
+    @Override
+    public void onSubscribe(final Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(final Integer item) {
+      items.add(item);
+    }
+
+    @Override
+    public void onError(final Throwable error) {
+      this.error = error;
+    }
+
+    @Override
+    public void onComplete() {
+      completed = true;
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package com.amazon.crud4dynamo.internal.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBAttribute;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import com.google.common.io.ByteArrayDataOutput;
+import com.google.common.io.ByteStreams;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class ResultCodecTest {
+  private final ResultCodec codec =
+      new ResultCodec(new DynamoDBMapper(Mockito.mock(AmazonDynamoDB.class)));
+
+  private Object roundTrip(final Object result) throws Exception {
+    final ByteArrayDataOutput out = ByteStreams.newDataOutput();
+    codec.encode(out, result);
+    return codec.decode(ByteStreams.newDataInput(out.toByteArray()));
+  }
+
+  @Test
+  void canEncode() {
+    assertThat(codec.canEncode(null)).isTrue();
+    assertThat(codec.canEncode(new Model("k1", 1))).isTrue();
+    assertThat(codec.canEncode(Optional.empty())).isTrue();
+    assertThat(codec.canEncode(Arrays.asList(new Model("k1", 1), new Model("k2", 2)))).isTrue();
+    assertThat(codec.canEncode(1)).isFalse();
+    assertThat(codec.canEncode(Optional.of("value"))).isFalse();
+    assertThat(codec.canEncode(Arrays.asList(new Model("k1", 1), "value"))).isFalse();
+  }
+
+  @Test
+  void roundTripModel() throws Exception {
+    assertThat(roundTrip(new Model("k1", 1))).isEqualTo(new Model("k1", 1));
+  }
+
+  @Test
+  void roundTripOptional() throws Exception {
+    assertThat(roundTrip(Optional.of(new Model("k1", 1))))
+        .isEqualTo(Optional.of(new Model("k1", 1)));
+    assertThat(roundTrip(Optional.empty())).isEqualTo(Optional.empty());
+  }
+
+  @Test
+  void roundTripNull() throws Exception {
+    assertThat(roundTrip(null)).isNull();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void roundTripList() throws Exception {
+    final List<Object> models = Arrays.asList(new Model("k1", 1), new OtherModel("k2"));
+
+    assertThat((List<Object>) roundTrip(models)).containsExactlyElementsOf(models);
+    assertThat(roundTrip(Collections.emptyList())).isEqualTo(Collections.emptyList());
+  }
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @DynamoDBTable(tableName = "Model")
+  public static class Model {
+    @DynamoDBHashKey(attributeName = "HashKey")
+    private String hashKey;
+
+    @DynamoDBAttribute(attributeName = "Count")
+    private Integer count;
+  }
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @DynamoDBTable(tableName = "OtherModel")
+  public static class OtherModel {
+    @DynamoDBHashKey(attributeName = "HashKey")
+    private String hashKey;
+  }
+}
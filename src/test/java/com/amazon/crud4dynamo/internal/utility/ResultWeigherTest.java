@@ -0,0 +1,88 @@
+package com.amazon.crud4dynamo.internal.utility;
+
+import static com.amazon.crud4dynamo.internal.utility.ResultWeigher.ATTRIBUTE_OVERHEAD;
+import static com.amazon.crud4dynamo.internal.utility.ResultWeigher.OBJECT_OVERHEAD;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBAttribute;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class ResultWeigherTest {
+  private static final long MODEL_WEIGHT =
+      OBJECT_OVERHEAD + 2 * ATTRIBUTE_OVERHEAD + "HashKey".length() + "Data".length() + 2 + 4 + 2;
+
+  private final ResultWeigher weigher =
+      new ResultWeigher(new DynamoDBMapper(Mockito.mock(AmazonDynamoDB.class)));
+
+  @Test
+  void sizeOfItem() {
+    final long size =
+        ResultWeigher.sizeOf(
+            ImmutableMap.of(
+                "S",
+                new AttributeValue("ab"),
+                "L",
+                new AttributeValue().withL(new AttributeValue().withN("12"))));
+
+    assertThat(size)
+        .isEqualTo(
+            (ATTRIBUTE_OVERHEAD + 1 + 3) + (ATTRIBUTE_OVERHEAD + 1 + 1 + ATTRIBUTE_OVERHEAD + 3));
+  }
+
+  @Test
+  void weighModel() {
+    assertThat(weigher.weigh(new Model("k1", "data"))).isEqualTo(MODEL_WEIGHT);
+  }
+
+  @Test
+  void weighModelWithoutMapper_weighOverheadOnly() {
+    assertThat(new ResultWeigher(null).weigh(new Model("k1", "data"))).isEqualTo(OBJECT_OVERHEAD);
+  }
+
+  @Test
+  void weighOptional() {
+    assertThat(weigher.weigh(Optional.of(new Model("k1", "data"))))
+        .isEqualTo(OBJECT_OVERHEAD + MODEL_WEIGHT);
+    assertThat(weigher.weigh(Optional.empty())).isEqualTo(2 * OBJECT_OVERHEAD);
+  }
+
+  @Test
+  void weighCollection_sizeTimesAverageOfSample() {
+    assertThat(weigher.weigh(Collections.nCopies(100, new Model("k1", "data"))))
+        .isEqualTo(OBJECT_OVERHEAD + 100 * MODEL_WEIGHT);
+    assertThat(weigher.weigh(Arrays.asList("a", "abc")))
+        .isEqualTo(OBJECT_OVERHEAD + (OBJECT_OVERHEAD + 2) + (OBJECT_OVERHEAD + 6));
+    assertThat(weigher.weigh(Collections.emptyList())).isEqualTo(OBJECT_OVERHEAD);
+  }
+
+  @Test
+  void weighIteratorAndNull_weighOverheadOnly() {
+    assertThat(weigher.weigh(Collections.nCopies(100, "a").iterator())).isEqualTo(OBJECT_OVERHEAD);
+    assertThat(weigher.weigh(null)).isEqualTo(OBJECT_OVERHEAD);
+  }
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @DynamoDBTable(tableName = "Model")
+  public static class Model {
+    @DynamoDBHashKey(attributeName = "HashKey")
+    private String hashKey;
+
+    @DynamoDBAttribute(attributeName = "Data")
+    private String data;
+  }
+}
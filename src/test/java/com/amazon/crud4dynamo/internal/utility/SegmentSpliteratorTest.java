@@ -0,0 +1,102 @@
+package com.amazon.crud4dynamo.internal.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.amazon.crud4dynamo.internal.utility.PageFetcher.Page;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+import org.junit.jupiter.api.Test;
+
+class SegmentSpliteratorTest {
+  private static final int TOTAL_SEGMENTS = 8;
+
+  /** Every segment has two pages with the items segment * 10 + [0, 4). */
+  private PageFetcher<Integer> fetcher(final int segment) {
+    return startKey -> {
+      final int base = segment * 10 + (startKey == null ? 0 : 2);
+      final Map<String, AttributeValue> lastKey =
+          startKey == null ? Collections.singletonMap("k", new AttributeValue("v")) : null;
+      return new Page<>(Arrays.asList(base, base + 1), lastKey);
+    };
+  }
+
+  private static List<Integer> allItems() {
+    return IntStream.range(0, TOTAL_SEGMENTS)
+        .flatMap(segment -> IntStream.range(segment * 10, segment * 10 + 4))
+        .boxed()
+        .collect(Collectors.toList());
+  }
+
+  @Test
+  void sequential_traverseAllSegments() {
+    final List<Integer> items = new ArrayList<>();
+    new SegmentSpliterator<>(this::fetcher, TOTAL_SEGMENTS).forEachRemaining(items::add);
+
+    assertThat(items).isEqualTo(allItems());
+  }
+
+  @Test
+  void trySplit_splitBySegments() {
+    final Spliterator<Integer> suffix = new SegmentSpliterator<>(this::fetcher, TOTAL_SEGMENTS);
+    final Spliterator<Integer> prefix = suffix.trySplit();
+
+    final List<Integer> prefixItems = new ArrayList<>();
+    prefix.forEachRemaining(prefixItems::add);
+    final List<Integer> suffixItems = new ArrayList<>();
+    suffix.forEachRemaining(suffixItems::add);
+
+    assertThat(prefixItems).isEqualTo(allItems().subList(0, 16));
+    assertThat(suffixItems).isEqualTo(allItems().subList(16, 32));
+  }
+
+  @Test
+  void segmentCompleted_afterItsItemsConsumed() {
+    final List<Integer> completedSegments = new ArrayList<>();
+    final Spliterator<Integer> spliterator =
+        new SegmentSpliterator<>(this::fetcher, 2, completedSegments::add);
+
+    for (int i = 0; i < 4; i++) {
+      spliterator.tryAdvance(item -> {});
+    }
+    assertThat(completedSegments).isEmpty();
+
+    spliterator.tryAdvance(item -> {});
+    assertThat(completedSegments).containsExactly(0);
+
+    spliterator.forEachRemaining(item -> {});
+    assertThat(completedSegments).containsExactly(0, 1);
+  }
+
+  @Test
+  void trySplit_singleSegment_notSplit() {
+    final Spliterator<Integer> spliterator = new SegmentSpliterator<>(this::fetcher, 1);
+
+    assertThat(spliterator.trySplit()).isNull();
+  }
+
+  @Test
+  void trySplit_afterTraversalStarted_notSplit() {
+    final Spliterator<Integer> spliterator =
+        new SegmentSpliterator<>(this::fetcher, TOTAL_SEGMENTS);
+    spliterator.tryAdvance(item -> {});
+
+    assertThat(spliterator.trySplit()).isNull();
+  }
+
+  @Test
+  void parallelStream() {
+    final List<Integer> items =
+        StreamSupport.stream(new SegmentSpliterator<>(this::fetcher, TOTAL_SEGMENTS), true)
+            .collect(Collectors.toList());
+
+    assertThat(items).containsExactlyInAnyOrderElementsOf(allItems());
+  }
+}
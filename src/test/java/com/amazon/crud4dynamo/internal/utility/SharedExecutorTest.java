@@ -0,0 +1,57 @@
+package com.amazon.crud4dynamo.internal.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class SharedExecutorTest {
+
+  @Test
+  void defaultExecutor_boundedPool() {
+    final ThreadPoolExecutor pool = (ThreadPoolExecutor) SharedExecutor.orDefault(null);
+
+    assertThat(pool.getMaximumPoolSize())
+        .isGreaterThanOrEqualTo(SharedExecutor.MIN_THREADS)
+        .isEqualTo(pool.getCorePoolSize());
+    assertThat(pool.getQueue().remainingCapacity())
+        .isLessThanOrEqualTo(SharedExecutor.QUEUE_CAPACITY);
+    assertThat(pool.allowsCoreThreadTimeOut()).isTrue();
+  }
+
+  @Test
+  void queueFull_runOnSubmittingThread() throws InterruptedException {
+    final ThreadPoolExecutor pool = SharedExecutor.newBoundedPool(1, 1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicReference<Thread> runner = new AtomicReference<>();
+    try {
+      pool.execute(() -> awaitQuietly(release));
+      pool.execute(() -> {});
+
+      pool.execute(() -> runner.set(Thread.currentThread()));
+
+      assertThat(runner.get()).isSameAs(Thread.currentThread());
+    } finally {
+      release.countDown();
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void givenExecutor_useIt() {
+    final Executor executor = Runnable::run;
+
+    assertThat(SharedExecutor.orDefault(executor)).isSameAs(executor);
+  }
+
+  private static void awaitQuietly(final CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package com.amazon.crud4dynamo.internal.utility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.amazon.crud4dynamo.internal.utility.SpaceSaving.Entry;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class SpaceSavingTest {
+  @Test
+  void withinCapacity_exactCounts() {
+    final SpaceSaving<String> sketch = new SpaceSaving<>(3);
+    offer(sketch, "a", 3);
+    offer(sketch, "b", 1);
+    offer(sketch, "c", 2);
+
+    assertThat(sketch.top(2)).containsExactly(new Entry<>("a", 3, 0), new Entry<>("c", 2, 0));
+  }
+
+  @Test
+  void overCapacity_keepHeavyHitters() {
+    final SpaceSaving<String> sketch = new SpaceSaving<>(10);
+    IntStream.range(0, 1000)
+        .forEach(
+            i -> {
+              sketch.offer("hot");
+              if (i % 2 == 0) {
+                sketch.offer("warm");
+              }
+              sketch.offer("cold" + i);
+            });
+
+    final List<Entry<String>> top = sketch.top(2);
+    assertThat(top).extracting(Entry::getKey).containsExactly("hot", "warm");
+    assertThat(top.get(0).getCount() - top.get(0).getError()).isGreaterThan(500);
+    assertThat(top.get(1).getCount() - top.get(1).getError()).isGreaterThan(250);
+  }
+
+  @Test
+  void replacedKey_inheritCountAsError() {
+    final SpaceSaving<String> sketch = new SpaceSaving<>(1);
+    offer(sketch, "a", 2);
+
+    sketch.offer("b");
+
+    assertThat(sketch.top(1)).containsExactly(new Entry<>("b", 3, 2));
+  }
+
+  @Test
+  void nonPositiveCapacity_throwException() {
+    assertThatThrownBy(() -> new SpaceSaving<>(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static void offer(final SpaceSaving<String> sketch, final String key, final int times) {
+    IntStream.range(0, times).forEach(i -> sketch.offer(key));
+  }
+}
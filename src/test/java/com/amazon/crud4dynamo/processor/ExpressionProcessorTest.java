@@ -0,0 +1,151 @@
+package com.amazon.crud4dynamo.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.amazon.crud4dynamo.internal.parsing.ConditionExpressionParser;
+import com.amazon.crud4dynamo.internal.parsing.ExpressionGrammar;
+import com.amazon.crud4dynamo.internal.parsing.KeyExpressionMapper;
+import com.amazon.crud4dynamo.internal.parsing.PrecompiledExpressions;
+import com.amazon.crud4dynamo.internal.parsing.UpdateExpressionParser;
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ExpressionProcessorTest {
+  private static final String DAO_HEADER =
+      "package test;\n"
+          + "import com.amazon.crud4dynamo.annotation.*;\n"
+          + "import com.amazon.crud4dynamo.crudinterface.SimpleKeyCrud;\n"
+          + "public interface Dao extends SimpleKeyCrud<String, Object> {\n";
+
+  @TempDir Path outputDir;
+
+  private DiagnosticCollector<JavaFileObject> diagnostics;
+
+  @BeforeEach
+  void setUp() {
+    diagnostics = new DiagnosticCollector<>();
+  }
+
+  private boolean compile(final String methods) throws Exception {
+    final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    final StandardJavaFileManager fileManager =
+        compiler.getStandardFileManager(diagnostics, Locale.ROOT, null);
+    fileManager.setLocation(
+        StandardLocation.CLASS_OUTPUT, Collections.singleton(outputDir.toFile()));
+    fileManager.setLocation(
+        StandardLocation.SOURCE_OUTPUT, Collections.singleton(outputDir.toFile()));
+    final JavaFileObject source =
+        new SimpleJavaFileObject(
+            URI.create("string:///test/Dao.java"), JavaFileObject.Kind.SOURCE) {
+          @Override
+          public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+            return DAO_HEADER + methods + "}\n";
+          }
+        };
+    final JavaCompiler.CompilationTask task =
+        compiler.getTask(
+            null,
+            fileManager,
+            diagnostics,
+            Arrays.asList("-classpath", System.getProperty("java.class.path")),
+            null,
+            Collections.singletonList(source));
+    task.setProcessors(Collections.singletonList(new ExpressionProcessor()));
+    return task.call();
+  }
+
+  private List<String> messages(final Diagnostic.Kind kind) {
+    return diagnostics.getDiagnostics().stream()
+        .filter(diagnostic -> diagnostic.getKind() == kind)
+        .map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+        .collect(Collectors.toList());
+  }
+
+  private Class<?> loadDao() throws Exception {
+    final ClassLoader classLoader =
+        new URLClassLoader(
+            new URL[] {outputDir.toUri().toURL()}, ExpressionProcessorTest.class.getClassLoader());
+    return Class.forName("test.Dao", true, classLoader);
+  }
+
+  @Test
+  void invalidExpression_failCompilation() throws Exception {
+    final boolean success =
+        compile(
+            "@Query(keyCondition = \"HashKey = :hashKey\", filter = \"Attr = = :attr\")\n"
+                + "Iterable<Object> query(@Param(\":hashKey\") String hashKey, @Param(\":attr\") String attr);\n");
+
+    assertThat(success).isFalse();
+    assertThat(messages(Diagnostic.Kind.ERROR))
+        .anySatisfy(message -> assertThat(message).contains("Invalid filter 'Attr = = :attr'"));
+    assertThat(new File(outputDir.toFile(), "test/Dao_Crud4DynamoExpressions.java")).doesNotExist();
+  }
+
+  @Test
+  void placeholderWithoutParam_warn() throws Exception {
+    final boolean success =
+        compile(
+            "@Update(keyExpression = \"HashKey = :hashKey\", updateExpression = \"SET #attr = :value\")\n"
+                + "void update(@Param(\":hashKey\") String hashKey, @Param(\":value\") String value);\n");
+
+    assertThat(success).as("%s", diagnostics.getDiagnostics()).isTrue();
+    assertThat(messages(Diagnostic.Kind.WARNING))
+        .anySatisfy(message -> assertThat(message).startsWith("#attr of updateExpression"));
+  }
+
+  @Test
+  void validExpressions_generateProvider() throws Exception {
+    final String filter = "Attr IN (:a1, :a2) AND begins_with(#name, :prefix) AND #name = :name";
+    final String update = "SET #attr = :value, Counter = Counter + :inc";
+    final String keyExpression = "HashKey = :hashKey, #range = :range";
+    final boolean success =
+        compile(
+            "@Query(keyCondition = \"HashKey = :hashKey\", filter = \""
+                + filter
+                + "\")\n"
+                + "Iterable<Object> query(@Param(\":hashKey\") String hashKey, @Param(\":a1\") String a1,"
+                + " @Param(\":a2\") String a2, @Param(\"#name\") String n, @Param(\":prefix\") String p,"
+                + " @Param(\":name\") String name);\n"
+                + "@Update(keyExpression = \""
+                + keyExpression
+                + "\", updateExpression = \""
+                + update
+                + "\")\n"
+                + "void update(@Param(\":hashKey\") String hashKey, @Param(\"#range\") String r,"
+                + " @Param(\":range\") String range, @Param(\"#attr\") String a,"
+                + " @Param(\":value\") String value, @Param(\":inc\") int inc);\n");
+
+    assertThat(success).as("%s", diagnostics.getDiagnostics()).isTrue();
+    assertThat(messages(Diagnostic.Kind.WARNING)).isEmpty();
+
+    PrecompiledExpressions.load(loadDao());
+
+    assertThat(PrecompiledExpressions.lookup(ExpressionGrammar.CONDITION, filter))
+        .contains(ConditionExpressionParser.extract(filter));
+    assertThat(PrecompiledExpressions.lookup(ExpressionGrammar.UPDATE, update))
+        .contains(UpdateExpressionParser.extract(update));
+    assertThat(PrecompiledExpressions.lookupKeyExpression(keyExpression))
+        .isEqualTo(KeyExpressionMapper.extract(keyExpression));
+    assertThat(PrecompiledExpressions.lookup(ExpressionGrammar.CONDITION, "Unknown = :unknown"))
+        .isEmpty();
+  }
+}
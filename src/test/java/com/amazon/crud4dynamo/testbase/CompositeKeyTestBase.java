@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.amazon.crud4dynamo.crudinterface.CompositeKeyCrud;
 import com.amazon.crud4dynamo.extension.FailedBatch;
 import com.amazon.crud4dynamo.extension.PageRequest;
+import com.amazon.crud4dynamo.extension.Pair;
 import com.amazon.crud4dynamo.utility.PageResultCollector;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBQueryExpression;
@@ -14,6 +15,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.Getter;
 import org.assertj.core.util.Lists;
 import org.junit.jupiter.api.BeforeEach;
@@ -126,6 +128,23 @@ public abstract class CompositeKeyTestBase<M, D extends CompositeKeyCrud>
     assertThat(result).contains(model);
   }
 
+  @Test
+  public void findAllByKeys() {
+    saveAll();
+    final List<Pair<Object, Object>> keys =
+        getTestData().stream()
+            .map(
+                model ->
+                    Pair.of(
+                        getDynamoDbMapperTableModel().hashKey().get(model),
+                        getDynamoDbMapperTableModel().rangeKey().get(model)))
+            .collect(Collectors.toList());
+
+    final List result = Lists.newArrayList(dao.findAllBy(keys));
+
+    assertThat(result).containsOnlyElementsOf(getTestData()).hasSameSizeAs(getTestData());
+  }
+
   @Test
   public void findAllBy() {
     saveAll();